@@ -9,6 +9,7 @@ import java.lang.Integer;
 import java.lang.Long;
 import java.lang.String;
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <strong>Abi</strong>
@@ -40,10 +41,38 @@ public final class Abi {
    * created. Otherwise can be omitted. Destination address of the message
    * @param signatureId  Signature ID to be used in data to sign preparing when CapSignatureWithId capability is enabled
    */
-  public static Abi.ResultOfEncodeMessageBody encodeMessageBody(EverSdkContext ctx, Abi.ABI abi,
+  public static Abi.ResultOfEncodeMessageBody encodeMessageBody(EverSdkInvoker ctx, Abi.ABI abi,
       Abi.CallSet callSet, Boolean isInternal, Abi.Signer signer, Integer processingTryIndex,
       String address, Long signatureId) throws EverSdkException {
-    return ctx.call("abi.encode_message_body", new Abi.ParamsOfEncodeMessageBody(abi, callSet, isInternal, signer, processingTryIndex, address, signatureId), Abi.ResultOfEncodeMessageBody.class);
+    return ctx.callSync("abi.encode_message_body", new Abi.ParamsOfEncodeMessageBody(abi, callSet, isInternal, signer, processingTryIndex, address, signatureId), Abi.ResultOfEncodeMessageBody.class);
+  }
+
+  /**
+   *  Encodes message body according to ABI function call.
+   *
+   * @param abi  Contract ABI.
+   * @param callSet Must be specified in non deploy message.
+   *
+   * In case of deploy message contains parameters of constructor. Function call parameters.
+   * @param isInternal  True if internal message body must be encoded.
+   * @param signer  Signing parameters.
+   * @param processingTryIndex Used in message processing with retries.
+   *
+   * Encoder uses the provided try index to calculate message
+   * expiration time.
+   *
+   * Expiration timeouts will grow with every retry.
+   *
+   * Default value is 0. Processing try index.
+   * @param address Since ABI version 2.3 destination address of external inbound message is used in message
+   * body signature calculation. Should be provided when signed external inbound message body is
+   * created. Otherwise can be omitted. Destination address of the message
+   * @param signatureId  Signature ID to be used in data to sign preparing when CapSignatureWithId capability is enabled
+   */
+  public static CompletableFuture<Abi.ResultOfEncodeMessageBody> encodeMessageBodyAsync(
+      EverSdkInvoker ctx, Abi.ABI abi, Abi.CallSet callSet, Boolean isInternal, Abi.Signer signer,
+      Integer processingTryIndex, String address, Long signatureId) {
+    return ctx.callAsync("abi.encode_message_body", new Abi.ParamsOfEncodeMessageBody(abi, callSet, isInternal, signer, processingTryIndex, address, signatureId), Abi.ResultOfEncodeMessageBody.class);
   }
 
   /**
@@ -53,9 +82,20 @@ public final class Abi {
    * @param signature Must be encoded with `hex`. Signature.
    */
   public static Abi.ResultOfAttachSignatureToMessageBody attachSignatureToMessageBody(
-      EverSdkContext ctx, Abi.ABI abi, String publicKey, String message, String signature) throws
+      EverSdkInvoker ctx, Abi.ABI abi, String publicKey, String message, String signature) throws
       EverSdkException {
-    return ctx.call("abi.attach_signature_to_message_body", new Abi.ParamsOfAttachSignatureToMessageBody(abi, publicKey, message, signature), Abi.ResultOfAttachSignatureToMessageBody.class);
+    return ctx.callSync("abi.attach_signature_to_message_body", new Abi.ParamsOfAttachSignatureToMessageBody(abi, publicKey, message, signature), Abi.ResultOfAttachSignatureToMessageBody.class);
+  }
+
+  /**
+   * @param abi  Contract ABI
+   * @param publicKey Must be encoded with `hex`. Public key.
+   * @param message Must be encoded with `base64`. Unsigned message body BOC.
+   * @param signature Must be encoded with `hex`. Signature.
+   */
+  public static CompletableFuture<Abi.ResultOfAttachSignatureToMessageBody> attachSignatureToMessageBodyAsync(
+      EverSdkInvoker ctx, Abi.ABI abi, String publicKey, String message, String signature) {
+    return ctx.callAsync("abi.attach_signature_to_message_body", new Abi.ParamsOfAttachSignatureToMessageBody(abi, publicKey, message, signature), Abi.ResultOfAttachSignatureToMessageBody.class);
   }
 
   /**
@@ -111,10 +151,69 @@ public final class Abi {
    * Default value is 0. Processing try index.
    * @param signatureId  Signature ID to be used in data to sign preparing when CapSignatureWithId capability is enabled
    */
-  public static Abi.ResultOfEncodeMessage encodeMessage(EverSdkContext ctx, Abi.ABI abi,
+  public static Abi.ResultOfEncodeMessage encodeMessage(EverSdkInvoker ctx, Abi.ABI abi,
       String address, Abi.DeploySet deploySet, Abi.CallSet callSet, Abi.Signer signer,
       Integer processingTryIndex, Long signatureId) throws EverSdkException {
-    return ctx.call("abi.encode_message", new Abi.ParamsOfEncodeMessage(abi, address, deploySet, callSet, signer, processingTryIndex, signatureId), Abi.ResultOfEncodeMessage.class);
+    return ctx.callSync("abi.encode_message", new Abi.ParamsOfEncodeMessage(abi, address, deploySet, callSet, signer, processingTryIndex, signatureId), Abi.ResultOfEncodeMessage.class);
+  }
+
+  /**
+   * Allows to encode deploy and function call messages,
+   * both signed and unsigned.
+   *
+   * Use cases include messages of any possible type:
+   * - deploy with initial function call (i.e. `constructor` or any other function that is used for some kind
+   * of initialization);
+   * - deploy without initial function call;
+   * - signed/unsigned + data for signing.
+   *
+   * `Signer` defines how the message should or shouldn't be signed:
+   *
+   * `Signer::None` creates an unsigned message. This may be needed in case of some public methods,
+   * that do not require authorization by pubkey.
+   *
+   * `Signer::External` takes public key and returns `data_to_sign` for later signing.
+   * Use `attach_signature` method with the result signature to get the signed message.
+   *
+   * `Signer::Keys` creates a signed message with provided key pair.
+   *
+   * [SOON] `Signer::SigningBox` Allows using a special interface to implement signing
+   * without private key disclosure to SDK. For instance, in case of using a cold wallet or HSM,
+   * when application calls some API to sign data.
+   *
+   * There is an optional public key can be provided in deploy set in order to substitute one
+   * in TVM file.
+   *
+   * Public key resolving priority:
+   * 1. Public key from deploy set.
+   * 2. Public key, specified in TVM file.
+   * 3. Public key, provided by signer. Encodes an ABI-compatible message
+   *
+   * @param abi  Contract ABI.
+   * @param address Must be specified in case of non-deploy message. Target address the message will be sent to.
+   * @param deploySet Must be specified in case of deploy message. Deploy parameters.
+   * @param callSet Must be specified in case of non-deploy message.
+   *
+   * In case of deploy message it is optional and contains parameters
+   * of the functions that will to be called upon deploy transaction. Function call parameters.
+   * @param signer  Signing parameters.
+   * @param processingTryIndex Used in message processing with retries (if contract's ABI includes "expire" header).
+   *
+   * Encoder uses the provided try index to calculate message
+   * expiration time. The 1st message expiration time is specified in
+   * Client config.
+   *
+   * Expiration timeouts will grow with every retry.
+   * Retry grow factor is set in Client config:
+   * <.....add config parameter with default value here>
+   *
+   * Default value is 0. Processing try index.
+   * @param signatureId  Signature ID to be used in data to sign preparing when CapSignatureWithId capability is enabled
+   */
+  public static CompletableFuture<Abi.ResultOfEncodeMessage> encodeMessageAsync(EverSdkInvoker ctx,
+      Abi.ABI abi, String address, Abi.DeploySet deploySet, Abi.CallSet callSet, Abi.Signer signer,
+      Integer processingTryIndex, Long signatureId) {
+    return ctx.callAsync("abi.encode_message", new Abi.ParamsOfEncodeMessage(abi, address, deploySet, callSet, signer, processingTryIndex, signatureId), Abi.ResultOfEncodeMessage.class);
   }
 
   /**
@@ -145,10 +244,44 @@ public final class Abi {
    * @param bounce Default is true. Flag of bounceable message.
    * @param enableIhr Default is false. Enable Instant Hypercube Routing for the message.
    */
-  public static Abi.ResultOfEncodeInternalMessage encodeInternalMessage(EverSdkContext ctx,
+  public static Abi.ResultOfEncodeInternalMessage encodeInternalMessage(EverSdkInvoker ctx,
       Abi.ABI abi, String address, String srcAddress, Abi.DeploySet deploySet, Abi.CallSet callSet,
       String value, Boolean bounce, Boolean enableIhr) throws EverSdkException {
-    return ctx.call("abi.encode_internal_message", new Abi.ParamsOfEncodeInternalMessage(abi, address, srcAddress, deploySet, callSet, value, bounce, enableIhr), Abi.ResultOfEncodeInternalMessage.class);
+    return ctx.callSync("abi.encode_internal_message", new Abi.ParamsOfEncodeInternalMessage(abi, address, srcAddress, deploySet, callSet, value, bounce, enableIhr), Abi.ResultOfEncodeInternalMessage.class);
+  }
+
+  /**
+   * Allows to encode deploy and function call messages.
+   *
+   * Use cases include messages of any possible type:
+   * - deploy with initial function call (i.e. `constructor` or any other function that is used for some kind
+   * of initialization);
+   * - deploy without initial function call;
+   * - simple function call
+   *
+   * There is an optional public key can be provided in deploy set in order to substitute one
+   * in TVM file.
+   *
+   * Public key resolving priority:
+   * 1. Public key from deploy set.
+   * 2. Public key, specified in TVM file. Encodes an internal ABI-compatible message
+   *
+   * @param abi Can be None if both deploy_set and call_set are None. Contract ABI.
+   * @param address Must be specified in case of non-deploy message. Target address the message will be sent to.
+   * @param srcAddress  Source address of the message.
+   * @param deploySet Must be specified in case of deploy message. Deploy parameters.
+   * @param callSet Must be specified in case of non-deploy message.
+   *
+   * In case of deploy message it is optional and contains parameters
+   * of the functions that will to be called upon deploy transaction. Function call parameters.
+   * @param value  Value in nanotokens to be sent with message.
+   * @param bounce Default is true. Flag of bounceable message.
+   * @param enableIhr Default is false. Enable Instant Hypercube Routing for the message.
+   */
+  public static CompletableFuture<Abi.ResultOfEncodeInternalMessage> encodeInternalMessageAsync(
+      EverSdkInvoker ctx, Abi.ABI abi, String address, String srcAddress, Abi.DeploySet deploySet,
+      Abi.CallSet callSet, String value, Boolean bounce, Boolean enableIhr) {
+    return ctx.callAsync("abi.encode_internal_message", new Abi.ParamsOfEncodeInternalMessage(abi, address, srcAddress, deploySet, callSet, value, bounce, enableIhr), Abi.ResultOfEncodeInternalMessage.class);
   }
 
   /**
@@ -159,9 +292,22 @@ public final class Abi {
    * @param message  Unsigned message BOC encoded in `base64`.
    * @param signature  Signature encoded in `hex`.
    */
-  public static Abi.ResultOfAttachSignature attachSignature(EverSdkContext ctx, Abi.ABI abi,
+  public static Abi.ResultOfAttachSignature attachSignature(EverSdkInvoker ctx, Abi.ABI abi,
       String publicKey, String message, String signature) throws EverSdkException {
-    return ctx.call("abi.attach_signature", new Abi.ParamsOfAttachSignature(abi, publicKey, message, signature), Abi.ResultOfAttachSignature.class);
+    return ctx.callSync("abi.attach_signature", new Abi.ParamsOfAttachSignature(abi, publicKey, message, signature), Abi.ResultOfAttachSignature.class);
+  }
+
+  /**
+   *  Combines `hex`-encoded `signature` with `base64`-encoded `unsigned_message`. Returns signed message encoded in `base64`.
+   *
+   * @param abi  Contract ABI
+   * @param publicKey  Public key encoded in `hex`.
+   * @param message  Unsigned message BOC encoded in `base64`.
+   * @param signature  Signature encoded in `hex`.
+   */
+  public static CompletableFuture<Abi.ResultOfAttachSignature> attachSignatureAsync(
+      EverSdkInvoker ctx, Abi.ABI abi, String publicKey, String message, String signature) {
+    return ctx.callAsync("abi.attach_signature", new Abi.ParamsOfAttachSignature(abi, publicKey, message, signature), Abi.ResultOfAttachSignature.class);
   }
 
   /**
@@ -172,10 +318,24 @@ public final class Abi {
    * @param allowPartial  Flag allowing partial BOC decoding when ABI doesn't describe the full body BOC. Controls decoder behaviour when after decoding all described in ABI params there are some data left in BOC: `true` - return decoded values `false` - return error of incomplete BOC deserialization (default)
    * @param functionName  Function name or function id if is known in advance
    */
-  public static Abi.DecodedMessageBody decodeMessage(EverSdkContext ctx, Abi.ABI abi,
+  public static Abi.DecodedMessageBody decodeMessage(EverSdkInvoker ctx, Abi.ABI abi,
       String message, Boolean allowPartial, String functionName, Abi.DataLayout dataLayout) throws
       EverSdkException {
-    return ctx.call("abi.decode_message", new Abi.ParamsOfDecodeMessage(abi, message, allowPartial, functionName, dataLayout), Abi.DecodedMessageBody.class);
+    return ctx.callSync("abi.decode_message", new Abi.ParamsOfDecodeMessage(abi, message, allowPartial, functionName, dataLayout), Abi.DecodedMessageBody.class);
+  }
+
+  /**
+   *  Decodes message body using provided message BOC and ABI.
+   *
+   * @param abi  contract ABI
+   * @param message  Message BOC
+   * @param allowPartial  Flag allowing partial BOC decoding when ABI doesn't describe the full body BOC. Controls decoder behaviour when after decoding all described in ABI params there are some data left in BOC: `true` - return decoded values `false` - return error of incomplete BOC deserialization (default)
+   * @param functionName  Function name or function id if is known in advance
+   */
+  public static CompletableFuture<Abi.DecodedMessageBody> decodeMessageAsync(EverSdkInvoker ctx,
+      Abi.ABI abi, String message, Boolean allowPartial, String functionName,
+      Abi.DataLayout dataLayout) {
+    return ctx.callAsync("abi.decode_message", new Abi.ParamsOfDecodeMessage(abi, message, allowPartial, functionName, dataLayout), Abi.DecodedMessageBody.class);
   }
 
   /**
@@ -187,10 +347,25 @@ public final class Abi {
    * @param allowPartial  Flag allowing partial BOC decoding when ABI doesn't describe the full body BOC. Controls decoder behaviour when after decoding all described in ABI params there are some data left in BOC: `true` - return decoded values `false` - return error of incomplete BOC deserialization (default)
    * @param functionName  Function name or function id if is known in advance
    */
-  public static Abi.DecodedMessageBody decodeMessageBody(EverSdkContext ctx, Abi.ABI abi,
+  public static Abi.DecodedMessageBody decodeMessageBody(EverSdkInvoker ctx, Abi.ABI abi,
       String body, Boolean isInternal, Boolean allowPartial, String functionName,
       Abi.DataLayout dataLayout) throws EverSdkException {
-    return ctx.call("abi.decode_message_body", new Abi.ParamsOfDecodeMessageBody(abi, body, isInternal, allowPartial, functionName, dataLayout), Abi.DecodedMessageBody.class);
+    return ctx.callSync("abi.decode_message_body", new Abi.ParamsOfDecodeMessageBody(abi, body, isInternal, allowPartial, functionName, dataLayout), Abi.DecodedMessageBody.class);
+  }
+
+  /**
+   *  Decodes message body using provided body BOC and ABI.
+   *
+   * @param abi  Contract ABI used to decode.
+   * @param body  Message body BOC encoded in `base64`.
+   * @param isInternal  True if the body belongs to the internal message.
+   * @param allowPartial  Flag allowing partial BOC decoding when ABI doesn't describe the full body BOC. Controls decoder behaviour when after decoding all described in ABI params there are some data left in BOC: `true` - return decoded values `false` - return error of incomplete BOC deserialization (default)
+   * @param functionName  Function name or function id if is known in advance
+   */
+  public static CompletableFuture<Abi.DecodedMessageBody> decodeMessageBodyAsync(EverSdkInvoker ctx,
+      Abi.ABI abi, String body, Boolean isInternal, Boolean allowPartial, String functionName,
+      Abi.DataLayout dataLayout) {
+    return ctx.callAsync("abi.decode_message_body", new Abi.ParamsOfDecodeMessageBody(abi, body, isInternal, allowPartial, functionName, dataLayout), Abi.DecodedMessageBody.class);
   }
 
   /**
@@ -204,10 +379,27 @@ public final class Abi {
    * @param lastPaid  Initial value for the `last_paid`.
    * @param bocCache The BOC itself returned if no cache type provided Cache type to put the result.
    */
-  public static Abi.ResultOfEncodeAccount encodeAccount(EverSdkContext ctx,
+  public static Abi.ResultOfEncodeAccount encodeAccount(EverSdkInvoker ctx,
       Abi.StateInitSource stateInit, BigInteger balance, BigInteger lastTransLt, Long lastPaid,
       Boc.BocCacheType bocCache) throws EverSdkException {
-    return ctx.call("abi.encode_account", new Abi.ParamsOfEncodeAccount(stateInit, balance, lastTransLt, lastPaid, bocCache), Abi.ResultOfEncodeAccount.class);
+    return ctx.callSync("abi.encode_account", new Abi.ParamsOfEncodeAccount(stateInit, balance, lastTransLt, lastPaid, bocCache), Abi.ResultOfEncodeAccount.class);
+  }
+
+  /**
+   * Creates account state provided with one of these sets of data :
+   * 1. BOC of code, BOC of data, BOC of library
+   * 2. TVC (string in `base64`), keys, init params Creates account state BOC
+   *
+   * @param stateInit  Source of the account state init.
+   * @param balance  Initial balance.
+   * @param lastTransLt  Initial value for the `last_trans_lt`.
+   * @param lastPaid  Initial value for the `last_paid`.
+   * @param bocCache The BOC itself returned if no cache type provided Cache type to put the result.
+   */
+  public static CompletableFuture<Abi.ResultOfEncodeAccount> encodeAccountAsync(EverSdkInvoker ctx,
+      Abi.StateInitSource stateInit, BigInteger balance, BigInteger lastTransLt, Long lastPaid,
+      Boc.BocCacheType bocCache) {
+    return ctx.callAsync("abi.encode_account", new Abi.ParamsOfEncodeAccount(stateInit, balance, lastTransLt, lastPaid, bocCache), Abi.ResultOfEncodeAccount.class);
   }
 
   /**
@@ -217,9 +409,21 @@ public final class Abi {
    * @param data  Data BOC or BOC handle
    * @param allowPartial  Flag allowing partial BOC decoding when ABI doesn't describe the full body BOC. Controls decoder behaviour when after decoding all described in ABI params there are some data left in BOC: `true` - return decoded values `false` - return error of incomplete BOC deserialization (default)
    */
-  public static Abi.ResultOfDecodeAccountData decodeAccountData(EverSdkContext ctx, Abi.ABI abi,
+  public static Abi.ResultOfDecodeAccountData decodeAccountData(EverSdkInvoker ctx, Abi.ABI abi,
       String data, Boolean allowPartial) throws EverSdkException {
-    return ctx.call("abi.decode_account_data", new Abi.ParamsOfDecodeAccountData(abi, data, allowPartial), Abi.ResultOfDecodeAccountData.class);
+    return ctx.callSync("abi.decode_account_data", new Abi.ParamsOfDecodeAccountData(abi, data, allowPartial), Abi.ResultOfDecodeAccountData.class);
+  }
+
+  /**
+   * Note: this feature requires ABI 2.1 or higher. Decodes account data using provided data BOC and ABI.
+   *
+   * @param abi  Contract ABI
+   * @param data  Data BOC or BOC handle
+   * @param allowPartial  Flag allowing partial BOC decoding when ABI doesn't describe the full body BOC. Controls decoder behaviour when after decoding all described in ABI params there are some data left in BOC: `true` - return decoded values `false` - return error of incomplete BOC deserialization (default)
+   */
+  public static CompletableFuture<Abi.ResultOfDecodeAccountData> decodeAccountDataAsync(
+      EverSdkInvoker ctx, Abi.ABI abi, String data, Boolean allowPartial) {
+    return ctx.callAsync("abi.decode_account_data", new Abi.ParamsOfDecodeAccountData(abi, data, allowPartial), Abi.ResultOfDecodeAccountData.class);
   }
 
   /**
@@ -231,10 +435,25 @@ public final class Abi {
    * @param initialPubkey  Initial account owner's public key to set into account data
    * @param bocCache  Cache type to put the result. The BOC itself returned if no cache type provided.
    */
-  public static Abi.ResultOfUpdateInitialData updateInitialData(EverSdkContext ctx, Abi.ABI abi,
+  public static Abi.ResultOfUpdateInitialData updateInitialData(EverSdkInvoker ctx, Abi.ABI abi,
       String data, JsonNode initialData, String initialPubkey, Boc.BocCacheType bocCache) throws
       EverSdkException {
-    return ctx.call("abi.update_initial_data", new Abi.ParamsOfUpdateInitialData(abi, data, initialData, initialPubkey, bocCache), Abi.ResultOfUpdateInitialData.class);
+    return ctx.callSync("abi.update_initial_data", new Abi.ParamsOfUpdateInitialData(abi, data, initialData, initialPubkey, bocCache), Abi.ResultOfUpdateInitialData.class);
+  }
+
+  /**
+   *  Updates initial account data with initial values for the contract's static variables and owner's public key. This operation is applicable only for initial account data (before deploy). If the contract is already deployed, its data doesn't contain this data section any more.
+   *
+   * @param abi  Contract ABI
+   * @param data  Data BOC or BOC handle
+   * @param initialData `abi` parameter should be provided to set initial data List of initial values for contract's static variables.
+   * @param initialPubkey  Initial account owner's public key to set into account data
+   * @param bocCache  Cache type to put the result. The BOC itself returned if no cache type provided.
+   */
+  public static CompletableFuture<Abi.ResultOfUpdateInitialData> updateInitialDataAsync(
+      EverSdkInvoker ctx, Abi.ABI abi, String data, JsonNode initialData, String initialPubkey,
+      Boc.BocCacheType bocCache) {
+    return ctx.callAsync("abi.update_initial_data", new Abi.ParamsOfUpdateInitialData(abi, data, initialData, initialPubkey, bocCache), Abi.ResultOfUpdateInitialData.class);
   }
 
   /**
@@ -245,10 +464,24 @@ public final class Abi {
    * @param initialPubkey  Initial account owner's public key to set into account data
    * @param bocCache  Cache type to put the result. The BOC itself returned if no cache type provided.
    */
-  public static Abi.ResultOfEncodeInitialData encodeInitialData(EverSdkContext ctx, Abi.ABI abi,
+  public static Abi.ResultOfEncodeInitialData encodeInitialData(EverSdkInvoker ctx, Abi.ABI abi,
       JsonNode initialData, String initialPubkey, Boc.BocCacheType bocCache) throws
       EverSdkException {
-    return ctx.call("abi.encode_initial_data", new Abi.ParamsOfEncodeInitialData(abi, initialData, initialPubkey, bocCache), Abi.ResultOfEncodeInitialData.class);
+    return ctx.callSync("abi.encode_initial_data", new Abi.ParamsOfEncodeInitialData(abi, initialData, initialPubkey, bocCache), Abi.ResultOfEncodeInitialData.class);
+  }
+
+  /**
+   * This function is analogue of `tvm.buildDataInit` function in Solidity. Encodes initial account data with initial values for the contract's static variables and owner's public key into a data BOC that can be passed to `encode_tvc` function afterwards.
+   *
+   * @param abi  Contract ABI
+   * @param initialData `abi` parameter should be provided to set initial data List of initial values for contract's static variables.
+   * @param initialPubkey  Initial account owner's public key to set into account data
+   * @param bocCache  Cache type to put the result. The BOC itself returned if no cache type provided.
+   */
+  public static CompletableFuture<Abi.ResultOfEncodeInitialData> encodeInitialDataAsync(
+      EverSdkInvoker ctx, Abi.ABI abi, JsonNode initialData, String initialPubkey,
+      Boc.BocCacheType bocCache) {
+    return ctx.callAsync("abi.encode_initial_data", new Abi.ParamsOfEncodeInitialData(abi, initialData, initialPubkey, bocCache), Abi.ResultOfEncodeInitialData.class);
   }
 
   /**
@@ -258,9 +491,21 @@ public final class Abi {
    * @param data  Data BOC or BOC handle
    * @param allowPartial  Flag allowing partial BOC decoding when ABI doesn't describe the full body BOC. Controls decoder behaviour when after decoding all described in ABI params there are some data left in BOC: `true` - return decoded values `false` - return error of incomplete BOC deserialization (default)
    */
-  public static Abi.ResultOfDecodeInitialData decodeInitialData(EverSdkContext ctx, Abi.ABI abi,
+  public static Abi.ResultOfDecodeInitialData decodeInitialData(EverSdkInvoker ctx, Abi.ABI abi,
       String data, Boolean allowPartial) throws EverSdkException {
-    return ctx.call("abi.decode_initial_data", new Abi.ParamsOfDecodeInitialData(abi, data, allowPartial), Abi.ResultOfDecodeInitialData.class);
+    return ctx.callSync("abi.decode_initial_data", new Abi.ParamsOfDecodeInitialData(abi, data, allowPartial), Abi.ResultOfDecodeInitialData.class);
+  }
+
+  /**
+   *  Decodes initial values of a contract's static variables and owner's public key from account initial data This operation is applicable only for initial account data (before deploy). If the contract is already deployed, its data doesn't contain this data section any more.
+   *
+   * @param abi Initial data is decoded if this parameter is provided Contract ABI.
+   * @param data  Data BOC or BOC handle
+   * @param allowPartial  Flag allowing partial BOC decoding when ABI doesn't describe the full body BOC. Controls decoder behaviour when after decoding all described in ABI params there are some data left in BOC: `true` - return decoded values `false` - return error of incomplete BOC deserialization (default)
+   */
+  public static CompletableFuture<Abi.ResultOfDecodeInitialData> decodeInitialDataAsync(
+      EverSdkInvoker ctx, Abi.ABI abi, String data, Boolean allowPartial) {
+    return ctx.callAsync("abi.decode_initial_data", new Abi.ParamsOfDecodeInitialData(abi, data, allowPartial), Abi.ResultOfDecodeInitialData.class);
   }
 
   /**
@@ -283,9 +528,34 @@ public final class Abi {
    * @param params  Parameters to decode from BOC
    * @param boc  Data BOC or BOC handle
    */
-  public static Abi.ResultOfDecodeBoc decodeBoc(EverSdkContext ctx, Abi.AbiParam[] params,
+  public static Abi.ResultOfDecodeBoc decodeBoc(EverSdkInvoker ctx, Abi.AbiParam[] params,
       String boc, Boolean allowPartial) throws EverSdkException {
-    return ctx.call("abi.decode_boc", new Abi.ParamsOfDecodeBoc(params, boc, allowPartial), Abi.ResultOfDecodeBoc.class);
+    return ctx.callSync("abi.decode_boc", new Abi.ParamsOfDecodeBoc(params, boc, allowPartial), Abi.ResultOfDecodeBoc.class);
+  }
+
+  /**
+   * Solidity functions use ABI types for [builder encoding](https://github.com/tonlabs/TON-Solidity-Compiler/blob/master/API.md#tvmbuilderstore).
+   * The simplest way to decode such a BOC is to use ABI decoding.
+   * ABI has it own rules for fields layout in cells so manually encoded
+   * BOC can not be described in terms of ABI rules.
+   *
+   * To solve this problem we introduce a new ABI type `Ref(<ParamType>)`
+   * which allows to store `ParamType` ABI parameter in cell reference and, thus,
+   * decode manually encoded BOCs. This type is available only in `decode_boc` function
+   * and will not be available in ABI messages encoding until it is included into some ABI revision.
+   *
+   * Such BOC descriptions covers most users needs. If someone wants to decode some BOC which
+   * can not be described by these rules (i.e. BOC with TLB containing constructors of flags
+   * defining some parsing conditions) then they can decode the fields up to fork condition,
+   * check the parsed data manually, expand the parsing schema and then decode the whole BOC
+   * with the full schema. Decodes BOC into JSON as a set of provided parameters.
+   *
+   * @param params  Parameters to decode from BOC
+   * @param boc  Data BOC or BOC handle
+   */
+  public static CompletableFuture<Abi.ResultOfDecodeBoc> decodeBocAsync(EverSdkInvoker ctx,
+      Abi.AbiParam[] params, String boc, Boolean allowPartial) {
+    return ctx.callAsync("abi.decode_boc", new Abi.ParamsOfDecodeBoc(params, boc, allowPartial), Abi.ResultOfDecodeBoc.class);
   }
 
   /**
@@ -295,9 +565,21 @@ public final class Abi {
    * @param data  Parameters and values as a JSON structure
    * @param bocCache The BOC itself returned if no cache type provided Cache type to put the result.
    */
-  public static Abi.ResultOfAbiEncodeBoc encodeBoc(EverSdkContext ctx, Abi.AbiParam[] params,
+  public static Abi.ResultOfAbiEncodeBoc encodeBoc(EverSdkInvoker ctx, Abi.AbiParam[] params,
       JsonNode data, Boc.BocCacheType bocCache) throws EverSdkException {
-    return ctx.call("abi.encode_boc", new Abi.ParamsOfAbiEncodeBoc(params, data, bocCache), Abi.ResultOfAbiEncodeBoc.class);
+    return ctx.callSync("abi.encode_boc", new Abi.ParamsOfAbiEncodeBoc(params, data, bocCache), Abi.ResultOfAbiEncodeBoc.class);
+  }
+
+  /**
+   *  Encodes given parameters in JSON into a BOC using param types from ABI.
+   *
+   * @param params  Parameters to encode into BOC
+   * @param data  Parameters and values as a JSON structure
+   * @param bocCache The BOC itself returned if no cache type provided Cache type to put the result.
+   */
+  public static CompletableFuture<Abi.ResultOfAbiEncodeBoc> encodeBocAsync(EverSdkInvoker ctx,
+      Abi.AbiParam[] params, JsonNode data, Boc.BocCacheType bocCache) {
+    return ctx.callAsync("abi.encode_boc", new Abi.ParamsOfAbiEncodeBoc(params, data, bocCache), Abi.ResultOfAbiEncodeBoc.class);
   }
 
   /**
@@ -307,9 +589,21 @@ public final class Abi {
    * @param functionName  Contract function name
    * @param output  If set to `true` output function ID will be returned which is used in contract response. Default is `false`
    */
-  public static Abi.ResultOfCalcFunctionId calcFunctionId(EverSdkContext ctx, Abi.ABI abi,
+  public static Abi.ResultOfCalcFunctionId calcFunctionId(EverSdkInvoker ctx, Abi.ABI abi,
       String functionName, Boolean output) throws EverSdkException {
-    return ctx.call("abi.calc_function_id", new Abi.ParamsOfCalcFunctionId(abi, functionName, output), Abi.ResultOfCalcFunctionId.class);
+    return ctx.callSync("abi.calc_function_id", new Abi.ParamsOfCalcFunctionId(abi, functionName, output), Abi.ResultOfCalcFunctionId.class);
+  }
+
+  /**
+   *  Calculates contract function ID by contract ABI
+   *
+   * @param abi  Contract ABI.
+   * @param functionName  Contract function name
+   * @param output  If set to `true` output function ID will be returned which is used in contract response. Default is `false`
+   */
+  public static CompletableFuture<Abi.ResultOfCalcFunctionId> calcFunctionIdAsync(
+      EverSdkInvoker ctx, Abi.ABI abi, String functionName, Boolean output) {
+    return ctx.callAsync("abi.calc_function_id", new Abi.ParamsOfCalcFunctionId(abi, functionName, output), Abi.ResultOfCalcFunctionId.class);
   }
 
   /**
@@ -319,9 +613,21 @@ public final class Abi {
    * @param message  Message BOC encoded in `base64`.
    * @param signatureId  Signature ID to be used in unsigned data preparing when CapSignatureWithId capability is enabled
    */
-  public static Abi.ResultOfGetSignatureData getSignatureData(EverSdkContext ctx, Abi.ABI abi,
+  public static Abi.ResultOfGetSignatureData getSignatureData(EverSdkInvoker ctx, Abi.ABI abi,
       String message, Long signatureId) throws EverSdkException {
-    return ctx.call("abi.get_signature_data", new Abi.ParamsOfGetSignatureData(abi, message, signatureId), Abi.ResultOfGetSignatureData.class);
+    return ctx.callSync("abi.get_signature_data", new Abi.ParamsOfGetSignatureData(abi, message, signatureId), Abi.ResultOfGetSignatureData.class);
+  }
+
+  /**
+   *  Extracts signature from message body and calculates hash to verify the signature
+   *
+   * @param abi  Contract ABI used to decode.
+   * @param message  Message BOC encoded in `base64`.
+   * @param signatureId  Signature ID to be used in unsigned data preparing when CapSignatureWithId capability is enabled
+   */
+  public static CompletableFuture<Abi.ResultOfGetSignatureData> getSignatureDataAsync(
+      EverSdkInvoker ctx, Abi.ABI abi, String message, Long signatureId) {
+    return ctx.callAsync("abi.get_signature_data", new Abi.ParamsOfGetSignatureData(abi, message, signatureId), Abi.ResultOfGetSignatureData.class);
   }
 
   /**
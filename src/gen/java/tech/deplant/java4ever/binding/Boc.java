@@ -6,6 +6,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import java.lang.Boolean;
 import java.lang.Long;
 import java.lang.String;
+import java.lang.Void;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <strong>Boc</strong>
@@ -20,9 +22,19 @@ public final class Boc {
    *
    * @param tvc  Contract TVC BOC encoded as base64 or BOC handle
    */
-  public static Boc.ResultOfDecodeTvc decodeTvc(EverSdkContext ctx, String tvc) throws
+  public static Boc.ResultOfDecodeTvc decodeTvc(EverSdkInvoker ctx, String tvc) throws
       EverSdkException {
-    return ctx.call("boc.decode_tvc", new Boc.ParamsOfDecodeTvc(tvc), Boc.ResultOfDecodeTvc.class);
+    return ctx.callSync("boc.decode_tvc", new Boc.ParamsOfDecodeTvc(tvc), Boc.ResultOfDecodeTvc.class);
+  }
+
+  /**
+   *  Decodes tvc according to the tvc spec. Read more about tvc structure here https://github.com/tonlabs/ever-struct/blob/main/src/scheme/mod.rs#L30
+   *
+   * @param tvc  Contract TVC BOC encoded as base64 or BOC handle
+   */
+  public static CompletableFuture<Boc.ResultOfDecodeTvc> decodeTvcAsync(EverSdkInvoker ctx,
+      String tvc) {
+    return ctx.callAsync("boc.decode_tvc", new Boc.ParamsOfDecodeTvc(tvc), Boc.ResultOfDecodeTvc.class);
   }
 
   /**
@@ -30,9 +42,19 @@ public final class Boc {
    *
    * @param boc  BOC encoded as base64
    */
-  public static Boc.ResultOfParse parseMessage(EverSdkContext ctx, String boc) throws
+  public static Boc.ResultOfParse parseMessage(EverSdkInvoker ctx, String boc) throws
       EverSdkException {
-    return ctx.call("boc.parse_message", new Boc.ParamsOfParse(boc), Boc.ResultOfParse.class);
+    return ctx.callSync("boc.parse_message", new Boc.ParamsOfParse(boc), Boc.ResultOfParse.class);
+  }
+
+  /**
+   * JSON structure is compatible with GraphQL API message object Parses message boc into a JSON
+   *
+   * @param boc  BOC encoded as base64
+   */
+  public static CompletableFuture<Boc.ResultOfParse> parseMessageAsync(EverSdkInvoker ctx,
+      String boc) {
+    return ctx.callAsync("boc.parse_message", new Boc.ParamsOfParse(boc), Boc.ResultOfParse.class);
   }
 
   /**
@@ -40,9 +62,19 @@ public final class Boc {
    *
    * @param boc  BOC encoded as base64
    */
-  public static Boc.ResultOfParse parseTransaction(EverSdkContext ctx, String boc) throws
+  public static Boc.ResultOfParse parseTransaction(EverSdkInvoker ctx, String boc) throws
       EverSdkException {
-    return ctx.call("boc.parse_transaction", new Boc.ParamsOfParse(boc), Boc.ResultOfParse.class);
+    return ctx.callSync("boc.parse_transaction", new Boc.ParamsOfParse(boc), Boc.ResultOfParse.class);
+  }
+
+  /**
+   * JSON structure is compatible with GraphQL API transaction object Parses transaction boc into a JSON
+   *
+   * @param boc  BOC encoded as base64
+   */
+  public static CompletableFuture<Boc.ResultOfParse> parseTransactionAsync(EverSdkInvoker ctx,
+      String boc) {
+    return ctx.callAsync("boc.parse_transaction", new Boc.ParamsOfParse(boc), Boc.ResultOfParse.class);
   }
 
   /**
@@ -50,9 +82,19 @@ public final class Boc {
    *
    * @param boc  BOC encoded as base64
    */
-  public static Boc.ResultOfParse parseAccount(EverSdkContext ctx, String boc) throws
+  public static Boc.ResultOfParse parseAccount(EverSdkInvoker ctx, String boc) throws
       EverSdkException {
-    return ctx.call("boc.parse_account", new Boc.ParamsOfParse(boc), Boc.ResultOfParse.class);
+    return ctx.callSync("boc.parse_account", new Boc.ParamsOfParse(boc), Boc.ResultOfParse.class);
+  }
+
+  /**
+   * JSON structure is compatible with GraphQL API account object Parses account boc into a JSON
+   *
+   * @param boc  BOC encoded as base64
+   */
+  public static CompletableFuture<Boc.ResultOfParse> parseAccountAsync(EverSdkInvoker ctx,
+      String boc) {
+    return ctx.callAsync("boc.parse_account", new Boc.ParamsOfParse(boc), Boc.ResultOfParse.class);
   }
 
   /**
@@ -60,9 +102,19 @@ public final class Boc {
    *
    * @param boc  BOC encoded as base64
    */
-  public static Boc.ResultOfParse parseBlock(EverSdkContext ctx, String boc) throws
+  public static Boc.ResultOfParse parseBlock(EverSdkInvoker ctx, String boc) throws
       EverSdkException {
-    return ctx.call("boc.parse_block", new Boc.ParamsOfParse(boc), Boc.ResultOfParse.class);
+    return ctx.callSync("boc.parse_block", new Boc.ParamsOfParse(boc), Boc.ResultOfParse.class);
+  }
+
+  /**
+   * JSON structure is compatible with GraphQL API block object Parses block boc into a JSON
+   *
+   * @param boc  BOC encoded as base64
+   */
+  public static CompletableFuture<Boc.ResultOfParse> parseBlockAsync(EverSdkInvoker ctx,
+      String boc) {
+    return ctx.callAsync("boc.parse_block", new Boc.ParamsOfParse(boc), Boc.ResultOfParse.class);
   }
 
   /**
@@ -72,9 +124,21 @@ public final class Boc {
    * @param id  Shardstate identifier
    * @param workchainId  Workchain shardstate belongs to
    */
-  public static Boc.ResultOfParse parseShardstate(EverSdkContext ctx, String boc, String id,
+  public static Boc.ResultOfParse parseShardstate(EverSdkInvoker ctx, String boc, String id,
       Long workchainId) throws EverSdkException {
-    return ctx.call("boc.parse_shardstate", new Boc.ParamsOfParseShardstate(boc, id, workchainId), Boc.ResultOfParse.class);
+    return ctx.callSync("boc.parse_shardstate", new Boc.ParamsOfParseShardstate(boc, id, workchainId), Boc.ResultOfParse.class);
+  }
+
+  /**
+   * JSON structure is compatible with GraphQL API shardstate object Parses shardstate boc into a JSON
+   *
+   * @param boc  BOC encoded as base64
+   * @param id  Shardstate identifier
+   * @param workchainId  Workchain shardstate belongs to
+   */
+  public static CompletableFuture<Boc.ResultOfParse> parseShardstateAsync(EverSdkInvoker ctx,
+      String boc, String id, Long workchainId) {
+    return ctx.callAsync("boc.parse_shardstate", new Boc.ParamsOfParseShardstate(boc, id, workchainId), Boc.ResultOfParse.class);
   }
 
   /**
@@ -82,9 +146,19 @@ public final class Boc {
    *
    * @param blockBoc  Key block BOC or zerostate BOC encoded as base64
    */
-  public static Boc.ResultOfGetBlockchainConfig getBlockchainConfig(EverSdkContext ctx,
+  public static Boc.ResultOfGetBlockchainConfig getBlockchainConfig(EverSdkInvoker ctx,
       String blockBoc) throws EverSdkException {
-    return ctx.call("boc.get_blockchain_config", new Boc.ParamsOfGetBlockchainConfig(blockBoc), Boc.ResultOfGetBlockchainConfig.class);
+    return ctx.callSync("boc.get_blockchain_config", new Boc.ParamsOfGetBlockchainConfig(blockBoc), Boc.ResultOfGetBlockchainConfig.class);
+  }
+
+  /**
+   *  Extract blockchain configuration from key block and also from zerostate.
+   *
+   * @param blockBoc  Key block BOC or zerostate BOC encoded as base64
+   */
+  public static CompletableFuture<Boc.ResultOfGetBlockchainConfig> getBlockchainConfigAsync(
+      EverSdkInvoker ctx, String blockBoc) {
+    return ctx.callAsync("boc.get_blockchain_config", new Boc.ParamsOfGetBlockchainConfig(blockBoc), Boc.ResultOfGetBlockchainConfig.class);
   }
 
   /**
@@ -92,9 +166,19 @@ public final class Boc {
    *
    * @param boc  BOC encoded as base64 or BOC handle
    */
-  public static Boc.ResultOfGetBocHash getBocHash(EverSdkContext ctx, String boc) throws
+  public static Boc.ResultOfGetBocHash getBocHash(EverSdkInvoker ctx, String boc) throws
       EverSdkException {
-    return ctx.call("boc.get_boc_hash", new Boc.ParamsOfGetBocHash(boc), Boc.ResultOfGetBocHash.class);
+    return ctx.callSync("boc.get_boc_hash", new Boc.ParamsOfGetBocHash(boc), Boc.ResultOfGetBocHash.class);
+  }
+
+  /**
+   *  Calculates BOC root hash
+   *
+   * @param boc  BOC encoded as base64 or BOC handle
+   */
+  public static CompletableFuture<Boc.ResultOfGetBocHash> getBocHashAsync(EverSdkInvoker ctx,
+      String boc) {
+    return ctx.callAsync("boc.get_boc_hash", new Boc.ParamsOfGetBocHash(boc), Boc.ResultOfGetBocHash.class);
   }
 
   /**
@@ -102,9 +186,19 @@ public final class Boc {
    *
    * @param boc  BOC encoded as base64 or BOC handle
    */
-  public static Boc.ResultOfGetBocDepth getBocDepth(EverSdkContext ctx, String boc) throws
+  public static Boc.ResultOfGetBocDepth getBocDepth(EverSdkInvoker ctx, String boc) throws
       EverSdkException {
-    return ctx.call("boc.get_boc_depth", new Boc.ParamsOfGetBocDepth(boc), Boc.ResultOfGetBocDepth.class);
+    return ctx.callSync("boc.get_boc_depth", new Boc.ParamsOfGetBocDepth(boc), Boc.ResultOfGetBocDepth.class);
+  }
+
+  /**
+   *  Calculates BOC depth
+   *
+   * @param boc  BOC encoded as base64 or BOC handle
+   */
+  public static CompletableFuture<Boc.ResultOfGetBocDepth> getBocDepthAsync(EverSdkInvoker ctx,
+      String boc) {
+    return ctx.callAsync("boc.get_boc_depth", new Boc.ParamsOfGetBocDepth(boc), Boc.ResultOfGetBocDepth.class);
   }
 
   /**
@@ -112,9 +206,19 @@ public final class Boc {
    *
    * @param tvc  Contract TVC image or image BOC handle
    */
-  public static Boc.ResultOfGetCodeFromTvc getCodeFromTvc(EverSdkContext ctx, String tvc) throws
+  public static Boc.ResultOfGetCodeFromTvc getCodeFromTvc(EverSdkInvoker ctx, String tvc) throws
       EverSdkException {
-    return ctx.call("boc.get_code_from_tvc", new Boc.ParamsOfGetCodeFromTvc(tvc), Boc.ResultOfGetCodeFromTvc.class);
+    return ctx.callSync("boc.get_code_from_tvc", new Boc.ParamsOfGetCodeFromTvc(tvc), Boc.ResultOfGetCodeFromTvc.class);
+  }
+
+  /**
+   *  Extracts code from TVC contract image
+   *
+   * @param tvc  Contract TVC image or image BOC handle
+   */
+  public static CompletableFuture<Boc.ResultOfGetCodeFromTvc> getCodeFromTvcAsync(
+      EverSdkInvoker ctx, String tvc) {
+    return ctx.callAsync("boc.get_code_from_tvc", new Boc.ParamsOfGetCodeFromTvc(tvc), Boc.ResultOfGetCodeFromTvc.class);
   }
 
   /**
@@ -122,9 +226,19 @@ public final class Boc {
    *
    * @param bocRef  Reference to the cached BOC
    */
-  public static Boc.ResultOfBocCacheGet cacheGet(EverSdkContext ctx, String bocRef) throws
+  public static Boc.ResultOfBocCacheGet cacheGet(EverSdkInvoker ctx, String bocRef) throws
       EverSdkException {
-    return ctx.call("boc.cache_get", new Boc.ParamsOfBocCacheGet(bocRef), Boc.ResultOfBocCacheGet.class);
+    return ctx.callSync("boc.cache_get", new Boc.ParamsOfBocCacheGet(bocRef), Boc.ResultOfBocCacheGet.class);
+  }
+
+  /**
+   *  Get BOC from cache
+   *
+   * @param bocRef  Reference to the cached BOC
+   */
+  public static CompletableFuture<Boc.ResultOfBocCacheGet> cacheGetAsync(EverSdkInvoker ctx,
+      String bocRef) {
+    return ctx.callAsync("boc.cache_get", new Boc.ParamsOfBocCacheGet(bocRef), Boc.ResultOfBocCacheGet.class);
   }
 
   /**
@@ -133,9 +247,20 @@ public final class Boc {
    * @param boc  BOC encoded as base64 or BOC reference
    * @param cacheType  Cache type
    */
-  public static Boc.ResultOfBocCacheSet cacheSet(EverSdkContext ctx, String boc,
+  public static Boc.ResultOfBocCacheSet cacheSet(EverSdkInvoker ctx, String boc,
       Boc.BocCacheType cacheType) throws EverSdkException {
-    return ctx.call("boc.cache_set", new Boc.ParamsOfBocCacheSet(boc, cacheType), Boc.ResultOfBocCacheSet.class);
+    return ctx.callSync("boc.cache_set", new Boc.ParamsOfBocCacheSet(boc, cacheType), Boc.ResultOfBocCacheSet.class);
+  }
+
+  /**
+   *  Save BOC into cache or increase pin counter for existing pinned BOC
+   *
+   * @param boc  BOC encoded as base64 or BOC reference
+   * @param cacheType  Cache type
+   */
+  public static CompletableFuture<Boc.ResultOfBocCacheSet> cacheSetAsync(EverSdkInvoker ctx,
+      String boc, Boc.BocCacheType cacheType) {
+    return ctx.callAsync("boc.cache_set", new Boc.ParamsOfBocCacheSet(boc, cacheType), Boc.ResultOfBocCacheSet.class);
   }
 
   /**
@@ -144,9 +269,20 @@ public final class Boc {
    * @param pin  Pinned name
    * @param bocRef If it is provided then only referenced BOC is unpinned Reference to the cached BOC.
    */
-  public static void cacheUnpin(EverSdkContext ctx, String pin, String bocRef) throws
+  public static void cacheUnpin(EverSdkInvoker ctx, String pin, String bocRef) throws
       EverSdkException {
-    ctx.callVoid("boc.cache_unpin", new Boc.ParamsOfBocCacheUnpin(pin, bocRef));
+    ctx.callSyncVoid("boc.cache_unpin", new Boc.ParamsOfBocCacheUnpin(pin, bocRef));
+  }
+
+  /**
+   *  Unpin BOCs with specified pin defined in the `cache_set`. Decrease pin reference counter for BOCs with specified pin defined in the `cache_set`. BOCs which have only 1 pin and its reference counter become 0 will be removed from cache
+   *
+   * @param pin  Pinned name
+   * @param bocRef If it is provided then only referenced BOC is unpinned Reference to the cached BOC.
+   */
+  public static CompletableFuture<Void> cacheUnpinAsync(EverSdkInvoker ctx, String pin,
+      String bocRef) {
+    return ctx.callVoidAsync("boc.cache_unpin", new Boc.ParamsOfBocCacheUnpin(pin, bocRef));
   }
 
   /**
@@ -155,9 +291,20 @@ public final class Boc {
    * @param builder  Cell builder operations.
    * @param bocCache  Cache type to put the result. The BOC itself returned if no cache type provided.
    */
-  public static Boc.ResultOfEncodeBoc encodeBoc(EverSdkContext ctx, Boc.BuilderOp[] builder,
+  public static Boc.ResultOfEncodeBoc encodeBoc(EverSdkInvoker ctx, Boc.BuilderOp[] builder,
       Boc.BocCacheType bocCache) throws EverSdkException {
-    return ctx.call("boc.encode_boc", new Boc.ParamsOfEncodeBoc(builder, bocCache), Boc.ResultOfEncodeBoc.class);
+    return ctx.callSync("boc.encode_boc", new Boc.ParamsOfEncodeBoc(builder, bocCache), Boc.ResultOfEncodeBoc.class);
+  }
+
+  /**
+   *  Encodes bag of cells (BOC) with builder operations. This method provides the same functionality as Solidity TvmBuilder. Resulting BOC of this method can be passed into Solidity and C++ contracts as TvmCell type.
+   *
+   * @param builder  Cell builder operations.
+   * @param bocCache  Cache type to put the result. The BOC itself returned if no cache type provided.
+   */
+  public static CompletableFuture<Boc.ResultOfEncodeBoc> encodeBocAsync(EverSdkInvoker ctx,
+      Boc.BuilderOp[] builder, Boc.BocCacheType bocCache) {
+    return ctx.callAsync("boc.encode_boc", new Boc.ParamsOfEncodeBoc(builder, bocCache), Boc.ResultOfEncodeBoc.class);
   }
 
   /**
@@ -166,9 +313,20 @@ public final class Boc {
    * @param code  Contract code BOC encoded as base64 or code BOC handle
    * @param bocCache  Cache type to put the result. The BOC itself returned if no cache type provided.
    */
-  public static Boc.ResultOfGetCodeSalt getCodeSalt(EverSdkContext ctx, String code,
+  public static Boc.ResultOfGetCodeSalt getCodeSalt(EverSdkInvoker ctx, String code,
       Boc.BocCacheType bocCache) throws EverSdkException {
-    return ctx.call("boc.get_code_salt", new Boc.ParamsOfGetCodeSalt(code, bocCache), Boc.ResultOfGetCodeSalt.class);
+    return ctx.callSync("boc.get_code_salt", new Boc.ParamsOfGetCodeSalt(code, bocCache), Boc.ResultOfGetCodeSalt.class);
+  }
+
+  /**
+   *  Returns the contract code's salt if it is present.
+   *
+   * @param code  Contract code BOC encoded as base64 or code BOC handle
+   * @param bocCache  Cache type to put the result. The BOC itself returned if no cache type provided.
+   */
+  public static CompletableFuture<Boc.ResultOfGetCodeSalt> getCodeSaltAsync(EverSdkInvoker ctx,
+      String code, Boc.BocCacheType bocCache) {
+    return ctx.callAsync("boc.get_code_salt", new Boc.ParamsOfGetCodeSalt(code, bocCache), Boc.ResultOfGetCodeSalt.class);
   }
 
   /**
@@ -178,9 +336,21 @@ public final class Boc {
    * @param salt BOC encoded as base64 or BOC handle Code salt to set.
    * @param bocCache  Cache type to put the result. The BOC itself returned if no cache type provided.
    */
-  public static Boc.ResultOfSetCodeSalt setCodeSalt(EverSdkContext ctx, String code, String salt,
+  public static Boc.ResultOfSetCodeSalt setCodeSalt(EverSdkInvoker ctx, String code, String salt,
       Boc.BocCacheType bocCache) throws EverSdkException {
-    return ctx.call("boc.set_code_salt", new Boc.ParamsOfSetCodeSalt(code, salt, bocCache), Boc.ResultOfSetCodeSalt.class);
+    return ctx.callSync("boc.set_code_salt", new Boc.ParamsOfSetCodeSalt(code, salt, bocCache), Boc.ResultOfSetCodeSalt.class);
+  }
+
+  /**
+   * Returns the new contract code with salt. Sets new salt to contract code.
+   *
+   * @param code  Contract code BOC encoded as base64 or code BOC handle
+   * @param salt BOC encoded as base64 or BOC handle Code salt to set.
+   * @param bocCache  Cache type to put the result. The BOC itself returned if no cache type provided.
+   */
+  public static CompletableFuture<Boc.ResultOfSetCodeSalt> setCodeSaltAsync(EverSdkInvoker ctx,
+      String code, String salt, Boc.BocCacheType bocCache) {
+    return ctx.callAsync("boc.set_code_salt", new Boc.ParamsOfSetCodeSalt(code, salt, bocCache), Boc.ResultOfSetCodeSalt.class);
   }
 
   /**
@@ -189,9 +359,20 @@ public final class Boc {
    * @param stateInit  Contract StateInit image BOC encoded as base64 or BOC handle
    * @param bocCache  Cache type to put the result. The BOC itself returned if no cache type provided.
    */
-  public static Boc.ResultOfDecodeStateInit decodeStateInit(EverSdkContext ctx, String stateInit,
+  public static Boc.ResultOfDecodeStateInit decodeStateInit(EverSdkInvoker ctx, String stateInit,
       Boc.BocCacheType bocCache) throws EverSdkException {
-    return ctx.call("boc.decode_state_init", new Boc.ParamsOfDecodeStateInit(stateInit, bocCache), Boc.ResultOfDecodeStateInit.class);
+    return ctx.callSync("boc.decode_state_init", new Boc.ParamsOfDecodeStateInit(stateInit, bocCache), Boc.ResultOfDecodeStateInit.class);
+  }
+
+  /**
+   *  Decodes contract's initial state into code, data, libraries and special options.
+   *
+   * @param stateInit  Contract StateInit image BOC encoded as base64 or BOC handle
+   * @param bocCache  Cache type to put the result. The BOC itself returned if no cache type provided.
+   */
+  public static CompletableFuture<Boc.ResultOfDecodeStateInit> decodeStateInitAsync(
+      EverSdkInvoker ctx, String stateInit, Boc.BocCacheType bocCache) {
+    return ctx.callAsync("boc.decode_state_init", new Boc.ParamsOfDecodeStateInit(stateInit, bocCache), Boc.ResultOfDecodeStateInit.class);
   }
 
   /**
@@ -205,10 +386,27 @@ public final class Boc {
    * @param splitDepth  Is present and non-zero only in instances of large smart contracts
    * @param bocCache  Cache type to put the result. The BOC itself returned if no cache type provided.
    */
-  public static Boc.ResultOfEncodeStateInit encodeStateInit(EverSdkContext ctx, String code,
+  public static Boc.ResultOfEncodeStateInit encodeStateInit(EverSdkInvoker ctx, String code,
       String data, String library, Boolean tick, Boolean tock, Long splitDepth,
       Boc.BocCacheType bocCache) throws EverSdkException {
-    return ctx.call("boc.encode_state_init", new Boc.ParamsOfEncodeStateInit(code, data, library, tick, tock, splitDepth, bocCache), Boc.ResultOfEncodeStateInit.class);
+    return ctx.callSync("boc.encode_state_init", new Boc.ParamsOfEncodeStateInit(code, data, library, tick, tock, splitDepth, bocCache), Boc.ResultOfEncodeStateInit.class);
+  }
+
+  /**
+   *  Encodes initial contract state from code, data, libraries ans special options (see input params)
+   *
+   * @param code  Contract code BOC encoded as base64 or BOC handle
+   * @param data  Contract data BOC encoded as base64 or BOC handle
+   * @param library  Contract library BOC encoded as base64 or BOC handle
+   * @param tick Specifies the contract ability to handle tick transactions `special.tick` field.
+   * @param tock Specifies the contract ability to handle tock transactions `special.tock` field.
+   * @param splitDepth  Is present and non-zero only in instances of large smart contracts
+   * @param bocCache  Cache type to put the result. The BOC itself returned if no cache type provided.
+   */
+  public static CompletableFuture<Boc.ResultOfEncodeStateInit> encodeStateInitAsync(
+      EverSdkInvoker ctx, String code, String data, String library, Boolean tick, Boolean tock,
+      Long splitDepth, Boc.BocCacheType bocCache) {
+    return ctx.callAsync("boc.encode_state_init", new Boc.ParamsOfEncodeStateInit(code, data, library, tick, tock, splitDepth, bocCache), Boc.ResultOfEncodeStateInit.class);
   }
 
   /**
@@ -220,10 +418,25 @@ public final class Boc {
    * @param body  Bag of cells with the message body encoded as base64.
    * @param bocCache The BOC itself returned if no cache type provided Cache type to put the result.
    */
-  public static Boc.ResultOfEncodeExternalInMessage encodeExternalInMessage(EverSdkContext ctx,
+  public static Boc.ResultOfEncodeExternalInMessage encodeExternalInMessage(EverSdkInvoker ctx,
       String src, String dst, String init, String body, Boc.BocCacheType bocCache) throws
       EverSdkException {
-    return ctx.call("boc.encode_external_in_message", new Boc.ParamsOfEncodeExternalInMessage(src, dst, init, body, bocCache), Boc.ResultOfEncodeExternalInMessage.class);
+    return ctx.callSync("boc.encode_external_in_message", new Boc.ParamsOfEncodeExternalInMessage(src, dst, init, body, bocCache), Boc.ResultOfEncodeExternalInMessage.class);
+  }
+
+  /**
+   * Allows to encode any external inbound message. Encodes a message
+   *
+   * @param src  Source address.
+   * @param dst  Destination address.
+   * @param init  Bag of cells with state init (used in deploy messages).
+   * @param body  Bag of cells with the message body encoded as base64.
+   * @param bocCache The BOC itself returned if no cache type provided Cache type to put the result.
+   */
+  public static CompletableFuture<Boc.ResultOfEncodeExternalInMessage> encodeExternalInMessageAsync(
+      EverSdkInvoker ctx, String src, String dst, String init, String body,
+      Boc.BocCacheType bocCache) {
+    return ctx.callAsync("boc.encode_external_in_message", new Boc.ParamsOfEncodeExternalInMessage(src, dst, init, body, bocCache), Boc.ResultOfEncodeExternalInMessage.class);
   }
 
   /**
@@ -231,9 +444,19 @@ public final class Boc {
    *
    * @param code  Contract code BOC encoded as base64 or code BOC handle
    */
-  public static Boc.ResultOfGetCompilerVersion getCompilerVersion(EverSdkContext ctx, String code)
+  public static Boc.ResultOfGetCompilerVersion getCompilerVersion(EverSdkInvoker ctx, String code)
       throws EverSdkException {
-    return ctx.call("boc.get_compiler_version", new Boc.ParamsOfGetCompilerVersion(code), Boc.ResultOfGetCompilerVersion.class);
+    return ctx.callSync("boc.get_compiler_version", new Boc.ParamsOfGetCompilerVersion(code), Boc.ResultOfGetCompilerVersion.class);
+  }
+
+  /**
+   *  Returns the compiler version used to compile the code.
+   *
+   * @param code  Contract code BOC encoded as base64 or code BOC handle
+   */
+  public static CompletableFuture<Boc.ResultOfGetCompilerVersion> getCompilerVersionAsync(
+      EverSdkInvoker ctx, String code) {
+    return ctx.callAsync("boc.get_compiler_version", new Boc.ParamsOfGetCompilerVersion(code), Boc.ResultOfGetCompilerVersion.class);
   }
 
   /**
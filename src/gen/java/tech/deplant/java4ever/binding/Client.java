@@ -7,6 +7,8 @@ import java.lang.Boolean;
 import java.lang.Integer;
 import java.lang.Long;
 import java.lang.String;
+import java.lang.Void;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <strong>Client</strong>
@@ -19,43 +21,83 @@ public final class Client {
   /**
    *  Returns Core Library API reference
    */
-  public static Client.ResultOfGetApiReference getApiReference(EverSdkContext ctx) throws
+  public static Client.ResultOfGetApiReference getApiReference(EverSdkInvoker ctx) throws
       EverSdkException {
     return ctx.call("client.get_api_reference", null, Client.ResultOfGetApiReference.class);
   }
 
+  /**
+   *  Returns Core Library API reference
+   */
+  public static CompletableFuture<Client.ResultOfGetApiReference> getApiReferenceAsync(
+      EverSdkInvoker ctx) {
+    return ctx.callAsync("client.get_api_reference", null, Client.ResultOfGetApiReference.class);
+  }
+
   /**
    *  Returns Core Library version
    */
-  public static Client.ResultOfVersion version(EverSdkContext ctx) throws EverSdkException {
+  public static Client.ResultOfVersion version(EverSdkInvoker ctx) throws EverSdkException {
     return ctx.call("client.version", null, Client.ResultOfVersion.class);
   }
 
+  /**
+   *  Returns Core Library version
+   */
+  public static CompletableFuture<Client.ResultOfVersion> versionAsync(EverSdkInvoker ctx) {
+    return ctx.callAsync("client.version", null, Client.ResultOfVersion.class);
+  }
+
   /**
    *  Returns Core Library API reference
    */
-  public static Client.ClientConfig config(EverSdkContext ctx) throws EverSdkException {
+  public static Client.ClientConfig config(EverSdkInvoker ctx) throws EverSdkException {
     return ctx.call("client.config", null, Client.ClientConfig.class);
   }
 
+  /**
+   *  Returns Core Library API reference
+   */
+  public static CompletableFuture<Client.ClientConfig> configAsync(EverSdkInvoker ctx) {
+    return ctx.callAsync("client.config", null, Client.ClientConfig.class);
+  }
+
   /**
    *  Returns detailed information about this build.
    */
-  public static Client.ResultOfBuildInfo buildInfo(EverSdkContext ctx) throws EverSdkException {
+  public static Client.ResultOfBuildInfo buildInfo(EverSdkInvoker ctx) throws EverSdkException {
     return ctx.call("client.build_info", null, Client.ResultOfBuildInfo.class);
   }
 
+  /**
+   *  Returns detailed information about this build.
+   */
+  public static CompletableFuture<Client.ResultOfBuildInfo> buildInfoAsync(EverSdkInvoker ctx) {
+    return ctx.callAsync("client.build_info", null, Client.ResultOfBuildInfo.class);
+  }
+
   /**
    *  Resolves application request processing result
    *
    * @param appRequestId  Request ID received from SDK
    * @param result  Result of request processing
    */
-  public static void resolveAppRequest(EverSdkContext ctx, Long appRequestId,
+  public static void resolveAppRequest(EverSdkInvoker ctx, Long appRequestId,
       Client.AppRequestResult result) throws EverSdkException {
     ctx.callVoid("client.resolve_app_request", new Client.ParamsOfResolveAppRequest(appRequestId, result));
   }
 
+  /**
+   *  Resolves application request processing result
+   *
+   * @param appRequestId  Request ID received from SDK
+   * @param result  Result of request processing
+   */
+  public static CompletableFuture<Void> resolveAppRequestAsync(EverSdkInvoker ctx,
+      Long appRequestId, Client.AppRequestResult result) {
+    return ctx.callVoidAsync("client.resolve_app_request", new Client.ParamsOfResolveAppRequest(appRequestId, result));
+  }
+
   public enum ClientErrorCode {
     NotImplemented(1),
 
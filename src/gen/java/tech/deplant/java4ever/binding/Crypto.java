@@ -7,6 +7,8 @@ import java.lang.Boolean;
 import java.lang.Integer;
 import java.lang.Long;
 import java.lang.String;
+import java.lang.Void;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <strong>Crypto</strong>
@@ -23,9 +25,21 @@ public final class Crypto {
    *
    * @param composite  Hexadecimal representation of u64 composite number.
    */
-  public static Crypto.ResultOfFactorize factorize(EverSdkContext ctx, String composite) throws
+  public static Crypto.ResultOfFactorize factorize(EverSdkInvoker ctx, String composite) throws
       EverSdkException {
-    return ctx.call("crypto.factorize", new Crypto.ParamsOfFactorize(composite), Crypto.ResultOfFactorize.class);
+    return ctx.callSync("crypto.factorize", new Crypto.ParamsOfFactorize(composite), Crypto.ResultOfFactorize.class);
+  }
+
+  /**
+   * Performs prime factorization – decomposition of a composite number
+   * into a product of smaller prime integers (factors).
+   * See [https://en.wikipedia.org/wiki/Integer_factorization] Integer factorization
+   *
+   * @param composite  Hexadecimal representation of u64 composite number.
+   */
+  public static CompletableFuture<Crypto.ResultOfFactorize> factorizeAsync(EverSdkInvoker ctx,
+      String composite) {
+    return ctx.callAsync("crypto.factorize", new Crypto.ParamsOfFactorize(composite), Crypto.ResultOfFactorize.class);
   }
 
   /**
@@ -36,9 +50,22 @@ public final class Crypto {
    * @param exponent  `exponent` argument of calculation.
    * @param modulus  `modulus` argument of calculation.
    */
-  public static Crypto.ResultOfModularPower modularPower(EverSdkContext ctx, String base,
+  public static Crypto.ResultOfModularPower modularPower(EverSdkInvoker ctx, String base,
       String exponent, String modulus) throws EverSdkException {
-    return ctx.call("crypto.modular_power", new Crypto.ParamsOfModularPower(base, exponent, modulus), Crypto.ResultOfModularPower.class);
+    return ctx.callSync("crypto.modular_power", new Crypto.ParamsOfModularPower(base, exponent, modulus), Crypto.ResultOfModularPower.class);
+  }
+
+  /**
+   * Performs modular exponentiation for big integers (`base`^`exponent` mod `modulus`).
+   * See [https://en.wikipedia.org/wiki/Modular_exponentiation] Modular exponentiation
+   *
+   * @param base  `base` argument of calculation.
+   * @param exponent  `exponent` argument of calculation.
+   * @param modulus  `modulus` argument of calculation.
+   */
+  public static CompletableFuture<Crypto.ResultOfModularPower> modularPowerAsync(EverSdkInvoker ctx,
+      String base, String exponent, String modulus) {
+    return ctx.callAsync("crypto.modular_power", new Crypto.ParamsOfModularPower(base, exponent, modulus), Crypto.ResultOfModularPower.class);
   }
 
   /**
@@ -46,9 +73,19 @@ public final class Crypto {
    *
    * @param data Encoded with `base64`. Input data for CRC calculation.
    */
-  public static Crypto.ResultOfTonCrc16 tonCrc16(EverSdkContext ctx, String data) throws
+  public static Crypto.ResultOfTonCrc16 tonCrc16(EverSdkInvoker ctx, String data) throws
       EverSdkException {
-    return ctx.call("crypto.ton_crc16", new Crypto.ParamsOfTonCrc16(data), Crypto.ResultOfTonCrc16.class);
+    return ctx.callSync("crypto.ton_crc16", new Crypto.ParamsOfTonCrc16(data), Crypto.ResultOfTonCrc16.class);
+  }
+
+  /**
+   *  Calculates CRC16 using TON algorithm.
+   *
+   * @param data Encoded with `base64`. Input data for CRC calculation.
+   */
+  public static CompletableFuture<Crypto.ResultOfTonCrc16> tonCrc16Async(EverSdkInvoker ctx,
+      String data) {
+    return ctx.callAsync("crypto.ton_crc16", new Crypto.ParamsOfTonCrc16(data), Crypto.ResultOfTonCrc16.class);
   }
 
   /**
@@ -56,9 +93,19 @@ public final class Crypto {
    *
    * @param length  Size of random byte array.
    */
-  public static Crypto.ResultOfGenerateRandomBytes generateRandomBytes(EverSdkContext ctx,
+  public static Crypto.ResultOfGenerateRandomBytes generateRandomBytes(EverSdkInvoker ctx,
       Long length) throws EverSdkException {
-    return ctx.call("crypto.generate_random_bytes", new Crypto.ParamsOfGenerateRandomBytes(length), Crypto.ResultOfGenerateRandomBytes.class);
+    return ctx.callSync("crypto.generate_random_bytes", new Crypto.ParamsOfGenerateRandomBytes(length), Crypto.ResultOfGenerateRandomBytes.class);
+  }
+
+  /**
+   *  Generates random byte array of the specified length and returns it in `base64` format
+   *
+   * @param length  Size of random byte array.
+   */
+  public static CompletableFuture<Crypto.ResultOfGenerateRandomBytes> generateRandomBytesAsync(
+      EverSdkInvoker ctx, Long length) {
+    return ctx.callAsync("crypto.generate_random_bytes", new Crypto.ParamsOfGenerateRandomBytes(length), Crypto.ResultOfGenerateRandomBytes.class);
   }
 
   /**
@@ -67,15 +114,32 @@ public final class Crypto {
    * @param publicKey  Public key - 64 symbols hex string
    */
   public static Crypto.ResultOfConvertPublicKeyToTonSafeFormat convertPublicKeyToTonSafeFormat(
-      EverSdkContext ctx, String publicKey) throws EverSdkException {
-    return ctx.call("crypto.convert_public_key_to_ton_safe_format", new Crypto.ParamsOfConvertPublicKeyToTonSafeFormat(publicKey), Crypto.ResultOfConvertPublicKeyToTonSafeFormat.class);
+      EverSdkInvoker ctx, String publicKey) throws EverSdkException {
+    return ctx.callSync("crypto.convert_public_key_to_ton_safe_format", new Crypto.ParamsOfConvertPublicKeyToTonSafeFormat(publicKey), Crypto.ResultOfConvertPublicKeyToTonSafeFormat.class);
+  }
+
+  /**
+   *  Converts public key to ton safe_format
+   *
+   * @param publicKey  Public key - 64 symbols hex string
+   */
+  public static CompletableFuture<Crypto.ResultOfConvertPublicKeyToTonSafeFormat> convertPublicKeyToTonSafeFormatAsync(
+      EverSdkInvoker ctx, String publicKey) {
+    return ctx.callAsync("crypto.convert_public_key_to_ton_safe_format", new Crypto.ParamsOfConvertPublicKeyToTonSafeFormat(publicKey), Crypto.ResultOfConvertPublicKeyToTonSafeFormat.class);
   }
 
   /**
    *  Generates random ed25519 key pair.
    */
-  public static Crypto.KeyPair generateRandomSignKeys(EverSdkContext ctx) throws EverSdkException {
-    return ctx.call("crypto.generate_random_sign_keys", null, Crypto.KeyPair.class);
+  public static Crypto.KeyPair generateRandomSignKeys(EverSdkInvoker ctx) throws EverSdkException {
+    return ctx.callSync("crypto.generate_random_sign_keys", null, Crypto.KeyPair.class);
+  }
+
+  /**
+   *  Generates random ed25519 key pair.
+   */
+  public static CompletableFuture<Crypto.KeyPair> generateRandomSignKeysAsync(EverSdkInvoker ctx) {
+    return ctx.callAsync("crypto.generate_random_sign_keys", null, Crypto.KeyPair.class);
   }
 
   /**
@@ -84,9 +148,20 @@ public final class Crypto {
    * @param unsigned  Data that must be signed encoded in `base64`.
    * @param keys  Sign keys.
    */
-  public static Crypto.ResultOfSign sign(EverSdkContext ctx, String unsigned, Crypto.KeyPair keys)
+  public static Crypto.ResultOfSign sign(EverSdkInvoker ctx, String unsigned, Crypto.KeyPair keys)
       throws EverSdkException {
-    return ctx.call("crypto.sign", new Crypto.ParamsOfSign(unsigned, keys), Crypto.ResultOfSign.class);
+    return ctx.callSync("crypto.sign", new Crypto.ParamsOfSign(unsigned, keys), Crypto.ResultOfSign.class);
+  }
+
+  /**
+   *  Signs a data using the provided keys.
+   *
+   * @param unsigned  Data that must be signed encoded in `base64`.
+   * @param keys  Sign keys.
+   */
+  public static CompletableFuture<Crypto.ResultOfSign> signAsync(EverSdkInvoker ctx,
+      String unsigned, Crypto.KeyPair keys) {
+    return ctx.callAsync("crypto.sign", new Crypto.ParamsOfSign(unsigned, keys), Crypto.ResultOfSign.class);
   }
 
   /**
@@ -95,9 +170,20 @@ public final class Crypto {
    * @param signed  Signed data that must be verified encoded in `base64`.
    * @param publicKey  Signer's public key - 64 symbols hex string
    */
-  public static Crypto.ResultOfVerifySignature verifySignature(EverSdkContext ctx, String signed,
+  public static Crypto.ResultOfVerifySignature verifySignature(EverSdkInvoker ctx, String signed,
       @JsonProperty("public") String publicKey) throws EverSdkException {
-    return ctx.call("crypto.verify_signature", new Crypto.ParamsOfVerifySignature(signed, publicKey), Crypto.ResultOfVerifySignature.class);
+    return ctx.callSync("crypto.verify_signature", new Crypto.ParamsOfVerifySignature(signed, publicKey), Crypto.ResultOfVerifySignature.class);
+  }
+
+  /**
+   *  Verifies signed data using the provided public key. Raises error if verification is failed.
+   *
+   * @param signed  Signed data that must be verified encoded in `base64`.
+   * @param publicKey  Signer's public key - 64 symbols hex string
+   */
+  public static CompletableFuture<Crypto.ResultOfVerifySignature> verifySignatureAsync(
+      EverSdkInvoker ctx, String signed, @JsonProperty("public") String publicKey) {
+    return ctx.callAsync("crypto.verify_signature", new Crypto.ParamsOfVerifySignature(signed, publicKey), Crypto.ResultOfVerifySignature.class);
   }
 
   /**
@@ -105,9 +191,19 @@ public final class Crypto {
    *
    * @param data Encoded with `base64`. Input data for hash calculation.
    */
-  public static Crypto.ResultOfHash sha256(EverSdkContext ctx, String data) throws
+  public static Crypto.ResultOfHash sha256(EverSdkInvoker ctx, String data) throws
       EverSdkException {
-    return ctx.call("crypto.sha256", new Crypto.ParamsOfHash(data), Crypto.ResultOfHash.class);
+    return ctx.callSync("crypto.sha256", new Crypto.ParamsOfHash(data), Crypto.ResultOfHash.class);
+  }
+
+  /**
+   *  Calculates SHA256 hash of the specified data.
+   *
+   * @param data Encoded with `base64`. Input data for hash calculation.
+   */
+  public static CompletableFuture<Crypto.ResultOfHash> sha256Async(EverSdkInvoker ctx,
+      String data) {
+    return ctx.callAsync("crypto.sha256", new Crypto.ParamsOfHash(data), Crypto.ResultOfHash.class);
   }
 
   /**
@@ -115,9 +211,19 @@ public final class Crypto {
    *
    * @param data Encoded with `base64`. Input data for hash calculation.
    */
-  public static Crypto.ResultOfHash sha512(EverSdkContext ctx, String data) throws
+  public static Crypto.ResultOfHash sha512(EverSdkInvoker ctx, String data) throws
       EverSdkException {
-    return ctx.call("crypto.sha512", new Crypto.ParamsOfHash(data), Crypto.ResultOfHash.class);
+    return ctx.callSync("crypto.sha512", new Crypto.ParamsOfHash(data), Crypto.ResultOfHash.class);
+  }
+
+  /**
+   *  Calculates SHA512 hash of the specified data.
+   *
+   * @param data Encoded with `base64`. Input data for hash calculation.
+   */
+  public static CompletableFuture<Crypto.ResultOfHash> sha512Async(EverSdkInvoker ctx,
+      String data) {
+    return ctx.callAsync("crypto.sha512", new Crypto.ParamsOfHash(data), Crypto.ResultOfHash.class);
   }
 
   /**
@@ -144,9 +250,38 @@ public final class Crypto {
    * @param p  Parallelization parameter.
    * @param dkLen  Intended output length in octets of the derived key.
    */
-  public static Crypto.ResultOfScrypt scrypt(EverSdkContext ctx, String password, String salt,
+  public static Crypto.ResultOfScrypt scrypt(EverSdkInvoker ctx, String password, String salt,
       Integer logN, Long r, Long p, Long dkLen) throws EverSdkException {
-    return ctx.call("crypto.scrypt", new Crypto.ParamsOfScrypt(password, salt, logN, r, p, dkLen), Crypto.ResultOfScrypt.class);
+    return ctx.callSync("crypto.scrypt", new Crypto.ParamsOfScrypt(password, salt, logN, r, p, dkLen), Crypto.ResultOfScrypt.class);
+  }
+
+  /**
+   * Derives key from `password` and `key` using `scrypt` algorithm.
+   * See [https://en.wikipedia.org/wiki/Scrypt].
+   *
+   * # Arguments
+   * - `log_n` - The log2 of the Scrypt parameter `N`
+   * - `r` - The Scrypt parameter `r`
+   * - `p` - The Scrypt parameter `p`
+   * # Conditions
+   * - `log_n` must be less than `64`
+   * - `r` must be greater than `0` and less than or equal to `4294967295`
+   * - `p` must be greater than `0` and less than `4294967295`
+   * # Recommended values sufficient for most use-cases
+   * - `log_n = 15` (`n = 32768`)
+   * - `r = 8`
+   * - `p = 1` Perform `scrypt` encryption
+   *
+   * @param password  The password bytes to be hashed. Must be encoded with `base64`.
+   * @param salt  Salt bytes that modify the hash to protect against Rainbow table attacks. Must be encoded with `base64`.
+   * @param logN  CPU/memory cost parameter
+   * @param r  The block size parameter, which fine-tunes sequential memory read size and performance.
+   * @param p  Parallelization parameter.
+   * @param dkLen  Intended output length in octets of the derived key.
+   */
+  public static CompletableFuture<Crypto.ResultOfScrypt> scryptAsync(EverSdkInvoker ctx,
+      String password, String salt, Integer logN, Long r, Long p, Long dkLen) {
+    return ctx.callAsync("crypto.scrypt", new Crypto.ParamsOfScrypt(password, salt, logN, r, p, dkLen), Crypto.ResultOfScrypt.class);
   }
 
   /**
@@ -156,9 +291,21 @@ public final class Crypto {
    *
    * @param secretKey  Secret key - unprefixed 0-padded to 64 symbols hex string
    */
-  public static Crypto.KeyPair naclSignKeypairFromSecretKey(EverSdkContext ctx,
+  public static Crypto.KeyPair naclSignKeypairFromSecretKey(EverSdkInvoker ctx,
       @JsonProperty("secret") String secretKey) throws EverSdkException {
-    return ctx.call("crypto.nacl_sign_keypair_from_secret_key", new Crypto.ParamsOfNaclSignKeyPairFromSecret(secretKey), Crypto.KeyPair.class);
+    return ctx.callSync("crypto.nacl_sign_keypair_from_secret_key", new Crypto.ParamsOfNaclSignKeyPairFromSecret(secretKey), Crypto.KeyPair.class);
+  }
+
+  /**
+   * **NOTE:** In the result the secret key is actually the concatenation
+   * of secret and public keys (128 symbols hex string) by design of [NaCL](http://nacl.cr.yp.to/sign.html).
+   * See also [the stackexchange question](https://crypto.stackexchange.com/questions/54353/). Generates a key pair for signing from the secret key
+   *
+   * @param secretKey  Secret key - unprefixed 0-padded to 64 symbols hex string
+   */
+  public static CompletableFuture<Crypto.KeyPair> naclSignKeypairFromSecretKeyAsync(
+      EverSdkInvoker ctx, @JsonProperty("secret") String secretKey) {
+    return ctx.callAsync("crypto.nacl_sign_keypair_from_secret_key", new Crypto.ParamsOfNaclSignKeyPairFromSecret(secretKey), Crypto.KeyPair.class);
   }
 
   /**
@@ -167,9 +314,20 @@ public final class Crypto {
    * @param unsigned  Data that must be signed encoded in `base64`.
    * @param secretKey  Signer's secret key - unprefixed 0-padded to 128 symbols hex string (concatenation of 64 symbols secret and 64 symbols public keys). See `nacl_sign_keypair_from_secret_key`.
    */
-  public static Crypto.ResultOfNaclSign naclSign(EverSdkContext ctx, String unsigned,
+  public static Crypto.ResultOfNaclSign naclSign(EverSdkInvoker ctx, String unsigned,
       @JsonProperty("secret") String secretKey) throws EverSdkException {
-    return ctx.call("crypto.nacl_sign", new Crypto.ParamsOfNaclSign(unsigned, secretKey), Crypto.ResultOfNaclSign.class);
+    return ctx.callSync("crypto.nacl_sign", new Crypto.ParamsOfNaclSign(unsigned, secretKey), Crypto.ResultOfNaclSign.class);
+  }
+
+  /**
+   *  Signs data using the signer's secret key.
+   *
+   * @param unsigned  Data that must be signed encoded in `base64`.
+   * @param secretKey  Signer's secret key - unprefixed 0-padded to 128 symbols hex string (concatenation of 64 symbols secret and 64 symbols public keys). See `nacl_sign_keypair_from_secret_key`.
+   */
+  public static CompletableFuture<Crypto.ResultOfNaclSign> naclSignAsync(EverSdkInvoker ctx,
+      String unsigned, @JsonProperty("secret") String secretKey) {
+    return ctx.callAsync("crypto.nacl_sign", new Crypto.ParamsOfNaclSign(unsigned, secretKey), Crypto.ResultOfNaclSign.class);
   }
 
   /**
@@ -181,9 +339,23 @@ public final class Crypto {
    * @param signed Encoded with `base64`. Signed data that must be unsigned.
    * @param publicKey  Signer's public key - unprefixed 0-padded to 64 symbols hex string
    */
-  public static Crypto.ResultOfNaclSignOpen naclSignOpen(EverSdkContext ctx, String signed,
+  public static Crypto.ResultOfNaclSignOpen naclSignOpen(EverSdkInvoker ctx, String signed,
       @JsonProperty("public") String publicKey) throws EverSdkException {
-    return ctx.call("crypto.nacl_sign_open", new Crypto.ParamsOfNaclSignOpen(signed, publicKey), Crypto.ResultOfNaclSignOpen.class);
+    return ctx.callSync("crypto.nacl_sign_open", new Crypto.ParamsOfNaclSignOpen(signed, publicKey), Crypto.ResultOfNaclSignOpen.class);
+  }
+
+  /**
+   * Verifies the signature in `signed` using the signer's public key `public`
+   * and returns the message `unsigned`.
+   *
+   * If the signature fails verification, crypto_sign_open raises an exception. Verifies the signature and returns the unsigned message
+   *
+   * @param signed Encoded with `base64`. Signed data that must be unsigned.
+   * @param publicKey  Signer's public key - unprefixed 0-padded to 64 symbols hex string
+   */
+  public static CompletableFuture<Crypto.ResultOfNaclSignOpen> naclSignOpenAsync(EverSdkInvoker ctx,
+      String signed, @JsonProperty("public") String publicKey) {
+    return ctx.callAsync("crypto.nacl_sign_open", new Crypto.ParamsOfNaclSignOpen(signed, publicKey), Crypto.ResultOfNaclSignOpen.class);
   }
 
   /**
@@ -193,9 +365,21 @@ public final class Crypto {
    * @param unsigned  Data that must be signed encoded in `base64`.
    * @param secretKey  Signer's secret key - unprefixed 0-padded to 128 symbols hex string (concatenation of 64 symbols secret and 64 symbols public keys). See `nacl_sign_keypair_from_secret_key`.
    */
-  public static Crypto.ResultOfNaclSignDetached naclSignDetached(EverSdkContext ctx,
+  public static Crypto.ResultOfNaclSignDetached naclSignDetached(EverSdkInvoker ctx,
       String unsigned, @JsonProperty("secret") String secretKey) throws EverSdkException {
-    return ctx.call("crypto.nacl_sign_detached", new Crypto.ParamsOfNaclSign(unsigned, secretKey), Crypto.ResultOfNaclSignDetached.class);
+    return ctx.callSync("crypto.nacl_sign_detached", new Crypto.ParamsOfNaclSign(unsigned, secretKey), Crypto.ResultOfNaclSignDetached.class);
+  }
+
+  /**
+   * Signs the message `unsigned` using the secret key `secret`
+   * and returns a signature `signature`. Signs the message using the secret key and returns a signature.
+   *
+   * @param unsigned  Data that must be signed encoded in `base64`.
+   * @param secretKey  Signer's secret key - unprefixed 0-padded to 128 symbols hex string (concatenation of 64 symbols secret and 64 symbols public keys). See `nacl_sign_keypair_from_secret_key`.
+   */
+  public static CompletableFuture<Crypto.ResultOfNaclSignDetached> naclSignDetachedAsync(
+      EverSdkInvoker ctx, String unsigned, @JsonProperty("secret") String secretKey) {
+    return ctx.callAsync("crypto.nacl_sign_detached", new Crypto.ParamsOfNaclSign(unsigned, secretKey), Crypto.ResultOfNaclSignDetached.class);
   }
 
   /**
@@ -205,17 +389,37 @@ public final class Crypto {
    * @param signature Encoded with `hex`. Signature that must be verified.
    * @param publicKey  Signer's public key - unprefixed 0-padded to 64 symbols hex string.
    */
-  public static Crypto.ResultOfNaclSignDetachedVerify naclSignDetachedVerify(EverSdkContext ctx,
+  public static Crypto.ResultOfNaclSignDetachedVerify naclSignDetachedVerify(EverSdkInvoker ctx,
       String unsigned, String signature, @JsonProperty("public") String publicKey) throws
       EverSdkException {
-    return ctx.call("crypto.nacl_sign_detached_verify", new Crypto.ParamsOfNaclSignDetachedVerify(unsigned, signature, publicKey), Crypto.ResultOfNaclSignDetachedVerify.class);
+    return ctx.callSync("crypto.nacl_sign_detached_verify", new Crypto.ParamsOfNaclSignDetachedVerify(unsigned, signature, publicKey), Crypto.ResultOfNaclSignDetachedVerify.class);
+  }
+
+  /**
+   *  Verifies the signature with public key and `unsigned` data.
+   *
+   * @param unsigned Encoded with `base64`. Unsigned data that must be verified.
+   * @param signature Encoded with `hex`. Signature that must be verified.
+   * @param publicKey  Signer's public key - unprefixed 0-padded to 64 symbols hex string.
+   */
+  public static CompletableFuture<Crypto.ResultOfNaclSignDetachedVerify> naclSignDetachedVerifyAsync(
+      EverSdkInvoker ctx, String unsigned, String signature,
+      @JsonProperty("public") String publicKey) {
+    return ctx.callAsync("crypto.nacl_sign_detached_verify", new Crypto.ParamsOfNaclSignDetachedVerify(unsigned, signature, publicKey), Crypto.ResultOfNaclSignDetachedVerify.class);
   }
 
   /**
    *  Generates a random NaCl key pair
    */
-  public static Crypto.KeyPair naclBoxKeypair(EverSdkContext ctx) throws EverSdkException {
-    return ctx.call("crypto.nacl_box_keypair", null, Crypto.KeyPair.class);
+  public static Crypto.KeyPair naclBoxKeypair(EverSdkInvoker ctx) throws EverSdkException {
+    return ctx.callSync("crypto.nacl_box_keypair", null, Crypto.KeyPair.class);
+  }
+
+  /**
+   *  Generates a random NaCl key pair
+   */
+  public static CompletableFuture<Crypto.KeyPair> naclBoxKeypairAsync(EverSdkInvoker ctx) {
+    return ctx.callAsync("crypto.nacl_box_keypair", null, Crypto.KeyPair.class);
   }
 
   /**
@@ -223,9 +427,19 @@ public final class Crypto {
    *
    * @param secretKey  Secret key - unprefixed 0-padded to 64 symbols hex string
    */
-  public static Crypto.KeyPair naclBoxKeypairFromSecretKey(EverSdkContext ctx,
+  public static Crypto.KeyPair naclBoxKeypairFromSecretKey(EverSdkInvoker ctx,
       @JsonProperty("secret") String secretKey) throws EverSdkException {
-    return ctx.call("crypto.nacl_box_keypair_from_secret_key", new Crypto.ParamsOfNaclBoxKeyPairFromSecret(secretKey), Crypto.KeyPair.class);
+    return ctx.callSync("crypto.nacl_box_keypair_from_secret_key", new Crypto.ParamsOfNaclBoxKeyPairFromSecret(secretKey), Crypto.KeyPair.class);
+  }
+
+  /**
+   *  Generates key pair from a secret key
+   *
+   * @param secretKey  Secret key - unprefixed 0-padded to 64 symbols hex string
+   */
+  public static CompletableFuture<Crypto.KeyPair> naclBoxKeypairFromSecretKeyAsync(
+      EverSdkInvoker ctx, @JsonProperty("secret") String secretKey) {
+    return ctx.callAsync("crypto.nacl_box_keypair_from_secret_key", new Crypto.ParamsOfNaclBoxKeyPairFromSecret(secretKey), Crypto.KeyPair.class);
   }
 
   /**
@@ -237,9 +451,24 @@ public final class Crypto {
    * @param theirPublic  Receiver's public key - unprefixed 0-padded to 64 symbols hex string
    * @param secretKey  Sender's private key - unprefixed 0-padded to 64 symbols hex string
    */
-  public static Crypto.ResultOfNaclBox naclBox(EverSdkContext ctx, String decrypted, String nonce,
+  public static Crypto.ResultOfNaclBox naclBox(EverSdkInvoker ctx, String decrypted, String nonce,
       String theirPublic, @JsonProperty("secret") String secretKey) throws EverSdkException {
-    return ctx.call("crypto.nacl_box", new Crypto.ParamsOfNaclBox(decrypted, nonce, theirPublic, secretKey), Crypto.ResultOfNaclBox.class);
+    return ctx.callSync("crypto.nacl_box", new Crypto.ParamsOfNaclBox(decrypted, nonce, theirPublic, secretKey), Crypto.ResultOfNaclBox.class);
+  }
+
+  /**
+   * Encrypt and authenticate a message using the senders secret key, the receivers public
+   * key, and a nonce. Public key authenticated encryption
+   *
+   * @param decrypted  Data that must be encrypted encoded in `base64`.
+   * @param nonce  Nonce, encoded in `hex`
+   * @param theirPublic  Receiver's public key - unprefixed 0-padded to 64 symbols hex string
+   * @param secretKey  Sender's private key - unprefixed 0-padded to 64 symbols hex string
+   */
+  public static CompletableFuture<Crypto.ResultOfNaclBox> naclBoxAsync(EverSdkInvoker ctx,
+      String decrypted, String nonce, String theirPublic,
+      @JsonProperty("secret") String secretKey) {
+    return ctx.callAsync("crypto.nacl_box", new Crypto.ParamsOfNaclBox(decrypted, nonce, theirPublic, secretKey), Crypto.ResultOfNaclBox.class);
   }
 
   /**
@@ -250,10 +479,24 @@ public final class Crypto {
    * @param theirPublic  Sender's public key - unprefixed 0-padded to 64 symbols hex string
    * @param secretKey  Receiver's private key - unprefixed 0-padded to 64 symbols hex string
    */
-  public static Crypto.ResultOfNaclBoxOpen naclBoxOpen(EverSdkContext ctx, String encrypted,
+  public static Crypto.ResultOfNaclBoxOpen naclBoxOpen(EverSdkInvoker ctx, String encrypted,
       String nonce, String theirPublic, @JsonProperty("secret") String secretKey) throws
       EverSdkException {
-    return ctx.call("crypto.nacl_box_open", new Crypto.ParamsOfNaclBoxOpen(encrypted, nonce, theirPublic, secretKey), Crypto.ResultOfNaclBoxOpen.class);
+    return ctx.callSync("crypto.nacl_box_open", new Crypto.ParamsOfNaclBoxOpen(encrypted, nonce, theirPublic, secretKey), Crypto.ResultOfNaclBoxOpen.class);
+  }
+
+  /**
+   *  Decrypt and verify the cipher text using the receivers secret key, the senders public key, and the nonce.
+   *
+   * @param encrypted Encoded with `base64`. Data that must be decrypted.
+   * @param nonce  Nonce
+   * @param theirPublic  Sender's public key - unprefixed 0-padded to 64 symbols hex string
+   * @param secretKey  Receiver's private key - unprefixed 0-padded to 64 symbols hex string
+   */
+  public static CompletableFuture<Crypto.ResultOfNaclBoxOpen> naclBoxOpenAsync(EverSdkInvoker ctx,
+      String encrypted, String nonce, String theirPublic,
+      @JsonProperty("secret") String secretKey) {
+    return ctx.callAsync("crypto.nacl_box_open", new Crypto.ParamsOfNaclBoxOpen(encrypted, nonce, theirPublic, secretKey), Crypto.ResultOfNaclBoxOpen.class);
   }
 
   /**
@@ -263,9 +506,21 @@ public final class Crypto {
    * @param nonce  Nonce in `hex`
    * @param key  Secret key - unprefixed 0-padded to 64 symbols hex string
    */
-  public static Crypto.ResultOfNaclBox naclSecretBox(EverSdkContext ctx, String decrypted,
+  public static Crypto.ResultOfNaclBox naclSecretBox(EverSdkInvoker ctx, String decrypted,
       String nonce, String key) throws EverSdkException {
-    return ctx.call("crypto.nacl_secret_box", new Crypto.ParamsOfNaclSecretBox(decrypted, nonce, key), Crypto.ResultOfNaclBox.class);
+    return ctx.callSync("crypto.nacl_secret_box", new Crypto.ParamsOfNaclSecretBox(decrypted, nonce, key), Crypto.ResultOfNaclBox.class);
+  }
+
+  /**
+   *  Encrypt and authenticate message using nonce and secret key.
+   *
+   * @param decrypted Encoded with `base64`. Data that must be encrypted.
+   * @param nonce  Nonce in `hex`
+   * @param key  Secret key - unprefixed 0-padded to 64 symbols hex string
+   */
+  public static CompletableFuture<Crypto.ResultOfNaclBox> naclSecretBoxAsync(EverSdkInvoker ctx,
+      String decrypted, String nonce, String key) {
+    return ctx.callAsync("crypto.nacl_secret_box", new Crypto.ParamsOfNaclSecretBox(decrypted, nonce, key), Crypto.ResultOfNaclBox.class);
   }
 
   /**
@@ -275,9 +530,21 @@ public final class Crypto {
    * @param nonce  Nonce in `hex`
    * @param key  Secret key - unprefixed 0-padded to 64 symbols hex string
    */
-  public static Crypto.ResultOfNaclBoxOpen naclSecretBoxOpen(EverSdkContext ctx, String encrypted,
+  public static Crypto.ResultOfNaclBoxOpen naclSecretBoxOpen(EverSdkInvoker ctx, String encrypted,
       String nonce, String key) throws EverSdkException {
-    return ctx.call("crypto.nacl_secret_box_open", new Crypto.ParamsOfNaclSecretBoxOpen(encrypted, nonce, key), Crypto.ResultOfNaclBoxOpen.class);
+    return ctx.callSync("crypto.nacl_secret_box_open", new Crypto.ParamsOfNaclSecretBoxOpen(encrypted, nonce, key), Crypto.ResultOfNaclBoxOpen.class);
+  }
+
+  /**
+   *  Decrypts and verifies cipher text using `nonce` and secret `key`.
+   *
+   * @param encrypted Encoded with `base64`. Data that must be decrypted.
+   * @param nonce  Nonce in `hex`
+   * @param key  Secret key - unprefixed 0-padded to 64 symbols hex string
+   */
+  public static CompletableFuture<Crypto.ResultOfNaclBoxOpen> naclSecretBoxOpenAsync(
+      EverSdkInvoker ctx, String encrypted, String nonce, String key) {
+    return ctx.callAsync("crypto.nacl_secret_box_open", new Crypto.ParamsOfNaclSecretBoxOpen(encrypted, nonce, key), Crypto.ResultOfNaclBoxOpen.class);
   }
 
   /**
@@ -285,9 +552,19 @@ public final class Crypto {
    *
    * @param dictionary  Dictionary identifier
    */
-  public static Crypto.ResultOfMnemonicWords mnemonicWords(EverSdkContext ctx,
+  public static Crypto.ResultOfMnemonicWords mnemonicWords(EverSdkInvoker ctx,
       Crypto.MnemonicDictionary dictionary) throws EverSdkException {
-    return ctx.call("crypto.mnemonic_words", new Crypto.ParamsOfMnemonicWords(dictionary), Crypto.ResultOfMnemonicWords.class);
+    return ctx.callSync("crypto.mnemonic_words", new Crypto.ParamsOfMnemonicWords(dictionary), Crypto.ResultOfMnemonicWords.class);
+  }
+
+  /**
+   *  Prints the list of words from the specified dictionary
+   *
+   * @param dictionary  Dictionary identifier
+   */
+  public static CompletableFuture<Crypto.ResultOfMnemonicWords> mnemonicWordsAsync(
+      EverSdkInvoker ctx, Crypto.MnemonicDictionary dictionary) {
+    return ctx.callAsync("crypto.mnemonic_words", new Crypto.ParamsOfMnemonicWords(dictionary), Crypto.ResultOfMnemonicWords.class);
   }
 
   /**
@@ -296,9 +573,20 @@ public final class Crypto {
    * @param dictionary  Dictionary identifier
    * @param wordCount  Mnemonic word count
    */
-  public static Crypto.ResultOfMnemonicFromRandom mnemonicFromRandom(EverSdkContext ctx,
+  public static Crypto.ResultOfMnemonicFromRandom mnemonicFromRandom(EverSdkInvoker ctx,
       Crypto.MnemonicDictionary dictionary, Integer wordCount) throws EverSdkException {
-    return ctx.call("crypto.mnemonic_from_random", new Crypto.ParamsOfMnemonicFromRandom(dictionary, wordCount), Crypto.ResultOfMnemonicFromRandom.class);
+    return ctx.callSync("crypto.mnemonic_from_random", new Crypto.ParamsOfMnemonicFromRandom(dictionary, wordCount), Crypto.ResultOfMnemonicFromRandom.class);
+  }
+
+  /**
+   * Generates a random mnemonic from the specified dictionary and word count Generates a random mnemonic
+   *
+   * @param dictionary  Dictionary identifier
+   * @param wordCount  Mnemonic word count
+   */
+  public static CompletableFuture<Crypto.ResultOfMnemonicFromRandom> mnemonicFromRandomAsync(
+      EverSdkInvoker ctx, Crypto.MnemonicDictionary dictionary, Integer wordCount) {
+    return ctx.callAsync("crypto.mnemonic_from_random", new Crypto.ParamsOfMnemonicFromRandom(dictionary, wordCount), Crypto.ResultOfMnemonicFromRandom.class);
   }
 
   /**
@@ -308,10 +596,22 @@ public final class Crypto {
    * @param dictionary  Dictionary identifier
    * @param wordCount  Mnemonic word count
    */
-  public static Crypto.ResultOfMnemonicFromEntropy mnemonicFromEntropy(EverSdkContext ctx,
+  public static Crypto.ResultOfMnemonicFromEntropy mnemonicFromEntropy(EverSdkInvoker ctx,
       String entropy, Crypto.MnemonicDictionary dictionary, Integer wordCount) throws
       EverSdkException {
-    return ctx.call("crypto.mnemonic_from_entropy", new Crypto.ParamsOfMnemonicFromEntropy(entropy, dictionary, wordCount), Crypto.ResultOfMnemonicFromEntropy.class);
+    return ctx.callSync("crypto.mnemonic_from_entropy", new Crypto.ParamsOfMnemonicFromEntropy(entropy, dictionary, wordCount), Crypto.ResultOfMnemonicFromEntropy.class);
+  }
+
+  /**
+   *  Generates mnemonic from pre-generated entropy
+   *
+   * @param entropy Hex encoded. Entropy bytes.
+   * @param dictionary  Dictionary identifier
+   * @param wordCount  Mnemonic word count
+   */
+  public static CompletableFuture<Crypto.ResultOfMnemonicFromEntropy> mnemonicFromEntropyAsync(
+      EverSdkInvoker ctx, String entropy, Crypto.MnemonicDictionary dictionary, Integer wordCount) {
+    return ctx.callAsync("crypto.mnemonic_from_entropy", new Crypto.ParamsOfMnemonicFromEntropy(entropy, dictionary, wordCount), Crypto.ResultOfMnemonicFromEntropy.class);
   }
 
   /**
@@ -322,9 +622,22 @@ public final class Crypto {
    * @param dictionary  Dictionary identifier
    * @param wordCount  Word count
    */
-  public static Crypto.ResultOfMnemonicVerify mnemonicVerify(EverSdkContext ctx, String phrase,
+  public static Crypto.ResultOfMnemonicVerify mnemonicVerify(EverSdkInvoker ctx, String phrase,
       Crypto.MnemonicDictionary dictionary, Integer wordCount) throws EverSdkException {
-    return ctx.call("crypto.mnemonic_verify", new Crypto.ParamsOfMnemonicVerify(phrase, dictionary, wordCount), Crypto.ResultOfMnemonicVerify.class);
+    return ctx.callSync("crypto.mnemonic_verify", new Crypto.ParamsOfMnemonicVerify(phrase, dictionary, wordCount), Crypto.ResultOfMnemonicVerify.class);
+  }
+
+  /**
+   * The phrase supplied will be checked for word length and validated according to the checksum
+   * specified in BIP0039. Validates a mnemonic phrase
+   *
+   * @param phrase  Phrase
+   * @param dictionary  Dictionary identifier
+   * @param wordCount  Word count
+   */
+  public static CompletableFuture<Crypto.ResultOfMnemonicVerify> mnemonicVerifyAsync(
+      EverSdkInvoker ctx, String phrase, Crypto.MnemonicDictionary dictionary, Integer wordCount) {
+    return ctx.callAsync("crypto.mnemonic_verify", new Crypto.ParamsOfMnemonicVerify(phrase, dictionary, wordCount), Crypto.ResultOfMnemonicVerify.class);
   }
 
   /**
@@ -336,10 +649,24 @@ public final class Crypto {
    * @param dictionary  Dictionary identifier
    * @param wordCount  Word count
    */
-  public static Crypto.KeyPair mnemonicDeriveSignKeys(EverSdkContext ctx, String phrase,
+  public static Crypto.KeyPair mnemonicDeriveSignKeys(EverSdkInvoker ctx, String phrase,
       String path, Crypto.MnemonicDictionary dictionary, Integer wordCount) throws
       EverSdkException {
-    return ctx.call("crypto.mnemonic_derive_sign_keys", new Crypto.ParamsOfMnemonicDeriveSignKeys(phrase, path, dictionary, wordCount), Crypto.KeyPair.class);
+    return ctx.callSync("crypto.mnemonic_derive_sign_keys", new Crypto.ParamsOfMnemonicDeriveSignKeys(phrase, path, dictionary, wordCount), Crypto.KeyPair.class);
+  }
+
+  /**
+   * Validates the seed phrase, generates master key and then derives
+   * the key pair from the master key and the specified path Derives a key pair for signing from the seed phrase
+   *
+   * @param phrase  Phrase
+   * @param path  Derivation path, for instance "m/44'/396'/0'/0/0"
+   * @param dictionary  Dictionary identifier
+   * @param wordCount  Word count
+   */
+  public static CompletableFuture<Crypto.KeyPair> mnemonicDeriveSignKeysAsync(EverSdkInvoker ctx,
+      String phrase, String path, Crypto.MnemonicDictionary dictionary, Integer wordCount) {
+    return ctx.callAsync("crypto.mnemonic_derive_sign_keys", new Crypto.ParamsOfMnemonicDeriveSignKeys(phrase, path, dictionary, wordCount), Crypto.KeyPair.class);
   }
 
   /**
@@ -349,10 +676,22 @@ public final class Crypto {
    * @param dictionary  Dictionary identifier
    * @param wordCount  Mnemonic word count
    */
-  public static Crypto.ResultOfHDKeyXPrvFromMnemonic hdkeyXprvFromMnemonic(EverSdkContext ctx,
+  public static Crypto.ResultOfHDKeyXPrvFromMnemonic hdkeyXprvFromMnemonic(EverSdkInvoker ctx,
       String phrase, Crypto.MnemonicDictionary dictionary, Integer wordCount) throws
       EverSdkException {
-    return ctx.call("crypto.hdkey_xprv_from_mnemonic", new Crypto.ParamsOfHDKeyXPrvFromMnemonic(phrase, dictionary, wordCount), Crypto.ResultOfHDKeyXPrvFromMnemonic.class);
+    return ctx.callSync("crypto.hdkey_xprv_from_mnemonic", new Crypto.ParamsOfHDKeyXPrvFromMnemonic(phrase, dictionary, wordCount), Crypto.ResultOfHDKeyXPrvFromMnemonic.class);
+  }
+
+  /**
+   *  Generates an extended master private key that will be the root for all the derived keys
+   *
+   * @param phrase  String with seed phrase
+   * @param dictionary  Dictionary identifier
+   * @param wordCount  Mnemonic word count
+   */
+  public static CompletableFuture<Crypto.ResultOfHDKeyXPrvFromMnemonic> hdkeyXprvFromMnemonicAsync(
+      EverSdkInvoker ctx, String phrase, Crypto.MnemonicDictionary dictionary, Integer wordCount) {
+    return ctx.callAsync("crypto.hdkey_xprv_from_mnemonic", new Crypto.ParamsOfHDKeyXPrvFromMnemonic(phrase, dictionary, wordCount), Crypto.ResultOfHDKeyXPrvFromMnemonic.class);
   }
 
   /**
@@ -362,9 +701,21 @@ public final class Crypto {
    * @param childIndex  Child index (see BIP-0032)
    * @param hardened  Indicates the derivation of hardened/not-hardened key (see BIP-0032)
    */
-  public static Crypto.ResultOfHDKeyDeriveFromXPrv hdkeyDeriveFromXprv(EverSdkContext ctx,
+  public static Crypto.ResultOfHDKeyDeriveFromXPrv hdkeyDeriveFromXprv(EverSdkInvoker ctx,
       String xprv, Long childIndex, Boolean hardened) throws EverSdkException {
-    return ctx.call("crypto.hdkey_derive_from_xprv", new Crypto.ParamsOfHDKeyDeriveFromXPrv(xprv, childIndex, hardened), Crypto.ResultOfHDKeyDeriveFromXPrv.class);
+    return ctx.callSync("crypto.hdkey_derive_from_xprv", new Crypto.ParamsOfHDKeyDeriveFromXPrv(xprv, childIndex, hardened), Crypto.ResultOfHDKeyDeriveFromXPrv.class);
+  }
+
+  /**
+   *  Returns extended private key derived from the specified extended private key and child index
+   *
+   * @param xprv  Serialized extended private key
+   * @param childIndex  Child index (see BIP-0032)
+   * @param hardened  Indicates the derivation of hardened/not-hardened key (see BIP-0032)
+   */
+  public static CompletableFuture<Crypto.ResultOfHDKeyDeriveFromXPrv> hdkeyDeriveFromXprvAsync(
+      EverSdkInvoker ctx, String xprv, Long childIndex, Boolean hardened) {
+    return ctx.callAsync("crypto.hdkey_derive_from_xprv", new Crypto.ParamsOfHDKeyDeriveFromXPrv(xprv, childIndex, hardened), Crypto.ResultOfHDKeyDeriveFromXPrv.class);
   }
 
   /**
@@ -373,9 +724,20 @@ public final class Crypto {
    * @param xprv  Serialized extended private key
    * @param path  Derivation path, for instance "m/44'/396'/0'/0/0"
    */
-  public static Crypto.ResultOfHDKeyDeriveFromXPrvPath hdkeyDeriveFromXprvPath(EverSdkContext ctx,
+  public static Crypto.ResultOfHDKeyDeriveFromXPrvPath hdkeyDeriveFromXprvPath(EverSdkInvoker ctx,
       String xprv, String path) throws EverSdkException {
-    return ctx.call("crypto.hdkey_derive_from_xprv_path", new Crypto.ParamsOfHDKeyDeriveFromXPrvPath(xprv, path), Crypto.ResultOfHDKeyDeriveFromXPrvPath.class);
+    return ctx.callSync("crypto.hdkey_derive_from_xprv_path", new Crypto.ParamsOfHDKeyDeriveFromXPrvPath(xprv, path), Crypto.ResultOfHDKeyDeriveFromXPrvPath.class);
+  }
+
+  /**
+   *  Derives the extended private key from the specified key and path
+   *
+   * @param xprv  Serialized extended private key
+   * @param path  Derivation path, for instance "m/44'/396'/0'/0/0"
+   */
+  public static CompletableFuture<Crypto.ResultOfHDKeyDeriveFromXPrvPath> hdkeyDeriveFromXprvPathAsync(
+      EverSdkInvoker ctx, String xprv, String path) {
+    return ctx.callAsync("crypto.hdkey_derive_from_xprv_path", new Crypto.ParamsOfHDKeyDeriveFromXPrvPath(xprv, path), Crypto.ResultOfHDKeyDeriveFromXPrvPath.class);
   }
 
   /**
@@ -383,9 +745,19 @@ public final class Crypto {
    *
    * @param xprv  Serialized extended private key
    */
-  public static Crypto.ResultOfHDKeySecretFromXPrv hdkeySecretFromXprv(EverSdkContext ctx,
+  public static Crypto.ResultOfHDKeySecretFromXPrv hdkeySecretFromXprv(EverSdkInvoker ctx,
       String xprv) throws EverSdkException {
-    return ctx.call("crypto.hdkey_secret_from_xprv", new Crypto.ParamsOfHDKeySecretFromXPrv(xprv), Crypto.ResultOfHDKeySecretFromXPrv.class);
+    return ctx.callSync("crypto.hdkey_secret_from_xprv", new Crypto.ParamsOfHDKeySecretFromXPrv(xprv), Crypto.ResultOfHDKeySecretFromXPrv.class);
+  }
+
+  /**
+   *  Extracts the private key from the serialized extended private key
+   *
+   * @param xprv  Serialized extended private key
+   */
+  public static CompletableFuture<Crypto.ResultOfHDKeySecretFromXPrv> hdkeySecretFromXprvAsync(
+      EverSdkInvoker ctx, String xprv) {
+    return ctx.callAsync("crypto.hdkey_secret_from_xprv", new Crypto.ParamsOfHDKeySecretFromXPrv(xprv), Crypto.ResultOfHDKeySecretFromXPrv.class);
   }
 
   /**
@@ -393,9 +765,19 @@ public final class Crypto {
    *
    * @param xprv  Serialized extended private key
    */
-  public static Crypto.ResultOfHDKeyPublicFromXPrv hdkeyPublicFromXprv(EverSdkContext ctx,
+  public static Crypto.ResultOfHDKeyPublicFromXPrv hdkeyPublicFromXprv(EverSdkInvoker ctx,
       String xprv) throws EverSdkException {
-    return ctx.call("crypto.hdkey_public_from_xprv", new Crypto.ParamsOfHDKeyPublicFromXPrv(xprv), Crypto.ResultOfHDKeyPublicFromXPrv.class);
+    return ctx.callSync("crypto.hdkey_public_from_xprv", new Crypto.ParamsOfHDKeyPublicFromXPrv(xprv), Crypto.ResultOfHDKeyPublicFromXPrv.class);
+  }
+
+  /**
+   *  Extracts the public key from the serialized extended private key
+   *
+   * @param xprv  Serialized extended private key
+   */
+  public static CompletableFuture<Crypto.ResultOfHDKeyPublicFromXPrv> hdkeyPublicFromXprvAsync(
+      EverSdkInvoker ctx, String xprv) {
+    return ctx.callAsync("crypto.hdkey_public_from_xprv", new Crypto.ParamsOfHDKeyPublicFromXPrv(xprv), Crypto.ResultOfHDKeyPublicFromXPrv.class);
   }
 
   /**
@@ -405,9 +787,21 @@ public final class Crypto {
    * @param key Must be encoded with `hex`. 256-bit key.
    * @param nonce Must be encoded with `hex`. 96-bit nonce.
    */
-  public static Crypto.ResultOfChaCha20 chacha20(EverSdkContext ctx, String data, String key,
+  public static Crypto.ResultOfChaCha20 chacha20(EverSdkInvoker ctx, String data, String key,
       String nonce) throws EverSdkException {
-    return ctx.call("crypto.chacha20", new Crypto.ParamsOfChaCha20(data, key, nonce), Crypto.ResultOfChaCha20.class);
+    return ctx.callSync("crypto.chacha20", new Crypto.ParamsOfChaCha20(data, key, nonce), Crypto.ResultOfChaCha20.class);
+  }
+
+  /**
+   *  Performs symmetric `chacha20` encryption.
+   *
+   * @param data Must be encoded with `base64`. Source data to be encrypted or decrypted.
+   * @param key Must be encoded with `hex`. 256-bit key.
+   * @param nonce Must be encoded with `hex`. 96-bit nonce.
+   */
+  public static CompletableFuture<Crypto.ResultOfChaCha20> chacha20Async(EverSdkInvoker ctx,
+      String data, String key, String nonce) {
+    return ctx.callAsync("crypto.chacha20", new Crypto.ParamsOfChaCha20(data, key, nonce), Crypto.ResultOfChaCha20.class);
   }
 
   /**
@@ -424,36 +818,80 @@ public final class Crypto {
    * @param secretEncryptionSalt  Salt used for secret encryption. For example, a mobile device can use device ID as salt.
    * @param secretKey  Cryptobox secret
    */
-  public static Crypto.RegisteredCryptoBox createCryptoBox(EverSdkContext ctx,
+  public static Crypto.RegisteredCryptoBox createCryptoBox(EverSdkInvoker ctx,
       String secretEncryptionSalt, @JsonProperty("secret") Crypto.CryptoBoxSecret secretKey,
       AppSigningBox appObject) throws EverSdkException {
     return ctx.callAppObject("crypto.create_crypto_box", new Crypto.ParamsOfCreateCryptoBox(secretEncryptionSalt, secretKey), appObject, Crypto.RegisteredCryptoBox.class);
   }
 
+  /**
+   * Crypto Box is a root crypto object, that encapsulates some secret (seed phrase usually)
+   * in encrypted form and acts as a factory for all crypto primitives used in SDK:
+   * keys for signing and encryption, derived from this secret.
+   *
+   * Crypto Box encrypts original Seed Phrase with salt and password that is retrieved
+   * from `password_provider` callback, implemented on Application side.
+   *
+   * When used, decrypted secret shows up in core library's memory for a very short period
+   * of time and then is immediately overwritten with zeroes. Creates a Crypto Box instance.
+   *
+   * @param secretEncryptionSalt  Salt used for secret encryption. For example, a mobile device can use device ID as salt.
+   * @param secretKey  Cryptobox secret
+   */
+  public static CompletableFuture<Crypto.RegisteredCryptoBox> createCryptoBoxAsync(
+      EverSdkInvoker ctx, String secretEncryptionSalt,
+      @JsonProperty("secret") Crypto.CryptoBoxSecret secretKey, AppSigningBox appObject) {
+    return ctx.callAppObjectAsync("crypto.create_crypto_box", new Crypto.ParamsOfCreateCryptoBox(secretEncryptionSalt, secretKey), appObject, Crypto.RegisteredCryptoBox.class);
+  }
+
   /**
    *  Removes Crypto Box. Clears all secret data.
    */
-  public static void removeCryptoBox(EverSdkContext ctx, Crypto.RegisteredCryptoBox params) throws
+  public static void removeCryptoBox(EverSdkInvoker ctx, Crypto.RegisteredCryptoBox params) throws
       EverSdkException {
     ctx.callVoid("crypto.remove_crypto_box", params);
   }
 
+  /**
+   *  Removes Crypto Box. Clears all secret data.
+   */
+  public static CompletableFuture<Void> removeCryptoBoxAsync(EverSdkInvoker ctx,
+      Crypto.RegisteredCryptoBox params) {
+    return ctx.callVoidAsync("crypto.remove_crypto_box", params);
+  }
+
   /**
    *  Get Crypto Box Info. Used to get `encrypted_secret` that should be used for all the cryptobox initializations except the first one.
    */
-  public static Crypto.ResultOfGetCryptoBoxInfo getCryptoBoxInfo(EverSdkContext ctx,
+  public static Crypto.ResultOfGetCryptoBoxInfo getCryptoBoxInfo(EverSdkInvoker ctx,
       Crypto.RegisteredCryptoBox params) throws EverSdkException {
     return ctx.call("crypto.get_crypto_box_info", params, Crypto.ResultOfGetCryptoBoxInfo.class);
   }
 
+  /**
+   *  Get Crypto Box Info. Used to get `encrypted_secret` that should be used for all the cryptobox initializations except the first one.
+   */
+  public static CompletableFuture<Crypto.ResultOfGetCryptoBoxInfo> getCryptoBoxInfoAsync(
+      EverSdkInvoker ctx, Crypto.RegisteredCryptoBox params) {
+    return ctx.callAsync("crypto.get_crypto_box_info", params, Crypto.ResultOfGetCryptoBoxInfo.class);
+  }
+
   /**
    * Attention! Store this data in your application for a very short period of time and overwrite it with zeroes ASAP. Get Crypto Box Seed Phrase.
    */
-  public static Crypto.ResultOfGetCryptoBoxSeedPhrase getCryptoBoxSeedPhrase(EverSdkContext ctx,
+  public static Crypto.ResultOfGetCryptoBoxSeedPhrase getCryptoBoxSeedPhrase(EverSdkInvoker ctx,
       Crypto.RegisteredCryptoBox params) throws EverSdkException {
     return ctx.call("crypto.get_crypto_box_seed_phrase", params, Crypto.ResultOfGetCryptoBoxSeedPhrase.class);
   }
 
+  /**
+   * Attention! Store this data in your application for a very short period of time and overwrite it with zeroes ASAP. Get Crypto Box Seed Phrase.
+   */
+  public static CompletableFuture<Crypto.ResultOfGetCryptoBoxSeedPhrase> getCryptoBoxSeedPhraseAsync(
+      EverSdkInvoker ctx, Crypto.RegisteredCryptoBox params) {
+    return ctx.callAsync("crypto.get_crypto_box_seed_phrase", params, Crypto.ResultOfGetCryptoBoxSeedPhrase.class);
+  }
+
   /**
    *  Get handle of Signing Box derived from Crypto Box.
    *
@@ -461,11 +899,23 @@ public final class Crypto {
    * @param hdpath By default, Everscale HD path is used. HD key derivation path.
    * @param secretLifetime  Store derived secret for this lifetime (in ms). The timer starts after each signing box operation. Secrets will be deleted immediately after each signing box operation, if this value is not set.
    */
-  public static Crypto.RegisteredSigningBox getSigningBoxFromCryptoBox(EverSdkContext ctx,
+  public static Crypto.RegisteredSigningBox getSigningBoxFromCryptoBox(EverSdkInvoker ctx,
       Long handle, String hdpath, Long secretLifetime) throws EverSdkException {
     return ctx.call("crypto.get_signing_box_from_crypto_box", new Crypto.ParamsOfGetSigningBoxFromCryptoBox(handle, hdpath, secretLifetime), Crypto.RegisteredSigningBox.class);
   }
 
+  /**
+   *  Get handle of Signing Box derived from Crypto Box.
+   *
+   * @param handle  Crypto Box Handle.
+   * @param hdpath By default, Everscale HD path is used. HD key derivation path.
+   * @param secretLifetime  Store derived secret for this lifetime (in ms). The timer starts after each signing box operation. Secrets will be deleted immediately after each signing box operation, if this value is not set.
+   */
+  public static CompletableFuture<Crypto.RegisteredSigningBox> getSigningBoxFromCryptoBoxAsync(
+      EverSdkInvoker ctx, Long handle, String hdpath, Long secretLifetime) {
+    return ctx.callAsync("crypto.get_signing_box_from_crypto_box", new Crypto.ParamsOfGetSigningBoxFromCryptoBox(handle, hdpath, secretLifetime), Crypto.RegisteredSigningBox.class);
+  }
+
   /**
    * Derives encryption keypair from cryptobox secret and hdpath and
    * stores it in cache for `secret_lifetime`
@@ -478,89 +928,184 @@ public final class Crypto {
    * @param algorithm  Encryption algorithm.
    * @param secretLifetime  Store derived secret for encryption algorithm for this lifetime (in ms). The timer starts after each encryption box operation. Secrets will be deleted (overwritten with zeroes) after each encryption operation, if this value is not set.
    */
-  public static Crypto.RegisteredEncryptionBox getEncryptionBoxFromCryptoBox(EverSdkContext ctx,
+  public static Crypto.RegisteredEncryptionBox getEncryptionBoxFromCryptoBox(EverSdkInvoker ctx,
       Long handle, String hdpath, Crypto.BoxEncryptionAlgorithm algorithm, Long secretLifetime)
       throws EverSdkException {
     return ctx.call("crypto.get_encryption_box_from_crypto_box", new Crypto.ParamsOfGetEncryptionBoxFromCryptoBox(handle, hdpath, algorithm, secretLifetime), Crypto.RegisteredEncryptionBox.class);
   }
 
+  /**
+   * Derives encryption keypair from cryptobox secret and hdpath and
+   * stores it in cache for `secret_lifetime`
+   * or until explicitly cleared by `clear_crypto_box_secret_cache` method.
+   * If `secret_lifetime` is not specified - overwrites encryption secret with zeroes immediately after
+   * encryption operation. Gets Encryption Box from Crypto Box.
+   *
+   * @param handle  Crypto Box Handle.
+   * @param hdpath By default, Everscale HD path is used. HD key derivation path.
+   * @param algorithm  Encryption algorithm.
+   * @param secretLifetime  Store derived secret for encryption algorithm for this lifetime (in ms). The timer starts after each encryption box operation. Secrets will be deleted (overwritten with zeroes) after each encryption operation, if this value is not set.
+   */
+  public static CompletableFuture<Crypto.RegisteredEncryptionBox> getEncryptionBoxFromCryptoBoxAsync(
+      EverSdkInvoker ctx, Long handle, String hdpath, Crypto.BoxEncryptionAlgorithm algorithm,
+      Long secretLifetime) {
+    return ctx.callAsync("crypto.get_encryption_box_from_crypto_box", new Crypto.ParamsOfGetEncryptionBoxFromCryptoBox(handle, hdpath, algorithm, secretLifetime), Crypto.RegisteredEncryptionBox.class);
+  }
+
   /**
    *  Removes cached secrets (overwrites with zeroes) from all signing and encryption boxes, derived from crypto box.
    */
-  public static void clearCryptoBoxSecretCache(EverSdkContext ctx,
+  public static void clearCryptoBoxSecretCache(EverSdkInvoker ctx,
       Crypto.RegisteredCryptoBox params) throws EverSdkException {
     ctx.callVoid("crypto.clear_crypto_box_secret_cache", params);
   }
 
+  /**
+   *  Removes cached secrets (overwrites with zeroes) from all signing and encryption boxes, derived from crypto box.
+   */
+  public static CompletableFuture<Void> clearCryptoBoxSecretCacheAsync(EverSdkInvoker ctx,
+      Crypto.RegisteredCryptoBox params) {
+    return ctx.callVoidAsync("crypto.clear_crypto_box_secret_cache", params);
+  }
+
   /**
    *  Register an application implemented signing box.
    */
-  public static Crypto.RegisteredSigningBox registerSigningBox(EverSdkContext ctx,
+  public static Crypto.RegisteredSigningBox registerSigningBox(EverSdkInvoker ctx,
       AppSigningBox appObject) throws EverSdkException {
     return ctx.callAppObject("crypto.register_signing_box", null, appObject, Crypto.RegisteredSigningBox.class);
   }
 
+  /**
+   *  Register an application implemented signing box.
+   */
+  public static CompletableFuture<Crypto.RegisteredSigningBox> registerSigningBoxAsync(
+      EverSdkInvoker ctx, AppSigningBox appObject) {
+    return ctx.callAppObjectAsync("crypto.register_signing_box", null, appObject, Crypto.RegisteredSigningBox.class);
+  }
+
   /**
    *  Creates a default signing box implementation.
    */
-  public static Crypto.RegisteredSigningBox getSigningBox(EverSdkContext ctx, Crypto.KeyPair params)
+  public static Crypto.RegisteredSigningBox getSigningBox(EverSdkInvoker ctx, Crypto.KeyPair params)
       throws EverSdkException {
     return ctx.call("crypto.get_signing_box", params, Crypto.RegisteredSigningBox.class);
   }
 
+  /**
+   *  Creates a default signing box implementation.
+   */
+  public static CompletableFuture<Crypto.RegisteredSigningBox> getSigningBoxAsync(
+      EverSdkInvoker ctx, Crypto.KeyPair params) {
+    return ctx.callAsync("crypto.get_signing_box", params, Crypto.RegisteredSigningBox.class);
+  }
+
   /**
    *  Returns public key of signing key pair.
    */
-  public static Crypto.ResultOfSigningBoxGetPublicKey signingBoxGetPublicKey(EverSdkContext ctx,
+  public static Crypto.ResultOfSigningBoxGetPublicKey signingBoxGetPublicKey(EverSdkInvoker ctx,
       Crypto.RegisteredSigningBox params) throws EverSdkException {
     return ctx.call("crypto.signing_box_get_public_key", params, Crypto.ResultOfSigningBoxGetPublicKey.class);
   }
 
+  /**
+   *  Returns public key of signing key pair.
+   */
+  public static CompletableFuture<Crypto.ResultOfSigningBoxGetPublicKey> signingBoxGetPublicKeyAsync(
+      EverSdkInvoker ctx, Crypto.RegisteredSigningBox params) {
+    return ctx.callAsync("crypto.signing_box_get_public_key", params, Crypto.ResultOfSigningBoxGetPublicKey.class);
+  }
+
   /**
    *  Returns signed user data.
    *
    * @param signingBox  Signing Box handle.
    * @param unsigned Must be encoded with `base64`. Unsigned user data.
    */
-  public static Crypto.ResultOfSigningBoxSign signingBoxSign(EverSdkContext ctx, Long signingBox,
+  public static Crypto.ResultOfSigningBoxSign signingBoxSign(EverSdkInvoker ctx, Long signingBox,
       String unsigned) throws EverSdkException {
     return ctx.call("crypto.signing_box_sign", new Crypto.ParamsOfSigningBoxSign(signingBox, unsigned), Crypto.ResultOfSigningBoxSign.class);
   }
 
+  /**
+   *  Returns signed user data.
+   *
+   * @param signingBox  Signing Box handle.
+   * @param unsigned Must be encoded with `base64`. Unsigned user data.
+   */
+  public static CompletableFuture<Crypto.ResultOfSigningBoxSign> signingBoxSignAsync(
+      EverSdkInvoker ctx, Long signingBox, String unsigned) {
+    return ctx.callAsync("crypto.signing_box_sign", new Crypto.ParamsOfSigningBoxSign(signingBox, unsigned), Crypto.ResultOfSigningBoxSign.class);
+  }
+
   /**
    *  Removes signing box from SDK.
    */
-  public static void removeSigningBox(EverSdkContext ctx, Crypto.RegisteredSigningBox params) throws
+  public static void removeSigningBox(EverSdkInvoker ctx, Crypto.RegisteredSigningBox params) throws
       EverSdkException {
     ctx.callVoid("crypto.remove_signing_box", params);
   }
 
+  /**
+   *  Removes signing box from SDK.
+   */
+  public static CompletableFuture<Void> removeSigningBoxAsync(EverSdkInvoker ctx,
+      Crypto.RegisteredSigningBox params) {
+    return ctx.callVoidAsync("crypto.remove_signing_box", params);
+  }
+
   /**
    *  Register an application implemented encryption box.
    */
-  public static Crypto.RegisteredEncryptionBox registerEncryptionBox(EverSdkContext ctx,
+  public static Crypto.RegisteredEncryptionBox registerEncryptionBox(EverSdkInvoker ctx,
       AppSigningBox appObject) throws EverSdkException {
     return ctx.callAppObject("crypto.register_encryption_box", null, appObject, Crypto.RegisteredEncryptionBox.class);
   }
 
+  /**
+   *  Register an application implemented encryption box.
+   */
+  public static CompletableFuture<Crypto.RegisteredEncryptionBox> registerEncryptionBoxAsync(
+      EverSdkInvoker ctx, AppSigningBox appObject) {
+    return ctx.callAppObjectAsync("crypto.register_encryption_box", null, appObject, Crypto.RegisteredEncryptionBox.class);
+  }
+
   /**
    *  Removes encryption box from SDK
    */
-  public static void removeEncryptionBox(EverSdkContext ctx, Crypto.RegisteredEncryptionBox params)
+  public static void removeEncryptionBox(EverSdkInvoker ctx, Crypto.RegisteredEncryptionBox params)
       throws EverSdkException {
     ctx.callVoid("crypto.remove_encryption_box", params);
   }
 
+  /**
+   *  Removes encryption box from SDK
+   */
+  public static CompletableFuture<Void> removeEncryptionBoxAsync(EverSdkInvoker ctx,
+      Crypto.RegisteredEncryptionBox params) {
+    return ctx.callVoidAsync("crypto.remove_encryption_box", params);
+  }
+
   /**
    *  Queries info from the given encryption box
    *
    * @param encryptionBox  Encryption box handle
    */
-  public static Crypto.ResultOfEncryptionBoxGetInfo encryptionBoxGetInfo(EverSdkContext ctx,
+  public static Crypto.ResultOfEncryptionBoxGetInfo encryptionBoxGetInfo(EverSdkInvoker ctx,
       Long encryptionBox) throws EverSdkException {
     return ctx.call("crypto.encryption_box_get_info", new Crypto.ParamsOfEncryptionBoxGetInfo(encryptionBox), Crypto.ResultOfEncryptionBoxGetInfo.class);
   }
 
+  /**
+   *  Queries info from the given encryption box
+   *
+   * @param encryptionBox  Encryption box handle
+   */
+  public static CompletableFuture<Crypto.ResultOfEncryptionBoxGetInfo> encryptionBoxGetInfoAsync(
+      EverSdkInvoker ctx, Long encryptionBox) {
+    return ctx.callAsync("crypto.encryption_box_get_info", new Crypto.ParamsOfEncryptionBoxGetInfo(encryptionBox), Crypto.ResultOfEncryptionBoxGetInfo.class);
+  }
+
   /**
    * Block cipher algorithms pad data to cipher block size so encrypted data can be longer then original data. Client should store the original data size after encryption and use it after
    * decryption to retrieve the original data from decrypted data. Encrypts data using given encryption box Note.
@@ -568,11 +1113,23 @@ public final class Crypto {
    * @param encryptionBox  Encryption box handle
    * @param data  Data to be encrypted, encoded in Base64
    */
-  public static Crypto.ResultOfEncryptionBoxEncrypt encryptionBoxEncrypt(EverSdkContext ctx,
+  public static Crypto.ResultOfEncryptionBoxEncrypt encryptionBoxEncrypt(EverSdkInvoker ctx,
       Long encryptionBox, String data) throws EverSdkException {
     return ctx.call("crypto.encryption_box_encrypt", new Crypto.ParamsOfEncryptionBoxEncrypt(encryptionBox, data), Crypto.ResultOfEncryptionBoxEncrypt.class);
   }
 
+  /**
+   * Block cipher algorithms pad data to cipher block size so encrypted data can be longer then original data. Client should store the original data size after encryption and use it after
+   * decryption to retrieve the original data from decrypted data. Encrypts data using given encryption box Note.
+   *
+   * @param encryptionBox  Encryption box handle
+   * @param data  Data to be encrypted, encoded in Base64
+   */
+  public static CompletableFuture<Crypto.ResultOfEncryptionBoxEncrypt> encryptionBoxEncryptAsync(
+      EverSdkInvoker ctx, Long encryptionBox, String data) {
+    return ctx.callAsync("crypto.encryption_box_encrypt", new Crypto.ParamsOfEncryptionBoxEncrypt(encryptionBox, data), Crypto.ResultOfEncryptionBoxEncrypt.class);
+  }
+
   /**
    * Block cipher algorithms pad data to cipher block size so encrypted data can be longer then original data. Client should store the original data size after encryption and use it after
    * decryption to retrieve the original data from decrypted data. Decrypts data using given encryption box Note.
@@ -580,21 +1137,43 @@ public final class Crypto {
    * @param encryptionBox  Encryption box handle
    * @param data  Data to be decrypted, encoded in Base64
    */
-  public static Crypto.ResultOfEncryptionBoxDecrypt encryptionBoxDecrypt(EverSdkContext ctx,
+  public static Crypto.ResultOfEncryptionBoxDecrypt encryptionBoxDecrypt(EverSdkInvoker ctx,
       Long encryptionBox, String data) throws EverSdkException {
     return ctx.call("crypto.encryption_box_decrypt", new Crypto.ParamsOfEncryptionBoxDecrypt(encryptionBox, data), Crypto.ResultOfEncryptionBoxDecrypt.class);
   }
 
+  /**
+   * Block cipher algorithms pad data to cipher block size so encrypted data can be longer then original data. Client should store the original data size after encryption and use it after
+   * decryption to retrieve the original data from decrypted data. Decrypts data using given encryption box Note.
+   *
+   * @param encryptionBox  Encryption box handle
+   * @param data  Data to be decrypted, encoded in Base64
+   */
+  public static CompletableFuture<Crypto.ResultOfEncryptionBoxDecrypt> encryptionBoxDecryptAsync(
+      EverSdkInvoker ctx, Long encryptionBox, String data) {
+    return ctx.callAsync("crypto.encryption_box_decrypt", new Crypto.ParamsOfEncryptionBoxDecrypt(encryptionBox, data), Crypto.ResultOfEncryptionBoxDecrypt.class);
+  }
+
   /**
    *  Creates encryption box with specified algorithm
    *
    * @param algorithm  Encryption algorithm specifier including cipher parameters (key, IV, etc)
    */
-  public static Crypto.RegisteredEncryptionBox createEncryptionBox(EverSdkContext ctx,
+  public static Crypto.RegisteredEncryptionBox createEncryptionBox(EverSdkInvoker ctx,
       Crypto.EncryptionAlgorithm algorithm) throws EverSdkException {
     return ctx.call("crypto.create_encryption_box", new Crypto.ParamsOfCreateEncryptionBox(algorithm), Crypto.RegisteredEncryptionBox.class);
   }
 
+  /**
+   *  Creates encryption box with specified algorithm
+   *
+   * @param algorithm  Encryption algorithm specifier including cipher parameters (key, IV, etc)
+   */
+  public static CompletableFuture<Crypto.RegisteredEncryptionBox> createEncryptionBoxAsync(
+      EverSdkInvoker ctx, Crypto.EncryptionAlgorithm algorithm) {
+    return ctx.callAsync("crypto.create_encryption_box", new Crypto.ParamsOfCreateEncryptionBox(algorithm), Crypto.RegisteredEncryptionBox.class);
+  }
+
   /**
    * @param modularPower  Result of modular exponentiation
    */
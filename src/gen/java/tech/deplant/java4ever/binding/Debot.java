@@ -6,7 +6,9 @@ import java.lang.Boolean;
 import java.lang.Integer;
 import java.lang.Long;
 import java.lang.String;
+import java.lang.Void;
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <strong>Debot</strong>
@@ -26,11 +28,26 @@ public final class Debot {
    * @param address  Debot smart contract address
    */
   @Unstable
-  public static Debot.RegisteredDebot init(EverSdkContext ctx, String address,
+  public static Debot.RegisteredDebot init(EverSdkInvoker ctx, String address,
       AppSigningBox appObject) throws EverSdkException {
     return ctx.callAppObject("debot.init", new Debot.ParamsOfInit(address), appObject, Debot.RegisteredDebot.class);
   }
 
+  /**
+   * Downloads debot smart contract (code and data) from blockchain and creates
+   * an instance of Debot Engine for it.
+   *
+   * # Remarks
+   * It does not switch debot to context 0. Browser Callbacks are not called. [UNSTABLE](UNSTABLE.md) Creates and instance of DeBot.
+   *
+   * @param address  Debot smart contract address
+   */
+  @Unstable
+  public static CompletableFuture<Debot.RegisteredDebot> initAsync(EverSdkInvoker ctx,
+      String address, AppSigningBox appObject) {
+    return ctx.callAppObjectAsync("debot.init", new Debot.ParamsOfInit(address), appObject, Debot.RegisteredDebot.class);
+  }
+
   /**
    * Downloads debot smart contract from blockchain and switches it to
    * context zero.
@@ -46,21 +63,51 @@ public final class Debot {
    * @param debotHandle  Debot handle which references an instance of debot engine.
    */
   @Unstable
-  public static void start(EverSdkContext ctx, Long debotHandle) throws EverSdkException {
+  public static void start(EverSdkInvoker ctx, Long debotHandle) throws EverSdkException {
     ctx.callVoid("debot.start", new Debot.ParamsOfStart(debotHandle));
   }
 
+  /**
+   * Downloads debot smart contract from blockchain and switches it to
+   * context zero.
+   *
+   * This function must be used by Debot Browser to start a dialog with debot.
+   * While the function is executing, several Browser Callbacks can be called,
+   * since the debot tries to display all actions from the context 0 to the user.
+   *
+   * When the debot starts SDK registers `BrowserCallbacks` AppObject.
+   * Therefore when `debote.remove` is called the debot is being deleted and the callback is called
+   * with `finish`=`true` which indicates that it will never be used again. [UNSTABLE](UNSTABLE.md) Starts the DeBot.
+   *
+   * @param debotHandle  Debot handle which references an instance of debot engine.
+   */
+  @Unstable
+  public static CompletableFuture<Void> startAsync(EverSdkInvoker ctx, Long debotHandle) {
+    return ctx.callVoidAsync("debot.start", new Debot.ParamsOfStart(debotHandle));
+  }
+
   /**
    * Downloads DeBot from blockchain and creates and fetches its metadata. [UNSTABLE](UNSTABLE.md) Fetches DeBot metadata from blockchain.
    *
    * @param address  Debot smart contract address.
    */
   @Unstable
-  public static Debot.ResultOfFetch fetch(EverSdkContext ctx, String address) throws
+  public static Debot.ResultOfFetch fetch(EverSdkInvoker ctx, String address) throws
       EverSdkException {
     return ctx.call("debot.fetch", new Debot.ParamsOfFetch(address), Debot.ResultOfFetch.class);
   }
 
+  /**
+   * Downloads DeBot from blockchain and creates and fetches its metadata. [UNSTABLE](UNSTABLE.md) Fetches DeBot metadata from blockchain.
+   *
+   * @param address  Debot smart contract address.
+   */
+  @Unstable
+  public static CompletableFuture<Debot.ResultOfFetch> fetchAsync(EverSdkInvoker ctx,
+      String address) {
+    return ctx.callAsync("debot.fetch", new Debot.ParamsOfFetch(address), Debot.ResultOfFetch.class);
+  }
+
   /**
    * Calls debot engine referenced by debot handle to execute input action.
    * Calls Debot Browser Callbacks if needed.
@@ -72,11 +119,27 @@ public final class Debot {
    * @param action  Debot Action that must be executed.
    */
   @Unstable
-  public static void execute(EverSdkContext ctx, Long debotHandle, Debot.DebotAction action) throws
+  public static void execute(EverSdkInvoker ctx, Long debotHandle, Debot.DebotAction action) throws
       EverSdkException {
     ctx.callVoid("debot.execute", new Debot.ParamsOfExecute(debotHandle, action));
   }
 
+  /**
+   * Calls debot engine referenced by debot handle to execute input action.
+   * Calls Debot Browser Callbacks if needed.
+   *
+   * # Remarks
+   * Chain of actions can be executed if input action generates a list of subactions. [UNSTABLE](UNSTABLE.md) Executes debot action.
+   *
+   * @param debotHandle  Debot handle which references an instance of debot engine.
+   * @param action  Debot Action that must be executed.
+   */
+  @Unstable
+  public static CompletableFuture<Void> executeAsync(EverSdkInvoker ctx, Long debotHandle,
+      Debot.DebotAction action) {
+    return ctx.callVoidAsync("debot.execute", new Debot.ParamsOfExecute(debotHandle, action));
+  }
+
   /**
    * Used by Debot Browser to send response on Dinterface call or from other Debots. [UNSTABLE](UNSTABLE.md) Sends message to Debot.
    *
@@ -84,21 +147,43 @@ public final class Debot {
    * @param message  BOC of internal message to debot encoded in base64 format.
    */
   @Unstable
-  public static void send(EverSdkContext ctx, Long debotHandle, String message) throws
+  public static void send(EverSdkInvoker ctx, Long debotHandle, String message) throws
       EverSdkException {
     ctx.callVoid("debot.send", new Debot.ParamsOfSend(debotHandle, message));
   }
 
+  /**
+   * Used by Debot Browser to send response on Dinterface call or from other Debots. [UNSTABLE](UNSTABLE.md) Sends message to Debot.
+   *
+   * @param debotHandle  Debot handle which references an instance of debot engine.
+   * @param message  BOC of internal message to debot encoded in base64 format.
+   */
+  @Unstable
+  public static CompletableFuture<Void> sendAsync(EverSdkInvoker ctx, Long debotHandle,
+      String message) {
+    return ctx.callVoidAsync("debot.send", new Debot.ParamsOfSend(debotHandle, message));
+  }
+
   /**
    * Removes handle from Client Context and drops debot engine referenced by that handle. [UNSTABLE](UNSTABLE.md) Destroys debot handle.
    *
    * @param debotHandle  Debot handle which references an instance of debot engine.
    */
   @Unstable
-  public static void remove(EverSdkContext ctx, Long debotHandle) throws EverSdkException {
+  public static void remove(EverSdkInvoker ctx, Long debotHandle) throws EverSdkException {
     ctx.callVoid("debot.remove", new Debot.ParamsOfRemove(debotHandle));
   }
 
+  /**
+   * Removes handle from Client Context and drops debot engine referenced by that handle. [UNSTABLE](UNSTABLE.md) Destroys debot handle.
+   *
+   * @param debotHandle  Debot handle which references an instance of debot engine.
+   */
+  @Unstable
+  public static CompletableFuture<Void> removeAsync(EverSdkInvoker ctx, Long debotHandle) {
+    return ctx.callVoidAsync("debot.remove", new Debot.ParamsOfRemove(debotHandle));
+  }
+
   /**
    *  [UNSTABLE](UNSTABLE.md) Describes how much funds will be debited from the target  contract balance as a result of the transaction.
    *
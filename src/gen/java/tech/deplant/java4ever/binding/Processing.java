@@ -7,7 +7,9 @@ import java.lang.Boolean;
 import java.lang.Integer;
 import java.lang.Long;
 import java.lang.String;
+import java.lang.Void;
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 /**
@@ -52,21 +54,69 @@ public final class Processing {
    * @param queue  Name of the monitoring queue.
    * @param messages  Messages to start monitoring for.
    */
-  public static void monitorMessages(EverSdkContext ctx, String queue,
+  public static void monitorMessages(EverSdkInvoker ctx, String queue,
       Processing.MessageMonitoringParams[] messages) throws EverSdkException {
     ctx.callVoid("processing.monitor_messages", new Processing.ParamsOfMonitorMessages(queue, messages));
   }
 
+  /**
+   * Message monitor performs background monitoring for a message processing results
+   * for the specified set of messages.
+   *
+   * Message monitor can serve several isolated monitoring queues.
+   * Each monitor queue has a unique application defined identifier (or name) used
+   * to separate several queue's.
+   *
+   * There are two important lists inside of the monitoring queue:
+   *
+   * - unresolved messages: contains messages requested by the application for monitoring
+   *   and not yet resolved;
+   *
+   * - resolved results: contains resolved processing results for monitored messages.
+   *
+   * Each monitoring queue tracks own unresolved and resolved lists.
+   * Application can add more messages to the monitoring queue at any time.
+   *
+   * Message monitor accumulates resolved results.
+   * Application should fetch this results with `fetchNextMonitorResults` function.
+   *
+   * When both unresolved and resolved lists becomes empty, monitor stops any background activity
+   * and frees all allocated internal memory.
+   *
+   * If monitoring queue with specified name already exists then messages will be added
+   * to the unresolved list.
+   *
+   * If monitoring queue with specified name does not exist then monitoring queue will be created
+   * with specified unresolved messages. Starts monitoring for the processing results of the specified messages.
+   *
+   * @param queue  Name of the monitoring queue.
+   * @param messages  Messages to start monitoring for.
+   */
+  public static CompletableFuture<Void> monitorMessagesAsync(EverSdkInvoker ctx, String queue,
+      Processing.MessageMonitoringParams[] messages) {
+    return ctx.callVoidAsync("processing.monitor_messages", new Processing.ParamsOfMonitorMessages(queue, messages));
+  }
+
   /**
    *  Returns summary information about current state of the specified monitoring queue.
    *
    * @param queue  Name of the monitoring queue.
    */
-  public static Processing.MonitoringQueueInfo getMonitorInfo(EverSdkContext ctx, String queue)
+  public static Processing.MonitoringQueueInfo getMonitorInfo(EverSdkInvoker ctx, String queue)
       throws EverSdkException {
     return ctx.call("processing.get_monitor_info", new Processing.ParamsOfGetMonitorInfo(queue), Processing.MonitoringQueueInfo.class);
   }
 
+  /**
+   *  Returns summary information about current state of the specified monitoring queue.
+   *
+   * @param queue  Name of the monitoring queue.
+   */
+  public static CompletableFuture<Processing.MonitoringQueueInfo> getMonitorInfoAsync(
+      EverSdkInvoker ctx, String queue) {
+    return ctx.callAsync("processing.get_monitor_info", new Processing.ParamsOfGetMonitorInfo(queue), Processing.MonitoringQueueInfo.class);
+  }
+
   /**
    * Results and waiting options are depends on the `wait` parameter.
    * All returned results will be removed from the queue's resolved list. Fetches next resolved results from the specified monitoring queue.
@@ -75,31 +125,63 @@ public final class Processing {
    * @param waitMode Default is `NO_WAIT`. Wait mode.
    */
   public static Processing.ResultOfFetchNextMonitorResults fetchNextMonitorResults(
-      EverSdkContext ctx, String queue, Processing.MonitorFetchWaitMode waitMode) throws
+      EverSdkInvoker ctx, String queue, Processing.MonitorFetchWaitMode waitMode) throws
       EverSdkException {
     return ctx.call("processing.fetch_next_monitor_results", new Processing.ParamsOfFetchNextMonitorResults(queue, waitMode), Processing.ResultOfFetchNextMonitorResults.class);
   }
 
+  /**
+   * Results and waiting options are depends on the `wait` parameter.
+   * All returned results will be removed from the queue's resolved list. Fetches next resolved results from the specified monitoring queue.
+   *
+   * @param queue  Name of the monitoring queue.
+   * @param waitMode Default is `NO_WAIT`. Wait mode.
+   */
+  public static CompletableFuture<Processing.ResultOfFetchNextMonitorResults> fetchNextMonitorResultsAsync(
+      EverSdkInvoker ctx, String queue, Processing.MonitorFetchWaitMode waitMode) {
+    return ctx.callAsync("processing.fetch_next_monitor_results", new Processing.ParamsOfFetchNextMonitorResults(queue, waitMode), Processing.ResultOfFetchNextMonitorResults.class);
+  }
+
   /**
    *  Cancels all background activity and releases all allocated system resources for the specified monitoring queue.
    *
    * @param queue  Name of the monitoring queue.
    */
-  public static void cancelMonitor(EverSdkContext ctx, String queue) throws EverSdkException {
+  public static void cancelMonitor(EverSdkInvoker ctx, String queue) throws EverSdkException {
     ctx.callVoid("processing.cancel_monitor", new Processing.ParamsOfCancelMonitor(queue));
   }
 
+  /**
+   *  Cancels all background activity and releases all allocated system resources for the specified monitoring queue.
+   *
+   * @param queue  Name of the monitoring queue.
+   */
+  public static CompletableFuture<Void> cancelMonitorAsync(EverSdkInvoker ctx, String queue) {
+    return ctx.callVoidAsync("processing.cancel_monitor", new Processing.ParamsOfCancelMonitor(queue));
+  }
+
   /**
    *  Sends specified messages to the blockchain.
    *
    * @param messages  Messages that must be sent to the blockchain.
    * @param monitorQueue  Optional message monitor queue that starts monitoring for the processing results for sent messages.
    */
-  public static Processing.ResultOfSendMessages sendMessages(EverSdkContext ctx,
+  public static Processing.ResultOfSendMessages sendMessages(EverSdkInvoker ctx,
       Processing.MessageSendingParams[] messages, String monitorQueue) throws EverSdkException {
     return ctx.call("processing.send_messages", new Processing.ParamsOfSendMessages(messages, monitorQueue), Processing.ResultOfSendMessages.class);
   }
 
+  /**
+   *  Sends specified messages to the blockchain.
+   *
+   * @param messages  Messages that must be sent to the blockchain.
+   * @param monitorQueue  Optional message monitor queue that starts monitoring for the processing results for sent messages.
+   */
+  public static CompletableFuture<Processing.ResultOfSendMessages> sendMessagesAsync(
+      EverSdkInvoker ctx, Processing.MessageSendingParams[] messages, String monitorQueue) {
+    return ctx.callAsync("processing.send_messages", new Processing.ParamsOfSendMessages(messages, monitorQueue), Processing.ResultOfSendMessages.class);
+  }
+
   /**
    * Sends message to the network and returns the last generated shard block of the destination account
    * before the message was sent. It will be required later for message processing. Sends message to the network
@@ -117,12 +199,35 @@ public final class Processing {
    * chosen. Optional message ABI.
    * @param sendEvents  Flag for requesting events sending
    */
-  public static Processing.ResultOfSendMessage sendMessage(EverSdkContext ctx, String message,
+  public static Processing.ResultOfSendMessage sendMessage(EverSdkInvoker ctx, String message,
       Abi.ABI abi, Boolean sendEvents, Consumer<CallbackHandler> callbackHandler) throws
       EverSdkException {
     return ctx.callEvent("processing.send_message", new Processing.ParamsOfSendMessage(message, abi, sendEvents), callbackHandler, Processing.ResultOfSendMessage.class);
   }
 
+  /**
+   * Sends message to the network and returns the last generated shard block of the destination account
+   * before the message was sent. It will be required later for message processing. Sends message to the network
+   *
+   * @param message  Message BOC.
+   * @param abi If this parameter is specified and the message has the
+   * `expire` header then expiration time will be checked against
+   * the current time to prevent unnecessary sending of already expired message.
+   *
+   * The `message already expired` error will be returned in this
+   * case.
+   *
+   * Note, that specifying `abi` for ABI compliant contracts is
+   * strongly recommended, so that proper processing strategy can be
+   * chosen. Optional message ABI.
+   * @param sendEvents  Flag for requesting events sending
+   */
+  public static CompletableFuture<Processing.ResultOfSendMessage> sendMessageAsync(
+      EverSdkInvoker ctx, String message, Abi.ABI abi, Boolean sendEvents,
+      Consumer<CallbackHandler> callbackHandler) {
+    return ctx.callEventAsync("processing.send_message", new Processing.ParamsOfSendMessage(message, abi, sendEvents), callbackHandler, Processing.ResultOfSendMessage.class);
+  }
+
   /**
    * `send_events` enables intermediate events, such as `WillFetchNextBlock`,
    * `FetchNextBlockFailed` that may be useful for logging of new shard blocks creation
@@ -160,13 +265,56 @@ public final class Processing {
    * Provide the same value as the `send_message` has returned.
    * If the message was not delivered (expired), SDK will log the endpoint URLs, used for its sending. The list of endpoints to which the message was sent.
    */
-  public static Processing.ResultOfProcessMessage waitForTransaction(EverSdkContext ctx,
+  public static Processing.ResultOfProcessMessage waitForTransaction(EverSdkInvoker ctx,
       Abi.ABI abi, String message, String shardBlockId, Boolean sendEvents,
       String[] sendingEndpoints, Consumer<CallbackHandler> callbackHandler) throws
       EverSdkException {
     return ctx.callEvent("processing.wait_for_transaction", new Processing.ParamsOfWaitForTransaction(abi, message, shardBlockId, sendEvents, sendingEndpoints), callbackHandler, Processing.ResultOfProcessMessage.class);
   }
 
+  /**
+   * `send_events` enables intermediate events, such as `WillFetchNextBlock`,
+   * `FetchNextBlockFailed` that may be useful for logging of new shard blocks creation
+   * during message processing.
+   *
+   * Note, that presence of the `abi` parameter is critical for ABI
+   * compliant contracts. Message processing uses drastically
+   * different strategy for processing message for contracts which
+   * ABI includes "expire" header.
+   *
+   * When the ABI header `expire` is present, the processing uses
+   * `message expiration` strategy:
+   * - The maximum block gen time is set to
+   *   `message_expiration_timeout + transaction_wait_timeout`.
+   * - When maximum block gen time is reached, the processing will
+   *   be finished with `MessageExpired` error.
+   *
+   * When the ABI header `expire` isn't present or `abi` parameter
+   * isn't specified, the processing uses `transaction waiting`
+   * strategy:
+   * - The maximum block gen time is set to
+   *   `now() + transaction_wait_timeout`.
+   *
+   * - If maximum block gen time is reached and no result transaction is found,
+   * the processing will exit with an error. Performs monitoring of the network for the result transaction of the external inbound message processing.
+   *
+   * @param abi If it is specified, then the output messages' bodies will be
+   * decoded according to this ABI.
+   *
+   * The `abi_decoded` result field will be filled out. Optional ABI for decoding the transaction result.
+   * @param message Encoded with `base64`. Message BOC.
+   * @param shardBlockId You must provide the same value as the `send_message` has returned. The last generated block id of the destination account shard before the message was sent.
+   * @param sendEvents  Flag that enables/disables intermediate events
+   * @param sendingEndpoints Use this field to get more informative errors.
+   * Provide the same value as the `send_message` has returned.
+   * If the message was not delivered (expired), SDK will log the endpoint URLs, used for its sending. The list of endpoints to which the message was sent.
+   */
+  public static CompletableFuture<Processing.ResultOfProcessMessage> waitForTransactionAsync(
+      EverSdkInvoker ctx, Abi.ABI abi, String message, String shardBlockId, Boolean sendEvents,
+      String[] sendingEndpoints, Consumer<CallbackHandler> callbackHandler) {
+    return ctx.callEventAsync("processing.wait_for_transaction", new Processing.ParamsOfWaitForTransaction(abi, message, shardBlockId, sendEvents, sendingEndpoints), callbackHandler, Processing.ResultOfProcessMessage.class);
+  }
+
   /**
    * Creates ABI-compatible message,
    * sends it to the network and monitors for the result transaction.
@@ -207,12 +355,58 @@ public final class Processing {
    * @param signatureId  Signature ID to be used in data to sign preparing when CapSignatureWithId capability is enabled
    * @param sendEvents  Flag for requesting events sending
    */
-  public static Processing.ResultOfProcessMessage processMessage(EverSdkContext ctx, Abi.ABI abi,
+  public static Processing.ResultOfProcessMessage processMessage(EverSdkInvoker ctx, Abi.ABI abi,
       String address, Abi.DeploySet deploySet, Abi.CallSet callSet, Abi.Signer signer,
       Integer processingTryIndex, Long signatureId, Boolean sendEvents) throws EverSdkException {
     return ctx.call("processing.process_message", new Processing.ParamsOfProcessMessage(new Abi.ParamsOfEncodeMessage(abi, address, deploySet, callSet, signer, processingTryIndex, signatureId), sendEvents), Processing.ResultOfProcessMessage.class);
   }
 
+  /**
+   * Creates ABI-compatible message,
+   * sends it to the network and monitors for the result transaction.
+   * Decodes the output messages' bodies.
+   *
+   * If contract's ABI includes "expire" header, then
+   * SDK implements retries in case of unsuccessful message delivery within the expiration
+   * timeout: SDK recreates the message, sends it and processes it again.
+   *
+   * The intermediate events, such as `WillFetchFirstBlock`, `WillSend`, `DidSend`,
+   * `WillFetchNextBlock`, etc - are switched on/off by `send_events` flag
+   * and logged into the supplied callback function.
+   *
+   * The retry configuration parameters are defined in the client's `NetworkConfig` and `AbiConfig`.
+   *
+   * If contract's ABI does not include "expire" header
+   * then, if no transaction is found within the network timeout (see config parameter ), exits with error. Creates message, sends it to the network and monitors its processing.
+   *
+   * @param abi  Contract ABI.
+   * @param address Must be specified in case of non-deploy message. Target address the message will be sent to.
+   * @param deploySet Must be specified in case of deploy message. Deploy parameters.
+   * @param callSet Must be specified in case of non-deploy message.
+   *
+   * In case of deploy message it is optional and contains parameters
+   * of the functions that will to be called upon deploy transaction. Function call parameters.
+   * @param signer  Signing parameters.
+   * @param processingTryIndex Used in message processing with retries (if contract's ABI includes "expire" header).
+   *
+   * Encoder uses the provided try index to calculate message
+   * expiration time. The 1st message expiration time is specified in
+   * Client config.
+   *
+   * Expiration timeouts will grow with every retry.
+   * Retry grow factor is set in Client config:
+   * <.....add config parameter with default value here>
+   *
+   * Default value is 0. Processing try index.
+   * @param signatureId  Signature ID to be used in data to sign preparing when CapSignatureWithId capability is enabled
+   * @param sendEvents  Flag for requesting events sending
+   */
+  public static CompletableFuture<Processing.ResultOfProcessMessage> processMessageAsync(
+      EverSdkInvoker ctx, Abi.ABI abi, String address, Abi.DeploySet deploySet, Abi.CallSet callSet,
+      Abi.Signer signer, Integer processingTryIndex, Long signatureId, Boolean sendEvents) {
+    return ctx.callAsync("processing.process_message", new Processing.ParamsOfProcessMessage(new Abi.ParamsOfEncodeMessage(abi, address, deploySet, callSet, signer, processingTryIndex, signatureId), sendEvents), Processing.ResultOfProcessMessage.class);
+  }
+
   /**
    * @param results  List of the resolved results.
    */
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import java.lang.Boolean;
 import java.lang.Long;
 import java.lang.String;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <strong>Utils</strong>
@@ -19,9 +20,20 @@ public final class Utils {
    * @param address  Account address in any TON format.
    * @param outputFormat  Specify the format to convert to.
    */
-  public static Utils.ResultOfConvertAddress convertAddress(EverSdkContext ctx, String address,
+  public static Utils.ResultOfConvertAddress convertAddress(EverSdkInvoker ctx, String address,
       Utils.AddressStringFormat outputFormat) throws EverSdkException {
-    return ctx.call("utils.convert_address", new Utils.ParamsOfConvertAddress(address, outputFormat), Utils.ResultOfConvertAddress.class);
+    return ctx.callSync("utils.convert_address", new Utils.ParamsOfConvertAddress(address, outputFormat), Utils.ResultOfConvertAddress.class);
+  }
+
+  /**
+   *  Converts address from any TON format to any TON format
+   *
+   * @param address  Account address in any TON format.
+   * @param outputFormat  Specify the format to convert to.
+   */
+  public static CompletableFuture<Utils.ResultOfConvertAddress> convertAddressAsync(
+      EverSdkInvoker ctx, String address, Utils.AddressStringFormat outputFormat) {
+    return ctx.callAsync("utils.convert_address", new Utils.ParamsOfConvertAddress(address, outputFormat), Utils.ResultOfConvertAddress.class);
   }
 
   /**
@@ -36,17 +48,42 @@ public final class Utils {
    *
    * @param address  Account address in any TON format.
    */
-  public static Utils.ResultOfGetAddressType getAddressType(EverSdkContext ctx, String address)
+  public static Utils.ResultOfGetAddressType getAddressType(EverSdkInvoker ctx, String address)
       throws EverSdkException {
-    return ctx.call("utils.get_address_type", new Utils.ParamsOfGetAddressType(address), Utils.ResultOfGetAddressType.class);
+    return ctx.callSync("utils.get_address_type", new Utils.ParamsOfGetAddressType(address), Utils.ResultOfGetAddressType.class);
+  }
+
+  /**
+   * Address types are the following
+   *
+   * `0:919db8e740d50bf349df2eea03fa30c385d846b991ff5542e67098ee833fc7f7` - standard TON address most
+   * commonly used in all cases. Also called as hex address
+   * `919db8e740d50bf349df2eea03fa30c385d846b991ff5542e67098ee833fc7f7` - account ID. A part of full
+   * address. Identifies account inside particular workchain
+   * `EQCRnbjnQNUL80nfLuoD+jDDhdhGuZH/VULmcJjugz/H9wam` - base64 address. Also called "user-friendly".
+   * Was used at the beginning of TON. Now it is supported for compatibility Validates and returns the type of any TON address.
+   *
+   * @param address  Account address in any TON format.
+   */
+  public static CompletableFuture<Utils.ResultOfGetAddressType> getAddressTypeAsync(
+      EverSdkInvoker ctx, String address) {
+    return ctx.callAsync("utils.get_address_type", new Utils.ParamsOfGetAddressType(address), Utils.ResultOfGetAddressType.class);
   }
 
   /**
    *  Calculates storage fee for an account over a specified time period
    */
-  public static Utils.ResultOfCalcStorageFee calcStorageFee(EverSdkContext ctx, String account,
+  public static Utils.ResultOfCalcStorageFee calcStorageFee(EverSdkInvoker ctx, String account,
       Long period) throws EverSdkException {
-    return ctx.call("utils.calc_storage_fee", new Utils.ParamsOfCalcStorageFee(account, period), Utils.ResultOfCalcStorageFee.class);
+    return ctx.callSync("utils.calc_storage_fee", new Utils.ParamsOfCalcStorageFee(account, period), Utils.ResultOfCalcStorageFee.class);
+  }
+
+  /**
+   *  Calculates storage fee for an account over a specified time period
+   */
+  public static CompletableFuture<Utils.ResultOfCalcStorageFee> calcStorageFeeAsync(
+      EverSdkInvoker ctx, String account, Long period) {
+    return ctx.callAsync("utils.calc_storage_fee", new Utils.ParamsOfCalcStorageFee(account, period), Utils.ResultOfCalcStorageFee.class);
   }
 
   /**
@@ -55,9 +92,20 @@ public final class Utils {
    * @param uncompressed Must be encoded as base64. Uncompressed data.
    * @param level  Compression level, from 1 to 21. Where: 1 - lowest compression level (fastest compression); 21 - highest compression level (slowest compression). If level is omitted, the default compression level is used (currently `3`).
    */
-  public static Utils.ResultOfCompressZstd compressZstd(EverSdkContext ctx, String uncompressed,
+  public static Utils.ResultOfCompressZstd compressZstd(EverSdkInvoker ctx, String uncompressed,
       Long level) throws EverSdkException {
-    return ctx.call("utils.compress_zstd", new Utils.ParamsOfCompressZstd(uncompressed, level), Utils.ResultOfCompressZstd.class);
+    return ctx.callSync("utils.compress_zstd", new Utils.ParamsOfCompressZstd(uncompressed, level), Utils.ResultOfCompressZstd.class);
+  }
+
+  /**
+   *  Compresses data using Zstandard algorithm
+   *
+   * @param uncompressed Must be encoded as base64. Uncompressed data.
+   * @param level  Compression level, from 1 to 21. Where: 1 - lowest compression level (fastest compression); 21 - highest compression level (slowest compression). If level is omitted, the default compression level is used (currently `3`).
+   */
+  public static CompletableFuture<Utils.ResultOfCompressZstd> compressZstdAsync(EverSdkInvoker ctx,
+      String uncompressed, Long level) {
+    return ctx.callAsync("utils.compress_zstd", new Utils.ParamsOfCompressZstd(uncompressed, level), Utils.ResultOfCompressZstd.class);
   }
 
   /**
@@ -65,9 +113,19 @@ public final class Utils {
    *
    * @param compressed Must be encoded as base64. Compressed data.
    */
-  public static Utils.ResultOfDecompressZstd decompressZstd(EverSdkContext ctx, String compressed)
+  public static Utils.ResultOfDecompressZstd decompressZstd(EverSdkInvoker ctx, String compressed)
       throws EverSdkException {
-    return ctx.call("utils.decompress_zstd", new Utils.ParamsOfDecompressZstd(compressed), Utils.ResultOfDecompressZstd.class);
+    return ctx.callSync("utils.decompress_zstd", new Utils.ParamsOfDecompressZstd(compressed), Utils.ResultOfDecompressZstd.class);
+  }
+
+  /**
+   *  Decompresses data using Zstandard algorithm
+   *
+   * @param compressed Must be encoded as base64. Compressed data.
+   */
+  public static CompletableFuture<Utils.ResultOfDecompressZstd> decompressZstdAsync(
+      EverSdkInvoker ctx, String compressed) {
+    return ctx.callAsync("utils.decompress_zstd", new Utils.ParamsOfDecompressZstd(compressed), Utils.ResultOfDecompressZstd.class);
   }
 
   public static final record ParamsOfCalcStorageFee(String account, Long period) {
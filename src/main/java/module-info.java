@@ -7,6 +7,7 @@ open module java4ever.binding {
 	requires com.fasterxml.jackson.module.paramnames;
 	exports tech.deplant.java4ever.binding;
 	exports tech.deplant.java4ever.binding.loader;
+	exports tech.deplant.java4ever.binding.ffi;
 	exports tech.deplant.java4ever.binding.io;
 	exports tech.deplant.java4ever.binding.generator;
 	exports tech.deplant.java4ever.binding.generator.javapoet;
@@ -0,0 +1,197 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Decodes many messages or message bodies with one or more candidate ABIs, for example out-messages
+ * of transactions in indexers. Decoding doesn't stop on failed items, every item gets its own
+ * {@link Decoded} result with decoded body or error, results are aligned with input. Unchecked exceptions
+ * of item calls are also returned as item errors.
+ * <p>
+ * ABIs are serialized once, see {@link SerializedAbi}. Items are split into chunks that run in parallel
+ * on executor with tc_request_sync calls, without callbacks and futures per item. Every item tries
+ * the ABI that decoded the previous item of its chunk first, so batches of one contract
+ * need one decoding call per item.
+ */
+public final class AbiBatchDecoder {
+
+	private final EverSdkInvoker ctx;
+	private final List<SerializedAbi> abis;
+	private final Executor executor;
+	private final int parallelism;
+	private final boolean allowPartial;
+
+	private AbiBatchDecoder(Builder builder, EverSdkInvoker ctx, List<SerializedAbi> abis) {
+		if (abis.isEmpty()) {
+			throw new IllegalArgumentException("At least one ABI is needed for decoding");
+		}
+		this.ctx = ctx;
+		this.abis = List.copyOf(abis);
+		this.executor = builder.executor;
+		this.parallelism = builder.parallelism;
+		this.allowPartial = builder.allowPartial;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @param messages message BOCs
+	 * @return decoding results in order of messages
+	 */
+	public List<Decoded> decodeMessages(List<String> messages) {
+		return decodeAll("abi.decode_message",
+		                 messages,
+		                 (abi, message) -> new DecodeMessageParams(abi, message, this.allowPartial, null, null));
+	}
+
+	/**
+	 * @param bodies     message body BOCs
+	 * @param isInternal true if bodies belong to internal messages
+	 * @return decoding results in order of bodies
+	 */
+	public List<Decoded> decodeMessageBodies(List<String> bodies, boolean isInternal) {
+		return decodeAll("abi.decode_message_body",
+		                 bodies,
+		                 (abi, body) -> new DecodeMessageBodyParams(abi, body, isInternal, this.allowPartial, null, null));
+	}
+
+	private List<Decoded> decodeAll(String functionName, List<String> items, ParamsFactory params) {
+		final var results = new Decoded[items.size()];
+		ParallelChunks.run(items.size(), this.parallelism, this.executor, (start, end) -> {
+			int lastAbi = 0;
+			for (int i = start; i < end; i++) {
+				results[i] = decode(functionName, items.get(i), params, lastAbi);
+				if (results[i].isSuccess()) {
+					lastAbi = results[i].abiIndex();
+				}
+			}
+		});
+		return Arrays.asList(results);
+	}
+
+	private Decoded decode(String functionName, String item, ParamsFactory params, int firstAbi) {
+		EverSdkException error = null;
+		for (int attempt = 0; attempt < this.abis.size(); attempt++) {
+			final int abiIndex = (firstAbi + attempt) % this.abis.size();
+			try {
+				return new Decoded(this.ctx.callSync(functionName,
+				                                     params.of(this.abis.get(abiIndex), item),
+				                                     Abi.DecodedMessageBody.class), abiIndex, null);
+			} catch (EverSdkException e) {
+				error = e;
+			} catch (RuntimeException e) {
+				error = ParallelChunks.itemFailure(e);
+			}
+		}
+		return new Decoded(null, -1, error);
+	}
+
+	@FunctionalInterface
+	private interface ParamsFactory {
+		Object of(SerializedAbi abi, String item);
+	}
+
+	/**
+	 * Result of decoding of a single item
+	 *
+	 * @param body     decoded body, null if no ABI could decode item
+	 * @param abiIndex index of ABI that decoded item, -1 if item was not decoded
+	 * @param error    error of the last tried ABI, null if item was decoded
+	 */
+	public record Decoded(Abi.DecodedMessageBody body, int abiIndex, EverSdkException error) {
+
+		public boolean isSuccess() {
+			return this.error == null;
+		}
+	}
+
+	/**
+	 * Builder of batch decoders
+	 */
+	public static class Builder {
+
+		private Executor executor = ForkJoinPool.commonPool();
+		private int parallelism = Runtime.getRuntime().availableProcessors();
+		private boolean allowPartial = false;
+		private ObjectMapper mapper = JsonContext.SDK_JSON_MAPPER();
+
+		/**
+		 * @param executor executor of decoding chunks, common ForkJoinPool by default
+		 * @return instance of builder
+		 */
+		public Builder setExecutor(Executor executor) {
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * @param parallelism number of chunks that batch is split into, number of processors by default
+		 * @return instance of builder
+		 */
+		public Builder setParallelism(int parallelism) {
+			if (parallelism < 1) {
+				throw new IllegalArgumentException("Parallelism should be positive, got: " + parallelism);
+			}
+			this.parallelism = parallelism;
+			return this;
+		}
+
+		/**
+		 * @param allowPartial true to decode bodies that have data after params described in ABI
+		 * @return instance of builder
+		 */
+		public Builder setAllowPartial(boolean allowPartial) {
+			this.allowPartial = allowPartial;
+			return this;
+		}
+
+		public Builder setMapper(ObjectMapper mapper) {
+			this.mapper = mapper;
+			return this;
+		}
+
+		/**
+		 * @param abis candidate ABIs in order they are tried, they are serialized once here
+		 */
+		public AbiBatchDecoder build(EverSdkInvoker ctx, List<Abi.ABI> abis) throws EverSdkException {
+			final var serialized = new ArrayList<SerializedAbi>(abis.size());
+			for (Abi.ABI abi : abis) {
+				serialized.add(SerializedAbi.of(abi, this.mapper));
+			}
+			return new AbiBatchDecoder(this, ctx, serialized);
+		}
+
+		public AbiBatchDecoder build(EverSdkInvoker ctx, SerializedAbi... abis) {
+			return new AbiBatchDecoder(this, ctx, List.of(abis));
+		}
+	}
+
+	/**
+	 * Abi.ParamsOfDecodeMessage with serialized ABI
+	 */
+	private record DecodeMessageParams(SerializedAbi abi,
+	                                   String message,
+	                                   Boolean allowPartial,
+	                                   String functionName,
+	                                   Abi.DataLayout dataLayout) {
+	}
+
+	/**
+	 * Abi.ParamsOfDecodeMessageBody with serialized ABI
+	 */
+	private record DecodeMessageBodyParams(SerializedAbi abi,
+	                                       String body,
+	                                       Boolean isInternal,
+	                                       Boolean allowPartial,
+	                                       String functionName,
+	                                       Abi.DataLayout dataLayout) {
+	}
+}
@@ -0,0 +1,210 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Encodes many messages with the same ABI. ABI is serialized once, see {@link SerializedAbi},
+ * and encoding is split into chunks that run in parallel on executor. Encoding functions
+ * are local, so they are called with tc_request_sync on executor threads; with {@link EverSdkContextPool}
+ * as invoker chunks are spread over contexts of pool.
+ * <p>
+ * Results are returned in order of input. If some item fails, batch fails with exception of the first failed item,
+ * unchecked exceptions of item calls are wrapped into {@link EverSdkException}.
+ */
+public final class AbiBatchEncoder {
+
+	private final EverSdkInvoker ctx;
+	private final SerializedAbi abi;
+	private final Executor executor;
+	private final int parallelism;
+
+	private AbiBatchEncoder(Builder builder, EverSdkInvoker ctx, SerializedAbi abi) {
+		this.ctx = ctx;
+		this.abi = abi;
+		this.executor = builder.executor;
+		this.parallelism = builder.parallelism;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public SerializedAbi abi() {
+		return this.abi;
+	}
+
+	/**
+	 * Encodes calls to one contract
+	 *
+	 * @param address  address of contract
+	 * @param callSets function calls
+	 * @param signer   signer of all messages
+	 * @return encoded messages in order of call sets
+	 */
+	public List<Abi.ResultOfEncodeMessage> encodeMessages(String address,
+	                                                      List<Abi.CallSet> callSets,
+	                                                      Abi.Signer signer) throws EverSdkException {
+		return encodeAll("abi.encode_message",
+		                 callSets.stream()
+		                         .map(callSet -> new EncodeMessageParams(this.abi,
+		                                                                 address,
+		                                                                 null,
+		                                                                 callSet,
+		                                                                 signer,
+		                                                                 null,
+		                                                                 null))
+		                         .toList(),
+		                 Abi.ResultOfEncodeMessage.class);
+	}
+
+	/**
+	 * Encodes the same call to many contracts
+	 *
+	 * @param addresses addresses of contracts
+	 * @param callSet   function call
+	 * @param signer    signer of all messages
+	 * @return encoded messages in order of addresses
+	 */
+	public List<Abi.ResultOfEncodeMessage> encodeMessages(List<String> addresses,
+	                                                      Abi.CallSet callSet,
+	                                                      Abi.Signer signer) throws EverSdkException {
+		return encodeAll("abi.encode_message",
+		                 addresses.stream()
+		                          .map(address -> new EncodeMessageParams(this.abi,
+		                                                                  address,
+		                                                                  null,
+		                                                                  callSet,
+		                                                                  signer,
+		                                                                  null,
+		                                                                  null))
+		                          .toList(),
+		                 Abi.ResultOfEncodeMessage.class);
+	}
+
+	/**
+	 * Encodes message bodies, for example payloads of internal transfers
+	 *
+	 * @param callSets   function calls
+	 * @param isInternal true for bodies of internal messages
+	 * @param signer     signer of all bodies
+	 * @return encoded bodies in order of call sets
+	 */
+	public List<Abi.ResultOfEncodeMessageBody> encodeMessageBodies(List<Abi.CallSet> callSets,
+	                                                               boolean isInternal,
+	                                                               Abi.Signer signer) throws EverSdkException {
+		return encodeAll("abi.encode_message_body",
+		                 callSets.stream()
+		                         .map(callSet -> new EncodeMessageBodyParams(this.abi,
+		                                                                     callSet,
+		                                                                     isInternal,
+		                                                                     signer,
+		                                                                     null,
+		                                                                     null,
+		                                                                     null))
+		                         .toList(),
+		                 Abi.ResultOfEncodeMessageBody.class);
+	}
+
+	private <T> List<T> encodeAll(String functionName, List<?> params, Class<T> clazz) throws EverSdkException {
+		final int size = params.size();
+		final Object[] results = new Object[size];
+		final EverSdkException[] errors = new EverSdkException[size];
+		ParallelChunks.run(size, this.parallelism, this.executor, (start, end) -> {
+			for (int i = start; i < end; i++) {
+				try {
+					results[i] = this.ctx.callSync(functionName, params.get(i), clazz);
+				} catch (EverSdkException e) {
+					errors[i] = e;
+					// the rest of batch fails anyway
+					return;
+				} catch (RuntimeException e) {
+					errors[i] = ParallelChunks.itemFailure(e);
+					return;
+				}
+			}
+		});
+		for (EverSdkException error : errors) {
+			if (error != null) {
+				throw error;
+			}
+		}
+		@SuppressWarnings("unchecked") final List<T> list = (List<T>) Arrays.asList(results);
+		return list;
+	}
+
+	/**
+	 * Builder of batch encoders
+	 */
+	public static class Builder {
+
+		private Executor executor = ForkJoinPool.commonPool();
+		private int parallelism = Runtime.getRuntime().availableProcessors();
+		private ObjectMapper mapper = JsonContext.SDK_JSON_MAPPER();
+
+		/**
+		 * @param executor executor of encoding chunks, common ForkJoinPool by default
+		 * @return instance of builder
+		 */
+		public Builder setExecutor(Executor executor) {
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * @param parallelism number of chunks that batch is split into, number of processors by default
+		 * @return instance of builder
+		 */
+		public Builder setParallelism(int parallelism) {
+			if (parallelism < 1) {
+				throw new IllegalArgumentException("Parallelism should be positive, got: " + parallelism);
+			}
+			this.parallelism = parallelism;
+			return this;
+		}
+
+		public Builder setMapper(ObjectMapper mapper) {
+			this.mapper = mapper;
+			return this;
+		}
+
+		/**
+		 * @param abi ABI of all encoded messages, it's serialized once here
+		 */
+		public AbiBatchEncoder build(EverSdkInvoker ctx, Abi.ABI abi) throws EverSdkException {
+			return new AbiBatchEncoder(this, ctx, SerializedAbi.of(abi, this.mapper));
+		}
+
+		public AbiBatchEncoder build(EverSdkInvoker ctx, SerializedAbi abi) {
+			return new AbiBatchEncoder(this, ctx, abi);
+		}
+	}
+
+	/**
+	 * Abi.ParamsOfEncodeMessage with serialized ABI
+	 */
+	private record EncodeMessageParams(SerializedAbi abi,
+	                                   String address,
+	                                   Abi.DeploySet deploySet,
+	                                   Abi.CallSet callSet,
+	                                   Abi.Signer signer,
+	                                   Integer processingTryIndex,
+	                                   Long signatureId) {
+	}
+
+	/**
+	 * Abi.ParamsOfEncodeMessageBody with serialized ABI
+	 */
+	private record EncodeMessageBodyParams(SerializedAbi abi,
+	                                       Abi.CallSet callSet,
+	                                       Boolean isInternal,
+	                                       Abi.Signer signer,
+	                                       Integer processingTryIndex,
+	                                       String address,
+	                                       Long signatureId) {
+	}
+}
@@ -0,0 +1,324 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry of contract ABIs that serializes every {@link Abi.AbiContract} to JSON once.
+ * <p>
+ * Context built with {@link EverSdkContext.Builder#setAbiRegistry(AbiRegistry)} writes ABI of
+ * {@link Abi.ABI.Contract} and {@link Abi.ABI.Serialized} params of all Abi, Processing and Tvm calls
+ * from registry, so the same contract object is serialized only on its first call. Contracts are
+ * interned by SHA-256 of their JSON, so equal contracts loaded from different files share one JSON string.
+ * <p>
+ * Contracts registered with {@link #register(Abi.AbiContract)} stay interned until {@link #release(Abi.AbiContract)}
+ * is called for every registration. Other interned contracts are evicted in least recently used order when
+ * registry has more than max entries. Cache of contract objects holds them weakly, so registry doesn't keep
+ * contracts that application doesn't use anymore. Lookup of already cached contract takes no lock, and contract
+ * is serialized and hashed outside of lock, so contexts that share registry don't wait for each other.
+ * <p>
+ * EVER-SDK has no function to register ABI and refer to it by {@link Abi.ABI.Handle}, so every call
+ * still carries full ABI JSON, registry removes only its serialization on binding side.
+ * Registry can be shared by several contexts.
+ */
+public final class AbiRegistry {
+
+	private final int maxEntries;
+	private final ObjectMapper mapper;
+	// contract objects by identity, keys are weak
+	private final Map<Object, Entry> byContract = new ConcurrentHashMap<>();
+	private final ReferenceQueue<Abi.AbiContract> collected = new ReferenceQueue<>();
+	// guarded by this
+	private final Map<String, Entry> byHash = new HashMap<>();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evicted = new LongAdder();
+
+	private AbiRegistry(int maxEntries, ObjectMapper mapper) {
+		this.maxEntries = maxEntries;
+		this.mapper = mapper;
+	}
+
+	public static AbiRegistry create() {
+		return create(256);
+	}
+
+	/**
+	 * @param maxEntries number of interned contracts, above which unregistered ones are evicted
+	 */
+	public static AbiRegistry create(int maxEntries) {
+		return new AbiRegistry(maxEntries, JsonContext.SDK_JSON_MAPPER());
+	}
+
+	/**
+	 * Interns contract and holds it in registry until it's released
+	 *
+	 * @return serialized ABI that can be passed to {@link AbiBatchEncoder} and {@link AbiBatchDecoder}
+	 */
+	public SerializedAbi register(Abi.AbiContract contract) throws EverSdkException {
+		final var entry = entry(contract);
+		synchronized (this) {
+			// entry could be evicted after lookup, registration interns it again
+			final var interned = this.byHash.putIfAbsent(entry.hash, entry);
+			(interned == null ? entry : interned).refs++;
+		}
+		return entry.abi;
+	}
+
+	/**
+	 * Releases one registration of contract, it becomes evictable after the last release
+	 */
+	public void release(Abi.AbiContract contract) {
+		final var entry = this.byContract.get(new LookupKey(contract));
+		if (entry == null) {
+			return;
+		}
+		synchronized (this) {
+			final var interned = this.byHash.get(entry.hash);
+			if (interned != null && interned.refs > 0) {
+				interned.refs--;
+				evict();
+			}
+		}
+	}
+
+	/**
+	 * @return serialized ABI of contract, it's interned if needed
+	 */
+	public SerializedAbi serialized(Abi.AbiContract contract) throws EverSdkException {
+		return entry(contract).abi;
+	}
+
+	/**
+	 * @return number of interned contracts
+	 */
+	public synchronized int size() {
+		return this.byHash.size();
+	}
+
+	/**
+	 * @return number of lookups that didn't need serialization
+	 */
+	public long hits() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * @return number of lookups that serialized contract
+	 */
+	public long misses() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * @return number of evicted contracts
+	 */
+	public long evicted() {
+		return this.evicted.sum();
+	}
+
+	/**
+	 * @return Jackson module that writes contract ABIs from this registry
+	 */
+	public Module module() {
+		return new SimpleModule("java4ever-abi-registry").addSerializer(Abi.ABI.Contract.class,
+		                                                                 new AbiSerializer<>(Abi.ABI.Contract.class,
+		                                                                                     "Contract",
+		                                                                                     Abi.ABI.Contract::value))
+		                                                   .addSerializer(Abi.ABI.Serialized.class,
+		                                                                  new AbiSerializer<>(Abi.ABI.Serialized.class,
+		                                                                                      "Serialized",
+		                                                                                      Abi.ABI.Serialized::value));
+	}
+
+	private Entry entry(Abi.AbiContract contract) throws EverSdkException {
+		final var cached = this.byContract.get(new LookupKey(contract));
+		if (cached != null) {
+			this.hits.increment();
+			cached.lastUsed = System.nanoTime();
+			return cached;
+		}
+		this.misses.increment();
+		expunge();
+		final String json;
+		try {
+			json = this.mapper.writeValueAsString(contract);
+		} catch (JsonProcessingException e) {
+			throw new EverSdkException(new EverSdkException.ErrorResult(-501, "ABI serialization failed!"), e);
+		}
+		final String hash = sha256(json);
+		Entry entry;
+		synchronized (this) {
+			entry = this.byHash.get(hash);
+			if (entry == null) {
+				entry = new Entry(hash, json, SerializedAbi.ofJson("{\"type\":\"Contract\",\"value\":" + json + "}"));
+				this.byHash.put(hash, entry);
+				evict();
+			}
+		}
+		// the same contract could be cached by concurrent call
+		final var raced = this.byContract.putIfAbsent(new WeakKey(contract, this.collected), entry);
+		return raced != null ? raced : entry;
+	}
+
+	/**
+	 * Removes least recently used contracts without registrations while registry is over max entries.
+	 * Contract objects that are still cached keep their entry, it's only not shared with new equal contracts.
+	 */
+	private void evict() {
+		while (this.byHash.size() > this.maxEntries) {
+			Entry oldest = null;
+			for (Entry entry : this.byHash.values()) {
+				if (entry.refs == 0 && (oldest == null || entry.lastUsed - oldest.lastUsed < 0)) {
+					oldest = entry;
+				}
+			}
+			if (oldest == null) {
+				return;
+			}
+			this.byHash.remove(oldest.hash);
+			this.evicted.increment();
+		}
+	}
+
+	/**
+	 * Removes cache keys of contracts collected by GC
+	 */
+	private void expunge() {
+		Reference<? extends Abi.AbiContract> key;
+		while ((key = this.collected.poll()) != null) {
+			this.byContract.remove(key);
+		}
+	}
+
+	private static String sha256(String json) {
+		try {
+			return HexFormat.of()
+			                .formatHex(MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@FunctionalInterface
+	private interface ContractOf<A> {
+		Abi.AbiContract contract(A abi);
+	}
+
+	private static final class Entry {
+
+		private final String hash;
+		private final String contractJson;
+		private final SerializedAbi abi;
+		// guarded by registry
+		private int refs;
+		private volatile long lastUsed;
+
+		private Entry(String hash, String contractJson, SerializedAbi abi) {
+			this.hash = hash;
+			this.contractJson = contractJson;
+			this.abi = abi;
+			this.lastUsed = System.nanoTime();
+		}
+	}
+
+	/**
+	 * Key of cached contract, compares contracts by identity and doesn't keep them from GC
+	 */
+	private static final class WeakKey extends WeakReference<Abi.AbiContract> {
+
+		private final int hash;
+
+		private WeakKey(Abi.AbiContract contract, ReferenceQueue<Abi.AbiContract> queue) {
+			super(contract, queue);
+			this.hash = System.identityHashCode(contract);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			final Abi.AbiContract contract = get();
+			return contract != null && ((o instanceof WeakKey other && contract == other.get()) ||
+			                            (o instanceof LookupKey lookup && contract == lookup.contract()));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+	}
+
+	/**
+	 * Key of cache lookup, it matches {@link WeakKey} of the same contract object
+	 */
+	private record LookupKey(Abi.AbiContract contract) {
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof WeakKey key ? key.get() == this.contract :
+					o instanceof LookupKey other && other.contract == this.contract;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(this.contract);
+		}
+	}
+
+	/**
+	 * Writes {"type":...,"value":...} with contract JSON from registry
+	 */
+	private final class AbiSerializer<A extends Abi.ABI> extends StdSerializer<A> {
+
+		private final String type;
+		private final ContractOf<A> contractOf;
+
+		private AbiSerializer(Class<A> clazz, String type, ContractOf<A> contractOf) {
+			super(clazz);
+			this.type = type;
+			this.contractOf = contractOf;
+		}
+
+		@Override
+		public void serialize(A abi, JsonGenerator gen, SerializerProvider provider) throws IOException {
+			final var contract = this.contractOf.contract(abi);
+			gen.writeStartObject();
+			gen.writeStringField("type", this.type);
+			if (contract == null) {
+				gen.writeNullField("value");
+			} else {
+				final Entry entry;
+				try {
+					entry = entry(contract);
+				} catch (EverSdkException e) {
+					throw JsonMappingException.from(gen, "ABI serialization failed!", e);
+				}
+				gen.writeFieldName("value");
+				gen.writeRawValue(entry.contractJson);
+			}
+			gen.writeEndObject();
+		}
+	}
+}
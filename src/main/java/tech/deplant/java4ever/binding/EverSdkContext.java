@@ -2,21 +2,41 @@ package tech.deplant.java4ever.binding;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
-import tech.deplant.java4ever.binding.ffi.SdkBridge;
+import tech.deplant.java4ever.binding.ffi.FakeSdkTransport;
+import tech.deplant.java4ever.binding.ffi.InFlightRegistry;
+import tech.deplant.java4ever.binding.ffi.NativeRequestBuffer;
+import tech.deplant.java4ever.binding.ffi.SdkCallbackExecutor;
+import tech.deplant.java4ever.binding.ffi.SdkResponseHandler;
+import tech.deplant.java4ever.binding.ffi.SdkResponseParser;
+import tech.deplant.java4ever.binding.ffi.SdkTransport;
 import tech.deplant.java4ever.binding.loader.DefaultLoader;
 import tech.deplant.java4ever.binding.loader.LibraryLoader;
 
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
@@ -25,11 +45,31 @@ import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
  * Class that represents the established environment inside EVER-SDK and
  * is identified by id number. Holds last request id and functions to
  * call SDK methods.
+ * <p>
+ * Context should be closed when it's not needed anymore, closing destroys native context
+ * with its network threads, caches and connections. This includes contexts adopted by
+ * {@link Builder#buildFromExisting(int, int)} or constructors, so don't close them if native context
+ * is owned by someone else. All contexts are counted, see {@link #stats()}, and contexts created by
+ * {@link Builder#buildNew(LibraryLoader)} can be watched by leak detector, see {@link Builder#setLeakDetection(boolean)}.
  */
-public record EverSdkContext(int id, @JsonIgnore ObjectMapper mapper, long timeout, AtomicInteger requestCount) {
+public record EverSdkContext(int id, @JsonIgnore ObjectMapper mapper, long timeout,
+                             AtomicInteger requestCount,
+                             @JsonIgnore SdkCallbackExecutor callbackExecutor,
+                             @JsonIgnore SdkTransport transport,
+                             @JsonIgnore SdkCallCoalescer coalescer,
+                             @JsonIgnore SdkCallLimiter limiter,
+                             @JsonIgnore SdkTimeoutPolicy timeouts,
+                             @JsonIgnore NativeContext nativeContext) implements EverSdkInvoker, AutoCloseable {
 
 	private final static System.Logger logger = System.getLogger(EverSdkContext.class.getName());
 
+	private static final Cleaner LEAK_CLEANER = Cleaner.create();
+	// closed flags of live native contexts by id, registry doesn't reference NativeContext, so leak detector can watch it
+	private static final Map<Integer, AtomicBoolean> LIVE_CONTEXTS = new ConcurrentHashMap<>();
+	private static final LongAdder CREATED = new LongAdder();
+	private static final LongAdder CLOSED = new LongAdder();
+	private static final LongAdder LEAKED = new LongAdder();
+
 	/**
 	 * Constructor of EVER-SDK context
 	 *
@@ -39,13 +79,102 @@ public record EverSdkContext(int id, @JsonIgnore ObjectMapper mapper, long timeo
 	 * @param mapper       Jackson's ObjectMapper, ContextBuilder have correctly preconfigured one.
 	 */
 	public EverSdkContext(int id, int requestCount, long timeout, ObjectMapper mapper) {
-		this(id, mapper, timeout, new AtomicInteger(requestCount));
+		this(id,
+		     mapper,
+		     timeout,
+		     new AtomicInteger(requestCount),
+		     SdkCallbackExecutor.direct(),
+		     SdkTransport.nativeTransport(),
+		     SdkCallCoalescer.disabled(),
+		     SdkCallLimiter.unlimited(),
+		     SdkTimeoutPolicy.fixed(timeout),
+		     register(id, false));
+	}
+
+	/**
+	 * Constructor of EVER-SDK context with responses handled right on EVER-SDK threads
+	 */
+	public EverSdkContext(int id, ObjectMapper mapper, long timeout, AtomicInteger requestCount) {
+		this(id,
+		     mapper,
+		     timeout,
+		     requestCount,
+		     SdkCallbackExecutor.direct(),
+		     SdkTransport.nativeTransport(),
+		     SdkCallCoalescer.disabled(),
+		     SdkCallLimiter.unlimited(),
+		     SdkTimeoutPolicy.fixed(timeout),
+		     register(id, false));
 	}
 
 	public static EverSdkContext.Builder builder() {
 		return new EverSdkContext.Builder();
 	}
 
+	/**
+	 * @return snapshot of context counters
+	 */
+	public static Stats stats() {
+		return new Stats(LIVE_CONTEXTS.size(), CREATED.sum(), CLOSED.sum(), LEAKED.sum());
+	}
+
+	/**
+	 * Destroys native context with tc_destroy_context. Requests of this context that still wait
+	 * for response are failed. Closing already closed context does nothing.
+	 * Views of context, such as {@link #withoutCoalescing()}, share its native context, so all of them become unusable.
+	 */
+	@Override
+	public void close() {
+		final AtomicBoolean closed = nativeContext().closed;
+		if (!closed.compareAndSet(false, true)) {
+			logger.log(System.Logger.Level.DEBUG, () -> "CTXID:" + id() + " is already closed");
+			return;
+		}
+		LIVE_CONTEXTS.remove(id(), closed);
+		transport().destroyContext(id());
+		CLOSED.increment();
+		final Cleaner.Cleanable cleanable = nativeContext().cleanable;
+		if (cleanable != null) {
+			cleanable.clean();
+		}
+		logger.log(System.Logger.Level.DEBUG, () -> "CTXID:" + id() + " destroyed");
+	}
+
+	/**
+	 * @return registry of requests of this context that wait for EVER-SDK responses
+	 */
+	@JsonIgnore
+	public InFlightRegistry inFlight() {
+		return new InFlightRegistry(id());
+	}
+
+	/**
+	 * @return true if context is not closed yet
+	 */
+	@JsonIgnore
+	public boolean isOpen() {
+		return !nativeContext().closed.get();
+	}
+
+	/**
+	 * Registers native context created or adopted by builder or constructors. Contexts that adopt the same live id
+	 * share its closed flag, so closing any of them closes all.
+	 *
+	 * @param leakDetection true to report native context that becomes unreachable without close()
+	 */
+	private static NativeContext register(int id, boolean leakDetection) {
+		final AtomicBoolean closed = LIVE_CONTEXTS.computeIfAbsent(id, contextId -> {
+			CREATED.increment();
+			return new AtomicBoolean(false);
+		});
+		final var nativeContext = new NativeContext(closed);
+		if (leakDetection) {
+			nativeContext.cleanable = LEAK_CLEANER.register(nativeContext,
+			                                                new LeakReport(id, closed, new Throwable("Context created here")));
+		}
+		return nativeContext;
+	}
+
 	/**
 	 * Call for methods that use app_object as one of params
 	 *
@@ -59,6 +188,7 @@ public record EverSdkContext(int id, @JsonIgnore ObjectMapper mapper, long timeo
 	 * @return
 	 * @throws EverSdkException
 	 */
+	@Override
 	public <T, P, A> T callAppObject(String functionName,
 	                                 P params,
 	                                 A appObject,
@@ -78,19 +208,12 @@ public record EverSdkContext(int id, @JsonIgnore ObjectMapper mapper, long timeo
 	 * @return
 	 * @throws EverSdkException
 	 */
+	@Override
 	public <T, P> T callEvent(String functionName,
 	                          P params,
 	                          Consumer<CallbackHandler> consumer,
 	                          Class<T> clazz) throws EverSdkException {
-		try {
-			return this.mapper.readValue(processRequest(functionName, processParams(params), consumer), clazz);
-		} catch (JsonProcessingException e) {
-			logger.log(System.Logger.Level.ERROR,
-			           () -> "Successful response deserialization failed!" + e.getMessage() + e.getCause());
-			throw new EverSdkException(new EverSdkException.ErrorResult(-500,
-			                                                            "Successful response deserialization failed! Check getCause() for actual response."),
-			                           e);
-		}
+		return callEvent(null, functionName, params, consumer, clazz);
 	}
 
 	/**
@@ -104,16 +227,9 @@ public record EverSdkContext(int id, @JsonIgnore ObjectMapper mapper, long timeo
 	 * @return output type record, usually ResultOf...
 	 * @throws EverSdkException
 	 */
+	@Override
 	public <T, P> T call(String functionName, P params, Class<T> clazz) throws EverSdkException {
-		try {
-			return this.mapper.readValue(processRequest(functionName, processParams(params), null), clazz);
-		} catch (JsonProcessingException e) {
-			logger.log(System.Logger.Level.ERROR,
-			           () -> "Successful response deserialization failed!" + e.getMessage() + e.getCause());
-			throw new EverSdkException(new EverSdkException.ErrorResult(-500,
-			                                                            "Successful response deserialization failed! Check getCause() for actual response."),
-			                           e);
-		}
+		return call(null, functionName, params, clazz);
 	}
 
 	/**
@@ -124,83 +240,598 @@ public record EverSdkContext(int id, @JsonIgnore ObjectMapper mapper, long timeo
 	 * @param <P>
 	 * @throws EverSdkException
 	 */
+	@Override
 	public <P> void callVoid(String functionName, P params) throws EverSdkException {
-		processRequest(functionName, processParams(params), null);
+		callVoid(null, functionName, params);
+	}
+
+	/**
+	 * Synchronous call to EVER-SDK (tc_request_sync) for local CPU-bound functions.
+	 * Response is read on the calling thread without future and response handler,
+	 * so context timeout is not applied to such calls.
+	 *
+	 * @param functionName
+	 * @param params       record of input type, usually ParamsOf...
+	 * @param clazz        class of output type record, usually ResultOf...class
+	 * @param <T>
+	 * @param <P>
+	 * @return output type record, usually ResultOf...
+	 * @throws EverSdkException
+	 */
+	@Override
+	public <T, P> T callSync(String functionName, P params, Class<T> clazz) throws EverSdkException {
+		return callSync(null, functionName, params, clazz);
+	}
+
+	/**
+	 * Synchronous call to EVER-SDK (tc_request_sync) without outputs
+	 *
+	 * @param functionName
+	 * @param params
+	 * @param <P>
+	 * @throws EverSdkException
+	 */
+	@Override
+	public <P> void callSyncVoid(String functionName, P params) throws EverSdkException {
+		callSyncVoid(null, functionName, params);
+	}
+
+	@Override
+	public <T, P> CompletableFuture<T> callAsync(String functionName, P params, Class<T> clazz) {
+		return callAsync(null, functionName, params, clazz);
+	}
+
+	@Override
+	public <T, P> CompletableFuture<T> callEventAsync(String functionName,
+	                                                  P params,
+	                                                  Consumer<CallbackHandler> consumer,
+	                                                  Class<T> clazz) {
+		return callEventAsync(null, functionName, params, consumer, clazz);
+	}
+
+	@Override
+	public <T, P, A> CompletableFuture<T> callAppObjectAsync(String functionName,
+	                                                         P params,
+	                                                         A appObject,
+	                                                         Class<T> clazz) {
+		return callAsync(functionName, params, clazz);
+	}
+
+	@Override
+	public <P> CompletableFuture<Void> callVoidAsync(String functionName, P params) {
+		return callVoidAsync(null, functionName, params);
+	}
+
+	/**
+	 * View of this context that sends all calls with the given priority. Priority orders calls that wait
+	 * for permit of context limiter, so interactive calls jump ahead of bulk work when context is saturated,
+	 * see {@link SdkCallLimiter}. Without limits priority has no effect.
+	 *
+	 * @param priority priority of calls made through returned invoker
+	 * @return invoker that shares this context
+	 */
+	public EverSdkInvoker withPriority(SdkCallPriority priority) {
+		return new PrioritizedInvoker(this, priority);
+	}
+
+	/**
+	 * View of this context that never coalesces calls, for example for hedged duplicates of reads that
+	 * must not join the in-flight call they duplicate. View shares native context, limiter and timeouts
+	 * with this context, so closing either of them closes both.
+	 *
+	 * @return this context if coalescing is disabled, or context view without coalescing
+	 */
+	public EverSdkContext withoutCoalescing() {
+		if (coalescer().isDisabled()) {
+			return this;
+		}
+		return new EverSdkContext(id(),
+		                          mapper(),
+		                          timeout(),
+		                          requestCount(),
+		                          callbackExecutor(),
+		                          transport(),
+		                          SdkCallCoalescer.disabled(),
+		                          limiter(),
+		                          timeouts(),
+		                          nativeContext());
+	}
+
+	// calls with priority, null priority means priority of function set by limiter
+
+	private <T, P> T callEvent(SdkCallPriority priority,
+	                           String functionName,
+	                           P params,
+	                           Consumer<CallbackHandler> consumer,
+	                           Class<T> clazz) throws EverSdkException {
+		return processRequest(priority,
+		                      functionName,
+		                      processParams(functionName, params),
+		                      consumer,
+		                      responseParser(this.mapper.constructType(clazz)));
+	}
+
+	private <T, P> T call(SdkCallPriority priority, String functionName, P params, Class<T> clazz) throws EverSdkException {
+		if (coalescer().isCoalesced(functionName)) {
+			return awaitResult(coalescedRequestAsync(priority, functionName, params, clazz));
+		}
+		return processRequest(priority,
+		                      functionName,
+		                      processParams(functionName, params),
+		                      null,
+		                      responseParser(this.mapper.constructType(clazz)));
+	}
+
+	private <P> void callVoid(SdkCallPriority priority, String functionName, P params) throws EverSdkException {
+		processRequest(priority, functionName, processParams(functionName, params), null, SdkResponseParser.IGNORE);
+	}
+
+	private <T, P> T callSync(SdkCallPriority priority,
+	                          String functionName,
+	                          P params,
+	                          Class<T> clazz) throws EverSdkException {
+		if (timeouts().hasOverride(functionName)) {
+			// sync request can't be interrupted, so function with its own timeout is sent as async request
+			return processRequest(priority,
+			                      functionName,
+			                      processParams(functionName, params),
+			                      null,
+			                      responseParser(this.mapper.constructType(clazz)));
+		}
+		return processSyncRequest(priority,
+		                          functionName,
+		                          processParams(functionName, params),
+		                          this.mapper.getTypeFactory().constructParametricType(SyncResponse.class, clazz));
 	}
 
-	private <P> String processParams(P params) throws EverSdkException {
+	private <P> void callSyncVoid(SdkCallPriority priority, String functionName, P params) throws EverSdkException {
+		if (timeouts().hasOverride(functionName)) {
+			processRequest(priority, functionName, processParams(functionName, params), null, SdkResponseParser.IGNORE);
+			return;
+		}
+		processSyncRequest(priority,
+		                   functionName,
+		                   processParams(functionName, params),
+		                   this.mapper.getTypeFactory().constructParametricType(SyncResponse.class, JsonNode.class));
+	}
+
+	private <T, P> CompletableFuture<T> callAsync(SdkCallPriority priority,
+	                                              String functionName,
+	                                              P params,
+	                                              Class<T> clazz) {
+		if (coalescer().isCoalesced(functionName)) {
+			return coalescedRequestAsync(priority, functionName, params, clazz);
+		}
+		return processRequestAsync(priority,
+		                           functionName,
+		                           params,
+		                           null,
+		                           responseParser(this.mapper.constructType(clazz)));
+	}
+
+	private <T, P> CompletableFuture<T> callEventAsync(SdkCallPriority priority,
+	                                                   String functionName,
+	                                                   P params,
+	                                                   Consumer<CallbackHandler> consumer,
+	                                                   Class<T> clazz) {
+		return processRequestAsync(priority,
+		                           functionName,
+		                           params,
+		                           consumer,
+		                           responseParser(this.mapper.constructType(clazz)));
+	}
+
+	private <P> CompletableFuture<Void> callVoidAsync(SdkCallPriority priority, String functionName, P params) {
+		return processRequestAsync(priority, functionName, params, null, SdkResponseParser.IGNORE);
+	}
+
+	/**
+	 * Serializes params straight into native request buffer, without intermediate String.
+	 * Caller owns returned buffer and should release it after request is sent.
+	 */
+	private <P> NativeRequestBuffer processParams(String functionName, P params) throws EverSdkException {
+		final var request = NativeRequestBuffer.of(functionName);
 		try {
-			return (null == params) ? "" : this.mapper.writeValueAsString(params);
-		} catch (JsonProcessingException e) {
+			if (null != params) {
+				this.mapper.writeValue(request, params);
+			}
+			return request;
+		} catch (IOException e) {
+			request.release();
 			logger.log(System.Logger.Level.ERROR,
 			           () -> "Parameters serialization failed!" + e.getMessage() + e.getCause());
 			throw new EverSdkException(new EverSdkException.ErrorResult(-501, "Parameters serialization failed!"), e);
 		}
 	}
 
-	private String processRequest(String functionName, String params, Consumer<CallbackHandler> consumer) throws EverSdkException {
-		final int requestId = requestCount().incrementAndGet();
+	private <T> T processSyncRequest(SdkCallPriority priority,
+	                                 String functionName,
+	                                 NativeRequestBuffer request,
+	                                 JavaType responseType) throws EverSdkException {
+		final SyncResponse<T> syncResponse;
+		final var permit = acquirePermit(priority, functionName, request);
 		try {
 			logger.log(System.Logger.Level.TRACE,
-			           () -> "FUNC:" + functionName + " CTXID:" + id() + " REQID:" + requestId + " SEND:" + params);
-			final String result = SdkBridge.tcRequest(id(), requestId, functionName, params, consumer)
-			                               .result()
-			                               .get(timeout(), TimeUnit.MILLISECONDS);
+			           () -> "FUNC:" + functionName + " CTXID:" + id() + " SYNC SEND:" + request.paramsToString());
+			syncResponse = transport().requestSync(id(), request, responseParser(responseType));
+		} catch (IOException e) {
+			throw new EverSdkException(new EverSdkException.ErrorResult(-500,
+			                                                            "Successful response deserialization failed! Check getCause() for details."),
+			                           e);
+		} finally {
+			permit.release();
+			request.release();
+		}
+		logger.log(System.Logger.Level.TRACE,
+		           () -> "FUNC: " + functionName + " CTXID:" + id() + " SYNC RESP:" + syncResponse);
+		if (syncResponse.error() != null) {
+			throw sdkException(syncResponse.error(), null);
+		}
+		return syncResponse.result();
+	}
+
+	/**
+	 * Parser that deserializes response straight from the read buffer of callback.
+	 * Raw response is decoded to String only to log deserialization failure.
+	 */
+	private <T> SdkResponseParser<T> responseParser(JavaType responseType) {
+		return (bytes, offset, length) -> {
+			try {
+				return this.mapper.readValue(bytes, offset, length, responseType);
+			} catch (IOException e) {
+				logger.log(System.Logger.Level.ERROR,
+				           () -> "Response deserialization failed! Response: " +
+				                 new String(bytes, offset, length, StandardCharsets.UTF_8) + " " + e.getMessage());
+				throw e;
+			}
+		};
+	}
+
+	private <T> T processRequest(SdkCallPriority priority,
+	                             String functionName,
+	                             NativeRequestBuffer request,
+	                             Consumer<CallbackHandler> consumer,
+	                             SdkResponseParser<T> parser) throws EverSdkException {
+		final var permit = acquirePermit(priority, functionName, request);
+		final int requestId = requestCount().incrementAndGet();
+		try {
+			final long startNanos = System.nanoTime();
+			final T result = sendRequest(functionName, requestId, request, consumer, parser, callbackExecutor())
+					.result()
+					.get(timeouts().timeout(functionName), TimeUnit.MILLISECONDS);
+			timeouts().record(functionName, System.nanoTime() - startNanos);
 			logger.log(System.Logger.Level.TRACE,
 			           () -> "FUNC: " + functionName + " CTXID:" + id() + " REQID:" + requestId + " RESP:" + result);
 			return result;
-		} catch (CompletionException | ExecutionException e) {
+		} catch (ExecutionException e) {
+			throw requestException(functionName, requestId, e.getCause());
+		} catch (CancellationException | TimeoutException e) {
+			throw requestException(functionName, requestId, e);
+		} catch (InterruptedException e) {
+			inFlight().orphan(requestId);
+			logger.log(System.Logger.Level.ERROR,
+			           () -> "FUNC:" + functionName + " CTXID:" + id() + " REQID:" + requestId + " ERR: INTERRUPTED! " +
+			                 e.getCause() + " " + e.getMessage() + " " + e);
+			throw new EverSdkException(new EverSdkException.ErrorResult(-400, "EVER-SDK call interrupted!"), e);
+		} finally {
+			permit.release();
+		}
+	}
+
+	/**
+	 * Waits for limiter permit, request is released if call can't be sent
+	 */
+	private SdkCallLimiter.Permit acquirePermit(SdkCallPriority priority,
+	                                            String functionName,
+	                                            NativeRequestBuffer request) throws EverSdkException {
+		try {
+			return limiter().acquireBlocking(functionName, priority);
+		} catch (EverSdkException e) {
+			request.release();
+			logger.log(System.Logger.Level.WARNING,
+			           () -> "FUNC:" + functionName + " CTXID:" + id() + " ERR: NO PERMIT! " + e.errorResponse().message());
+			throw e;
+		}
+	}
+
+	private <T, P> CompletableFuture<T> processRequestAsync(SdkCallPriority priority,
+	                                                        String functionName,
+	                                                        P params,
+	                                                        Consumer<CallbackHandler> consumer,
+	                                                        SdkResponseParser<T> parser) {
+		try {
+			return sendRequestAsync(priority, functionName, processParams(functionName, params), consumer, parser);
+		} catch (EverSdkException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * Identical calls in flight are answered by a single request, its params are serialized
+	 * with sorted keys, so the same params in different key order make the same request.
+	 */
+	private <T, P> CompletableFuture<T> coalescedRequestAsync(SdkCallPriority priority,
+	                                                          String functionName,
+	                                                          P params,
+	                                                          Class<T> clazz) {
+		final String canonicalParams;
+		try {
+			canonicalParams = null == params ?
+					"" :
+					this.mapper.writer()
+					           .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+					           .writeValueAsString(this.mapper.convertValue(params, Object.class));
+		} catch (JsonProcessingException | IllegalArgumentException e) {
+			logger.log(System.Logger.Level.ERROR,
+			           () -> "Parameters serialization failed!" + e.getMessage() + e.getCause());
+			return CompletableFuture.failedFuture(new EverSdkException(new EverSdkException.ErrorResult(-501,
+			                                                                                           "Parameters serialization failed!"),
+			                                                           e));
+		}
+		return coalescer().coalesce(functionName,
+		                            canonicalParams,
+		                            clazz,
+		                            () -> sendRequestAsync(priority,
+		                                                   functionName,
+		                                                   NativeRequestBuffer.of(functionName, canonicalParams),
+		                                                   null,
+		                                                   responseParser(this.mapper.constructType(clazz))));
+	}
+
+	/**
+	 * Waits for result of async request, its timeout is already applied to the future
+	 */
+	private <T> T awaitResult(CompletableFuture<T> result) throws EverSdkException {
+		try {
+			return result.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof EverSdkException sdkException) {
+				throw sdkException;
+			}
+			throw new EverSdkException(new EverSdkException.ErrorResult(-500, "EVER-SDK response handling failed!"),
+			                           e.getCause());
+		} catch (InterruptedException e) {
+			logger.log(System.Logger.Level.ERROR, () -> "CTXID:" + id() + " ERR: INTERRUPTED! " + e);
+			throw new EverSdkException(new EverSdkException.ErrorResult(-400, "EVER-SDK call interrupted!"), e);
+		}
+	}
+
+	/**
+	 * Sends request without waiting for response. In direct mode of context response is handled on common pool,
+	 * so native threads only copy it and caller gets parsed result on a pool thread.
+	 */
+	private <T> CompletableFuture<T> sendRequestAsync(SdkCallPriority priority,
+	                                                  String functionName,
+	                                                  NativeRequestBuffer request,
+	                                                  Consumer<CallbackHandler> consumer,
+	                                                  SdkResponseParser<T> parser) {
+		final var executor = callbackExecutor().isDirect() ? SdkCallbackExecutor.common() : callbackExecutor();
+		return limiter().acquire(functionName, priority).whenComplete((permit, e) -> {
+			if (e != null) {
+				request.release();
+			}
+		}).thenCompose(permit -> {
+			final int requestId = requestCount().incrementAndGet();
+			final long startNanos = System.nanoTime();
+			final SdkResponseHandler<T> response;
+			try {
+				response = sendRequest(functionName, requestId, request, consumer, parser, executor);
+			} catch (RuntimeException e) {
+				permit.release();
+				throw e;
+			}
+			return response.result()
+			               .orTimeout(timeouts().timeout(functionName), TimeUnit.MILLISECONDS)
+			               .handle((result, e) -> {
+				               permit.release();
+				               if (e != null) {
+					               throw new CompletionException(requestException(functionName, requestId, e));
+				               }
+				               timeouts().record(functionName, System.nanoTime() - startNanos);
+				               logger.log(System.Logger.Level.TRACE,
+				                          () -> "FUNC: " + functionName + " CTXID:" + id() + " REQID:" + requestId +
+				                                " RESP:" + result);
+				               return result;
+			               });
+		});
+	}
+
+	private <T> SdkResponseHandler<T> sendRequest(String functionName,
+	                                              int requestId,
+	                                              NativeRequestBuffer request,
+	                                              Consumer<CallbackHandler> consumer,
+	                                              SdkResponseParser<T> parser,
+	                                              SdkCallbackExecutor executor) {
+		try {
+			logger.log(System.Logger.Level.TRACE,
+			           () -> "FUNC:" + functionName + " CTXID:" + id() + " REQID:" + requestId + " SEND:" +
+			                 request.paramsToString());
+			return transport().request(id(), requestId, request, consumer, parser, executor);
+		} finally {
+			// EVER-SDK copies request before tc_request_ptr returns
+			request.release();
+		}
+	}
+
+	/**
+	 * Converts failure of response future to EverSdkException
+	 */
+	private EverSdkException requestException(String functionName, int requestId, Throwable cause) {
+		if (cause instanceof IOException) {
+			// successful response that was parsed in callback, but didn't fit result type
+			return new EverSdkException(new EverSdkException.ErrorResult(-500,
+			                                                             "Successful response deserialization failed! Check getCause() for details."),
+			                            cause);
+		}
+		if (cause instanceof CancellationException) {
+			logger.log(System.Logger.Level.WARNING,
+			           () -> "FUNC:" + functionName + " CTXID:" + id() + " REQID:" + requestId + " ERR: CANCELLED! " +
+			                 cause.getMessage());
+			return new EverSdkException(new EverSdkException.ErrorResult(-401, "EVER-SDK call cancelled!"), cause);
+		}
+		if (cause instanceof TimeoutException) {
+			// request stays registered until SDK finishes it, so late response is recognized and dropped
+			inFlight().orphan(requestId);
+			final long timeout = timeouts().timeout(functionName);
+			logger.log(System.Logger.Level.ERROR,
+			           () -> "FUNC:" + functionName + " CTXID:" + id() + " REQID:" + requestId +
+			                 " ERR: TIMEOUT! LIMIT: " + timeout + " Message: " + cause.getMessage());
+			return new EverSdkException(new EverSdkException.ErrorResult(-402,
+			                                                             "EVER-SDK Execution expired on Timeout! Current timeout: " +
+			                                                             timeout), cause);
+		}
+		if (cause instanceof CompletionException && cause.getCause() == null) {
 			// These errors are sent by SDK, response_type=1
-			EverSdkException.ErrorResult sdkResponse = null;
 			// let's try to parse error response
 			try {
-				sdkResponse = mapper().readValue(e.getCause().getMessage(), EverSdkException.ErrorResult.class);
-				// in case of contract custom exit code ("require" error)
-				final EverSdkException.ErrorResult responseCopy = sdkResponse;
-				if (responseCopy.data().localError() != null &&
-				    responseCopy.data().localError().data().exitCode() > 0) {
-					logger.log(System.Logger.Level.WARNING,
-					           () -> "Error from SDK. Code: " + responseCopy.data().localError().code() +
-					                 ", Message: " + responseCopy.data().localError().message());
-					throw new EverSdkException(new EverSdkException.ErrorResult(responseCopy.data()
-					                                                                        .localError()
-					                                                                        .data()
-					                                                                        .exitCode(),
-					                                                            "Contract did not accept message. For more information about exit code check the contract source code or ask the contract developer",
-					                                                            responseCopy.data()
-					                                                                        .localError()
-					                                                                        .data()), e);
-				} else { // on other errors, we just re-throw
-					logger.log(System.Logger.Level.WARNING,
-					           () -> "Error from SDK. Code: " + responseCopy.code() + ", Message: " +
-					                 responseCopy.message());
-					throw new EverSdkException(responseCopy, e);
-				}
-
+				return sdkException(mapper().readValue(cause.getMessage(), EverSdkException.ErrorResult.class), cause);
 			} catch (JsonProcessingException ex) {
 				// if error response parsing failed
 				logger.log(System.Logger.Level.ERROR,
-				           () -> "SDK Error Response deserialization failed! Response: " + e.getCause().getMessage() +
+				           () -> "SDK Error Response deserialization failed! Response: " + cause.getMessage() +
 				                 ex.getMessage());
-				throw new EverSdkException(new EverSdkException.ErrorResult(-500,
-				                                                            "SDK Error Response deserialization failed! Check getCause() for actual response."),
-				                           ex);
+				return new EverSdkException(new EverSdkException.ErrorResult(-500,
+				                                                             "SDK Error Response deserialization failed! Check getCause() for actual response."),
+				                            ex);
 			}
-		} catch (InterruptedException e) {
-			logger.log(System.Logger.Level.ERROR,
-			           () -> "FUNC:" + functionName + " CTXID:" + id() + " REQID:" + requestId + " ERR: INTERRUPTED! " +
-			                 params + e.getCause() + " " + e.getMessage() + " " + e);
-			throw new EverSdkException(new EverSdkException.ErrorResult(-400, "EVER-SDK call interrupted!"), e);
-		} catch (TimeoutException e) {
-			logger.log(System.Logger.Level.ERROR,
-			           () -> "FUNC:" + functionName + " CTXID:" + id() + " REQID:" + requestId +
-			                 " ERR: TIMEOUT! LIMIT: " + timeout() + " Message: " + e.getMessage());
-			throw new EverSdkException(new EverSdkException.ErrorResult(-402,
-			                                                            "EVER-SDK Execution expired on Timeout! Current timeout: " +
-			                                                            timeout()), e);
+		}
+		logger.log(System.Logger.Level.ERROR,
+		           () -> "FUNC:" + functionName + " CTXID:" + id() + " REQID:" + requestId + " ERR: " + cause);
+		return new EverSdkException(new EverSdkException.ErrorResult(-500, "EVER-SDK response handling failed!"), cause);
+	}
 
+	private EverSdkException sdkException(EverSdkException.ErrorResult sdkResponse, Throwable cause) {
+		// in case of contract custom exit code ("require" error)
+		if (sdkResponse.data() != null &&
+		    sdkResponse.data().localError() != null &&
+		    sdkResponse.data().localError().data().exitCode() > 0) {
+			logger.log(System.Logger.Level.WARNING,
+			           () -> "Error from SDK. Code: " + sdkResponse.data().localError().code() +
+			                 ", Message: " + sdkResponse.data().localError().message());
+			return new EverSdkException(new EverSdkException.ErrorResult(sdkResponse.data().localError().data().exitCode(),
+			                                                             "Contract did not accept message. For more information about exit code check the contract source code or ask the contract developer",
+			                                                             sdkResponse.data().localError().data()),
+			                            cause);
+		} else { // on other errors, we just re-throw
+			logger.log(System.Logger.Level.WARNING,
+			           () -> "Error from SDK. Code: " + sdkResponse.code() + ", Message: " + sdkResponse.message());
+			return new EverSdkException(sdkResponse, cause);
 		}
+	}
 
+	/**
+	 * Counters of contexts
+	 *
+	 * @param live    contexts that are not closed yet
+	 * @param created contexts created or adopted since start of process
+	 * @param closed  contexts closed with {@link #close()}
+	 * @param leaked  contexts that became unreachable without close, counted only with leak detection on
+	 */
+	public record Stats(long live, long created, long closed, long leaked) {
+	}
+
+	/**
+	 * Context view that passes its priority to every call
+	 */
+	private record PrioritizedInvoker(EverSdkContext context, SdkCallPriority priority) implements EverSdkInvoker {
+
+		@Override
+		public <T, P> T call(String functionName, P params, Class<T> clazz) throws EverSdkException {
+			return this.context.call(this.priority, functionName, params, clazz);
+		}
+
+		@Override
+		public <T, P> T callEvent(String functionName,
+		                          P params,
+		                          Consumer<CallbackHandler> consumer,
+		                          Class<T> clazz) throws EverSdkException {
+			return this.context.callEvent(this.priority, functionName, params, consumer, clazz);
+		}
+
+		@Override
+		public <T, P, A> T callAppObject(String functionName,
+		                                 P params,
+		                                 A appObject,
+		                                 Class<T> clazz) throws EverSdkException {
+			return this.context.call(this.priority, functionName, params, clazz);
+		}
+
+		@Override
+		public <P> void callVoid(String functionName, P params) throws EverSdkException {
+			this.context.callVoid(this.priority, functionName, params);
+		}
+
+		@Override
+		public <T, P> T callSync(String functionName, P params, Class<T> clazz) throws EverSdkException {
+			return this.context.callSync(this.priority, functionName, params, clazz);
+		}
+
+		@Override
+		public <P> void callSyncVoid(String functionName, P params) throws EverSdkException {
+			this.context.callSyncVoid(this.priority, functionName, params);
+		}
+
+		@Override
+		public <T, P> CompletableFuture<T> callAsync(String functionName, P params, Class<T> clazz) {
+			return this.context.callAsync(this.priority, functionName, params, clazz);
+		}
+
+		@Override
+		public <T, P> CompletableFuture<T> callEventAsync(String functionName,
+		                                                  P params,
+		                                                  Consumer<CallbackHandler> consumer,
+		                                                  Class<T> clazz) {
+			return this.context.callEventAsync(this.priority, functionName, params, consumer, clazz);
+		}
+
+		@Override
+		public <T, P, A> CompletableFuture<T> callAppObjectAsync(String functionName,
+		                                                         P params,
+		                                                         A appObject,
+		                                                         Class<T> clazz) {
+			return this.context.callAsync(this.priority, functionName, params, clazz);
+		}
+
+		@Override
+		public <P> CompletableFuture<Void> callVoidAsync(String functionName, P params) {
+			return this.context.callVoidAsync(this.priority, functionName, params);
+		}
+	}
+
+	/**
+	 * Native side of context, shared by context and all its views. Leak detector watches this object,
+	 * so it's reported only when no view of context is reachable.
+	 */
+	static final class NativeContext {
+
+		private final AtomicBoolean closed;
+		private volatile Cleaner.Cleanable cleanable;
+
+		private NativeContext(AtomicBoolean closed) {
+			this.closed = closed;
+		}
+	}
+
+	/**
+	 * Cleaner action, it must not reference context object itself
+	 */
+	private record LeakReport(int contextId, AtomicBoolean closed, Throwable creationSite) implements Runnable {
+		@Override
+		public void run() {
+			if (!closed().get()) {
+				LEAKED.increment();
+				logger.log(System.Logger.Level.WARNING,
+				           "EverSdkContext CTXID:" + contextId() +
+				           " became unreachable without close(), native context is still alive!",
+				           creationSite());
+			}
+		}
+	}
+
+	/**
+	 * Response of tc_request_sync, that contains either result or error
+	 */
+	public record SyncResponse<T>(T result, EverSdkException.ErrorResult error) {
 	}
 
 	/**
@@ -212,6 +843,16 @@ public record EverSdkContext(int id, @JsonIgnore ObjectMapper mapper, long timeo
 		private long timeout = 60_000L;
 		private String configJson = "{}";
 		private ObjectMapper jsonMapper;
+		private boolean leakDetection = false;
+		private SdkCallbackExecutor callbackExecutor = SdkCallbackExecutor.direct();
+		private SdkTransport transport = SdkTransport.nativeTransport();
+		private Set<String> coalescedFunctions = Set.of();
+		private SdkCallLimiter.Builder limiter;
+		private final Map<String, Long> timeoutOverrides = new HashMap<>();
+		private boolean adaptiveTimeout = false;
+		private double timeoutMultiplier = 3.0;
+		private long minTimeout = 1_000L;
+		private AbiRegistry abiRegistry;
 
 		public Builder() {
 		}
@@ -232,23 +873,182 @@ public record EverSdkContext(int id, @JsonIgnore ObjectMapper mapper, long timeo
 			return this;
 		}
 
+		/**
+		 * Sets timeout for functions of module or for a single function, it overrides context timeout.
+		 * If several prefixes match function, the longest one is used. Local functions that are usually
+		 * called synchronously, for example "crypto.sha256", are sent as async requests when they have override,
+		 * so override applies to them too, see {@link SdkTimeoutPolicy}.
+		 *
+		 * @param prefix  function prefix, for example "net." or "processing.wait_for_transaction"
+		 * @param timeout Response completion waiting timeout (in milliseconds)
+		 * @return instance of builder
+		 */
+		public Builder setTimeout(String prefix, long timeout) {
+			this.timeoutOverrides.put(prefix, timeout);
+			return this;
+		}
+
+		/**
+		 * Enables adaptive timeouts, 3 * p99 of function latency, but not lower than 1 second.
+		 * See {@link #setAdaptiveTimeout(double, long)}.
+		 *
+		 * @param adaptiveTimeout true to derive timeouts from observed latency
+		 * @return instance of builder
+		 */
+		public Builder setAdaptiveTimeout(boolean adaptiveTimeout) {
+			this.adaptiveTimeout = adaptiveTimeout;
+			return this;
+		}
+
+		/**
+		 * Enables adaptive timeouts. Timeout of function becomes p99 of its recent latencies multiplied by
+		 * multiplier, it's never lower than min timeout and never higher than configured timeout of function.
+		 *
+		 * @param multiplier multiplier of p99 latency
+		 * @param minTimeout lowest adaptive timeout (in milliseconds)
+		 * @return instance of builder
+		 */
+		public Builder setAdaptiveTimeout(double multiplier, long minTimeout) {
+			this.adaptiveTimeout = true;
+			this.timeoutMultiplier = multiplier;
+			this.minTimeout = minTimeout;
+			return this;
+		}
+
 		public Builder setMapper(ObjectMapper jsonMapper) {
 			this.jsonMapper = jsonMapper;
 			return this;
 		}
 
+		/**
+		 * Sets where responses and subscription events are handled. By default, they are handled right
+		 * on EVER-SDK threads, so slow consumer stalls SDK. See {@link SdkCallbackExecutor} for other modes.
+		 *
+		 * @param callbackExecutor executor for responses, for example SdkCallbackExecutor.virtualThreads()
+		 * @return instance of builder
+		 */
+		public Builder setCallbackExecutor(SdkCallbackExecutor callbackExecutor) {
+			this.callbackExecutor = callbackExecutor;
+			return this;
+		}
+
+		/**
+		 * Sets how requests reach EVER-SDK. By default, ton_client library is called.
+		 * {@link FakeSdkTransport} answers requests in-process, for benchmarks and load tests.
+		 *
+		 * @param transport transport of context requests
+		 * @return instance of builder
+		 */
+		public Builder setTransport(SdkTransport transport) {
+			this.transport = transport;
+			return this;
+		}
+
+		/**
+		 * Enables single-flight coalescing of read-only network functions, see {@link SdkCallCoalescer#READ_ONLY_FUNCTIONS}.
+		 * Identical calls in flight share one request to EVER-SDK and one result object.
+		 *
+		 * @param coalescing true to coalesce identical read-only calls
+		 * @return instance of builder
+		 */
+		public Builder setCoalescing(boolean coalescing) {
+			return setCoalescing(coalescing ? SdkCallCoalescer.READ_ONLY_FUNCTIONS : Set.of());
+		}
+
+		/**
+		 * Enables single-flight coalescing of provided functions. Callers of coalesced function
+		 * share result object, so only functions without side effects should be listed.
+		 *
+		 * @param functions EVER-SDK function names, for example "net.query_collection"
+		 * @return instance of builder
+		 */
+		public Builder setCoalescing(Set<String> functions) {
+			this.coalescedFunctions = Set.copyOf(functions);
+			return this;
+		}
+
+		/**
+		 * Sets concurrency limits of context calls, see {@link SdkCallLimiter}.
+		 * Every context built by this builder receives its own limiter.
+		 *
+		 * @param limiter builder of limiter, for example SdkCallLimiter.builder().setLimit("net.", 32)
+		 * @return instance of builder
+		 */
+		public Builder setLimiter(SdkCallLimiter.Builder limiter) {
+			this.limiter = limiter;
+			return this;
+		}
+
+		/**
+		 * Sets registry that serializes contract ABIs once, see {@link AbiRegistry}.
+		 * Mapper of context is copied with registry serializers installed.
+		 *
+		 * @param abiRegistry registry, it can be shared by contexts
+		 * @return instance of builder
+		 */
+		public Builder setAbiRegistry(AbiRegistry abiRegistry) {
+			this.abiRegistry = abiRegistry;
+			return this;
+		}
+
+		private ObjectMapper callMapper() {
+			if (this.abiRegistry == null) {
+				return this.jsonMapper;
+			}
+			final var mapper = this.jsonMapper == null ? JsonContext.SDK_JSON_MAPPER() : this.jsonMapper.copy();
+			return mapper.registerModule(this.abiRegistry.module());
+		}
+
+		private SdkTimeoutPolicy timeouts() {
+			return new SdkTimeoutPolicy(this.timeout,
+			                            this.timeoutOverrides,
+			                            this.adaptiveTimeout,
+			                            this.timeoutMultiplier,
+			                            this.minTimeout);
+		}
+
+		private SdkCallLimiter limiter() {
+			return this.limiter == null ? SdkCallLimiter.unlimited() : this.limiter.build();
+		}
+
+		private SdkCallCoalescer coalescer() {
+			return this.coalescedFunctions.isEmpty() ? SdkCallCoalescer.disabled() : SdkCallCoalescer.of(this.coalescedFunctions);
+		}
+
+		/**
+		 * Enables reporting of contexts that became unreachable without close().
+		 * Creation stack trace is captured for every context, so it's intended for development and tests.
+		 *
+		 * @param leakDetection true to log WARNING with creation stack trace for every leaked context
+		 * @return instance of builder
+		 */
+		public Builder setLeakDetection(boolean leakDetection) {
+			this.leakDetection = leakDetection;
+			return this;
+		}
+
 		/**
 		 * If you, for some reason, can't directly access already created Context object, but you're sure that
 		 * it is created, loaded and you know it's id and last request count, you should use this method to
 		 * load Context object out of this data.
 		 * It's up to you if id and request count are correct, it will not be checked until you start calls with Context.
+		 * Closing returned Context destroys native context.
 		 *
 		 * @param existingContextId           id of existing, previously created Context in EVER-SDK
 		 * @param existingContextRequestCount last request number of previously created Context in EVER-SDK
 		 * @return Context object made of provided data
 		 */
 		public EverSdkContext buildFromExisting(int existingContextId, int existingContextRequestCount) {
-			return new EverSdkContext(existingContextId, existingContextRequestCount, this.timeout, this.jsonMapper);
+			return new EverSdkContext(existingContextId,
+			                          callMapper(),
+			                          this.timeout,
+			                          new AtomicInteger(existingContextRequestCount),
+			                          this.callbackExecutor,
+			                          this.transport,
+			                          coalescer(),
+			                          limiter(),
+			                          timeouts(),
+			                          register(existingContextId, false));
 		}
 
 		/**
@@ -271,12 +1071,21 @@ public record EverSdkContext(int id, @JsonIgnore ObjectMapper mapper, long timeo
 			                                           defaults.proofs(),
 			                                           defaults.localStoragePath());
 			var mergedJson = this.jsonMapper.writeValueAsString(mergedConfig);
-			final var createContextResponse = this.jsonMapper.readValue(SdkBridge.tcCreateContext(loader, mergedJson),
+			final var createContextResponse = this.jsonMapper.readValue(this.transport.createContext(loader, mergedJson),
 			                                                            ResultOfCreateContext.class);
 			if (createContextResponse.result() == null || createContextResponse.result() < 1) {
 				throw new RuntimeException("sdk.create_context failed!");
 			}
-			return new EverSdkContext(createContextResponse.result(), 0, this.timeout, this.jsonMapper);
+			return new EverSdkContext(createContextResponse.result(),
+			                          callMapper(),
+			                          this.timeout,
+			                          new AtomicInteger(0),
+			                          this.callbackExecutor,
+			                          this.transport,
+			                          coalescer(),
+			                          limiter(),
+			                          timeouts(),
+			                          register(createContextResponse.result(), this.leakDetection));
 		}
 
 		/**
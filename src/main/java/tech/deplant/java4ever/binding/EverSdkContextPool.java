@@ -0,0 +1,443 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import tech.deplant.java4ever.binding.loader.DefaultLoader;
+import tech.deplant.java4ever.binding.loader.LibraryLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Pool of EVER-SDK contexts created from the same builder config. Every native context
+ * has its own runtime and network connections, so pool spreads calls over several of them.
+ * <p>
+ * Pool itself is an {@link EverSdkInvoker} that routes every call to the context with the least
+ * number of calls in flight. Calls that should stay on the same context (for example, all
+ * calls for some account address) can be sent through {@link #sticky(String)}.
+ * <p>
+ * Handles of EVER-SDK (subscriptions, iterators, signing, encryption and crypto boxes, debots,
+ * pinned BOCs of boc cache) live in the context that created them. Functions that create or use
+ * such handles always go to {@link #home()} context, and monitor functions of Processing go to
+ * the context chosen by name of monitor queue, so follow-up calls find their handles.
+ * Messages with {@link Abi.Signer.SigningBox} signer are routed to {@link #home()} too.
+ * Other params can't refer to handles that pool doesn't see, so calls that pass boc cache refs
+ * inside other params should be sent through {@link #home()} explicitly.
+ */
+public final class EverSdkContextPool implements EverSdkInvoker, AutoCloseable {
+
+	private final static System.Logger logger = System.getLogger(EverSdkContextPool.class.getName());
+
+	/**
+	 * Functions that create handles or use them, they are called on {@link #home()} context
+	 */
+	private static final Set<String> HOME_FUNCTIONS = Set.of("net.subscribe",
+	                                                         "net.subscribe_collection",
+	                                                         "net.unsubscribe",
+	                                                         "net.create_block_iterator",
+	                                                         "net.resume_block_iterator",
+	                                                         "net.create_transaction_iterator",
+	                                                         "net.resume_transaction_iterator",
+	                                                         "net.iterator_next",
+	                                                         "net.remove_iterator",
+	                                                         "crypto.register_signing_box",
+	                                                         "crypto.get_signing_box",
+	                                                         "crypto.signing_box_get_public_key",
+	                                                         "crypto.signing_box_sign",
+	                                                         "crypto.remove_signing_box",
+	                                                         "crypto.register_encryption_box",
+	                                                         "crypto.create_encryption_box",
+	                                                         "crypto.encryption_box_get_info",
+	                                                         "crypto.encryption_box_encrypt",
+	                                                         "crypto.encryption_box_decrypt",
+	                                                         "crypto.remove_encryption_box",
+	                                                         "crypto.create_crypto_box",
+	                                                         "crypto.remove_crypto_box",
+	                                                         "crypto.get_crypto_box_info",
+	                                                         "crypto.get_crypto_box_seed_phrase",
+	                                                         "crypto.get_signing_box_from_crypto_box",
+	                                                         "crypto.get_encryption_box_from_crypto_box",
+	                                                         "crypto.clear_crypto_box_secret_cache",
+	                                                         "debot.init",
+	                                                         "debot.start",
+	                                                         "debot.fetch",
+	                                                         "debot.execute",
+	                                                         "debot.send",
+	                                                         "debot.remove",
+	                                                         "boc.cache_set",
+	                                                         "boc.cache_get",
+	                                                         "boc.cache_unpin");
+
+	private final Member[] members;
+	// start of least-in-flight scan, so members with equal load are used in turns
+	private final AtomicInteger nextStart = new AtomicInteger();
+
+	private EverSdkContextPool(Member[] members) {
+		this.members = members;
+	}
+
+	/**
+	 * Creates pool of new contexts with library loaded by {@link DefaultLoader}
+	 *
+	 * @param builder configured context builder, every context of pool is built from it
+	 * @param size    number of contexts
+	 */
+	public static EverSdkContextPool of(EverSdkContext.Builder builder, int size) throws JsonProcessingException {
+		return of(builder, size, new DefaultLoader(EverSdkContextPool.class.getClassLoader()));
+	}
+
+	/**
+	 * Creates pool of new contexts. If some context can't be created, already created ones are closed.
+	 *
+	 * @param builder configured context builder, every context of pool is built from it
+	 * @param size    number of contexts
+	 * @param loader  Specify how exactly ton_client library will be found and loaded
+	 */
+	public static EverSdkContextPool of(EverSdkContext.Builder builder,
+	                                    int size,
+	                                    LibraryLoader loader) throws JsonProcessingException {
+		if (size < 1) {
+			throw new IllegalArgumentException("Pool size should be positive, got: " + size);
+		}
+		final var members = new Member[size];
+		try {
+			for (int i = 0; i < size; i++) {
+				members[i] = new Member(builder.buildNew(loader));
+			}
+		} catch (JsonProcessingException | RuntimeException e) {
+			for (Member member : members) {
+				if (member != null) {
+					member.context().close();
+				}
+			}
+			throw e;
+		}
+		logger.log(System.Logger.Level.DEBUG, () -> "Context pool created, size: " + size);
+		return new EverSdkContextPool(members);
+	}
+
+	/**
+	 * Returns invoker bound to one context of pool chosen by key. Calls with the same key
+	 * always go to the same context, for example to keep account's messages in order.
+	 *
+	 * @param key routing key, for example account address
+	 */
+	public EverSdkInvoker sticky(String key) {
+		return stickyMember(key);
+	}
+
+	/**
+	 * Returns invoker bound to the context where pool creates and uses EVER-SDK handles.
+	 * Calls that pass handles or boc cache refs inside params, that pool can't recognize, should be sent through it.
+	 */
+	public EverSdkInvoker home() {
+		return this.members[0];
+	}
+
+	/**
+	 * View of this pool with contexts that never coalesce calls, see {@link EverSdkContext#withoutCoalescing()}.
+	 * View shares contexts and their load counters with this pool.
+	 */
+	public EverSdkContextPool withoutCoalescing() {
+		final var views = new Member[this.members.length];
+		for (int i = 0; i < views.length; i++) {
+			final Member member = this.members[i];
+			views[i] = new Member(member.context().withoutCoalescing(), member.inFlight(), member.calls());
+		}
+		return new EverSdkContextPool(views);
+	}
+
+	/**
+	 * @return contexts of the pool
+	 */
+	public List<EverSdkContext> contexts() {
+		final var contexts = new ArrayList<EverSdkContext>(this.members.length);
+		for (Member member : this.members) {
+			contexts.add(member.context());
+		}
+		return contexts;
+	}
+
+	/**
+	 * @return load of every context of the pool at the moment of call
+	 */
+	public List<MemberStats> stats() {
+		final var stats = new ArrayList<MemberStats>(this.members.length);
+		for (Member member : this.members) {
+			stats.add(new MemberStats(member.context().id(), member.inFlight().get(), member.calls().sum()));
+		}
+		return stats;
+	}
+
+	public int size() {
+		return this.members.length;
+	}
+
+	@Override
+	public <T, P> T call(String functionName, P params, Class<T> clazz) throws EverSdkException {
+		return route(functionName, params).call(functionName, params, clazz);
+	}
+
+	@Override
+	public <T, P> T callEvent(String functionName,
+	                          P params,
+	                          Consumer<CallbackHandler> consumer,
+	                          Class<T> clazz) throws EverSdkException {
+		return route(functionName, params).callEvent(functionName, params, consumer, clazz);
+	}
+
+	@Override
+	public <T, P, A> T callAppObject(String functionName,
+	                                 P params,
+	                                 A appObject,
+	                                 Class<T> clazz) throws EverSdkException {
+		return route(functionName, params).callAppObject(functionName, params, appObject, clazz);
+	}
+
+	@Override
+	public <P> void callVoid(String functionName, P params) throws EverSdkException {
+		route(functionName, params).callVoid(functionName, params);
+	}
+
+	@Override
+	public <T, P> T callSync(String functionName, P params, Class<T> clazz) throws EverSdkException {
+		return route(functionName, params).callSync(functionName, params, clazz);
+	}
+
+	@Override
+	public <P> void callSyncVoid(String functionName, P params) throws EverSdkException {
+		route(functionName, params).callSyncVoid(functionName, params);
+	}
+
+	@Override
+	public <T, P> CompletableFuture<T> callAsync(String functionName, P params, Class<T> clazz) {
+		return route(functionName, params).callAsync(functionName, params, clazz);
+	}
+
+	@Override
+	public <T, P> CompletableFuture<T> callEventAsync(String functionName,
+	                                                  P params,
+	                                                  Consumer<CallbackHandler> consumer,
+	                                                  Class<T> clazz) {
+		return route(functionName, params).callEventAsync(functionName, params, consumer, clazz);
+	}
+
+	@Override
+	public <T, P, A> CompletableFuture<T> callAppObjectAsync(String functionName,
+	                                                         P params,
+	                                                         A appObject,
+	                                                         Class<T> clazz) {
+		return route(functionName, params).callAppObjectAsync(functionName, params, appObject, clazz);
+	}
+
+	@Override
+	public <P> CompletableFuture<Void> callVoidAsync(String functionName, P params) {
+		return route(functionName, params).callVoidAsync(functionName, params);
+	}
+
+	/**
+	 * Closes all contexts of the pool
+	 */
+	@Override
+	public void close() {
+		for (Member member : this.members) {
+			member.context().close();
+		}
+	}
+
+	private Member route(String functionName, Object params) {
+		if (HOME_FUNCTIONS.contains(functionName) || signedBySigningBox(params)) {
+			return this.members[0];
+		}
+		final String queue = monitorQueue(params);
+		return queue != null ? stickyMember(queue) : leastInFlight();
+	}
+
+	private Member stickyMember(String key) {
+		final int h = key.hashCode();
+		return this.members[Math.floorMod(h ^ (h >>> 16), this.members.length)];
+	}
+
+	/**
+	 * @return name of monitor queue of Processing monitor functions, null for other params
+	 */
+	private static String monitorQueue(Object params) {
+		if (params instanceof Processing.ParamsOfSendMessages p) {
+			return p.monitorQueue();
+		} else if (params instanceof Processing.ParamsOfFetchNextMonitorResults p) {
+			return p.queue();
+		} else if (params instanceof Processing.ParamsOfGetMonitorInfo p) {
+			return p.queue();
+		} else if (params instanceof Processing.ParamsOfCancelMonitor p) {
+			return p.queue();
+		} else if (params instanceof Processing.ParamsOfMonitorMessages p) {
+			return p.queue();
+		}
+		return null;
+	}
+
+	private static boolean signedBySigningBox(Object params) {
+		final Abi.Signer signer;
+		if (params instanceof Abi.ParamsOfEncodeMessage p) {
+			signer = p.signer();
+		} else if (params instanceof Abi.ParamsOfEncodeMessageBody p) {
+			signer = p.signer();
+		} else if (params instanceof Processing.ParamsOfProcessMessage p && p.messageEncodeParams() != null) {
+			signer = p.messageEncodeParams().signer();
+		} else {
+			return false;
+		}
+		return signer instanceof Abi.Signer.SigningBox;
+	}
+
+	private Member leastInFlight() {
+		final int n = this.members.length;
+		final int start = Math.floorMod(this.nextStart.getAndIncrement(), n);
+		Member best = this.members[start];
+		int bestLoad = best.inFlight().get();
+		for (int i = 1; i < n && bestLoad > 0; i++) {
+			final Member candidate = this.members[(start + i) % n];
+			final int load = candidate.inFlight().get();
+			if (load < bestLoad) {
+				best = candidate;
+				bestLoad = load;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Load of a single context of pool
+	 *
+	 * @param contextId id of context
+	 * @param inFlight  calls that wait for response
+	 * @param calls     calls routed to context since pool creation
+	 */
+	public record MemberStats(int contextId, int inFlight, long calls) {
+	}
+
+	/**
+	 * Context of pool with its load counters
+	 */
+	private record Member(EverSdkContext context, AtomicInteger inFlight, LongAdder calls) implements EverSdkInvoker {
+
+		Member(EverSdkContext context) {
+			this(context, new AtomicInteger(), new LongAdder());
+		}
+
+		private void enter() {
+			inFlight().incrementAndGet();
+			calls().increment();
+		}
+
+		@Override
+		public <T, P> T call(String functionName, P params, Class<T> clazz) throws EverSdkException {
+			enter();
+			try {
+				return context().call(functionName, params, clazz);
+			} finally {
+				inFlight().decrementAndGet();
+			}
+		}
+
+		@Override
+		public <T, P> T callEvent(String functionName,
+		                          P params,
+		                          Consumer<CallbackHandler> consumer,
+		                          Class<T> clazz) throws EverSdkException {
+			enter();
+			try {
+				return context().callEvent(functionName, params, consumer, clazz);
+			} finally {
+				inFlight().decrementAndGet();
+			}
+		}
+
+		@Override
+		public <T, P, A> T callAppObject(String functionName,
+		                                 P params,
+		                                 A appObject,
+		                                 Class<T> clazz) throws EverSdkException {
+			enter();
+			try {
+				return context().callAppObject(functionName, params, appObject, clazz);
+			} finally {
+				inFlight().decrementAndGet();
+			}
+		}
+
+		@Override
+		public <P> void callVoid(String functionName, P params) throws EverSdkException {
+			enter();
+			try {
+				context().callVoid(functionName, params);
+			} finally {
+				inFlight().decrementAndGet();
+			}
+		}
+
+		@Override
+		public <T, P> T callSync(String functionName, P params, Class<T> clazz) throws EverSdkException {
+			enter();
+			try {
+				return context().callSync(functionName, params, clazz);
+			} finally {
+				inFlight().decrementAndGet();
+			}
+		}
+
+		@Override
+		public <P> void callSyncVoid(String functionName, P params) throws EverSdkException {
+			enter();
+			try {
+				context().callSyncVoid(functionName, params);
+			} finally {
+				inFlight().decrementAndGet();
+			}
+		}
+
+		/**
+		 * Async call is in flight until its future completes
+		 */
+		private <T> CompletableFuture<T> track(Supplier<CompletableFuture<T>> call) {
+			enter();
+			try {
+				return call.get().whenComplete((result, e) -> inFlight().decrementAndGet());
+			} catch (RuntimeException e) {
+				inFlight().decrementAndGet();
+				throw e;
+			}
+		}
+
+		@Override
+		public <T, P> CompletableFuture<T> callAsync(String functionName, P params, Class<T> clazz) {
+			return track(() -> context().callAsync(functionName, params, clazz));
+		}
+
+		@Override
+		public <T, P> CompletableFuture<T> callEventAsync(String functionName,
+		                                                  P params,
+		                                                  Consumer<CallbackHandler> consumer,
+		                                                  Class<T> clazz) {
+			return track(() -> context().callEventAsync(functionName, params, consumer, clazz));
+		}
+
+		@Override
+		public <T, P, A> CompletableFuture<T> callAppObjectAsync(String functionName,
+		                                                         P params,
+		                                                         A appObject,
+		                                                         Class<T> clazz) {
+			return track(() -> context().callAppObjectAsync(functionName, params, appObject, clazz));
+		}
+
+		@Override
+		public <P> CompletableFuture<Void> callVoidAsync(String functionName, P params) {
+			return track(() -> context().callVoidAsync(functionName, params));
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package tech.deplant.java4ever.binding;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Call surface of EVER-SDK that is used by generated modules (Abi, Crypto, Net, etc.).
+ * Calls can be sent to single {@link EverSdkContext} or spread over contexts of {@link EverSdkContextPool}.
+ * <p>
+ * Every call has async variant that returns future of result instead of blocking calling thread.
+ * Such futures complete exceptionally with {@link EverSdkException} on SDK errors and timeouts.
+ */
+public interface EverSdkInvoker {
+
+	/**
+	 * Most used call to EVER-SDK with some output object
+	 *
+	 * @param functionName
+	 * @param params       record of input type, usually ParamsOf...
+	 * @param clazz        class of output type record, usually ResultOf...class
+	 * @return output type record, usually ResultOf...
+	 * @throws EverSdkException
+	 */
+	<T, P> T call(String functionName, P params, Class<T> clazz) throws EverSdkException;
+
+	/**
+	 * Call that uses event as consumer param
+	 */
+	<T, P> T callEvent(String functionName,
+	                   P params,
+	                   Consumer<CallbackHandler> consumer,
+	                   Class<T> clazz) throws EverSdkException;
+
+	/**
+	 * Call for methods that use app_object as one of params
+	 */
+	<T, P, A> T callAppObject(String functionName,
+	                          P params,
+	                          A appObject,
+	                          Class<T> clazz) throws EverSdkException;
+
+	/**
+	 * Calls to EVER-SDK without outputs
+	 */
+	<P> void callVoid(String functionName, P params) throws EverSdkException;
+
+	/**
+	 * Synchronous call to EVER-SDK (tc_request_sync) for local CPU-bound functions
+	 */
+	<T, P> T callSync(String functionName, P params, Class<T> clazz) throws EverSdkException;
+
+	/**
+	 * Synchronous call to EVER-SDK (tc_request_sync) without outputs
+	 */
+	<P> void callSyncVoid(String functionName, P params) throws EverSdkException;
+
+	/**
+	 * Async variant of {@link #call(String, Object, Class)}
+	 *
+	 * @return future of output type record, usually ResultOf...
+	 */
+	<T, P> CompletableFuture<T> callAsync(String functionName, P params, Class<T> clazz);
+
+	/**
+	 * Async variant of {@link #callEvent(String, Object, Consumer, Class)}
+	 */
+	<T, P> CompletableFuture<T> callEventAsync(String functionName,
+	                                           P params,
+	                                           Consumer<CallbackHandler> consumer,
+	                                           Class<T> clazz);
+
+	/**
+	 * Async variant of {@link #callAppObject(String, Object, Object, Class)}
+	 */
+	<T, P, A> CompletableFuture<T> callAppObjectAsync(String functionName,
+	                                                  P params,
+	                                                  A appObject,
+	                                                  Class<T> clazz);
+
+	/**
+	 * Async variant of {@link #callVoid(String, Object)}
+	 */
+	<P> CompletableFuture<Void> callVoidAsync(String functionName, P params);
+}
@@ -0,0 +1,367 @@
+package tech.deplant.java4ever.binding;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Invoker that hedges and retries read-only network calls, other calls are passed to primary invoker as is.
+ * <p>
+ * When read is not answered within configured percentile of its recent latencies, the same call
+ * is sent once more to hedge invoker, and the first successful result is used. With {@link EverSdkContextPool}
+ * as hedge invoker duplicate goes to the least loaded context of pool. Reads failed with transient
+ * errors are retried with exponential backoff and jitter.
+ * <p>
+ * Duplicate that is coalesced with the call it duplicates (see {@link EverSdkContext.Builder#setCoalescing(boolean)})
+ * would only wait for the same response, so duplicates bypass coalescing of {@link EverSdkContext} and
+ * {@link EverSdkContextPool} hedge targets. Other hedge invokers should not coalesce hedged reads.
+ * <p>
+ * Processing and other calls with side effects must never be listed as reads.
+ */
+public final class HedgedReadInvoker implements EverSdkInvoker {
+
+	private final static System.Logger logger = System.getLogger(HedgedReadInvoker.class.getName());
+
+	/**
+	 * Error codes that are worth retry: network errors of Net module and binding timeout
+	 */
+	public static final Set<Long> TRANSIENT_ERRORS = Set.of((long) Net.NetErrorCode.QueryFailed.value(),
+	                                                        (long) Net.NetErrorCode.InvalidServerResponse.value(),
+	                                                        (long) Net.NetErrorCode.WebsocketDisconnected.value(),
+	                                                        (long) Net.NetErrorCode.GraphqlWebsocketInitError.value(),
+	                                                        (long) Net.NetErrorCode.GraphqlConnectionError.value(),
+	                                                        -402L);
+
+	private final EverSdkInvoker primary;
+	private final EverSdkInvoker hedgeTarget;
+	private final Set<String> reads;
+	private final double percentile;
+	private final long minHedgeDelayNanos;
+	private final int retries;
+	private final long backoffNanos;
+	private final Set<Long> transientErrors;
+	private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+	private final LongAdder hedged = new LongAdder();
+	private final LongAdder hedgeWins = new LongAdder();
+	private final LongAdder retried = new LongAdder();
+
+	private HedgedReadInvoker(Builder builder, EverSdkInvoker primary) {
+		this.primary = primary;
+		this.hedgeTarget = uncoalesced(builder.hedgeTarget == null ? primary : builder.hedgeTarget);
+		this.reads = builder.reads;
+		this.percentile = builder.percentile;
+		this.minHedgeDelayNanos = builder.minHedgeDelay.toNanos();
+		this.retries = builder.retries;
+		this.backoffNanos = builder.backoff.toNanos();
+		this.transientErrors = builder.transientErrors;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @return number of duplicate calls sent
+	 */
+	public long hedged() {
+		return this.hedged.sum();
+	}
+
+	/**
+	 * @return number of reads answered by duplicate call first
+	 */
+	public long hedgeWins() {
+		return this.hedgeWins.sum();
+	}
+
+	/**
+	 * @return number of retries after transient errors
+	 */
+	public long retried() {
+		return this.retried.sum();
+	}
+
+	@Override
+	public <T, P> T call(String functionName, P params, Class<T> clazz) throws EverSdkException {
+		if (!this.reads.contains(functionName)) {
+			return this.primary.call(functionName, params, clazz);
+		}
+		try {
+			return callAsync(functionName, params, clazz).get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof EverSdkException sdkException) {
+				throw sdkException;
+			}
+			throw new EverSdkException(new EverSdkException.ErrorResult(-500, "EVER-SDK response handling failed!"),
+			                           e.getCause());
+		} catch (InterruptedException e) {
+			throw new EverSdkException(new EverSdkException.ErrorResult(-400, "EVER-SDK call interrupted!"), e);
+		}
+	}
+
+	@Override
+	public <T, P> CompletableFuture<T> callAsync(String functionName, P params, Class<T> clazz) {
+		if (!this.reads.contains(functionName)) {
+			return this.primary.callAsync(functionName, params, clazz);
+		}
+		final var result = new CompletableFuture<T>();
+		new Read<>(functionName, params, clazz, result).attempt(0);
+		return result;
+	}
+
+	@Override
+	public <T, P> T callEvent(String functionName,
+	                          P params,
+	                          Consumer<CallbackHandler> consumer,
+	                          Class<T> clazz) throws EverSdkException {
+		return this.primary.callEvent(functionName, params, consumer, clazz);
+	}
+
+	@Override
+	public <T, P, A> T callAppObject(String functionName,
+	                                 P params,
+	                                 A appObject,
+	                                 Class<T> clazz) throws EverSdkException {
+		return this.primary.callAppObject(functionName, params, appObject, clazz);
+	}
+
+	@Override
+	public <P> void callVoid(String functionName, P params) throws EverSdkException {
+		this.primary.callVoid(functionName, params);
+	}
+
+	@Override
+	public <T, P> T callSync(String functionName, P params, Class<T> clazz) throws EverSdkException {
+		return this.primary.callSync(functionName, params, clazz);
+	}
+
+	@Override
+	public <P> void callSyncVoid(String functionName, P params) throws EverSdkException {
+		this.primary.callSyncVoid(functionName, params);
+	}
+
+	@Override
+	public <T, P> CompletableFuture<T> callEventAsync(String functionName,
+	                                                  P params,
+	                                                  Consumer<CallbackHandler> consumer,
+	                                                  Class<T> clazz) {
+		return this.primary.callEventAsync(functionName, params, consumer, clazz);
+	}
+
+	@Override
+	public <T, P, A> CompletableFuture<T> callAppObjectAsync(String functionName,
+	                                                         P params,
+	                                                         A appObject,
+	                                                         Class<T> clazz) {
+		return this.primary.callAppObjectAsync(functionName, params, appObject, clazz);
+	}
+
+	@Override
+	public <P> CompletableFuture<Void> callVoidAsync(String functionName, P params) {
+		return this.primary.callVoidAsync(functionName, params);
+	}
+
+	private static EverSdkInvoker uncoalesced(EverSdkInvoker target) {
+		if (target instanceof EverSdkContext context) {
+			return context.withoutCoalescing();
+		} else if (target instanceof EverSdkContextPool pool) {
+			return pool.withoutCoalescing();
+		}
+		return target;
+	}
+
+	private boolean isTransient(Throwable e) {
+		final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+		return cause instanceof EverSdkException sdkException &&
+		       this.transientErrors.contains(sdkException.errorResponse().code());
+	}
+
+	private long hedgeDelayNanos(String functionName) {
+		final var window = this.latencies.get(functionName);
+		final long quantile = window == null ? -1L : window.quantileNanos();
+		return quantile < 0 ? -1L : Math.max(this.minHedgeDelayNanos, quantile);
+	}
+
+	/**
+	 * Builder of invoker
+	 */
+	public static class Builder {
+
+		private Set<String> reads = SdkCallCoalescer.READ_ONLY_FUNCTIONS;
+		private EverSdkInvoker hedgeTarget;
+		private double percentile = 0.95;
+		private Duration minHedgeDelay = Duration.ofMillis(10);
+		private int retries = 2;
+		private Duration backoff = Duration.ofMillis(100);
+		private Set<Long> transientErrors = TRANSIENT_ERRORS;
+
+		/**
+		 * @param reads read-only functions that can be hedged and retried, by default {@link SdkCallCoalescer#READ_ONLY_FUNCTIONS}
+		 * @return instance of builder
+		 */
+		public Builder setReads(Set<String> reads) {
+			this.reads = Set.copyOf(reads);
+			return this;
+		}
+
+		/**
+		 * @param hedgeTarget where duplicate calls are sent, for example context pool, primary invoker by default.
+		 *                    Duplicates sent to context or pool are not coalesced.
+		 * @return instance of builder
+		 */
+		public Builder setHedgeTarget(EverSdkInvoker hedgeTarget) {
+			this.hedgeTarget = hedgeTarget;
+			return this;
+		}
+
+		/**
+		 * Sets when duplicate call is sent. Reads are hedged only after function has enough latency samples.
+		 *
+		 * @param percentile    percentile of recent latencies, 0.95 by default
+		 * @param minHedgeDelay duplicate is never sent earlier, 10 ms by default
+		 * @return instance of builder
+		 */
+		public Builder setHedgeDelay(double percentile, Duration minHedgeDelay) {
+			if (percentile <= 0 || percentile > 1) {
+				throw new IllegalArgumentException("Percentile should be between 0 and 1, got: " + percentile);
+			}
+			this.percentile = percentile;
+			this.minHedgeDelay = minHedgeDelay;
+			return this;
+		}
+
+		/**
+		 * @param retries max number of retries after transient error, 2 by default, 0 turns retries off
+		 * @param backoff delay before the first retry, it's doubled for every next one, 100 ms by default
+		 * @return instance of builder
+		 */
+		public Builder setRetries(int retries, Duration backoff) {
+			this.retries = retries;
+			this.backoff = backoff;
+			return this;
+		}
+
+		/**
+		 * @param transientErrors error codes that are retried, by default {@link #TRANSIENT_ERRORS}
+		 * @return instance of builder
+		 */
+		public Builder setTransientErrors(Set<Long> transientErrors) {
+			this.transientErrors = Set.copyOf(transientErrors);
+			return this;
+		}
+
+		public HedgedReadInvoker build(EverSdkInvoker primary) {
+			return new HedgedReadInvoker(this, primary);
+		}
+	}
+
+	/**
+	 * A single read with its attempts, every attempt is a call and maybe its duplicate
+	 */
+	private final class Read<T, P> {
+
+		private final String functionName;
+		private final P params;
+		private final Class<T> clazz;
+		private final CompletableFuture<T> result;
+
+		private Read(String functionName, P params, Class<T> clazz, CompletableFuture<T> result) {
+			this.functionName = functionName;
+			this.params = params;
+			this.clazz = clazz;
+			this.result = result;
+		}
+
+		private void attempt(int retry) {
+			final var attempt = new Attempt(retry, System.nanoTime());
+			attempt.send(HedgedReadInvoker.this.primary, false);
+			final long hedgeDelay = hedgeDelayNanos(this.functionName);
+			if (hedgeDelay > 0) {
+				CompletableFuture.delayedExecutor(hedgeDelay, TimeUnit.NANOSECONDS).execute(attempt::hedge);
+			}
+		}
+
+		private final class Attempt {
+
+			private final int retry;
+			private final long startNanos;
+			private int pending;
+			private boolean finished;
+			private boolean hedged;
+
+			private Attempt(int retry, long startNanos) {
+				this.retry = retry;
+				this.startNanos = startNanos;
+			}
+
+			private void send(EverSdkInvoker invoker, boolean hedge) {
+				synchronized (this) {
+					this.pending++;
+				}
+				dispatch(invoker, hedge);
+			}
+
+			private void hedge() {
+				synchronized (this) {
+					if (this.finished || this.hedged) {
+						return;
+					}
+					this.hedged = true;
+					// counted together with flag, so failure of primary call waits for duplicate
+					this.pending++;
+				}
+				HedgedReadInvoker.this.hedged.increment();
+				logger.log(System.Logger.Level.DEBUG, () -> "FUNC:" + Read.this.functionName + " hedged");
+				dispatch(HedgedReadInvoker.this.hedgeTarget, true);
+			}
+
+			private void dispatch(EverSdkInvoker invoker, boolean hedge) {
+				invoker.callAsync(Read.this.functionName, Read.this.params, Read.this.clazz)
+				       .whenComplete((value, e) -> complete(value, e, hedge));
+			}
+
+			private void complete(T value, Throwable e, boolean hedge) {
+				synchronized (this) {
+					this.pending--;
+					if (this.finished || (e != null && this.pending > 0)) {
+						// first success wins, failure waits for the other call of attempt
+						return;
+					}
+					this.finished = true;
+				}
+				if (e == null) {
+					HedgedReadInvoker.this.latencies
+							.computeIfAbsent(Read.this.functionName,
+							                 name -> new LatencyWindow(HedgedReadInvoker.this.percentile))
+							.record(System.nanoTime() - this.startNanos);
+					if (hedge) {
+						HedgedReadInvoker.this.hedgeWins.increment();
+					}
+					Read.this.result.complete(value);
+				} else if (this.retry < HedgedReadInvoker.this.retries && isTransient(e)) {
+					HedgedReadInvoker.this.retried.increment();
+					// exponential backoff with full jitter
+					final long backoff = ThreadLocalRandom.current()
+					                                      .nextLong(Math.max(1L,
+					                                                         HedgedReadInvoker.this.backoffNanos << this.retry));
+					logger.log(System.Logger.Level.DEBUG,
+					           () -> "FUNC:" + Read.this.functionName + " retry #" + (this.retry + 1) + " after " +
+					                 backoff / 1_000_000 + "ms, ERR:" + e);
+					CompletableFuture.delayedExecutor(backoff, TimeUnit.NANOSECONDS)
+					                 .execute(() -> attempt(this.retry + 1));
+				} else {
+					Read.this.result.completeExceptionally(e);
+				}
+			}
+		}
+	}
+}
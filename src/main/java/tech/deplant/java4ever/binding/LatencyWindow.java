@@ -0,0 +1,41 @@
+package tech.deplant.java4ever.binding;
+
+import java.util.Arrays;
+
+/**
+ * Last {@link #WINDOW} latencies of a function with their quantile.
+ * Quantile is known after {@link #MIN_SAMPLES} samples and is recalculated every {@link #RECALC} samples,
+ * not on every call.
+ */
+final class LatencyWindow {
+
+	private static final int WINDOW = 256;
+	private static final int MIN_SAMPLES = 100;
+	private static final int RECALC = 32;
+
+	private final double quantile;
+	private final long[] samples = new long[WINDOW];
+	private long count;
+	private volatile long quantileNanos = -1L;
+
+	LatencyWindow(double quantile) {
+		this.quantile = quantile;
+	}
+
+	synchronized void record(long latencyNanos) {
+		this.samples[(int) (this.count++ % WINDOW)] = latencyNanos;
+		if (this.count >= MIN_SAMPLES && this.count % RECALC == 0) {
+			final int size = (int) Math.min(this.count, WINDOW);
+			final long[] sorted = Arrays.copyOf(this.samples, size);
+			Arrays.sort(sorted);
+			this.quantileNanos = sorted[Math.max(0, (int) Math.ceil(size * this.quantile) - 1)];
+		}
+	}
+
+	/**
+	 * @return quantile of recent latencies in nanoseconds, -1 if there are not enough samples yet
+	 */
+	long quantileNanos() {
+		return this.quantileNanos;
+	}
+}
@@ -0,0 +1,418 @@
+package tech.deplant.java4ever.binding;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pipeline of external message processing, where encoding, signing, sending and waiting for transaction
+ * are separate stages, so encoding of next messages overlaps with network waits of previous ones.
+ * <p>
+ * Every stage has its own bounded queue and its own worker threads. When queue of a stage is full,
+ * previous stage waits, so a slow network stage holds back encoding instead of piling up encoded messages.
+ * Waiting for transactions doesn't block threads: one worker starts async waits, and number of waits
+ * in flight is bounded by wait parallelism.
+ * Messages with {@link Abi.Signer.External} signer are signed by {@link ExternalSigner} on signing stage,
+ * messages with other signers are signed by EVER-SDK on encoding stage and skip signing stage.
+ * <p>
+ * {@link #stats()} shows how long messages wait in queue and are processed on every stage.
+ * Pipeline should be closed, closing stops workers and fails futures of unfinished messages.
+ */
+public final class MessagePipeline implements AutoCloseable {
+
+	private final static System.Logger logger = System.getLogger(MessagePipeline.class.getName());
+
+	private static final AtomicInteger PIPELINE_IDS = new AtomicInteger();
+
+	private final EverSdkInvoker ctx;
+	private final ExternalSigner signer;
+	private final Stage encode;
+	private final Stage sign;
+	private final Stage send;
+	private final Stage await;
+	private final Semaphore waits;
+	private final Set<Job> waiting = ConcurrentHashMap.newKeySet();
+	private final List<Thread> workers = new ArrayList<>();
+	private volatile boolean closed;
+
+	private MessagePipeline(Builder builder, EverSdkInvoker ctx) {
+		this.ctx = ctx;
+		this.signer = builder.signer;
+		final int id = PIPELINE_IDS.incrementAndGet();
+		this.waits = new Semaphore(builder.waitParallelism);
+		this.encode = new Stage("encode", builder.queueSize, false, this::encode);
+		this.sign = new Stage("sign", builder.queueSize, false, this::sign);
+		this.send = new Stage("send", builder.queueSize, false, this::send);
+		this.await = new Stage("wait", builder.queueSize, true, this::await);
+		start(this.encode, builder.encodeParallelism, id);
+		start(this.sign, builder.signParallelism, id);
+		start(this.send, builder.sendParallelism, id);
+		start(this.await, 1, id);
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Puts message into pipeline, waits if queue of encoding stage is full
+	 *
+	 * @param message params of message encoding, the same as for Abi.encodeMessage
+	 * @return future of processing result, it fails with {@link EverSdkException} of the stage that failed
+	 */
+	public CompletableFuture<Processing.ResultOfProcessMessage> submit(Abi.ParamsOfEncodeMessage message) {
+		final var job = new Job(message);
+		if (message.signer() instanceof Abi.Signer.External && this.signer == null) {
+			job.fail(new EverSdkException(new EverSdkException.ErrorResult(-500,
+			                                                               "External signer is not set for pipeline!")));
+			return job.result;
+		}
+		this.encode.put(job);
+		return job.result;
+	}
+
+	/**
+	 * @return stats of encode, sign, send and wait stages
+	 */
+	public List<StageStats> stats() {
+		return List.of(this.encode.stats(), this.sign.stats(), this.send.stats(), this.await.stats());
+	}
+
+	/**
+	 * Stops workers and fails futures of messages that are not processed yet.
+	 * Messages that were already sent can still be executed by network.
+	 */
+	@Override
+	public void close() {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		this.workers.forEach(Thread::interrupt);
+		for (Stage stage : List.of(this.encode, this.sign, this.send, this.await)) {
+			stage.cancel();
+		}
+		for (Job job : this.waiting) {
+			job.fail(this.await.closedException());
+		}
+	}
+
+	private Stage encode(Job job) throws EverSdkException {
+		final var params = job.params;
+		final var encoded = Abi.encodeMessage(this.ctx,
+		                                      params.abi(),
+		                                      params.address(),
+		                                      params.deploySet(),
+		                                      params.callSet(),
+		                                      params.signer(),
+		                                      params.processingTryIndex(),
+		                                      params.signatureId());
+		job.message = encoded.message();
+		job.dataToSign = encoded.dataToSign();
+		return params.signer() instanceof Abi.Signer.External ? this.sign : this.send;
+	}
+
+	private Stage sign(Job job) throws EverSdkException {
+		final String publicKey = ((Abi.Signer.External) job.params.signer()).publicKey();
+		final String signature = this.signer.sign(publicKey, job.dataToSign);
+		job.message = Abi.attachSignature(this.ctx, job.params.abi(), publicKey, job.message, signature).message();
+		return this.send;
+	}
+
+	private Stage send(Job job) throws EverSdkException {
+		final var sent = Processing.sendMessage(this.ctx, job.message, job.params.abi(), false, null);
+		job.shardBlockId = sent.shardBlockId();
+		job.sendingEndpoints = sent.sendingEndpoints();
+		return this.await;
+	}
+
+	/**
+	 * Starts async wait for transaction, waits only while wait parallelism is used up
+	 */
+	private Stage await(Job job) throws EverSdkException {
+		try {
+			this.waits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new EverSdkException(new EverSdkException.ErrorResult(-400, "EVER-SDK call interrupted!"), e);
+		}
+		final long startNanos = System.nanoTime();
+		this.waiting.add(job);
+		final CompletableFuture<Processing.ResultOfProcessMessage> wait;
+		try {
+			wait = Processing.waitForTransactionAsync(this.ctx,
+			                                          job.params.abi(),
+			                                          job.message,
+			                                          job.shardBlockId,
+			                                          false,
+			                                          job.sendingEndpoints,
+			                                          null);
+		} catch (RuntimeException e) {
+			this.waiting.remove(job);
+			this.waits.release();
+			throw e;
+		}
+		wait.whenComplete((result, e) -> {
+			this.waiting.remove(job);
+			this.waits.release();
+			final Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+			this.await.finished(startNanos, cause);
+			if (cause == null) {
+				job.result.complete(result);
+			} else {
+				logger.log(System.Logger.Level.DEBUG, () -> "Stage " + this.await.name + " failed! ERR:" + cause);
+				job.fail(cause);
+			}
+		});
+		return null;
+	}
+
+	private void start(Stage stage, int parallelism, int pipelineId) {
+		for (int i = 0; i < parallelism; i++) {
+			final var worker = new Thread(stage::work, "message-pipeline-" + pipelineId + "-" + stage.name + "-" + i);
+			worker.setDaemon(true);
+			this.workers.add(worker);
+			worker.start();
+		}
+	}
+
+	/**
+	 * Signs data of messages with External signer outside of EVER-SDK, for example with HSM or remote service
+	 */
+	@FunctionalInterface
+	public interface ExternalSigner {
+
+		/**
+		 * Signer that signs with key pair by Crypto.sign
+		 */
+		static ExternalSigner ofKeys(EverSdkInvoker ctx, Crypto.KeyPair keys) {
+			return (publicKey, dataToSign) -> Crypto.sign(ctx, dataToSign, keys).signature();
+		}
+
+		/**
+		 * @param publicKey  public key of External signer of message
+		 * @param dataToSign base64 data to sign, returned by Abi.encodeMessage
+		 * @return signature encoded in hex
+		 */
+		String sign(String publicKey, String dataToSign) throws EverSdkException;
+	}
+
+	/**
+	 * Stats of a single stage
+	 *
+	 * @param stage          name of stage: encode, sign, send or wait
+	 * @param processed      messages that passed stage
+	 * @param failed         messages that failed on stage
+	 * @param queued         messages waiting in queue of stage
+	 * @param averageWait    average time in queue of stage
+	 * @param averageLatency average time of stage work, for wait stage it's time until transaction is found
+	 */
+	public record StageStats(String stage,
+	                         long processed,
+	                         long failed,
+	                         int queued,
+	                         Duration averageWait,
+	                         Duration averageLatency) {
+	}
+
+	/**
+	 * Builder of pipelines
+	 */
+	public static class Builder {
+
+		private int encodeParallelism = Runtime.getRuntime().availableProcessors();
+		private int signParallelism = 1;
+		private int sendParallelism = 4;
+		private int waitParallelism = 32;
+		private int queueSize = 256;
+		private ExternalSigner signer;
+
+		/**
+		 * Sets number of worker threads of encode, sign and send stages and number of transactions
+		 * that are awaited at once. Encoding is CPU-bound, sending and waiting are network-bound.
+		 * Waits are async and use no worker threads, so wait parallelism only bounds calls in flight.
+		 *
+		 * @param encode number of encoding workers, number of processors by default
+		 * @param sign   number of signing workers, 1 by default
+		 * @param send   number of sending workers, 4 by default
+		 * @param wait   number of transactions awaited at once, 32 by default
+		 * @return instance of builder
+		 */
+		public Builder setParallelism(int encode, int sign, int send, int wait) {
+			this.encodeParallelism = checkParallelism(encode);
+			this.signParallelism = checkParallelism(sign);
+			this.sendParallelism = checkParallelism(send);
+			this.waitParallelism = checkParallelism(wait);
+			return this;
+		}
+
+		/**
+		 * @param queueSize capacity of queue of every stage, 256 by default
+		 * @return instance of builder
+		 */
+		public Builder setQueueSize(int queueSize) {
+			this.queueSize = queueSize;
+			return this;
+		}
+
+		/**
+		 * @param signer signer of messages with External signer
+		 * @return instance of builder
+		 */
+		public Builder setSigner(ExternalSigner signer) {
+			this.signer = signer;
+			return this;
+		}
+
+		public MessagePipeline build(EverSdkInvoker ctx) {
+			return new MessagePipeline(this, ctx);
+		}
+
+		private static int checkParallelism(int parallelism) {
+			if (parallelism < 1) {
+				throw new IllegalArgumentException("Parallelism should be positive, got: " + parallelism);
+			}
+			return parallelism;
+		}
+	}
+
+	@FunctionalInterface
+	private interface StageWork {
+		/**
+		 * @return next stage of job, null when job is finished
+		 */
+		Stage process(Job job) throws EverSdkException;
+	}
+
+	/**
+	 * Message on its way through pipeline, every field is written by one stage and read by the next ones
+	 */
+	private static final class Job {
+
+		private final Abi.ParamsOfEncodeMessage params;
+		private final CompletableFuture<Processing.ResultOfProcessMessage> result = new CompletableFuture<>();
+		private volatile long enqueuedNanos;
+		private volatile String message;
+		private volatile String dataToSign;
+		private volatile String shardBlockId;
+		private volatile String[] sendingEndpoints;
+
+		private Job(Abi.ParamsOfEncodeMessage params) {
+			this.params = params;
+		}
+
+		private void fail(Throwable e) {
+			this.result.completeExceptionally(e);
+		}
+	}
+
+	private final class Stage {
+
+		private final String name;
+		private final BlockingQueue<Job> queue;
+		private final StageWork work;
+		// work of async stage records its own result
+		private final boolean async;
+		private final LongAdder processed = new LongAdder();
+		private final LongAdder failed = new LongAdder();
+		private final LongAdder waitNanos = new LongAdder();
+		private final LongAdder workNanos = new LongAdder();
+
+		private Stage(String name, int queueSize, boolean async, StageWork work) {
+			this.name = name;
+			this.queue = new ArrayBlockingQueue<>(queueSize);
+			this.async = async;
+			this.work = work;
+		}
+
+		/**
+		 * Puts job into queue of stage, waiting while queue is full
+		 */
+		private void put(Job job) {
+			if (MessagePipeline.this.closed) {
+				job.fail(closedException());
+				return;
+			}
+			job.enqueuedNanos = System.nanoTime();
+			try {
+				this.queue.put(job);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				job.fail(new EverSdkException(new EverSdkException.ErrorResult(-400, "EVER-SDK call interrupted!"), e));
+			}
+			// job could be put after close() drained the queue
+			if (MessagePipeline.this.closed) {
+				cancel();
+			}
+		}
+
+		private void work() {
+			while (!MessagePipeline.this.closed) {
+				final Job job;
+				try {
+					job = this.queue.take();
+				} catch (InterruptedException e) {
+					return;
+				}
+				final long startNanos = System.nanoTime();
+				this.waitNanos.add(startNanos - job.enqueuedNanos);
+				final Stage next;
+				try {
+					next = this.work.process(job);
+				} catch (EverSdkException | RuntimeException e) {
+					finished(startNanos, e);
+					logger.log(System.Logger.Level.DEBUG, () -> "Stage " + this.name + " failed! ERR:" + e);
+					job.fail(e);
+					continue;
+				}
+				if (!this.async) {
+					finished(startNanos, null);
+				}
+				// waiting for space in next queue is not counted as work of this stage
+				if (next != null) {
+					next.put(job);
+				}
+			}
+		}
+
+		private void finished(long startNanos, Throwable error) {
+			this.workNanos.add(System.nanoTime() - startNanos);
+			if (error == null) {
+				this.processed.increment();
+			} else {
+				this.failed.increment();
+			}
+		}
+
+		private void cancel() {
+			Job job;
+			while ((job = this.queue.poll()) != null) {
+				job.fail(closedException());
+			}
+		}
+
+		private StageStats stats() {
+			final long processed = this.processed.sum();
+			final long done = processed + this.failed.sum();
+			return new StageStats(this.name,
+			                      processed,
+			                      this.failed.sum(),
+			                      this.queue.size(),
+			                      Duration.ofNanos(done == 0 ? 0L : this.waitNanos.sum() / done),
+			                      Duration.ofNanos(done == 0 ? 0L : this.workNanos.sum() / done));
+		}
+
+		private EverSdkException closedException() {
+			return new EverSdkException(new EverSdkException.ErrorResult(-401, "Message pipeline is closed!"));
+		}
+	}
+}
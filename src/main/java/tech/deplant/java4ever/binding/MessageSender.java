@@ -0,0 +1,443 @@
+package tech.deplant.java4ever.binding;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sender of external messages built on Processing.sendMessages and message monitor of EVER-SDK.
+ * <p>
+ * Messages are accepted into a queue and sent in batches to monitoring queue of EVER-SDK, every message
+ * gets a future that completes with its {@link Processing.MessageMonitoringResult}. A single loop fetches
+ * monitor results for all messages, so thousands of messages in flight hold neither threads nor native
+ * requests, unlike Processing.processMessage per message.
+ * <p>
+ * Results are matched to messages by message hash returned by sendMessages. Result that is fetched before
+ * sendMessages of its batch returns is kept until its message is registered, but not longer than
+ * {@link Builder#setEarlyResultTtl(Duration)}, so results of messages that sender never registers, for example
+ * of failed batches or of other producers of the same queue, are dropped. Monitoring queue lives in one
+ * native context, so sender built with {@link EverSdkContextPool} sends all calls of its queue to
+ * {@link EverSdkContextPool#sticky(String)} context of queue name. Sender should be closed,
+ * closing cancels monitoring of unresolved messages and fails their futures.
+ */
+public final class MessageSender implements AutoCloseable {
+
+	private final static System.Logger logger = System.getLogger(MessageSender.class.getName());
+
+	private static final AtomicInteger QUEUE_IDS = new AtomicInteger();
+
+	private final EverSdkInvoker ctx;
+	private final String monitorQueue;
+	private final int batchSize;
+	private final long flushNanos;
+	private final int queueSize;
+	private final long earlyTtlNanos;
+
+	private final Queue<Outgoing> outgoing = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger queued = new AtomicInteger();
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+	// guarded by this
+	// futures of sent messages by message hash, the same message can be sent more than once
+	private final Map<String, Queue<CompletableFuture<Processing.MessageMonitoringResult>>> monitored = new HashMap<>();
+	// results fetched before sendMessages of their batch returned
+	private final Map<String, Queue<Early>> early = new HashMap<>();
+	// the same results in order of fetching, results already taken by registration are skipped on expiration
+	private final Queue<Early> earlyOrder = new ArrayDeque<>();
+	private final AtomicInteger unresolved = new AtomicInteger();
+	private final AtomicBoolean polling = new AtomicBoolean();
+	private volatile boolean closed;
+
+	private final LongAdder batches = new LongAdder();
+	private final LongAdder sent = new LongAdder();
+	private final LongAdder resolved = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+
+	private MessageSender(Builder builder, EverSdkInvoker ctx) {
+		this.monitorQueue = builder.monitorQueue == null ?
+				"java4ever-sender-" + QUEUE_IDS.incrementAndGet() :
+				builder.monitorQueue;
+		// monitoring queue exists only in the context that received sendMessages
+		this.ctx = ctx instanceof EverSdkContextPool pool ? pool.sticky(this.monitorQueue) : ctx;
+		this.batchSize = builder.batchSize;
+		this.flushNanos = builder.flushInterval.toNanos();
+		this.queueSize = builder.queueSize;
+		this.earlyTtlNanos = builder.earlyResultTtl.toNanos();
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Queues message for sending
+	 *
+	 * @param boc       BOC of external inbound message
+	 * @param waitUntil expiration time of message, unix time in seconds
+	 * @return future of monitoring result, it fails with {@link EverSdkException} if message can't be sent
+	 */
+	public CompletableFuture<Processing.MessageMonitoringResult> send(String boc, long waitUntil) {
+		return send(new Processing.MessageSendingParams(boc, waitUntil, null));
+	}
+
+	/**
+	 * Queues message for sending
+	 *
+	 * @param message message with expiration time and optional user data, that is returned in result
+	 * @return future of monitoring result, it fails with {@link EverSdkException} if message can't be sent
+	 */
+	public CompletableFuture<Processing.MessageMonitoringResult> send(Processing.MessageSendingParams message) {
+		if (this.closed) {
+			return CompletableFuture.failedFuture(new EverSdkException(new EverSdkException.ErrorResult(-401,
+			                                                                                           "Message sender is closed!")));
+		}
+		if (this.queued.incrementAndGet() > this.queueSize) {
+			this.queued.decrementAndGet();
+			return CompletableFuture.failedFuture(new EverSdkException(new EverSdkException.ErrorResult(
+					SdkCallLimiter.REJECTED,
+					"Message sender queue is full! Size: " + this.queueSize)));
+		}
+		final var result = new CompletableFuture<Processing.MessageMonitoringResult>();
+		this.outgoing.add(new Outgoing(message, result));
+		if (this.queued.get() >= this.batchSize) {
+			flush();
+		} else if (this.flushScheduled.compareAndSet(false, true)) {
+			CompletableFuture.delayedExecutor(this.flushNanos, TimeUnit.NANOSECONDS).execute(() -> {
+				this.flushScheduled.set(false);
+				flush();
+			});
+		}
+		return result;
+	}
+
+	/**
+	 * @return name of monitoring queue of EVER-SDK used by sender
+	 */
+	public String monitorQueue() {
+		return this.monitorQueue;
+	}
+
+	/**
+	 * @return counts of unresolved and resolved messages of monitoring queue, as EVER-SDK sees them
+	 */
+	public Processing.MonitoringQueueInfo info() throws EverSdkException {
+		return Processing.getMonitorInfo(this.ctx, this.monitorQueue);
+	}
+
+	/**
+	 * @return number of sendMessages calls made
+	 */
+	public long batches() {
+		return this.batches.sum();
+	}
+
+	/**
+	 * @return number of messages sent to network
+	 */
+	public long sent() {
+		return this.sent.sum();
+	}
+
+	/**
+	 * @return number of messages with monitoring result
+	 */
+	public long resolved() {
+		return this.resolved.sum();
+	}
+
+	/**
+	 * @return number of monitoring results dropped because their messages were not registered in time
+	 */
+	public long dropped() {
+		return this.dropped.sum();
+	}
+
+	/**
+	 * @return number of messages waiting in queue or for monitoring result
+	 */
+	public int pending() {
+		return this.queued.get() + this.unresolved.get();
+	}
+
+	/**
+	 * Cancels monitoring of unresolved messages and fails futures of queued and unresolved messages.
+	 * Messages that were already sent can still be executed by network.
+	 */
+	@Override
+	public void close() {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		final var cancelled = new EverSdkException(new EverSdkException.ErrorResult(-401, "Message sender is closed!"));
+		Outgoing message;
+		while ((message = this.outgoing.poll()) != null) {
+			this.queued.decrementAndGet();
+			message.result().completeExceptionally(cancelled);
+		}
+		final var futures = new ArrayList<CompletableFuture<Processing.MessageMonitoringResult>>();
+		synchronized (this) {
+			this.monitored.values().forEach(futures::addAll);
+			this.monitored.clear();
+			this.early.clear();
+			this.earlyOrder.clear();
+			this.unresolved.set(0);
+		}
+		futures.forEach(future -> future.completeExceptionally(cancelled));
+		Processing.cancelMonitorAsync(this.ctx, this.monitorQueue).whenComplete((v, e) -> {
+			if (e != null) {
+				logger.log(System.Logger.Level.WARNING,
+				           () -> "Monitor cancel failed! Queue: " + this.monitorQueue + " ERR:" + e);
+			}
+		});
+	}
+
+	/**
+	 * Sends all queued messages in batches
+	 */
+	private void flush() {
+		while (!this.closed) {
+			final var batch = new ArrayList<Outgoing>(this.batchSize);
+			Outgoing message;
+			while (batch.size() < this.batchSize && (message = this.outgoing.poll()) != null) {
+				batch.add(message);
+			}
+			if (batch.isEmpty()) {
+				return;
+			}
+			this.queued.addAndGet(-batch.size());
+			sendBatch(batch);
+		}
+	}
+
+	private void sendBatch(List<Outgoing> batch) {
+		this.batches.increment();
+		final var messages = batch.stream().map(Outgoing::message).toArray(Processing.MessageSendingParams[]::new);
+		Processing.sendMessagesAsync(this.ctx, messages, this.monitorQueue).whenComplete((result, e) -> {
+			if (e != null || result.messages() == null || result.messages().length != batch.size()) {
+				logger.log(System.Logger.Level.WARNING,
+				           () -> "Batch of " + batch.size() + " messages failed! Queue: " + this.monitorQueue + " ERR:" +
+				                 e);
+				final Throwable error = e != null ?
+						e :
+						new EverSdkException(new EverSdkException.ErrorResult(-500,
+						                                                      "Unexpected result of processing.send_messages!"));
+				batch.forEach(message -> message.result().completeExceptionally(error));
+				return;
+			}
+			if (this.closed) {
+				final var cancelled = new EverSdkException(new EverSdkException.ErrorResult(-401,
+				                                                                            "Message sender is closed!"));
+				batch.forEach(message -> message.result().completeExceptionally(cancelled));
+				return;
+			}
+			// sendMessages returns monitoring params in order of messages
+			for (int i = 0; i < batch.size(); i++) {
+				final var future = batch.get(i).result();
+				if (result.messages()[i].message() instanceof Processing.MonitoredMessage.HashAddress hashAddress) {
+					register(hashAddress.hash(), future);
+				} else {
+					future.completeExceptionally(new EverSdkException(new EverSdkException.ErrorResult(-500,
+					                                                                                  "Message hash is not returned by processing.send_messages!")));
+				}
+			}
+			this.sent.add(batch.size());
+			poll();
+		});
+	}
+
+	/**
+	 * Starts monitor loop if it's not running and there are unresolved messages
+	 */
+	private void poll() {
+		if (!this.closed && this.unresolved.get() > 0 && this.polling.compareAndSet(false, true)) {
+			fetchResults();
+		}
+	}
+
+	private void fetchResults() {
+		Processing.fetchNextMonitorResultsAsync(this.ctx, this.monitorQueue, Processing.MonitorFetchWaitMode.AtLeastOne)
+		          .whenComplete((result, e) -> {
+			          if (e != null) {
+				          // usually timeout of waiting, loop goes on while messages are unresolved
+				          logger.log(System.Logger.Level.DEBUG,
+				                     () -> "Monitor fetch failed! Queue: " + this.monitorQueue + " ERR:" + e);
+			          } else if (result.results() != null) {
+				          for (var monitoringResult : result.results()) {
+					          resolve(monitoringResult);
+				          }
+			          }
+			          if (!this.closed && this.unresolved.get() > 0) {
+				          if (e != null) {
+					          CompletableFuture.delayedExecutor(this.flushNanos, TimeUnit.NANOSECONDS)
+					                           .execute(this::fetchResults);
+				          } else {
+					          fetchResults();
+				          }
+				          return;
+			          }
+			          this.polling.set(false);
+			          // message could be sent after the check above
+			          poll();
+		          });
+	}
+
+	/**
+	 * Registers future of sent message, or completes it with result that was fetched before registration
+	 */
+	private void register(String hash, CompletableFuture<Processing.MessageMonitoringResult> future) {
+		final Processing.MessageMonitoringResult result;
+		synchronized (this) {
+			if (this.closed) {
+				future.completeExceptionally(new EverSdkException(new EverSdkException.ErrorResult(-401,
+				                                                                                   "Message sender is closed!")));
+				return;
+			}
+			final var results = this.early.get(hash);
+			final Early fetched = results == null ? null : results.poll();
+			result = fetched == null ? null : fetched.result();
+			if (result == null) {
+				this.monitored.computeIfAbsent(hash, h -> new ArrayDeque<>()).add(future);
+				this.unresolved.incrementAndGet();
+				return;
+			}
+			if (results.isEmpty()) {
+				this.early.remove(hash);
+			}
+		}
+		this.resolved.increment();
+		future.complete(result);
+	}
+
+	private void resolve(Processing.MessageMonitoringResult result) {
+		final CompletableFuture<Processing.MessageMonitoringResult> future;
+		synchronized (this) {
+			final var futures = this.monitored.get(result.hash());
+			future = futures == null ? null : futures.poll();
+			if (future == null) {
+				// sendMessages of message's batch has not returned yet
+				logger.log(System.Logger.Level.DEBUG,
+				           () -> "Monitoring result before message registration! Queue: " + this.monitorQueue +
+				                 " Hash: " + result.hash());
+				final long now = System.nanoTime();
+				expireEarly(now);
+				final var fetched = new Early(result, now);
+				this.early.computeIfAbsent(result.hash(), h -> new ArrayDeque<>()).add(fetched);
+				this.earlyOrder.add(fetched);
+				return;
+			}
+			if (futures.isEmpty()) {
+				this.monitored.remove(result.hash());
+			}
+			this.unresolved.decrementAndGet();
+		}
+		this.resolved.increment();
+		future.complete(result);
+	}
+
+	/**
+	 * Drops results that wait for registration of their messages longer than TTL, guarded by this
+	 */
+	private void expireEarly(long now) {
+		Early oldest;
+		while ((oldest = this.earlyOrder.peek()) != null && now - oldest.fetchedNanos() > this.earlyTtlNanos) {
+			this.earlyOrder.poll();
+			final String hash = oldest.result().hash();
+			final var results = this.early.get(hash);
+			// result could be already taken by registration of its message
+			if (results != null && results.remove(oldest)) {
+				if (results.isEmpty()) {
+					this.early.remove(hash);
+				}
+				this.dropped.increment();
+				final var status = oldest.result().status();
+				logger.log(System.Logger.Level.WARNING,
+				           () -> "Monitoring result of unknown message is dropped! Queue: " + this.monitorQueue +
+				                 " Hash: " + hash + " Status: " + status);
+			}
+		}
+	}
+
+	/**
+	 * Builder of message senders
+	 */
+	public static class Builder {
+
+		private String monitorQueue;
+		private int batchSize = 100;
+		private Duration flushInterval = Duration.ofMillis(10);
+		private int queueSize = 10_000;
+		private Duration earlyResultTtl = Duration.ofMinutes(1);
+
+		/**
+		 * @param monitorQueue name of monitoring queue of EVER-SDK, unique name by default
+		 * @return instance of builder
+		 */
+		public Builder setMonitorQueue(String monitorQueue) {
+			this.monitorQueue = monitorQueue;
+			return this;
+		}
+
+		/**
+		 * @param batchSize max number of messages in one sendMessages call, 100 by default
+		 * @return instance of builder
+		 */
+		public Builder setBatchSize(int batchSize) {
+			if (batchSize < 1) {
+				throw new IllegalArgumentException("Batch size should be positive, got: " + batchSize);
+			}
+			this.batchSize = batchSize;
+			return this;
+		}
+
+		/**
+		 * @param flushInterval how long message can wait in queue for a full batch, 10 ms by default
+		 * @return instance of builder
+		 */
+		public Builder setFlushInterval(Duration flushInterval) {
+			this.flushInterval = flushInterval;
+			return this;
+		}
+
+		/**
+		 * @param queueSize max number of messages waiting to be sent, messages over it are rejected, 10000 by default
+		 * @return instance of builder
+		 */
+		public Builder setQueueSize(int queueSize) {
+			this.queueSize = queueSize;
+			return this;
+		}
+
+		/**
+		 * @param earlyResultTtl how long monitoring result waits for registration of its message, 1 minute by default
+		 * @return instance of builder
+		 */
+		public Builder setEarlyResultTtl(Duration earlyResultTtl) {
+			this.earlyResultTtl = earlyResultTtl;
+			return this;
+		}
+
+		/**
+		 * @param ctx context of monitoring queue, pool is bound to one of its contexts by name of queue
+		 */
+		public MessageSender build(EverSdkInvoker ctx) {
+			return new MessageSender(this, ctx);
+		}
+	}
+
+	private record Outgoing(Processing.MessageSendingParams message,
+	                        CompletableFuture<Processing.MessageMonitoringResult> result) {
+	}
+
+	private record Early(Processing.MessageMonitoringResult result, long fetchedNanos) {
+	}
+}
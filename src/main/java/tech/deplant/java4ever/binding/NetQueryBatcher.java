@@ -0,0 +1,294 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Invoker that gathers single collection queries into Net.batchQuery, other calls are passed to primary invoker as is.
+ * <p>
+ * Net.queryCollection, Net.aggregateCollection and Net.queryCounterparties calls made within a short window
+ * are sent as one "net.batch_query" call, and its results are split back to callers. Batch is sent when
+ * window ends or when it reaches max size. If batch fails, its queries are sent one by one, so failure
+ * of one query doesn't fail the others.
+ * <p>
+ * Net.query with GraphQL text is not batched, batch_query accepts only collection operations.
+ * Net.waitForCollection is not batched either, as it would hold the whole batch until it's answered.
+ */
+public final class NetQueryBatcher implements EverSdkInvoker {
+
+	private final static System.Logger logger = System.getLogger(NetQueryBatcher.class.getName());
+
+	/**
+	 * Functions that are batched, mapped to result field of their result records
+	 */
+	private static final Map<String, String> RESULT_FIELDS = Map.of("net.query_collection", "result",
+	                                                                "net.aggregate_collection", "values",
+	                                                                "net.query_counterparties", "result");
+
+	private final EverSdkInvoker primary;
+	private final long windowNanos;
+	private final int maxBatchSize;
+	private final ObjectMapper mapper;
+
+	private final LongAdder batches = new LongAdder();
+	private final LongAdder batched = new LongAdder();
+
+	// guarded by this
+	private List<Query<?>> pending = new ArrayList<>();
+
+	private NetQueryBatcher(Builder builder, EverSdkInvoker primary) {
+		this.primary = primary;
+		this.windowNanos = builder.window.toNanos();
+		this.maxBatchSize = builder.maxBatchSize;
+		this.mapper = builder.mapper;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @return number of batch_query calls sent
+	 */
+	public long batches() {
+		return this.batches.sum();
+	}
+
+	/**
+	 * @return number of queries sent inside batches
+	 */
+	public long batched() {
+		return this.batched.sum();
+	}
+
+	@Override
+	public <T, P> T call(String functionName, P params, Class<T> clazz) throws EverSdkException {
+		if (!isBatched(functionName, params)) {
+			return this.primary.call(functionName, params, clazz);
+		}
+		try {
+			return callAsync(functionName, params, clazz).get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof EverSdkException sdkException) {
+				throw sdkException;
+			}
+			throw new EverSdkException(new EverSdkException.ErrorResult(-500, "EVER-SDK response handling failed!"),
+			                           e.getCause());
+		} catch (InterruptedException e) {
+			throw new EverSdkException(new EverSdkException.ErrorResult(-400, "EVER-SDK call interrupted!"), e);
+		}
+	}
+
+	@Override
+	public <T, P> CompletableFuture<T> callAsync(String functionName, P params, Class<T> clazz) {
+		if (!isBatched(functionName, params)) {
+			return this.primary.callAsync(functionName, params, clazz);
+		}
+		final var query = new Query<>(functionName, (Net.ParamsOfQueryOperation) params, clazz);
+		final List<Query<?>> full;
+		final boolean first;
+		synchronized (this) {
+			first = this.pending.isEmpty();
+			this.pending.add(query);
+			if (this.pending.size() >= this.maxBatchSize) {
+				full = this.pending;
+				this.pending = new ArrayList<>();
+			} else {
+				full = null;
+			}
+		}
+		if (full != null) {
+			send(full);
+		} else if (first) {
+			CompletableFuture.delayedExecutor(this.windowNanos, TimeUnit.NANOSECONDS).execute(this::flush);
+		}
+		return query.result;
+	}
+
+	@Override
+	public <T, P> T callEvent(String functionName,
+	                          P params,
+	                          Consumer<CallbackHandler> consumer,
+	                          Class<T> clazz) throws EverSdkException {
+		return this.primary.callEvent(functionName, params, consumer, clazz);
+	}
+
+	@Override
+	public <T, P, A> T callAppObject(String functionName,
+	                                 P params,
+	                                 A appObject,
+	                                 Class<T> clazz) throws EverSdkException {
+		return this.primary.callAppObject(functionName, params, appObject, clazz);
+	}
+
+	@Override
+	public <P> void callVoid(String functionName, P params) throws EverSdkException {
+		this.primary.callVoid(functionName, params);
+	}
+
+	@Override
+	public <T, P> T callSync(String functionName, P params, Class<T> clazz) throws EverSdkException {
+		return this.primary.callSync(functionName, params, clazz);
+	}
+
+	@Override
+	public <P> void callSyncVoid(String functionName, P params) throws EverSdkException {
+		this.primary.callSyncVoid(functionName, params);
+	}
+
+	@Override
+	public <T, P> CompletableFuture<T> callEventAsync(String functionName,
+	                                                  P params,
+	                                                  Consumer<CallbackHandler> consumer,
+	                                                  Class<T> clazz) {
+		return this.primary.callEventAsync(functionName, params, consumer, clazz);
+	}
+
+	@Override
+	public <T, P, A> CompletableFuture<T> callAppObjectAsync(String functionName,
+	                                                         P params,
+	                                                         A appObject,
+	                                                         Class<T> clazz) {
+		return this.primary.callAppObjectAsync(functionName, params, appObject, clazz);
+	}
+
+	@Override
+	public <P> CompletableFuture<Void> callVoidAsync(String functionName, P params) {
+		return this.primary.callVoidAsync(functionName, params);
+	}
+
+	/**
+	 * Sends queries gathered in window, if batch was not sent already by size
+	 */
+	private void flush() {
+		final List<Query<?>> batch;
+		synchronized (this) {
+			if (this.pending.isEmpty()) {
+				return;
+			}
+			batch = this.pending;
+			this.pending = new ArrayList<>();
+		}
+		send(batch);
+	}
+
+	private void send(List<Query<?>> batch) {
+		if (batch.size() == 1) {
+			batch.get(0).sendAlone();
+			return;
+		}
+		this.batches.increment();
+		this.batched.add(batch.size());
+		final var operations = batch.stream().map(query -> query.params).toArray(Net.ParamsOfQueryOperation[]::new);
+		Net.batchQueryAsync(this.primary, operations).whenComplete((result, e) -> {
+			if (e == null && result.results() != null && result.results().length == batch.size()) {
+				for (int i = 0; i < batch.size(); i++) {
+					batch.get(i).complete(result.results()[i]);
+				}
+			} else {
+				logger.log(System.Logger.Level.DEBUG,
+				           () -> "Batch of " + batch.size() + " queries failed, sending them one by one. ERR:" + e);
+				batch.forEach(Query::sendAlone);
+			}
+		});
+	}
+
+	private boolean isBatched(String functionName, Object params) {
+		return RESULT_FIELDS.containsKey(functionName) && params instanceof Net.ParamsOfQueryOperation;
+	}
+
+	/**
+	 * Builder of batcher
+	 */
+	public static class Builder {
+
+		private Duration window = Duration.ofMillis(2);
+		private int maxBatchSize = 50;
+		private ObjectMapper mapper = JsonContext.SDK_JSON_MAPPER();
+
+		/**
+		 * @param window how long the first query of batch waits for others, 2 ms by default
+		 * @return instance of builder
+		 */
+		public Builder setWindow(Duration window) {
+			this.window = window;
+			return this;
+		}
+
+		/**
+		 * @param maxBatchSize batch is sent right away when it has this many queries, 50 by default
+		 * @return instance of builder
+		 */
+		public Builder setMaxBatchSize(int maxBatchSize) {
+			if (maxBatchSize < 1) {
+				throw new IllegalArgumentException("Batch size should be positive, got: " + maxBatchSize);
+			}
+			this.maxBatchSize = maxBatchSize;
+			return this;
+		}
+
+		public Builder setMapper(ObjectMapper mapper) {
+			this.mapper = mapper;
+			return this;
+		}
+
+		public NetQueryBatcher build(EverSdkInvoker primary) {
+			return new NetQueryBatcher(this, primary);
+		}
+	}
+
+	/**
+	 * Single query of caller waiting in batch
+	 */
+	private final class Query<T> {
+
+		private final String functionName;
+		private final Net.ParamsOfQueryOperation params;
+		private final Class<T> clazz;
+		private final CompletableFuture<T> result = new CompletableFuture<>();
+
+		private Query(String functionName, Net.ParamsOfQueryOperation params, Class<T> clazz) {
+			this.functionName = functionName;
+			this.params = params;
+			this.clazz = clazz;
+		}
+
+		/**
+		 * Wraps result of batch operation into result record of function
+		 */
+		private void complete(JsonNode operationResult) {
+			final var mapper = NetQueryBatcher.this.mapper;
+			try {
+				this.result.complete(mapper.treeToValue(mapper.createObjectNode()
+				                                              .set(RESULT_FIELDS.get(this.functionName), operationResult),
+				                                        this.clazz));
+			} catch (JsonProcessingException | IllegalArgumentException e) {
+				this.result.completeExceptionally(new EverSdkException(new EverSdkException.ErrorResult(-500,
+				                                                                                       "Batch query result deserialization failed!"),
+				                                                       e));
+			}
+		}
+
+		private void sendAlone() {
+			NetQueryBatcher.this.primary.callAsync(this.functionName, this.params, this.clazz)
+			                            .whenComplete((value, e) -> {
+				                            if (e != null) {
+					                            this.result.completeExceptionally(e);
+				                            } else {
+					                            this.result.complete(value);
+				                            }
+			                            });
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package tech.deplant.java4ever.binding;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Splits batch of items into contiguous chunks that are processed in parallel
+ */
+final class ParallelChunks {
+
+	private ParallelChunks() {
+	}
+
+	/**
+	 * Runs work of every chunk on executor and waits for all of them. Unchecked exception of chunk
+	 * is rethrown as is, not wrapped into {@link CompletionException}.
+	 *
+	 * @param size        number of items
+	 * @param parallelism max number of chunks
+	 * @param work        processes items from start (inclusive) to end (exclusive)
+	 */
+	static void run(int size, int parallelism, Executor executor, ChunkWork work) {
+		final int chunk = Math.max(1, (size + parallelism - 1) / parallelism);
+		final var chunks = new ArrayList<CompletableFuture<Void>>();
+		for (int from = 0; from < size; from += chunk) {
+			final int start = from;
+			final int end = Math.min(size, from + chunk);
+			chunks.add(CompletableFuture.runAsync(() -> work.run(start, end), executor));
+		}
+		try {
+			CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			} else if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * @return error of batch item that failed with unchecked exception
+	 */
+	static EverSdkException itemFailure(RuntimeException e) {
+		return new EverSdkException(new EverSdkException.ErrorResult(-500, "Batch item failed! " + e.getMessage()), e);
+	}
+
+	@FunctionalInterface
+	interface ChunkWork {
+		void run(int start, int end);
+	}
+}
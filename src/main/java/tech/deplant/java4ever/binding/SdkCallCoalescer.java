@@ -0,0 +1,121 @@
+package tech.deplant.java4ever.binding;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight coalescing of identical calls. While call of a function with some params is in flight,
+ * identical calls don't reach EVER-SDK, they wait for the same response and receive the same parsed result.
+ * <p>
+ * Only read-only functions should be coalesced, as callers share one result object,
+ * and they must not modify it (for example JsonNode parts of result).
+ */
+public final class SdkCallCoalescer {
+
+	/**
+	 * Functions of EVER-SDK that only read data from network
+	 */
+	public static final Set<String> READ_ONLY_FUNCTIONS = Set.of("net.query",
+	                                                             "net.query_collection",
+	                                                             "net.aggregate_collection",
+	                                                             "net.batch_query",
+	                                                             "net.query_counterparties",
+	                                                             "net.query_transaction_tree",
+	                                                             "net.get_endpoints",
+	                                                             "net.get_signature_id");
+
+	private static final SdkCallCoalescer DISABLED = new SdkCallCoalescer(Set.of());
+
+	private final Set<String> functions;
+	private final Map<Key, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder coalesced = new LongAdder();
+
+	private SdkCallCoalescer(Set<String> functions) {
+		this.functions = functions;
+	}
+
+	public static SdkCallCoalescer disabled() {
+		return DISABLED;
+	}
+
+	/**
+	 * Coalesces calls of {@link #READ_ONLY_FUNCTIONS}
+	 */
+	public static SdkCallCoalescer readOnly() {
+		return of(READ_ONLY_FUNCTIONS);
+	}
+
+	/**
+	 * @param functions EVER-SDK function names, for example "net.query_collection"
+	 */
+	public static SdkCallCoalescer of(Set<String> functions) {
+		return new SdkCallCoalescer(Set.copyOf(functions));
+	}
+
+	public boolean isDisabled() {
+		return this.functions.isEmpty();
+	}
+
+	public boolean isCoalesced(String functionName) {
+		return this.functions.contains(functionName);
+	}
+
+	/**
+	 * @return number of calls that were answered by response of identical call
+	 */
+	public long coalesced() {
+		return this.coalesced.sum();
+	}
+
+	/**
+	 * @return number of distinct calls in flight
+	 */
+	public int inFlight() {
+		return this.inFlight.size();
+	}
+
+	/**
+	 * Returns result of identical call in flight or starts a new one.
+	 * Every caller receives its own future, so cancellation by one caller doesn't affect others.
+	 *
+	 * @param functionName EVER-SDK function name
+	 * @param params       canonical JSON of params
+	 * @param resultClass  class of result, calls with different result types are not shared
+	 * @param call         sends the call to EVER-SDK
+	 */
+	@SuppressWarnings("unchecked")
+	<T> CompletableFuture<T> coalesce(String functionName,
+	                                  String params,
+	                                  Class<T> resultClass,
+	                                  Supplier<CompletableFuture<T>> call) {
+		final var key = new Key(functionName, params, resultClass);
+		final var shared = new CompletableFuture<T>();
+		final var existing = (CompletableFuture<T>) this.inFlight.putIfAbsent(key, shared);
+		if (existing != null) {
+			this.coalesced.increment();
+			return existing.copy();
+		}
+		try {
+			call.get().whenComplete((result, e) -> {
+				// key is removed before completion, so calls made after response start a new request
+				this.inFlight.remove(key, shared);
+				if (e != null) {
+					shared.completeExceptionally(e);
+				} else {
+					shared.complete(result);
+				}
+			});
+		} catch (RuntimeException e) {
+			this.inFlight.remove(key, shared);
+			shared.completeExceptionally(e);
+		}
+		return shared.copy();
+	}
+
+	private record Key(String functionName, String params, Class<?> resultClass) {
+	}
+}
@@ -0,0 +1,507 @@
+package tech.deplant.java4ever.binding;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limiter (bulkhead) of EVER-SDK calls of a context.
+ * <p>
+ * Limits can be set for the whole context and for function prefixes, for example "net." or
+ * "net.query_collection". Call takes a permit of the longest matching prefix and a permit of context,
+ * calls above limit wait in bounded queue. When queue is full, call fails with {@link #REJECTED} code,
+ * when call waits longer than max wait, it fails with {@link #QUEUE_TIMEOUT} code.
+ * <p>
+ * Waiting calls are ordered by {@link SdkCallPriority}, set by caller (see {@link EverSdkContext#withPriority})
+ * or by function prefix. Every class below {@link SdkCallPriority#INTERACTIVE} waits one aging step
+ * more than the class above it, so calls of lower priority get permit after they waited long enough.
+ * <p>
+ * In adaptive mode limit of every partition moves between 1 and configured limit. It's reduced when
+ * latency of calls grows over its long-term average and grows back while latency stays flat.
+ */
+public final class SdkCallLimiter {
+
+	/**
+	 * Error code of call rejected because queue of limiter is full
+	 */
+	public static final long REJECTED = -403;
+	/**
+	 * Error code of call that waited for permit longer than max wait
+	 */
+	public static final long QUEUE_TIMEOUT = -404;
+
+	private final static System.Logger logger = System.getLogger(SdkCallLimiter.class.getName());
+
+	private static final SdkCallLimiter UNLIMITED = new SdkCallLimiter(null, new Partition[0], new PriorityRule[0]);
+	// timeouts of queued calls, cancelled timeouts are removed right away, so granted waiters are not held
+	private static final ScheduledThreadPoolExecutor TIMEOUTS = timeoutScheduler();
+	private static final CompletableFuture<Permit> NO_PERMIT = CompletableFuture.completedFuture(new Permit(null,
+	                                                                                                       null));
+
+	private final Partition context;
+	// sorted from the longest prefix, so the first match is the most specific
+	private final Partition[] prefixes;
+	// sorted from the longest prefix too
+	private final PriorityRule[] priorities;
+
+	private SdkCallLimiter(Partition context, Partition[] prefixes, PriorityRule[] priorities) {
+		this.context = context;
+		this.prefixes = prefixes;
+		this.priorities = priorities;
+	}
+
+	private static ScheduledThreadPoolExecutor timeoutScheduler() {
+		final var scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+			final var thread = new Thread(runnable, "sdk-limiter-timeouts");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.setRemoveOnCancelPolicy(true);
+		return scheduler;
+	}
+
+	/**
+	 * Limiter that doesn't limit anything, default for contexts
+	 */
+	public static SdkCallLimiter unlimited() {
+		return UNLIMITED;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public boolean isUnlimited() {
+		return this.context == null && this.prefixes.length == 0;
+	}
+
+	/**
+	 * @return state of every limit at the moment of call, context limit has empty prefix
+	 */
+	public List<PartitionStats> stats() {
+		final var stats = new ArrayList<PartitionStats>(this.prefixes.length + 1);
+		if (this.context != null) {
+			stats.add(this.context.stats());
+		}
+		for (Partition partition : this.prefixes) {
+			stats.add(partition.stats());
+		}
+		return stats;
+	}
+
+	/**
+	 * @return priority of function calls that don't set it explicitly
+	 */
+	public SdkCallPriority priority(String functionName) {
+		for (PriorityRule rule : this.priorities) {
+			if (functionName.startsWith(rule.prefix())) {
+				return rule.priority();
+			}
+		}
+		return SdkCallPriority.NORMAL;
+	}
+
+	/**
+	 * Takes permits for a call, returned future completes when call can be sent
+	 *
+	 * @param priority priority of call, null to use priority of function
+	 */
+	CompletableFuture<Permit> acquire(String functionName, SdkCallPriority priority) {
+		if (isUnlimited()) {
+			return NO_PERMIT;
+		}
+		final var callPriority = priority == null ? priority(functionName) : priority;
+		final Partition prefix = partition(functionName);
+		if (prefix == null) {
+			return this.context.acquire(callPriority).thenApply(context -> new Permit(context, null));
+		}
+		if (this.context == null) {
+			return prefix.acquire(callPriority).thenApply(partition -> new Permit(partition, null));
+		}
+		return prefix.acquire(callPriority).thenCompose(partition -> this.context.acquire(callPriority).handle((context, e) -> {
+			if (e != null) {
+				partition.release(-1L);
+				throw e instanceof CompletionException completion ? completion : new CompletionException(e);
+			}
+			return new Permit(partition, context);
+		}));
+	}
+
+	/**
+	 * Takes permits for a call, waiting on calling thread
+	 */
+	Permit acquireBlocking(String functionName, SdkCallPriority priority) throws EverSdkException {
+		final var permit = acquire(functionName, priority);
+		try {
+			return permit.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof EverSdkException sdkException) {
+				throw sdkException;
+			}
+			throw new EverSdkException(new EverSdkException.ErrorResult(REJECTED, "Limiter failed!"), e.getCause());
+		} catch (InterruptedException e) {
+			// permit can still be granted, it's returned right away then
+			permit.thenAccept(Permit::release);
+			throw new EverSdkException(new EverSdkException.ErrorResult(-400, "EVER-SDK call interrupted!"), e);
+		}
+	}
+
+	private Partition partition(String functionName) {
+		for (Partition partition : this.prefixes) {
+			if (functionName.startsWith(partition.prefix)) {
+				return partition;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * State of a single limit
+	 *
+	 * @param prefix   function prefix, empty for context limit
+	 * @param limit    current limit, lower than configured one if adaptive limiting reduced it
+	 * @param inFlight calls that hold permit
+	 * @param queued   calls waiting for permit
+	 * @param rejected calls rejected because queue was full
+	 * @param timedOut calls that didn't get permit in max wait time
+	 * @param latency  long-term average latency of calls
+	 */
+	public record PartitionStats(String prefix,
+	                             int limit,
+	                             int inFlight,
+	                             int queued,
+	                             long rejected,
+	                             long timedOut,
+	                             Duration latency) {
+	}
+
+	private record PriorityRule(String prefix, SdkCallPriority priority) {
+		private static final Comparator<PriorityRule> LONGEST_PREFIX_FIRST =
+				Comparator.comparingInt((PriorityRule rule) -> rule.prefix().length()).reversed();
+	}
+
+	/**
+	 * Permits of one call, released when call is finished
+	 */
+	static final class Permit {
+
+		private final Partition first;
+		private final Partition second;
+		private final long startNanos = System.nanoTime();
+
+		private Permit(Partition first, Partition second) {
+			this.first = first;
+			this.second = second;
+		}
+
+		void release() {
+			if (this.first == null) {
+				return;
+			}
+			final long latency = System.nanoTime() - this.startNanos;
+			this.first.release(latency);
+			if (this.second != null) {
+				this.second.release(latency);
+			}
+		}
+	}
+
+	/**
+	 * Builder of limiter. Every context receives its own limiter built from it.
+	 */
+	public static class Builder {
+
+		private final Map<String, Integer> prefixLimits = new LinkedHashMap<>();
+		private final Map<String, SdkCallPriority> prefixPriorities = new LinkedHashMap<>();
+		private int contextLimit = 0;
+		private int queueSize = 1024;
+		private Duration maxWait = Duration.ofSeconds(30);
+		private Duration priorityAging = Duration.ofSeconds(1);
+		private boolean adaptive = false;
+
+		/**
+		 * @param limit max number of calls of context in flight
+		 * @return instance of builder
+		 */
+		public Builder setLimit(int limit) {
+			this.contextLimit = checkLimit(limit);
+			return this;
+		}
+
+		/**
+		 * @param prefix function prefix, for example "net." for all network calls or "processing.send_message"
+		 * @param limit  max number of calls with this prefix in flight
+		 * @return instance of builder
+		 */
+		public Builder setLimit(String prefix, int limit) {
+			this.prefixLimits.put(prefix, checkLimit(limit));
+			return this;
+		}
+
+		/**
+		 * @param queueSize max number of calls that wait for permit of every limit, 1024 by default
+		 * @return instance of builder
+		 */
+		public Builder setQueueSize(int queueSize) {
+			this.queueSize = queueSize;
+			return this;
+		}
+
+		/**
+		 * @param maxWait how long call can wait for permit, 30 seconds by default
+		 * @return instance of builder
+		 */
+		public Builder setMaxWait(Duration maxWait) {
+			this.maxWait = maxWait;
+			return this;
+		}
+
+		/**
+		 * @param prefix   function prefix, for example "net.iterator_next"
+		 * @param priority priority of calls with this prefix when caller doesn't set it, others are {@link SdkCallPriority#NORMAL}
+		 * @return instance of builder
+		 */
+		public Builder setPriority(String prefix, SdkCallPriority priority) {
+			this.prefixPriorities.put(prefix, priority);
+			return this;
+		}
+
+		/**
+		 * @param priorityAging how long call of lower priority class waits more than call of the class above it,
+		 *                      1 second by default. Lower values protect low priority calls from starvation better,
+		 *                      higher values let interactive calls jump further ahead.
+		 * @return instance of builder
+		 */
+		public Builder setPriorityAging(Duration priorityAging) {
+			this.priorityAging = priorityAging;
+			return this;
+		}
+
+		/**
+		 * @param adaptive true to lower limits when latency of calls grows
+		 * @return instance of builder
+		 */
+		public Builder setAdaptive(boolean adaptive) {
+			this.adaptive = adaptive;
+			return this;
+		}
+
+		public SdkCallLimiter build() {
+			final Partition context = this.contextLimit > 0 ? partition("", this.contextLimit) : null;
+			final Partition[] prefixes = this.prefixLimits.entrySet()
+			                                              .stream()
+			                                              .map(entry -> partition(entry.getKey(), entry.getValue()))
+			                                              .sorted(Comparator.comparingInt((Partition p) -> p.prefix.length())
+			                                                                .reversed())
+			                                              .toArray(Partition[]::new);
+			if (context == null && prefixes.length == 0) {
+				return UNLIMITED;
+			}
+			final PriorityRule[] priorities = this.prefixPriorities.entrySet()
+			                                                       .stream()
+			                                                       .map(entry -> new PriorityRule(entry.getKey(),
+			                                                                                      entry.getValue()))
+			                                                       .sorted(PriorityRule.LONGEST_PREFIX_FIRST)
+			                                                       .toArray(PriorityRule[]::new);
+			return new SdkCallLimiter(context, prefixes, priorities);
+		}
+
+		private Partition partition(String prefix, int limit) {
+			return new Partition(prefix,
+			                     limit,
+			                     this.queueSize,
+			                     this.maxWait.toNanos(),
+			                     this.priorityAging.toNanos(),
+			                     this.adaptive);
+		}
+
+		private static int checkLimit(int limit) {
+			if (limit < 1) {
+				throw new IllegalArgumentException("Limit should be positive, got: " + limit);
+			}
+			return limit;
+		}
+	}
+
+	/**
+	 * Limit of context or of function prefix
+	 */
+	private static final class Partition {
+
+		private static final double SMOOTHING = 0.2;
+		private static final double TOLERANCE = 1.5;
+
+		private final String prefix;
+		private final int maxLimit;
+		private final int queueSize;
+		private final long maxWaitNanos;
+		private final long agingNanos;
+		private final boolean adaptive;
+		private final CompletableFuture<Partition> granted = CompletableFuture.completedFuture(this);
+		private final ReentrantLock lock = new ReentrantLock();
+		private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+
+		// guarded by lock
+		private long sequence;
+		private double estimatedLimit;
+		private double longLatency;
+		private int inFlight;
+		private long rejected;
+		private long timedOut;
+
+		private volatile int limit;
+
+		private Partition(String prefix,
+		                  int limit,
+		                  int queueSize,
+		                  long maxWaitNanos,
+		                  long agingNanos,
+		                  boolean adaptive) {
+			this.prefix = prefix;
+			this.maxLimit = limit;
+			this.limit = limit;
+			this.estimatedLimit = limit;
+			this.queueSize = queueSize;
+			this.maxWaitNanos = maxWaitNanos;
+			this.agingNanos = agingNanos;
+			this.adaptive = adaptive;
+		}
+
+		private CompletableFuture<Partition> acquire(SdkCallPriority priority) {
+			final var future = new CompletableFuture<Partition>();
+			final Waiter waiter;
+			this.lock.lock();
+			try {
+				if (this.inFlight < this.limit && this.waiters.isEmpty()) {
+					this.inFlight++;
+					return this.granted;
+				}
+				if (this.waiters.size() >= this.queueSize) {
+					this.rejected++;
+					return CompletableFuture.failedFuture(new EverSdkException(new EverSdkException.ErrorResult(
+							REJECTED,
+							"EVER-SDK call rejected, limiter queue is full! Prefix: '" + this.prefix + "', limit: " +
+							this.limit)));
+				}
+				waiter = new Waiter(future,
+				                    System.nanoTime() + priority.ordinal() * this.agingNanos,
+				                    this.sequence++);
+				this.waiters.add(waiter);
+			} finally {
+				this.lock.unlock();
+			}
+			final ScheduledFuture<?> timeout = TIMEOUTS.schedule(() -> {
+				if (future.completeExceptionally(new EverSdkException(new EverSdkException.ErrorResult(
+						QUEUE_TIMEOUT,
+						"EVER-SDK call waited for limiter permit too long! Prefix: '" + this.prefix + "'")))) {
+					this.lock.lock();
+					try {
+						this.waiters.remove(waiter);
+						this.timedOut++;
+					} finally {
+						this.lock.unlock();
+					}
+				}
+			}, this.maxWaitNanos, TimeUnit.NANOSECONDS);
+			// granted or cancelled waiter doesn't need its timeout anymore
+			future.whenComplete((partition, e) -> timeout.cancel(false));
+			return future;
+		}
+
+		/**
+		 * @param latencyNanos latency of finished call, negative if permit was not used
+		 */
+		private void release(long latencyNanos) {
+			final var grants = new ArrayList<CompletableFuture<Partition>>();
+			this.lock.lock();
+			try {
+				this.inFlight--;
+				if (this.adaptive && latencyNanos >= 0) {
+					adapt(latencyNanos);
+				}
+				while (this.inFlight < this.limit && !this.waiters.isEmpty()) {
+					final var waiter = this.waiters.poll().future();
+					if (!waiter.isDone()) {
+						this.inFlight++;
+						grants.add(waiter);
+					}
+				}
+			} finally {
+				this.lock.unlock();
+			}
+			for (var waiter : grants) {
+				// waiter could time out or be cancelled after it was polled
+				if (!waiter.complete(this)) {
+					release(-1L);
+				}
+			}
+		}
+
+		/**
+		 * Gradient of long-term to current latency moves the limit, so it's lowered when calls slow down
+		 * and grows by square root of limit while latency is flat
+		 */
+		private void adapt(long latencyNanos) {
+			if (this.longLatency == 0) {
+				this.longLatency = latencyNanos;
+				return;
+			}
+			this.longLatency = this.longLatency * 0.99 + latencyNanos * 0.01;
+			// recover faster after latency drop, so old slow samples don't hold the limit low
+			if (this.longLatency > 2.0 * latencyNanos) {
+				this.longLatency *= 0.95;
+			}
+			final double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * this.longLatency / latencyNanos));
+			final double targetLimit = this.estimatedLimit * gradient + Math.sqrt(this.estimatedLimit);
+			this.estimatedLimit = Math.max(1.0,
+			                               Math.min(this.maxLimit,
+			                                        this.estimatedLimit * (1 - SMOOTHING) + targetLimit * SMOOTHING));
+			final int oldLimit = this.limit;
+			final int newLimit = (int) this.estimatedLimit;
+			if (newLimit != oldLimit) {
+				logger.log(System.Logger.Level.DEBUG,
+				           () -> "Limit of '" + this.prefix + "' changed: " + oldLimit + " -> " + newLimit);
+				this.limit = newLimit;
+			}
+		}
+
+		private PartitionStats stats() {
+			this.lock.lock();
+			try {
+				return new PartitionStats(this.prefix,
+				                          this.limit,
+				                          this.inFlight,
+				                          this.waiters.size(),
+				                          this.rejected,
+				                          this.timedOut,
+				                          Duration.ofNanos((long) this.longLatency));
+			} finally {
+				this.lock.unlock();
+			}
+		}
+
+		/**
+		 * Waiting call, ordered by the moment it should get permit: time it started waiting plus aging steps
+		 * of its priority. Order of waiters doesn't change over time, and waiters of the same priority are FIFO.
+		 */
+		private record Waiter(CompletableFuture<Partition> future, long dueNanos, long sequence) implements Comparable<Waiter> {
+
+			@Override
+			public int compareTo(Waiter other) {
+				final int byDue = Long.compare(this.dueNanos - other.dueNanos, 0L);
+				return byDue != 0 ? byDue : Long.compare(this.sequence, other.sequence);
+			}
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package tech.deplant.java4ever.binding;
+
+/**
+ * Priority class of EVER-SDK call. Priorities order calls that wait for permit of {@link SdkCallLimiter},
+ * so they take effect only when context has limits and is saturated.
+ * <p>
+ * Waiting calls age, so lower priority calls are not starved by constant flow of higher priority ones,
+ * see {@link SdkCallLimiter.Builder#setPriorityAging(java.time.Duration)}.
+ */
+public enum SdkCallPriority {
+	/**
+	 * Latency-critical calls, for example Processing.sendMessage or Tvm.runTvm
+	 */
+	INTERACTIVE,
+	/**
+	 * Default priority of calls
+	 */
+	NORMAL,
+	/**
+	 * Background work, for example Net.iteratorNext or bulk Net.queryCollection
+	 */
+	BULK
+}
@@ -0,0 +1,107 @@
+package tech.deplant.java4ever.binding;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Timeouts of context calls. Timeout is chosen by the longest function prefix with override,
+ * for example "net." or "processing.wait_for_transaction", other calls use default timeout of context.
+ * <p>
+ * In adaptive mode timeout of function is p99 of its recent latencies multiplied by a factor,
+ * but not lower than min timeout and not higher than configured one, so stuck calls fail
+ * long before configured timeout. Adaptive timeout is used after function has enough samples.
+ * <p>
+ * Local functions of Crypto, Abi, Boc and Utils are called synchronously (tc_request_sync), which can't
+ * be interrupted, so they have no timeout of context. Local function that matches override, for example
+ * "crypto." or "abi.decode_message", is sent as async request (tc_request) instead, so its override and
+ * adaptive timeout apply to it like to network functions.
+ */
+public final class SdkTimeoutPolicy {
+
+	private final long defaultTimeout;
+	private final TimeoutOverride[] overrides;
+	private final boolean adaptive;
+	private final double multiplier;
+	private final long minTimeout;
+	private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+	SdkTimeoutPolicy(long defaultTimeout, Map<String, Long> overrides, boolean adaptive, double multiplier, long minTimeout) {
+		this.defaultTimeout = defaultTimeout;
+		this.overrides = overrides.entrySet()
+		                          .stream()
+		                          .map(entry -> new TimeoutOverride(entry.getKey(), entry.getValue()))
+		                          .sorted(Comparator.comparingInt((TimeoutOverride o) -> o.prefix().length()).reversed())
+		                          .toArray(TimeoutOverride[]::new);
+		this.adaptive = adaptive;
+		this.multiplier = multiplier;
+		this.minTimeout = minTimeout;
+	}
+
+	/**
+	 * Policy with the same timeout for all functions
+	 *
+	 * @param timeout timeout in milliseconds
+	 */
+	public static SdkTimeoutPolicy fixed(long timeout) {
+		return new SdkTimeoutPolicy(timeout, Map.of(), false, 1.0, 0L);
+	}
+
+	/**
+	 * @return timeout of function in milliseconds
+	 */
+	public long timeout(String functionName) {
+		final long configured = configuredTimeout(functionName);
+		if (!this.adaptive) {
+			return configured;
+		}
+		final var window = this.latencies.get(functionName);
+		if (window == null || window.quantileNanos() < 0) {
+			return configured;
+		}
+		final long adaptiveTimeout = (long) (window.quantileNanos() * this.multiplier / 1_000_000);
+		return Math.min(configured, Math.max(this.minTimeout, adaptiveTimeout));
+	}
+
+	/**
+	 * @return true if function matches one of overrides
+	 */
+	public boolean hasOverride(String functionName) {
+		for (var override : this.overrides) {
+			if (functionName.startsWith(override.prefix())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return p99 of recent latencies of function, null if it's not known yet or policy is not adaptive
+	 */
+	public Duration p99(String functionName) {
+		final var window = this.latencies.get(functionName);
+		return window == null || window.quantileNanos() < 0 ? null : Duration.ofNanos(window.quantileNanos());
+	}
+
+	/**
+	 * Records latency of answered call, timed out calls are not recorded
+	 */
+	void record(String functionName, long latencyNanos) {
+		if (this.adaptive) {
+			this.latencies.computeIfAbsent(functionName, name -> new LatencyWindow(0.99)).record(latencyNanos);
+		}
+	}
+
+	private long configuredTimeout(String functionName) {
+		for (var override : this.overrides) {
+			if (functionName.startsWith(override.prefix())) {
+				return override.timeout();
+			}
+		}
+		return this.defaultTimeout;
+	}
+
+	private record TimeoutOverride(String prefix, long timeout) {
+	}
+}
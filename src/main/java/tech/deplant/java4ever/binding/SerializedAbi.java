@@ -0,0 +1,86 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * ABI that is serialized to JSON once. When it's used as "abi" component of params, its JSON is
+ * written to request as is, so calls with the same big contract ABI don't serialize it again.
+ */
+public final class SerializedAbi implements JsonSerializable {
+
+	private final static System.Logger logger = System.getLogger(SerializedAbi.class.getName());
+
+	private final String json;
+
+	private SerializedAbi(String json) {
+		this.json = json;
+	}
+
+	/**
+	 * @param contract contract ABI, serialized as {@link Abi.ABI.Contract}
+	 */
+	public static SerializedAbi of(Abi.AbiContract contract) throws EverSdkException {
+		return of(new Abi.ABI.Contract(contract), JsonContext.SDK_JSON_MAPPER());
+	}
+
+	public static SerializedAbi of(Abi.ABI abi) throws EverSdkException {
+		return of(abi, JsonContext.SDK_JSON_MAPPER());
+	}
+
+	public static SerializedAbi of(Abi.ABI abi, ObjectMapper mapper) throws EverSdkException {
+		try {
+			return new SerializedAbi(mapper.writeValueAsString(abi));
+		} catch (JsonProcessingException e) {
+			logger.log(System.Logger.Level.ERROR, () -> "ABI serialization failed!" + e.getMessage());
+			throw new EverSdkException(new EverSdkException.ErrorResult(-501, "ABI serialization failed!"), e);
+		}
+	}
+
+	/**
+	 * @param json JSON of Abi.ABI, it's not checked
+	 */
+	static SerializedAbi ofJson(String json) {
+		return new SerializedAbi(json);
+	}
+
+	/**
+	 * @return JSON of Abi.ABI, for example {"type":"Contract","value":{...}}
+	 */
+	public String json() {
+		return this.json;
+	}
+
+	@Override
+	public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		gen.writeRawValue(this.json);
+	}
+
+	@Override
+	public void serializeWithType(JsonGenerator gen,
+	                              SerializerProvider serializers,
+	                              TypeSerializer typeSer) throws IOException {
+		serialize(gen, serializers);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return this == o || (o instanceof SerializedAbi other && this.json.equals(other.json));
+	}
+
+	@Override
+	public int hashCode() {
+		return this.json.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "SerializedAbi[" + this.json.length() + " chars]";
+	}
+}
@@ -0,0 +1,374 @@
+package tech.deplant.java4ever.binding;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * {@link Flow.Publisher} of EVER-SDK subscription events (Net.subscribe, Net.subscribeCollection).
+ * <p>
+ * Subscription to EVER-SDK starts asynchronously when subscriber subscribes, its failure is passed to
+ * {@link Flow.Subscriber#onError(Throwable)}. It ends with {@link Net#unsubscribe}
+ * when subscriber cancels or publisher is closed. Events are kept in bounded buffer as raw JSON
+ * and are decoded to requested type only on delivery, on executor thread, so callback threads
+ * of SDK only put events to buffer. What happens when buffer is full is set by {@link Overflow}.
+ * <p>
+ * Publisher is unicast, every publisher accepts a single subscriber. With {@link EverSdkContextPool}
+ * subscription is pinned to {@link EverSdkContextPool#home()} context, where its handle lives.
+ *
+ * @param <T> type of event result, {@link JsonNode} or record that matches subscription projection
+ */
+public final class SubscriptionPublisher<T> implements Flow.Publisher<T>, AutoCloseable {
+
+	private final static System.Logger logger = System.getLogger(SubscriptionPublisher.class.getName());
+
+	private final EverSdkInvoker ctx;
+	private final Starter starter;
+	private final Class<T> eventClass;
+	private final int bufferSize;
+	private final Overflow overflow;
+	private final Executor executor;
+	private final ObjectMapper mapper;
+	private final AtomicBoolean subscribed = new AtomicBoolean();
+	private volatile EventSubscription subscription;
+
+	private SubscriptionPublisher(Builder builder, EverSdkInvoker ctx, Starter starter, Class<T> eventClass) {
+		// subscription handle lives in one native context, so subscribe and unsubscribe go to the same one
+		this.ctx = ctx instanceof EverSdkContextPool pool ? pool.home() : ctx;
+		this.starter = starter;
+		this.eventClass = eventClass;
+		this.bufferSize = builder.bufferSize;
+		this.overflow = builder.overflow;
+		this.executor = builder.executor;
+		this.mapper = builder.mapper;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber) {
+		if (!this.subscribed.compareAndSet(false, true)) {
+			subscriber.onSubscribe(new Flow.Subscription() {
+				@Override
+				public void request(long n) {
+				}
+
+				@Override
+				public void cancel() {
+				}
+			});
+			subscriber.onError(new IllegalStateException("SubscriptionPublisher accepts only one subscriber"));
+			return;
+		}
+		final var events = new EventSubscription(subscriber);
+		this.subscription = events;
+		subscriber.onSubscribe(events);
+		final CompletableFuture<Net.ResultOfSubscribeCollection> started;
+		try {
+			started = this.starter.start(this.ctx, events::offer);
+		} catch (RuntimeException e) {
+			events.fail(e);
+			return;
+		}
+		// subscribe() returns right away, SDK subscription starts in background
+		started.whenComplete((handle, e) -> {
+			if (e != null) {
+				events.fail(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+			} else {
+				events.started(handle);
+			}
+		});
+	}
+
+	/**
+	 * Ends subscription to EVER-SDK and completes subscriber after buffered events are delivered
+	 */
+	@Override
+	public void close() {
+		final var events = this.subscription;
+		if (events != null) {
+			events.complete();
+		}
+	}
+
+	/**
+	 * @return number of events dropped by {@link Overflow#DROP_OLDEST} policy
+	 */
+	public long dropped() {
+		final var events = this.subscription;
+		return events == null ? 0L : events.dropped.sum();
+	}
+
+	/**
+	 * What to do with new event when buffer of subscriber is full
+	 */
+	public enum Overflow {
+		/**
+		 * Oldest buffered event is removed, see {@link #dropped()}
+		 */
+		DROP_OLDEST,
+		/**
+		 * Callback thread waits for free space. With direct callback executor this holds
+		 * native thread of SDK, so use it with {@link tech.deplant.java4ever.binding.ffi.SdkCallbackExecutor#bounded(int, int)}
+		 * or virtual threads.
+		 */
+		BLOCK,
+		/**
+		 * Subscription is cancelled and subscriber receives {@link IllegalStateException}
+		 */
+		ERROR
+	}
+
+	@FunctionalInterface
+	private interface Starter {
+		CompletableFuture<Net.ResultOfSubscribeCollection> start(EverSdkInvoker ctx, Consumer<CallbackHandler> consumer);
+	}
+
+	/**
+	 * Builder of subscription publishers
+	 */
+	public static class Builder {
+
+		private int bufferSize = 256;
+		private Overflow overflow = Overflow.DROP_OLDEST;
+		private Executor executor = ForkJoinPool.commonPool();
+		private ObjectMapper mapper = JsonContext.SDK_JSON_MAPPER();
+
+		/**
+		 * @param bufferSize number of events that can wait for subscriber demand, 256 by default
+		 * @return instance of builder
+		 */
+		public Builder setBufferSize(int bufferSize) {
+			if (bufferSize < 1) {
+				throw new IllegalArgumentException("Buffer size should be positive, got: " + bufferSize);
+			}
+			this.bufferSize = bufferSize;
+			return this;
+		}
+
+		/**
+		 * @param overflow policy for full buffer, {@link Overflow#DROP_OLDEST} by default
+		 * @return instance of builder
+		 */
+		public Builder setOverflow(Overflow overflow) {
+			this.overflow = overflow;
+			return this;
+		}
+
+		/**
+		 * @param executor executor that decodes events and calls subscriber, common ForkJoinPool by default
+		 * @return instance of builder
+		 */
+		public Builder setExecutor(Executor executor) {
+			this.executor = executor;
+			return this;
+		}
+
+		public Builder setMapper(ObjectMapper mapper) {
+			this.mapper = mapper;
+			return this;
+		}
+
+		/**
+		 * Publisher of Net.subscribe events
+		 *
+		 * @param subscription GraphQL subscription text
+		 * @param variables    variables used in subscription
+		 * @param eventClass   class of event result
+		 */
+		public <T> SubscriptionPublisher<T> subscribe(EverSdkInvoker ctx,
+		                                              String subscription,
+		                                              JsonNode variables,
+		                                              Class<T> eventClass) {
+			return new SubscriptionPublisher<>(this,
+			                                   ctx,
+			                                   (pinned, consumer) -> Net.subscribeAsync(pinned, subscription, variables, consumer),
+			                                   eventClass);
+		}
+
+		/**
+		 * Publisher of Net.subscribeCollection events
+		 *
+		 * @param collection collection name (accounts, blocks, transactions, messages, block_signatures)
+		 * @param filter     collection filter
+		 * @param result     projection (result) string
+		 * @param eventClass class of event result
+		 */
+		public <T> SubscriptionPublisher<T> subscribeCollection(EverSdkInvoker ctx,
+		                                                        String collection,
+		                                                        JsonNode filter,
+		                                                        String result,
+		                                                        Class<T> eventClass) {
+			return new SubscriptionPublisher<>(this,
+			                                   ctx,
+			                                   (pinned, consumer) -> Net.subscribeCollectionAsync(pinned,
+			                                                                                      collection,
+			                                                                                      filter,
+			                                                                                      result,
+			                                                                                      consumer),
+			                                   eventClass);
+		}
+	}
+
+	private final class EventSubscription implements Flow.Subscription {
+
+		private final Flow.Subscriber<? super T> subscriber;
+		private final ArrayBlockingQueue<String> buffer;
+		private final AtomicLong demand = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+		private final AtomicBoolean unsubscribed = new AtomicBoolean();
+		private final LongAdder dropped = new LongAdder();
+		private volatile Net.ResultOfSubscribeCollection handle;
+		private volatile boolean cancelled;
+		private volatile boolean done;
+		private volatile Throwable error;
+
+		private EventSubscription(Flow.Subscriber<? super T> subscriber) {
+			this.subscriber = subscriber;
+			this.buffer = new ArrayBlockingQueue<>(SubscriptionPublisher.this.bufferSize);
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				fail(new IllegalArgumentException("Subscriber requested non-positive number of events: " + n));
+				return;
+			}
+			this.demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+			schedule();
+		}
+
+		@Override
+		public void cancel() {
+			this.cancelled = true;
+			unsubscribe();
+			this.buffer.clear();
+		}
+
+		/**
+		 * Called on callback thread of SDK, only buffers raw event
+		 */
+		private void offer(CallbackHandler event) {
+			if (this.cancelled || this.done) {
+				return;
+			}
+			// 101 is an error of subscription, for example connection loss, SDK reconnects by itself
+			if (event.responseType() != 100) {
+				logger.log(System.Logger.Level.WARNING,
+				           () -> "Subscription notification, type: " + event.responseType() + ", " + event.params());
+				return;
+			}
+			switch (SubscriptionPublisher.this.overflow) {
+				case DROP_OLDEST -> {
+					while (!this.buffer.offer(event.params())) {
+						if (this.buffer.poll() != null) {
+							this.dropped.increment();
+						}
+					}
+				}
+				case BLOCK -> {
+					try {
+						this.buffer.put(event.params());
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						return;
+					}
+				}
+				case ERROR -> {
+					if (!this.buffer.offer(event.params())) {
+						fail(new IllegalStateException("Subscription buffer overflow, size: " +
+						                                SubscriptionPublisher.this.bufferSize));
+						return;
+					}
+				}
+			}
+			schedule();
+		}
+
+		private void started(Net.ResultOfSubscribeCollection handle) {
+			this.handle = handle;
+			// subscriber could cancel before SDK returned handle
+			if (this.cancelled || this.done) {
+				unsubscribe();
+			}
+		}
+
+		private void complete() {
+			this.done = true;
+			unsubscribe();
+			schedule();
+		}
+
+		private void fail(Throwable e) {
+			this.error = e;
+			complete();
+		}
+
+		private void unsubscribe() {
+			final var handle = this.handle;
+			if (handle != null && this.unsubscribed.compareAndSet(false, true)) {
+				Net.unsubscribeAsync(SubscriptionPublisher.this.ctx, handle).whenComplete((v, e) -> {
+					if (e != null) {
+						logger.log(System.Logger.Level.WARNING,
+						           () -> "Unsubscribe failed! Handle: " + handle.handle() + " ERR:" + e);
+					}
+				});
+			}
+		}
+
+		private void schedule() {
+			if (this.wip.getAndIncrement() == 0) {
+				SubscriptionPublisher.this.executor.execute(this::drain);
+			}
+		}
+
+		private void drain() {
+			do {
+				while (!this.cancelled && this.demand.get() > 0 && this.error == null) {
+					final String event = this.buffer.poll();
+					if (event == null) {
+						break;
+					}
+					final T item;
+					try {
+						item = decode(event);
+					} catch (JsonProcessingException | IllegalArgumentException e) {
+						fail(e);
+						break;
+					}
+					this.demand.decrementAndGet();
+					this.subscriber.onNext(item);
+				}
+				if (!this.cancelled && this.done && (this.error != null || this.buffer.isEmpty())) {
+					this.cancelled = true;
+					this.buffer.clear();
+					if (this.error != null) {
+						this.subscriber.onError(this.error);
+					} else {
+						this.subscriber.onComplete();
+					}
+				}
+			} while (this.wip.decrementAndGet() > 0);
+		}
+
+		private T decode(String event) throws JsonProcessingException {
+			final var mapper = SubscriptionPublisher.this.mapper;
+			final JsonNode result = mapper.readTree(event).path("result");
+			return mapper.treeToValue(result, SubscriptionPublisher.this.eventClass);
+		}
+	}
+}
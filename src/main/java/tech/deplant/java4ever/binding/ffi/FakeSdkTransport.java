@@ -0,0 +1,338 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import tech.deplant.java4ever.binding.CallbackHandler;
+import tech.deplant.java4ever.binding.loader.LibraryLoader;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * In-process transport that answers requests without ton_client library.
+ * <p>
+ * Requests are still marshalled to native memory and responses are delivered as tc_string_data_t
+ * through {@link SdkResponseDispatcher} from transport threads, so the whole call path of binding
+ * is exercised. Latency, error rate and responses per function name are configurable.
+ * Functions with configured events (subscriptions) send them after result, such requests
+ * stay open until context is destroyed. App objects are not emulated.
+ * <p>
+ * Transport threads are started with the first context and stopped when the last context created by transport
+ * is destroyed or transport is closed.
+ */
+public final class FakeSdkTransport implements SdkTransport, AutoCloseable {
+
+	private final static System.Logger logger = System.getLogger(FakeSdkTransport.class.getName());
+
+	// far from ids of real contexts, so fake and real contexts can live in one process
+	private static final AtomicInteger CONTEXT_IDS = new AtomicInteger(1 << 24);
+
+	private final Map<String, String> cannedResponses;
+	private final Map<String, Function<String, String>> responders;
+	private final Map<String, List<String>> events;
+	private final String defaultResponse;
+	private final String errorResponse;
+	private final long minLatencyNanos;
+	private final long maxLatencyNanos;
+	private final double errorRate;
+	private final int threads;
+	private final AtomicInteger threadNumber = new AtomicInteger();
+	// guarded by this
+	private ScheduledThreadPoolExecutor scheduler;
+	private int contexts;
+
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+
+	private FakeSdkTransport(Builder builder) {
+		this.cannedResponses = Map.copyOf(builder.cannedResponses);
+		this.responders = Map.copyOf(builder.responders);
+		this.events = Map.copyOf(builder.events);
+		this.defaultResponse = builder.defaultResponse;
+		this.errorResponse = builder.errorResponse;
+		this.minLatencyNanos = builder.minLatency.toNanos();
+		this.maxLatencyNanos = builder.maxLatency.toNanos();
+		this.errorRate = builder.errorRate;
+		this.threads = builder.threads;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public String createContext(LibraryLoader loader, String configJson) {
+		synchronized (this) {
+			this.contexts++;
+		}
+		return "{\"result\":" + CONTEXT_IDS.incrementAndGet() + "}";
+	}
+
+	@Override
+	public void destroyContext(int contextId) {
+		SdkResponseDispatcher.failContext(contextId, new CancellationException("Context " + contextId + " is destroyed"));
+		synchronized (this) {
+			if (this.contexts > 0 && --this.contexts == 0) {
+				stopThreads();
+			}
+		}
+	}
+
+	/**
+	 * Stops transport threads, responses that are not delivered yet are dropped.
+	 * Transport starts new threads if it's used again.
+	 */
+	@Override
+	public synchronized void close() {
+		this.contexts = 0;
+		stopThreads();
+	}
+
+	@Override
+	public <T> SdkResponseHandler<T> request(int contextId,
+	                                         int requestId,
+	                                         NativeRequestBuffer request,
+	                                         Consumer<CallbackHandler> consumer,
+	                                         SdkResponseParser<T> parser,
+	                                         SdkCallbackExecutor executor) {
+		final var response = new SdkResponseHandler<>(request.function(), consumer, parser, executor);
+		SdkResponseDispatcher.register(contextId, requestId, response);
+		final boolean error = injectError();
+		final String json = error ? this.errorResponse : respond(request);
+		final List<String> functionEvents = error ? List.of() : this.events.getOrDefault(request.function(), List.of());
+		final Runnable delivery = functionEvents.isEmpty() ?
+				() -> deliver(contextId,
+				              requestId,
+				              json,
+				              error ? ton_client.tc_response_error() : ton_client.tc_response_success(),
+				              true) :
+				() -> {
+					// events of one request are sent from one thread to keep their order
+					deliver(contextId, requestId, json, ton_client.tc_response_success(), false);
+					for (String event : functionEvents) {
+						deliver(contextId, requestId, event, ton_client.tc_response_custom(), false);
+					}
+				};
+		final long latency = latencyNanos();
+		if (latency > 0) {
+			scheduler().schedule(delivery, latency, TimeUnit.NANOSECONDS);
+		} else {
+			scheduler().execute(delivery);
+		}
+		return response;
+	}
+
+	@Override
+	public <T> T requestSync(int contextId, NativeRequestBuffer request, SdkResponseParser<T> parser) throws IOException {
+		final boolean error = injectError();
+		final String json = error ?
+				"{\"error\":" + this.errorResponse + "}" :
+				"{\"result\":" + respond(request) + "}";
+		final long latency = latencyNanos();
+		if (latency > 0) {
+			LockSupport.parkNanos(latency);
+		}
+		final var response = NativeRequestBuffer.of("", json);
+		try {
+			return SdkBridge.readString(response.params(), parser);
+		} finally {
+			response.release();
+		}
+	}
+
+	/**
+	 * @return number of requests received by transport
+	 */
+	public long requests() {
+		return this.requests.sum();
+	}
+
+	/**
+	 * @return number of injected error responses
+	 */
+	public long errors() {
+		return this.errors.sum();
+	}
+
+	private synchronized ScheduledExecutorService scheduler() {
+		if (this.scheduler == null) {
+			this.scheduler = new ScheduledThreadPoolExecutor(this.threads, runnable -> {
+				final var thread = new Thread(runnable, "fake-sdk-" + this.threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+			this.scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+		}
+		return this.scheduler;
+	}
+
+	// guarded by this
+	private void stopThreads() {
+		if (this.scheduler != null) {
+			this.scheduler.shutdown();
+			this.scheduler = null;
+		}
+	}
+
+	private String respond(NativeRequestBuffer request) {
+		final String canned = this.cannedResponses.get(request.function());
+		if (canned != null) {
+			return canned;
+		}
+		final var responder = this.responders.get(request.function());
+		return responder != null ? responder.apply(request.paramsToString()) : this.defaultResponse;
+	}
+
+	private void deliver(int contextId, int requestId, String json, int responseType, boolean finished) {
+		// response is placed to native memory, as EVER-SDK does
+		final var response = NativeRequestBuffer.of("", json);
+		try {
+			SdkResponseDispatcher.deliver(contextId, requestId, response.params(), responseType, finished);
+		} catch (RuntimeException e) {
+			logger.log(System.Logger.Level.ERROR, () -> "Fake response delivery failed! ERR:" + e);
+		} finally {
+			response.release();
+		}
+	}
+
+	private boolean injectError() {
+		this.requests.increment();
+		if (this.errorRate > 0 && ThreadLocalRandom.current().nextDouble() < this.errorRate) {
+			this.errors.increment();
+			return true;
+		}
+		return false;
+	}
+
+	private long latencyNanos() {
+		return this.maxLatencyNanos > this.minLatencyNanos ?
+				ThreadLocalRandom.current().nextLong(this.minLatencyNanos, this.maxLatencyNanos + 1) :
+				this.minLatencyNanos;
+	}
+
+	/**
+	 * Builder of fake transport
+	 */
+	public static class Builder {
+
+		private final Map<String, String> cannedResponses = new HashMap<>();
+		private final Map<String, Function<String, String>> responders = new HashMap<>();
+		private final Map<String, List<String>> events = new HashMap<>();
+		private String defaultResponse = "{}";
+		private String errorResponse = "{\"code\":-1,\"message\":\"Error injected by FakeSdkTransport\"}";
+		private Duration minLatency = Duration.ZERO;
+		private Duration maxLatency = Duration.ZERO;
+		private double errorRate = 0;
+		private int threads = Runtime.getRuntime().availableProcessors();
+
+		/**
+		 * Sets result JSON for function
+		 *
+		 * @param functionName EVER-SDK function, for example "net.query_collection"
+		 * @param resultJson   JSON of function result, for example {"result":[]}
+		 * @return instance of builder
+		 */
+		public Builder setResponse(String functionName, String resultJson) {
+			this.cannedResponses.put(functionName, resultJson);
+			return this;
+		}
+
+		/**
+		 * Sets function that makes result JSON out of params JSON
+		 *
+		 * @return instance of builder
+		 */
+		public Builder setResponder(String functionName, Function<String, String> responder) {
+			this.responders.put(functionName, responder);
+			return this;
+		}
+
+		/**
+		 * Sets events that are sent after result of function as custom responses (response_type=100),
+		 * like subscription events of EVER-SDK
+		 *
+		 * @param functionName EVER-SDK function, for example "net.subscribe_collection"
+		 * @param eventJsons   JSON of every event, for example {"result":{"id":"..."}}
+		 * @return instance of builder
+		 */
+		public Builder setEvents(String functionName, List<String> eventJsons) {
+			this.events.put(functionName, List.copyOf(eventJsons));
+			return this;
+		}
+
+		/**
+		 * Sets result JSON for functions without configured response, "{}" by default
+		 *
+		 * @return instance of builder
+		 */
+		public Builder setDefaultResponse(String resultJson) {
+			this.defaultResponse = resultJson;
+			return this;
+		}
+
+		/**
+		 * Sets error JSON that is sent with injected errors
+		 *
+		 * @param errorJson JSON of EverSdkException.ErrorResult
+		 * @return instance of builder
+		 */
+		public Builder setErrorResponse(String errorJson) {
+			this.errorResponse = errorJson;
+			return this;
+		}
+
+		public Builder setLatency(Duration latency) {
+			return setLatency(latency, latency);
+		}
+
+		/**
+		 * Sets latency of every response, it's uniformly distributed between min and max
+		 *
+		 * @return instance of builder
+		 */
+		public Builder setLatency(Duration min, Duration max) {
+			if (min.isNegative() || max.compareTo(min) < 0) {
+				throw new IllegalArgumentException("Incorrect latency range: " + min + ".." + max);
+			}
+			this.minLatency = min;
+			this.maxLatency = max;
+			return this;
+		}
+
+		/**
+		 * @param errorRate share of requests that are answered with error, from 0 to 1
+		 * @return instance of builder
+		 */
+		public Builder setErrorRate(double errorRate) {
+			if (errorRate < 0 || errorRate > 1) {
+				throw new IllegalArgumentException("Error rate should be between 0 and 1, got: " + errorRate);
+			}
+			this.errorRate = errorRate;
+			return this;
+		}
+
+		/**
+		 * @param threads number of threads that deliver responses, like EVER-SDK runtime threads
+		 * @return instance of builder
+		 */
+		public Builder setThreads(int threads) {
+			this.threads = threads;
+			return this;
+		}
+
+		public FakeSdkTransport build() {
+			return new FakeSdkTransport(this);
+		}
+	}
+}
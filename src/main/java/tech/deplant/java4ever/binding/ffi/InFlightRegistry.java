@@ -0,0 +1,80 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * View of requests of a single context that wait for EVER-SDK responses.
+ * <p>
+ * Request becomes orphaned when caller stops waiting for it (timeout, interrupt or {@link #cancel(int)}).
+ * EVER-SDK has no way to abort request, so orphaned request stays registered until SDK finishes it,
+ * but its late responses are dropped without parsing or calling consumers.
+ * Requests that SDK never finishes can be removed with {@link #purgeOrphans(Duration)}.
+ */
+public record InFlightRegistry(int contextId) {
+
+	/**
+	 * @return all requests of context in order of request id
+	 */
+	public List<InFlightRequest> snapshot() {
+		return SdkResponseDispatcher.snapshot(contextId());
+	}
+
+	/**
+	 * @return requests of context that caller doesn't wait for anymore
+	 */
+	public List<InFlightRequest> orphans() {
+		return snapshot().stream().filter(InFlightRequest::orphaned).toList();
+	}
+
+	/**
+	 * Fails waiting call with {@link CancellationException} and orphans request
+	 *
+	 * @return false if request is already finished
+	 */
+	public boolean cancel(int requestId) {
+		final SdkResponseHandler<?> handler = SdkResponseDispatcher.handler(contextId(), requestId);
+		if (handler == null) {
+			return false;
+		}
+		handler.orphan();
+		return handler.result()
+		              .completeExceptionally(new CancellationException("Request " + requestId + " is cancelled"));
+	}
+
+	/**
+	 * Marks request as abandoned by caller without failing it
+	 *
+	 * @return false if request is already finished
+	 */
+	public boolean orphan(int requestId) {
+		final SdkResponseHandler<?> handler = SdkResponseDispatcher.handler(contextId(), requestId);
+		if (handler == null) {
+			return false;
+		}
+		handler.orphan();
+		return true;
+	}
+
+	/**
+	 * Removes orphaned requests that were sent earlier than olderThan ago
+	 *
+	 * @return number of removed requests
+	 */
+	public int purgeOrphans(Duration olderThan) {
+		return SdkResponseDispatcher.purgeOrphans(contextId(), olderThan);
+	}
+
+	/**
+	 * Request waiting for EVER-SDK response
+	 *
+	 * @param contextId    id of context
+	 * @param requestId    id of request inside context
+	 * @param functionName EVER-SDK function, for example "processing.process_message"
+	 * @param age          time since request was sent
+	 * @param orphaned     true if caller doesn't wait for result anymore
+	 */
+	public record InFlightRequest(int contextId, int requestId, String functionName, Duration age, boolean orphaned) {
+	}
+}
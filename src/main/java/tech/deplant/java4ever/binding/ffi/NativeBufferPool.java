@@ -0,0 +1,166 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentScope;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-classed pool of native buffers for request marshalling.
+ * <p>
+ * Buffers are allocated in automatic scope and kept in striped lock-free free lists, so borrowing
+ * and returning a buffer never opens or closes an arena. Size classes are powers of two between
+ * {@code 1 << minShift} and {@code 1 << maxShift} bytes. Bigger requests get a one-off buffer that is
+ * left to GC. Buffers that don't fit into full free lists are dropped the same way.
+ * Pool accounts native memory that it holds, see {@link #stats()}.
+ */
+public final class NativeBufferPool {
+
+	private static final NativeBufferPool GLOBAL = new NativeBufferPool(8, 20, 8);
+
+	private final int minShift;
+	private final int maxShift;
+	private final int stripeMask;
+	private final int slotsPerClass;
+	// [stripe][size class] -> free list slots
+	private final AtomicReferenceArray<MemorySegment>[][] freeLists;
+
+	private final LongAdder pooledBytes = new LongAdder();
+	private final LongAdder borrowedBytes = new LongAdder();
+	private final LongAdder allocatedBytes = new LongAdder();
+	private final LongAdder allocations = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder oversized = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+
+	/**
+	 * @param minShift      smallest size class is 2^minShift bytes
+	 * @param maxShift      biggest size class is 2^maxShift bytes
+	 * @param slotsPerClass how many free buffers of each size class are kept in each stripe
+	 */
+	@SuppressWarnings("unchecked")
+	public NativeBufferPool(int minShift, int maxShift, int slotsPerClass) {
+		if (minShift < 3 || maxShift < minShift || maxShift > 30) {
+			throw new IllegalArgumentException("Incorrect size classes: 2^%d..2^%d".formatted(minShift, maxShift));
+		}
+		this.minShift = minShift;
+		this.maxShift = maxShift;
+		this.slotsPerClass = slotsPerClass;
+		final int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1) << 1);
+		this.stripeMask = stripes - 1;
+		this.freeLists = new AtomicReferenceArray[stripes][maxShift - minShift + 1];
+		for (var stripe : this.freeLists) {
+			for (int i = 0; i < stripe.length; i++) {
+				stripe[i] = new AtomicReferenceArray<>(slotsPerClass);
+			}
+		}
+	}
+
+	/**
+	 * @return process-wide pool that is used by {@link SdkBridge}
+	 */
+	public static NativeBufferPool global() {
+		return GLOBAL;
+	}
+
+	/**
+	 * Borrows native buffer. Returned segment can be bigger than requested.
+	 * Buffer should be returned with {@link #release(MemorySegment)} when native call is finished.
+	 *
+	 * @param byteSize minimal size of buffer
+	 * @return native buffer of at least byteSize bytes
+	 */
+	public MemorySegment acquire(long byteSize) {
+		final int sizeClass = sizeClass(byteSize);
+		if (sizeClass < 0) {
+			this.oversized.increment();
+			return allocate(byteSize);
+		}
+		final var slots = this.freeLists[stripe()][sizeClass];
+		for (int i = 0; i < this.slotsPerClass; i++) {
+			final MemorySegment segment = slots.getAndSet(i, null);
+			if (segment != null) {
+				this.hits.increment();
+				this.pooledBytes.add(-segment.byteSize());
+				this.borrowedBytes.add(segment.byteSize());
+				return segment;
+			}
+		}
+		return allocate(1L << (sizeClass + this.minShift));
+	}
+
+	/**
+	 * Returns buffer to the pool. Buffer shouldn't be used after release.
+	 *
+	 * @param segment buffer received from {@link #acquire(long)}
+	 */
+	public void release(MemorySegment segment) {
+		final long byteSize = segment.byteSize();
+		this.borrowedBytes.add(-byteSize);
+		final int sizeClass = sizeClass(byteSize);
+		if (sizeClass >= 0 && (1L << (sizeClass + this.minShift)) == byteSize) {
+			final var slots = this.freeLists[stripe()][sizeClass];
+			for (int i = 0; i < this.slotsPerClass; i++) {
+				if (slots.compareAndSet(i, null, segment)) {
+					this.pooledBytes.add(byteSize);
+					return;
+				}
+			}
+		}
+		// free list is full or buffer is one-off, GC will free it
+		this.dropped.increment();
+	}
+
+	/**
+	 * @return snapshot of pool accounting
+	 */
+	public Stats stats() {
+		return new Stats(this.pooledBytes.sum(),
+		                 this.borrowedBytes.sum(),
+		                 this.allocatedBytes.sum(),
+		                 this.allocations.sum(),
+		                 this.hits.sum(),
+		                 this.oversized.sum(),
+		                 this.dropped.sum());
+	}
+
+	private MemorySegment allocate(long byteSize) {
+		this.allocations.increment();
+		this.allocatedBytes.add(byteSize);
+		this.borrowedBytes.add(byteSize);
+		return MemorySegment.allocateNative(byteSize, 8, SegmentScope.auto());
+	}
+
+	private int sizeClass(long byteSize) {
+		if (byteSize <= (1L << this.minShift)) {
+			return 0;
+		}
+		final int shift = 64 - Long.numberOfLeadingZeros(byteSize - 1);
+		return shift > this.maxShift ? -1 : shift - this.minShift;
+	}
+
+	private int stripe() {
+		final int h = System.identityHashCode(Thread.currentThread());
+		return (h ^ (h >>> 16)) & this.stripeMask;
+	}
+
+	/**
+	 * Native memory accounting of the pool
+	 *
+	 * @param pooledBytes    bytes held in free lists
+	 * @param borrowedBytes  bytes currently lent to callers
+	 * @param allocatedBytes total bytes ever allocated by the pool
+	 * @param allocations    number of native allocations
+	 * @param hits           number of acquires served from free lists
+	 * @param oversized      number of one-off allocations bigger than the biggest size class
+	 * @param dropped        number of released buffers left to GC
+	 */
+	public record Stats(long pooledBytes,
+	                    long borrowedBytes,
+	                    long allocatedBytes,
+	                    long allocations,
+	                    long hits,
+	                    long oversized,
+	                    long dropped) {
+	}
+}
@@ -0,0 +1,151 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import java.io.OutputStream;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.nio.charset.StandardCharsets;
+
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static tech.deplant.java4ever.binding.ffi.tc_string_data_t.content$set;
+import static tech.deplant.java4ever.binding.ffi.tc_string_data_t.len$set;
+
+/**
+ * Growable native buffer that holds everything EVER-SDK request needs: two tc_string_data_t
+ * structs followed by UTF-8 function name and params JSON. Known function names are taken
+ * from {@link SdkFunctionNames} and are not written to buffer at all.
+ * <p>
+ * Buffer is an {@link OutputStream}, so Jackson can serialize params straight into native memory
+ * without intermediate String or byte array. Memory is borrowed from {@link NativeBufferPool}
+ * and should be returned with {@link #release()} after request was passed to EVER-SDK.
+ * {@link #close()} doesn't release the buffer, as Jackson closes target streams by itself.
+ */
+public final class NativeRequestBuffer extends OutputStream {
+
+	private static final long STRING_DATA_SIZE = tc_string_data_t.sizeof();
+	private static final long HEADER_SIZE = 2 * STRING_DATA_SIZE;
+	private static final long DEFAULT_PARAMS_CAPACITY = 256;
+
+	private final NativeBufferPool pool;
+	private final String function;
+	// pre-built struct from SdkFunctionNames or null if name is written to buffer
+	private final MemorySegment internedName;
+	private final long paramsOffset;
+	private MemorySegment buffer;
+	private long position;
+
+	private NativeRequestBuffer(NativeBufferPool pool, String functionName, long paramsCapacity) {
+		this.pool = pool;
+		this.function = functionName;
+		this.internedName = SdkFunctionNames.intern(functionName);
+		if (this.internedName != null) {
+			this.buffer = pool.acquire(HEADER_SIZE + paramsCapacity);
+			this.paramsOffset = HEADER_SIZE;
+		} else {
+			this.buffer = pool.acquire(HEADER_SIZE + SdkBridge.utf8Length(functionName) + paramsCapacity);
+			this.paramsOffset = HEADER_SIZE + SdkBridge.writeUtf8(functionName, this.buffer, HEADER_SIZE);
+		}
+		this.position = this.paramsOffset;
+	}
+
+	/**
+	 * Creates request buffer with function name written, params should be written to buffer as to OutputStream.
+	 */
+	public static NativeRequestBuffer of(String functionName) {
+		return new NativeRequestBuffer(NativeBufferPool.global(), functionName, DEFAULT_PARAMS_CAPACITY);
+	}
+
+	/**
+	 * Creates request buffer with already serialized params.
+	 */
+	public static NativeRequestBuffer of(String functionName, String params) {
+		final var request = new NativeRequestBuffer(NativeBufferPool.global(),
+		                                            functionName,
+		                                            SdkBridge.utf8Length(params));
+		request.position += SdkBridge.writeUtf8(params, request.buffer, request.position);
+		return request;
+	}
+
+	@Override
+	public void write(int b) {
+		ensureCapacity(1);
+		this.buffer.set(JAVA_BYTE, this.position++, (byte) b);
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) {
+		ensureCapacity(length);
+		MemorySegment.copy(bytes, offset, this.buffer, JAVA_BYTE, this.position, length);
+		this.position += length;
+	}
+
+	/**
+	 * @return function name as Java String, for registry and logs
+	 */
+	public String function() {
+		return this.function;
+	}
+
+	/**
+	 * @return tc_string_data_t struct with function name
+	 */
+	public MemorySegment functionName() {
+		if (this.internedName != null) {
+			return this.internedName;
+		}
+		return stringData(0, HEADER_SIZE, this.paramsOffset - HEADER_SIZE);
+	}
+
+	/**
+	 * @return tc_string_data_t struct with params JSON
+	 */
+	public MemorySegment params() {
+		return stringData(STRING_DATA_SIZE, this.paramsOffset, paramsLength());
+	}
+
+	public long paramsLength() {
+		return this.position - this.paramsOffset;
+	}
+
+	/**
+	 * Decodes params back to String, intended for logging only.
+	 */
+	public String paramsToString() {
+		return new String(this.buffer.asSlice(this.paramsOffset, paramsLength()).toArray(JAVA_BYTE),
+		                  StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Allocator over the struct header of buffer. Header can be reused only after
+	 * request structs were copied by EVER-SDK, for example for tc_request_sync response.
+	 */
+	public SegmentAllocator headerAllocator() {
+		return SegmentAllocator.prefixAllocator(this.buffer.asSlice(0, HEADER_SIZE));
+	}
+
+	/**
+	 * Returns native memory to the pool. Buffer can't be used after release.
+	 */
+	public void release() {
+		if (this.buffer != null) {
+			this.pool.release(this.buffer);
+			this.buffer = null;
+		}
+	}
+
+	private MemorySegment stringData(long structOffset, long dataOffset, long length) {
+		final MemorySegment stringData = this.buffer.asSlice(structOffset, STRING_DATA_SIZE);
+		content$set(stringData, this.buffer.asSlice(dataOffset, length));
+		len$set(stringData, (int) length);
+		return stringData;
+	}
+
+	private void ensureCapacity(long extra) {
+		final long required = this.position + extra;
+		if (required > this.buffer.byteSize()) {
+			final MemorySegment grown = this.pool.acquire(Math.max(required, this.buffer.byteSize() * 2));
+			MemorySegment.copy(this.buffer, 0, grown, 0, this.position);
+			this.pool.release(this.buffer);
+			this.buffer = grown;
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import tech.deplant.java4ever.binding.CallbackHandler;
+import tech.deplant.java4ever.binding.loader.LibraryLoader;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Transport that calls ton_client library, default for all contexts
+ */
+public final class NativeSdkTransport implements SdkTransport {
+
+	static final NativeSdkTransport INSTANCE = new NativeSdkTransport();
+
+	private NativeSdkTransport() {
+	}
+
+	@Override
+	public String createContext(LibraryLoader loader, String configJson) {
+		return SdkBridge.tcCreateContext(loader, configJson);
+	}
+
+	@Override
+	public void destroyContext(int contextId) {
+		SdkBridge.tcDestroyContext(contextId);
+	}
+
+	@Override
+	public <T> SdkResponseHandler<T> request(int contextId,
+	                                         int requestId,
+	                                         NativeRequestBuffer request,
+	                                         Consumer<CallbackHandler> consumer,
+	                                         SdkResponseParser<T> parser,
+	                                         SdkCallbackExecutor executor) {
+		return SdkBridge.tcRequest(contextId, requestId, request, consumer, parser, executor);
+	}
+
+	@Override
+	public <T> T requestSync(int contextId, NativeRequestBuffer request, SdkResponseParser<T> parser) throws IOException {
+		return SdkBridge.tcRequestSync(contextId, request, parser);
+	}
+}
@@ -3,9 +3,11 @@ package tech.deplant.java4ever.binding.ffi;
 import tech.deplant.java4ever.binding.CallbackHandler;
 import tech.deplant.java4ever.binding.loader.LibraryLoader;
 
+import java.io.IOException;
 import java.lang.foreign.*;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CancellationException;
 import java.util.function.Consumer;
 
 import static java.lang.foreign.ValueLayout.JAVA_BYTE;
@@ -13,29 +15,139 @@ import static tech.deplant.java4ever.binding.ffi.tc_string_data_t.*;
 
 public class SdkBridge {
 
+	// per-thread buffer for reading responses, bigger responses are read into one-off arrays
+	private static final int MAX_READ_BUFFER = 1 << 20;
+	private static final ThreadLocal<byte[]> READ_BUFFER = ThreadLocal.withInitial(() -> new byte[4096]);
+	private static volatile boolean libraryLoaded = false;
+
 	public static String tcCreateContext(LibraryLoader loader,
 	                                     String configJson) {
-		loader.load();
+		ensureLoaded(loader);
 		try (Arena offHeapMemory = Arena.openConfined()) {
-			return toString(
-					ton_client.tc_read_string(
-							SegmentAllocator.nativeAllocator(offHeapMemory.scope()),
-							ton_client.tc_create_context(toRustString(configJson,offHeapMemory.scope()))
-					),
-					offHeapMemory.scope()
-			);
+			return readAndDestroy(ton_client.tc_create_context(toRustString(configJson, offHeapMemory.scope())),
+			                      offHeapMemory);
+		}
+	}
+
+	/**
+	 * Loads library with the first provided loader. ton_client can be loaded into process only once,
+	 * so loaders of next contexts are not called.
+	 */
+	private static void ensureLoaded(LibraryLoader loader) {
+		if (!libraryLoaded) {
+			synchronized (SdkBridge.class) {
+				if (!libraryLoaded) {
+					loader.load();
+					libraryLoaded = true;
+				}
+			}
 		}
 	}
 
-	public static SdkResponseHandler tcRequest(int contextId, int requestId, String functionName, String params, Consumer<CallbackHandler> consumer) {
-		try (Arena offHeapMemory = Arena.openShared()) {
-			final var response = new SdkResponseHandler(consumer);
-			ton_client.tc_request(contextId,
-			                      toRustString(functionName, offHeapMemory.scope()),
-			                      toRustString(params, offHeapMemory.scope()),
-			                      requestId,
-			                      tc_response_handler_t.allocate(response, SegmentScope.auto()));
-			return response;
+	/**
+	 * Destroys native context. Requests of the context that still wait for response are failed,
+	 * as EVER-SDK doesn't guarantee their final responses.
+	 */
+	public static void tcDestroyContext(int contextId) {
+		ton_client.tc_destroy_context(contextId);
+		SdkResponseDispatcher.failContext(contextId, new CancellationException("Context " + contextId + " is destroyed"));
+	}
+
+	/**
+	 * Synchronous request to EVER-SDK with tc_request_sync. Response is read on the calling thread,
+	 * no upcall or response handler is involved. Response JSON contains either "result" or "error" field.
+	 */
+	public static String tcRequestSync(int contextId, String functionName, String params) {
+		final var request = NativeRequestBuffer.of(functionName, params);
+		try {
+			final MemorySegment stringHandle = ton_client.tc_request_sync(contextId,
+			                                                              request.functionName(),
+			                                                              request.params());
+			// request structs are already copied by EVER-SDK, so the header is reused for the response struct
+			return readAndDestroy(stringHandle, request.headerAllocator());
+		} finally {
+			request.release();
+		}
+	}
+
+	/**
+	 * Synchronous request with function name and params already marshalled into native buffer.
+	 * Response is parsed straight from the read buffer. Buffer is not released, it's still owned by the caller.
+	 */
+	public static <T> T tcRequestSync(int contextId, NativeRequestBuffer request, SdkResponseParser<T> parser) throws IOException {
+		final MemorySegment stringHandle = ton_client.tc_request_sync(contextId,
+		                                                              request.functionName(),
+		                                                              request.params());
+		return readAndDestroy(stringHandle, request.headerAllocator(), parser);
+	}
+
+	/**
+	 * Sends request to EVER-SDK. All responses are routed through the shared upcall
+	 * of {@link SdkResponseDispatcher}, so no native stub is allocated per request.
+	 * Function name and params are marshalled into pooled native buffer, as EVER-SDK
+	 * copies them before tc_request_ptr returns.
+	 */
+	public static SdkResponseHandler<String> tcRequest(int contextId, int requestId, String functionName, String params, Consumer<CallbackHandler> consumer) {
+		final var request = NativeRequestBuffer.of(functionName, params);
+		try {
+			return tcRequest(contextId, requestId, request, consumer, SdkResponseParser.STRING);
+		} finally {
+			request.release();
+		}
+	}
+
+	/**
+	 * Sends request with function name and params already marshalled into native buffer.
+	 * Buffer is not released, it's still owned by the caller and can be released as soon as this method returns.
+	 * Successful response is converted by parser right in the callback.
+	 */
+	public static <T> SdkResponseHandler<T> tcRequest(int contextId,
+	                                                  int requestId,
+	                                                  NativeRequestBuffer request,
+	                                                  Consumer<CallbackHandler> consumer,
+	                                                  SdkResponseParser<T> parser) {
+		return tcRequest(contextId, requestId, request, consumer, parser, SdkCallbackExecutor.direct());
+	}
+
+	/**
+	 * Sends request with responses handled on callback executor
+	 */
+	public static <T> SdkResponseHandler<T> tcRequest(int contextId,
+	                                                  int requestId,
+	                                                  NativeRequestBuffer request,
+	                                                  Consumer<CallbackHandler> consumer,
+	                                                  SdkResponseParser<T> parser,
+	                                                  SdkCallbackExecutor executor) {
+		final var response = new SdkResponseHandler<>(request.function(), consumer, parser, executor);
+		final MemorySegment requestPtr = SdkResponseDispatcher.register(contextId, requestId, response);
+		try {
+			ton_client.tc_request_ptr(contextId,
+			                          request.functionName(),
+			                          request.params(),
+			                          requestPtr,
+			                          SdkResponseDispatcher.upcallStub());
+		} catch (RuntimeException | Error e) {
+			SdkResponseDispatcher.unregister(contextId, requestId);
+			throw e;
+		}
+		return response;
+	}
+
+	private static String readAndDestroy(MemorySegment stringHandle, SegmentAllocator allocator) {
+		try {
+			return readString(ton_client.tc_read_string(allocator, stringHandle));
+		} finally {
+			ton_client.tc_destroy_string(stringHandle);
+		}
+	}
+
+	private static <T> T readAndDestroy(MemorySegment stringHandle,
+	                                    SegmentAllocator allocator,
+	                                    SdkResponseParser<T> parser) throws IOException {
+		try {
+			return readString(ton_client.tc_read_string(allocator, stringHandle), parser);
+		} finally {
+			ton_client.tc_destroy_string(stringHandle);
 		}
 	}
 
@@ -51,20 +163,128 @@ public class SdkBridge {
 		return stringData;
 	}
 
+	/**
+	 * @return length of text in UTF-8 encoding, unpaired surrogates count as '?' like in String.getBytes()
+	 */
+	public static long utf8Length(String text) {
+		long length = 0;
+		for (int i = 0; i < text.length(); i++) {
+			final char c = text.charAt(i);
+			if (c < 0x80) {
+				length++;
+			} else if (c < 0x800) {
+				length += 2;
+			} else if (Character.isHighSurrogate(c) && i + 1 < text.length() &&
+			           Character.isLowSurrogate(text.charAt(i + 1))) {
+				length += 4;
+				i++;
+			} else if (Character.isSurrogate(c)) {
+				length++;
+			} else {
+				length += 3;
+			}
+		}
+		return length;
+	}
+
+	/**
+	 * Encodes text to UTF-8 directly into native segment without intermediate byte array.
+	 *
+	 * @return number of written bytes
+	 */
+	public static long writeUtf8(String text, MemorySegment segment, long offset) {
+		long pos = offset;
+		for (int i = 0; i < text.length(); i++) {
+			final char c = text.charAt(i);
+			if (c < 0x80) {
+				segment.set(JAVA_BYTE, pos++, (byte) c);
+			} else if (c < 0x800) {
+				segment.set(JAVA_BYTE, pos++, (byte) (0xC0 | (c >> 6)));
+				segment.set(JAVA_BYTE, pos++, (byte) (0x80 | (c & 0x3F)));
+			} else if (Character.isHighSurrogate(c) && i + 1 < text.length() &&
+			           Character.isLowSurrogate(text.charAt(i + 1))) {
+				final int codePoint = Character.toCodePoint(c, text.charAt(++i));
+				segment.set(JAVA_BYTE, pos++, (byte) (0xF0 | (codePoint >> 18)));
+				segment.set(JAVA_BYTE, pos++, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+				segment.set(JAVA_BYTE, pos++, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+				segment.set(JAVA_BYTE, pos++, (byte) (0x80 | (codePoint & 0x3F)));
+			} else if (Character.isSurrogate(c)) {
+				segment.set(JAVA_BYTE, pos++, (byte) '?');
+			} else {
+				segment.set(JAVA_BYTE, pos++, (byte) (0xE0 | (c >> 12)));
+				segment.set(JAVA_BYTE, pos++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+				segment.set(JAVA_BYTE, pos++, (byte) (0x80 | (c & 0x3F)));
+			}
+		}
+		return pos - offset;
+	}
+
 	public static String toString(MemorySegment seg, SegmentScope scope) {
-		return toJavaString(seg, scope);
+		return readString(seg);
+	}
+
+	/**
+	 * Reads tc_string_data_t content without opening an arena. Bytes are copied
+	 * into per-thread buffer and decoded from it.
+	 */
+	public static String readString(MemorySegment seg) {
+		return readContent(content(seg));
+	}
+
+	/**
+	 * Reads tc_string_data_t content into per-thread buffer and passes it to parser,
+	 * so response can be deserialized without intermediate String.
+	 */
+	public static <T> T readString(MemorySegment seg, SdkResponseParser<T> parser) throws IOException {
+		return readContent(content(seg), parser);
+	}
+
+	/**
+	 * @return native content of tc_string_data_t struct as a segment of its length
+	 */
+	public static MemorySegment content(MemorySegment seg) {
+		final int length = len$get(seg);
+		return length > 0 ? MemorySegment.ofAddress(content$get(seg).address(), length) : MemorySegment.NULL;
 	}
 
-	private static String toJavaString(MemorySegment seg, SegmentScope scope) {
-		if (tc_string_data_t.len$get(seg) > 0) {
-			MemorySegment addressSegment = tc_string_data_t.content$get(seg);
-			byte[] str = MemorySegment.ofAddress(addressSegment.address(), len$get(seg), scope).toArray(JAVA_BYTE);
-			return new String(str, StandardCharsets.UTF_8);
+	/**
+	 * Decodes UTF-8 content through per-thread buffer
+	 */
+	public static String readContent(MemorySegment content) {
+		final int length = (int) content.byteSize();
+		if (length > 0) {
+			final byte[] buffer = readBuffer(length);
+			MemorySegment.copy(content, JAVA_BYTE, 0, buffer, 0, length);
+			return new String(buffer, 0, length, StandardCharsets.UTF_8);
 		} else {
 			return "";
 		}
 	}
 
+	/**
+	 * Copies UTF-8 content into per-thread buffer and passes it to parser
+	 */
+	public static <T> T readContent(MemorySegment content, SdkResponseParser<T> parser) throws IOException {
+		final int length = (int) content.byteSize();
+		final byte[] buffer = readBuffer(length);
+		if (length > 0) {
+			MemorySegment.copy(content, JAVA_BYTE, 0, buffer, 0, length);
+		}
+		return parser.parse(buffer, 0, length);
+	}
+
+	private static byte[] readBuffer(int length) {
+		if (length > MAX_READ_BUFFER) {
+			return new byte[length];
+		}
+		byte[] buffer = READ_BUFFER.get();
+		if (buffer.length < length) {
+			buffer = new byte[Math.min(MAX_READ_BUFFER, Integer.highestOneBit(length) << 1)];
+			READ_BUFFER.set(buffer);
+		}
+		return buffer;
+	}
+
 	private static int strLength(MemorySegment seg) {
 		return len$get(seg);
 	}
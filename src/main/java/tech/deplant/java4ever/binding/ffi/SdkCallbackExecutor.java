@@ -0,0 +1,108 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor for EVER-SDK responses and callbacks.
+ * <p>
+ * Responses arrive on native threads of EVER-SDK runtime. In direct mode they are parsed and
+ * passed to consumers right there, which is the fastest way, but slow consumer stalls the network runtime
+ * of SDK. With other modes native thread only copies payload to pooled native buffer and enqueues it,
+ * responses are handled on executor threads. Responses of the same request are always handled
+ * in order of arrival, one at a time.
+ */
+public final class SdkCallbackExecutor {
+
+	private static final SdkCallbackExecutor DIRECT = new SdkCallbackExecutor(null);
+	private static final SdkCallbackExecutor COMMON = new SdkCallbackExecutor(ForkJoinPool.commonPool());
+
+	private final Executor executor;
+	private final LongAdder queueDepth = new LongAdder();
+
+	private SdkCallbackExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Handles responses right on native threads. Use only for trusted consumers that never block.
+	 */
+	public static SdkCallbackExecutor direct() {
+		return DIRECT;
+	}
+
+	/**
+	 * Handles responses on common ForkJoinPool. Async calls of contexts in direct mode use it,
+	 * so their results are parsed off native threads.
+	 */
+	public static SdkCallbackExecutor common() {
+		return COMMON;
+	}
+
+	/**
+	 * Handles every batch of responses of a request on a new virtual thread
+	 */
+	public static SdkCallbackExecutor virtualThreads() {
+		return new SdkCallbackExecutor(Executors.newVirtualThreadPerTaskExecutor());
+	}
+
+	/**
+	 * Handles responses on a fixed number of daemon threads. When queue is full, response is handled
+	 * on the native thread, which slows down SDK instead of growing queue without limit.
+	 *
+	 * @param threads       number of handling threads
+	 * @param queueCapacity number of requests with pending responses that can wait for a free thread
+	 */
+	public static SdkCallbackExecutor bounded(int threads, int queueCapacity) {
+		final var threadNumber = new AtomicInteger();
+		return new SdkCallbackExecutor(new ThreadPoolExecutor(threads,
+		                                                      threads,
+		                                                      0L,
+		                                                      TimeUnit.MILLISECONDS,
+		                                                      new ArrayBlockingQueue<>(queueCapacity),
+		                                                      runnable -> {
+			                                                      final var thread = new Thread(runnable,
+			                                                                                    "sdk-callback-" +
+			                                                                                    threadNumber.incrementAndGet());
+			                                                      thread.setDaemon(true);
+			                                                      return thread;
+		                                                      },
+		                                                      new ThreadPoolExecutor.CallerRunsPolicy()));
+	}
+
+	/**
+	 * Handles responses with provided executor. Responses rejected by executor are handled on EVER-SDK thread.
+	 */
+	public static SdkCallbackExecutor of(Executor executor) {
+		return new SdkCallbackExecutor(executor);
+	}
+
+	public boolean isDirect() {
+		return this.executor == null;
+	}
+
+	/**
+	 * @return number of responses copied from native threads that wait for handling
+	 */
+	public long queueDepth() {
+		return this.queueDepth.sum();
+	}
+
+	void execute(Runnable task) {
+		this.executor.execute(task);
+	}
+
+	void enqueued() {
+		this.queueDepth.increment();
+	}
+
+	void dequeued() {
+		this.queueDepth.decrement();
+	}
+}
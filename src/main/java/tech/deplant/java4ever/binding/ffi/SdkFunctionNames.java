@@ -0,0 +1,57 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentScope;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static tech.deplant.java4ever.binding.ffi.tc_string_data_t.content$set;
+import static tech.deplant.java4ever.binding.ffi.tc_string_data_t.len$set;
+
+/**
+ * Process-wide table of function names already encoded as native tc_string_data_t.
+ * <p>
+ * Set of EVER-SDK functions is fixed, so every name is encoded once in global scope and
+ * then passed to EVER-SDK as is. Table is limited to protect native memory from arbitrary
+ * names, names over the limit are encoded with every request as before.
+ */
+public final class SdkFunctionNames {
+
+	private static final int MAX_NAMES = 1024;
+	private static final long STRING_DATA_SIZE = tc_string_data_t.sizeof();
+	private static final Map<String, MemorySegment> NAMES = new ConcurrentHashMap<>();
+
+	private SdkFunctionNames() {
+	}
+
+	/**
+	 * @param functionName EVER-SDK function, for example "net.query_collection"
+	 * @return tc_string_data_t struct with function name or null if table is full
+	 */
+	public static MemorySegment intern(String functionName) {
+		final MemorySegment interned = NAMES.get(functionName);
+		if (interned != null || NAMES.size() >= MAX_NAMES) {
+			return interned;
+		}
+		return NAMES.computeIfAbsent(functionName, SdkFunctionNames::encode);
+	}
+
+	/**
+	 * @return number of interned names
+	 */
+	public static int size() {
+		return NAMES.size();
+	}
+
+	private static MemorySegment encode(String functionName) {
+		final long length = SdkBridge.utf8Length(functionName);
+		final MemorySegment segment = MemorySegment.allocateNative(STRING_DATA_SIZE + Math.max(1, length),
+		                                                           8,
+		                                                           SegmentScope.global());
+		SdkBridge.writeUtf8(functionName, segment, STRING_DATA_SIZE);
+		final MemorySegment stringData = segment.asSlice(0, STRING_DATA_SIZE);
+		content$set(stringData, segment.asSlice(STRING_DATA_SIZE, length));
+		len$set(stringData, (int) length);
+		return stringData;
+	}
+}
@@ -0,0 +1,192 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentScope;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single process-wide upcall for all EVER-SDK responses.
+ * <p>
+ * Instead of allocating a new upcall stub for every request, requests are sent with
+ * {@code tc_request_ptr} and one static {@link tc_response_handler_ptr_t} stub. Request pointer
+ * is not a real pointer, but a key that packs context id and request id, so responses of different
+ * contexts with the same request id never collide. Handler is removed from the table when
+ * EVER-SDK signals {@code finished=true}. Table is also a registry of requests in flight,
+ * see {@link InFlightRegistry} for per-context view.
+ */
+public final class SdkResponseDispatcher {
+
+	private final static System.Logger logger = System.getLogger(SdkResponseDispatcher.class.getName());
+
+	private static final Map<Long, SdkResponseHandler<?>> HANDLERS = new ConcurrentHashMap<>();
+	// responses that arrived for orphaned requests and were dropped
+	private static final LongAdder LATE_RESPONSES = new LongAdder();
+
+	private static final MemorySegment UPCALL_STUB = tc_response_handler_ptr_t.allocate(SdkResponseDispatcher::dispatch,
+	                                                                                    SegmentScope.global());
+
+	private SdkResponseDispatcher() {
+	}
+
+	/**
+	 * Packs context id and request id into a single key that is passed to EVER-SDK as request_ptr.
+	 * Context ids start from 1, so key is never a NULL pointer.
+	 */
+	public static long requestKey(int contextId, int requestId) {
+		return ((long) contextId << 32) | (requestId & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Registers handler for the upcoming request.
+	 *
+	 * @return request_ptr segment that should be passed to tc_request_ptr
+	 */
+	public static MemorySegment register(int contextId, int requestId, SdkResponseHandler<?> handler) {
+		final long key = requestKey(contextId, requestId);
+		if (HANDLERS.putIfAbsent(key, handler) != null) {
+			throw new IllegalStateException("Request is already in flight. CTXID:" + contextId + " REQID:" + requestId);
+		}
+		return MemorySegment.ofAddress(key);
+	}
+
+	/**
+	 * Removes handler of request, for example when request was not sent or caller is not interested anymore.
+	 * Late responses of unregistered requests are dropped.
+	 */
+	public static SdkResponseHandler<?> unregister(int contextId, int requestId) {
+		return HANDLERS.remove(requestKey(contextId, requestId));
+	}
+
+	/**
+	 * Removes handlers of all requests of context and fails their results.
+	 *
+	 * @return number of failed requests
+	 */
+	public static int failContext(int contextId, Throwable cause) {
+		int failed = 0;
+		for (var iterator = HANDLERS.entrySet().iterator(); iterator.hasNext(); ) {
+			final var entry = iterator.next();
+			if ((entry.getKey() >>> 32) == contextId) {
+				iterator.remove();
+				entry.getValue().result().completeExceptionally(cause);
+				failed++;
+			}
+		}
+		return failed;
+	}
+
+	/**
+	 * @return handler of request that waits for final response or null
+	 */
+	public static SdkResponseHandler<?> handler(int contextId, int requestId) {
+		return HANDLERS.get(requestKey(contextId, requestId));
+	}
+
+	/**
+	 * @return registered requests of context, including orphaned ones
+	 */
+	public static List<InFlightRegistry.InFlightRequest> snapshot(int contextId) {
+		final var requests = new ArrayList<InFlightRegistry.InFlightRequest>();
+		HANDLERS.forEach((key, handler) -> {
+			if ((key >>> 32) == contextId) {
+				requests.add(new InFlightRegistry.InFlightRequest(contextId,
+				                                                  (int) (long) key,
+				                                                  handler.functionName(),
+				                                                  Duration.ofNanos(handler.ageNanos()),
+				                                                  handler.isOrphaned()));
+			}
+		});
+		requests.sort(Comparator.comparingInt(InFlightRegistry.InFlightRequest::requestId));
+		return requests;
+	}
+
+	/**
+	 * Removes orphaned requests of context that were sent earlier than olderThan ago.
+	 * If EVER-SDK responds to them later, responses are dropped as responses for unknown requests.
+	 *
+	 * @return number of removed requests
+	 */
+	public static int purgeOrphans(int contextId, Duration olderThan) {
+		final long minAge = olderThan.toNanos();
+		int purged = 0;
+		for (var iterator = HANDLERS.entrySet().iterator(); iterator.hasNext(); ) {
+			final var entry = iterator.next();
+			if ((entry.getKey() >>> 32) == contextId && entry.getValue().isOrphaned() &&
+			    entry.getValue().ageNanos() >= minAge) {
+				iterator.remove();
+				purged++;
+			}
+		}
+		return purged;
+	}
+
+	/**
+	 * @return number of responses dropped because their requests were orphaned
+	 */
+	public static long lateResponses() {
+		return LATE_RESPONSES.sum();
+	}
+
+	/**
+	 * @return address of the shared tc_response_handler_ptr_t upcall stub
+	 */
+	public static MemorySegment upcallStub() {
+		return UPCALL_STUB;
+	}
+
+	/**
+	 * @return number of requests that wait for final response
+	 */
+	public static int pendingCount() {
+		return HANDLERS.size();
+	}
+
+	/**
+	 * Delivers response to request handler the same way as the shared upcall does.
+	 * Used by transports that answer requests without ton_client library.
+	 *
+	 * @param stringData tc_string_data_t struct with response JSON
+	 */
+	public static void deliver(int contextId, int requestId, MemorySegment stringData, int responseType, boolean finished) {
+		dispatch(MemorySegment.ofAddress(requestKey(contextId, requestId)), stringData, responseType, finished);
+	}
+
+	private static void dispatch(MemorySegment requestPtr, MemorySegment paramsJson, int responseType, boolean finished) {
+		final long key = requestPtr.address();
+		final int requestId = (int) key;
+		final SdkResponseHandler<?> handler = finished ? HANDLERS.remove(key) : HANDLERS.get(key);
+		if (handler == null) {
+			logger.log(System.Logger.Level.WARNING,
+			           () -> "Response for unknown request dropped. CTXID:%d REQID:%d TYPE:%d".formatted(key >>> 32,
+			                                                                                             requestId,
+			                                                                                             responseType));
+			return;
+		}
+		if (handler.isOrphaned()) {
+			LATE_RESPONSES.increment();
+			logger.log(System.Logger.Level.DEBUG,
+			           () -> "Late response of orphaned request dropped. CTXID:%d REQID:%d FUNC:%s AGE:%dms".formatted(
+					           key >>> 32,
+					           requestId,
+					           handler.functionName(),
+					           handler.ageNanos() / 1_000_000));
+			return;
+		}
+		// exceptions must never leave upcall, otherwise JVM crashes
+		try {
+			handler.apply(requestId, paramsJson, responseType, finished);
+		} catch (Throwable e) {
+			logger.log(System.Logger.Level.ERROR,
+			           () -> "Response handler failed! CTXID:%d REQID:%d ERR:%s".formatted(key >>> 32,
+			                                                                              requestId,
+			                                                                              e));
+			handler.result().completeExceptionally(e);
+		}
+	}
+}
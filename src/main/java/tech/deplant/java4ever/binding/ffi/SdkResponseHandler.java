@@ -2,21 +2,59 @@ package tech.deplant.java4ever.binding.ffi;
 
 import tech.deplant.java4ever.binding.CallbackHandler;
 
-import java.lang.foreign.Arena;
+import java.io.IOException;
 import java.lang.foreign.MemorySegment;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
-public class SdkResponseHandler implements tc_response_handler_t {
+/**
+ * Handles responses of a single request. Successful response is parsed with {@link SdkResponseParser}
+ * directly from the read buffer, so no intermediate String of response is created.
+ * Responses are handled either right in the callback or, when {@link SdkCallbackExecutor} is not direct,
+ * copied by native thread and handled on executor one by one, in order of arrival.
+ *
+ * @param <T> type of request result
+ */
+public class SdkResponseHandler<T> implements tc_response_handler_t {
 
 	private final static System.Logger logger = System.getLogger(SdkResponseHandler.class.getName());
-	private final CompletableFuture<String> result = new CompletableFuture<>();
+	private final CompletableFuture<T> result = new CompletableFuture<>();
 
+	private final String functionName;
+	private final long startNanos = System.nanoTime();
 	private final Consumer<CallbackHandler> handlerConsumer;
+	private final SdkResponseParser<T> parser;
+	private final SdkCallbackExecutor executor;
+	// caller doesn't wait for result anymore, late responses are dropped
+	private volatile boolean orphaned = false;
 
-	public SdkResponseHandler(Consumer<CallbackHandler> consumer) {
+	// copied responses that wait for executor
+	private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+
+	public SdkResponseHandler(Consumer<CallbackHandler> consumer, SdkResponseParser<T> parser) {
+		this(consumer, parser, SdkCallbackExecutor.direct());
+	}
+
+	public SdkResponseHandler(Consumer<CallbackHandler> consumer,
+	                          SdkResponseParser<T> parser,
+	                          SdkCallbackExecutor executor) {
+		this("", consumer, parser, executor);
+	}
+
+	public SdkResponseHandler(String functionName,
+	                          Consumer<CallbackHandler> consumer,
+	                          SdkResponseParser<T> parser,
+	                          SdkCallbackExecutor executor) {
+		this.functionName = functionName;
 		this.handlerConsumer = consumer;
+		this.parser = parser;
+		this.executor = executor;
 	}
 
 	/**
@@ -27,47 +65,124 @@ public class SdkResponseHandler implements tc_response_handler_t {
 	 */
 	@Override
 	public void apply(int x0, MemorySegment x1, int x2, boolean x3) {
-		try (Arena offHeapMemory = Arena.openShared()) {
-			if (x2 == ton_client.tc_response_success()) {
-				this.result.complete(SdkBridge.toString(x1, offHeapMemory.scope()));
-				logger.log(System.Logger.Level.TRACE, () -> "REQID: %d, RESULT".formatted(x0));
-			} else if (x2 == ton_client.tc_response_error()) {
-				//throw new RuntimeException(EverSdkBridge.toString(x1, scope));
-				this.result.completeExceptionally(new CompletionException(SdkBridge.toString(x1,offHeapMemory.scope()),
-				                                                          null));
-				//this.result.complete(tc_string_data_t.toString(x1, scope));
-				logger.log(System.Logger.Level.WARNING, () -> "REQID: %d, ERROR".formatted(x0));
-			} else if (x2 == ton_client.tc_response_nop()) {
-				// NOP = 2, no operation. In combination with finished = true signals that the request handling was finished.
-				logger.log(System.Logger.Level.TRACE, () -> "REQID: %d, NOP".formatted(x0));
-				if (x3) {
-					this.result.complete(null);
-				}
-			} else if (x2 == ton_client.tc_response_app_request()) {
-				// APP_REQUEST = 3, request some data from application. See Application objects
-				logger.log(System.Logger.Level.TRACE, () -> "REQID: %d, APP_REQUEST".formatted(x0));
-			} else if (x2 == ton_client.tc_response_app_notify()) {
-				// APP_NOTIFY = 4, notify application with some data. See Application objects
-				logger.log(System.Logger.Level.TRACE, () -> "REQID: %d, APP_NOTIFY".formatted(x0));
-			} else if (x2 > ton_client.tc_response_app_notify() && x2 < ton_client.tc_response_custom()) {
-				// RESERVED = 5..99 – reserved for protocol internal purposes. Application (or binding) must ignore this response.
-				// Nevertheless the binding must check the finished flag to release data, associated with request.
-				logger.log(System.Logger.Level.TRACE, () -> "REQID: %d, RESERVED".formatted(x0));
-				if (x3) {
-					this.result.complete(SdkBridge.toString(x1,offHeapMemory.scope()));
-				}
-			} else {
-				// CUSTOM >= 100 - additional function data related to request handling. Depends on the function.
-				logger.log(System.Logger.Level.TRACE,
-				           () -> "REQID: %d, CUSTOM #%d, %s".formatted(x0, x2, SdkBridge.toString(x1,offHeapMemory.scope())));
-				if (this.handlerConsumer != null) {
-					this.handlerConsumer.accept(new CallbackHandler(SdkBridge.toString(x1,offHeapMemory.scope()), x2));
+		final MemorySegment content = SdkBridge.content(x1);
+		if (this.executor.isDirect()) {
+			handle(x0, content, x2, x3);
+		} else {
+			// native thread only copies payload, content is valid only until callback returns
+			final long length = content.byteSize();
+			final MemorySegment copy = NativeBufferPool.global().acquire(Math.max(1, length));
+			MemorySegment.copy(content, 0, copy, 0, length);
+			enqueue(() -> {
+				try {
+					handle(x0, copy.asSlice(0, length), x2, x3);
+				} finally {
+					NativeBufferPool.global().release(copy);
 				}
+			});
+		}
+	}
+
+	private void handle(int x0, MemorySegment x1, int x2, boolean x3) {
+		if (x2 == ton_client.tc_response_success()) {
+			completeParsed(x1);
+			logger.log(System.Logger.Level.TRACE, () -> "REQID: %d, RESULT".formatted(x0));
+		} else if (x2 == ton_client.tc_response_error()) {
+			//throw new RuntimeException(EverSdkBridge.toString(x1, scope));
+			this.result.completeExceptionally(new CompletionException(SdkBridge.readContent(x1),
+			                                                          null));
+			//this.result.complete(tc_string_data_t.toString(x1, scope));
+			logger.log(System.Logger.Level.WARNING, () -> "REQID: %d, ERROR".formatted(x0));
+		} else if (x2 == ton_client.tc_response_nop()) {
+			// NOP = 2, no operation. In combination with finished = true signals that the request handling was finished.
+			logger.log(System.Logger.Level.TRACE, () -> "REQID: %d, NOP".formatted(x0));
+			if (x3) {
+				this.result.complete(null);
+			}
+		} else if (x2 == ton_client.tc_response_app_request()) {
+			// APP_REQUEST = 3, request some data from application. See Application objects
+			logger.log(System.Logger.Level.TRACE, () -> "REQID: %d, APP_REQUEST".formatted(x0));
+		} else if (x2 == ton_client.tc_response_app_notify()) {
+			// APP_NOTIFY = 4, notify application with some data. See Application objects
+			logger.log(System.Logger.Level.TRACE, () -> "REQID: %d, APP_NOTIFY".formatted(x0));
+		} else if (x2 > ton_client.tc_response_app_notify() && x2 < ton_client.tc_response_custom()) {
+			// RESERVED = 5..99 – reserved for protocol internal purposes. Application (or binding) must ignore this response.
+			// Nevertheless the binding must check the finished flag to release data, associated with request.
+			logger.log(System.Logger.Level.TRACE, () -> "REQID: %d, RESERVED".formatted(x0));
+			if (x3) {
+				completeParsed(x1);
+			}
+		} else {
+			// CUSTOM >= 100 - additional function data related to request handling. Depends on the function.
+			logger.log(System.Logger.Level.TRACE,
+			           () -> "REQID: %d, CUSTOM #%d, %s".formatted(x0, x2, SdkBridge.readContent(x1)));
+			if (this.handlerConsumer != null) {
+				this.handlerConsumer.accept(new CallbackHandler(SdkBridge.readContent(x1), x2));
+			}
+		}
+	}
+
+	private void enqueue(Runnable task) {
+		this.pending.add(task);
+		this.executor.enqueued();
+		if (this.pendingCount.getAndIncrement() == 0) {
+			try {
+				this.executor.execute(this::drain);
+			} catch (RejectedExecutionException e) {
+				// executor is shut down or full, responses are handled on native thread as with direct executor,
+				// so pooled copies are released and later responses are not stuck behind drain that never runs
+				logger.log(System.Logger.Level.WARNING,
+				           () -> "Callback executor rejected responses of " + this.functionName + ", handling them inline! ERR:" + e);
+				drain();
+			}
+		}
+	}
+
+	private void drain() {
+		do {
+			final Runnable task = this.pending.poll();
+			this.executor.dequeued();
+			try {
+				task.run();
+			} catch (Throwable e) {
+				logger.log(System.Logger.Level.ERROR, () -> "Response handling failed! ERR:" + e);
+				this.result.completeExceptionally(e);
 			}
+		} while (this.pendingCount.decrementAndGet() > 0);
+	}
+
+	private void completeParsed(MemorySegment content) {
+		try {
+			this.result.complete(SdkBridge.readContent(content, this.parser));
+		} catch (IOException e) {
+			this.result.completeExceptionally(e);
 		}
 	}
 
-	public CompletableFuture<String> result() {
+	public CompletableFuture<T> result() {
 		return this.result;
 	}
+
+	public String functionName() {
+		return this.functionName;
+	}
+
+	/**
+	 * @return nanoseconds since request was sent
+	 */
+	public long ageNanos() {
+		return System.nanoTime() - this.startNanos;
+	}
+
+	public boolean isOrphaned() {
+		return this.orphaned;
+	}
+
+	/**
+	 * Marks request as abandoned by caller, for example after timeout. Handler stays registered
+	 * until EVER-SDK finishes request, but its responses are not handled anymore.
+	 */
+	public void orphan() {
+		this.orphaned = true;
+	}
 }
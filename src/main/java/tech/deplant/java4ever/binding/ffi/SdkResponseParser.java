@@ -0,0 +1,29 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts UTF-8 response JSON of EVER-SDK into result object. Bytes are valid only
+ * during the call, as they point to a reused read buffer, so parser must not keep them.
+ *
+ * @param <T> type of result
+ */
+@FunctionalInterface
+public interface SdkResponseParser<T> {
+
+	/**
+	 * Decodes response into String.
+	 */
+	SdkResponseParser<String> STRING = (bytes, offset, length) -> new String(bytes,
+	                                                                         offset,
+	                                                                         length,
+	                                                                         StandardCharsets.UTF_8);
+
+	/**
+	 * Skips response, used for calls without outputs.
+	 */
+	SdkResponseParser<Void> IGNORE = (bytes, offset, length) -> null;
+
+	T parse(byte[] bytes, int offset, int length) throws IOException;
+}
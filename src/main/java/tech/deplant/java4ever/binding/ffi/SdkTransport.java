@@ -0,0 +1,50 @@
+package tech.deplant.java4ever.binding.ffi;
+
+import tech.deplant.java4ever.binding.CallbackHandler;
+import tech.deplant.java4ever.binding.loader.LibraryLoader;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Way requests of EverSdkContext reach EVER-SDK. {@link NativeSdkTransport} calls ton_client library,
+ * {@link FakeSdkTransport} answers in-process, so call path of binding can be benchmarked
+ * and load-tested without the library.
+ */
+public interface SdkTransport {
+
+	/**
+	 * @return transport that calls ton_client library through {@link SdkBridge}
+	 */
+	static SdkTransport nativeTransport() {
+		return NativeSdkTransport.INSTANCE;
+	}
+
+	/**
+	 * Creates context
+	 *
+	 * @return JSON response of tc_create_context with "result" (context id) or "error" field
+	 */
+	String createContext(LibraryLoader loader, String configJson);
+
+	/**
+	 * Destroys context and fails its requests that wait for response
+	 */
+	void destroyContext(int contextId);
+
+	/**
+	 * Sends request, responses are delivered to returned handler.
+	 * Request buffer is owned by the caller and can be released as soon as this method returns.
+	 */
+	<T> SdkResponseHandler<T> request(int contextId,
+	                                  int requestId,
+	                                  NativeRequestBuffer request,
+	                                  Consumer<CallbackHandler> consumer,
+	                                  SdkResponseParser<T> parser,
+	                                  SdkCallbackExecutor executor);
+
+	/**
+	 * Synchronous request, response JSON contains either "result" or "error" field
+	 */
+	<T> T requestSync(int contextId, NativeRequestBuffer request, SdkResponseParser<T> parser) throws IOException;
+}
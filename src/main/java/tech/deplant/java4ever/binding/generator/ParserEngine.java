@@ -149,10 +149,9 @@ public class ParserEngine {
 			// function writing loop
 			// functions receive full lib info
 			for (ApiFunction function : module.functions()) {
-				moduleBuilder.addMethod(new SdkFunction(module.name().toLowerCase(),
-				                                        function,
-				                                        typeLibrary).poeticize()
-				                                                    .build());
+				var sdkFunction = new SdkFunction(module.name().toLowerCase(), function, typeLibrary);
+				moduleBuilder.addMethod(sdkFunction.poeticize().build());
+				moduleBuilder.addMethod(sdkFunction.poeticizeAsync().build());
 			}
 
 			// file writing loop
@@ -16,6 +16,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -26,6 +28,28 @@ public record SdkFunction(String functionModule,
 
 	private final static System.Logger logger = System.getLogger(SdkFunction.class.getName());
 
+	// modules that contain only local CPU-bound functions
+	private static final Set<String> SYNC_MODULES = Set.of("crypto", "abi", "boc", "utils");
+	// functions that work with boxes can call application back (password provider, app signing box)
+	private static final List<String> ASYNC_NAME_PARTS = List.of("crypto_box", "signing_box", "encryption_box");
+
+	/**
+	 * Local functions without callbacks and app objects are generated with
+	 * synchronous call type (tc_request_sync), as future and thread hand-off
+	 * cost more than the work itself.
+	 *
+	 * @return true if function should be called with EverSdkContext.callSync()
+	 */
+	public boolean isSync() {
+		return SYNC_MODULES.contains(functionModule().toLowerCase()) &&
+		       ASYNC_NAME_PARTS.stream().noneMatch(part -> function().name().contains(part)) &&
+		       Arrays.stream(function().params())
+		             .noneMatch(param -> switch (param.name()) {
+			             case "callback", "app_object", "password_provider" -> true;
+			             default -> false;
+		             });
+	}
+
 	private String constructCallParams(MethodSpec.Builder methodBuilder,
 	                                   List<Object> statementArgs,
 	                                   SdkParam param) {
@@ -58,18 +82,33 @@ public record SdkFunction(String functionModule,
 	}
 
 	public MethodSpec.Builder poeticize() {
+		return poeticize(false);
+	}
+
+	/**
+	 * Async variant of function, "xxxAsync" method that returns CompletableFuture of result.
+	 * Async variants use tc_request even for local functions, so they never block calling thread.
+	 */
+	public MethodSpec.Builder poeticizeAsync() {
+		return poeticize(true);
+	}
+
+	private MethodSpec.Builder poeticize(boolean async) {
 
 		// METADATA
 		var methodBuilder = MethodSpec
-				.methodBuilder(ParserUtils.camelCase(function().name()))
-				.addModifiers(Modifier.PUBLIC, Modifier.STATIC)
-				.addException(ClassName.get(EverSdkException.class));
+				.methodBuilder(ParserUtils.camelCase(function().name()) + (async ? "Async" : ""))
+				.addModifiers(Modifier.PUBLIC, Modifier.STATIC);
+		if (!async) {
+			// async variants report errors through returned future
+			methodBuilder.addException(ClassName.get(EverSdkException.class));
+		}
 
 		// BODY
 		// Args for all call params
 		List<Object> statementArgs = new ArrayList<>();
 		// Context param
-		methodBuilder.addParameter(ClassName.get(EverSdkContext.class), "ctx");
+		methodBuilder.addParameter(ClassName.get(EverSdkInvoker.class), "ctx");
 		// Function SDK name
 		// adds function name as a first arg to statementArgs array
 		statementArgs.add(String.format("%s.%s", functionModule().toLowerCase(), function().name()));
@@ -90,13 +129,14 @@ public record SdkFunction(String functionModule,
 				}
 				case "callback" -> {
 					templateString = templateString.replace("%APP_OBJ%", ", callbackHandler");
-					templateString = templateString.replace("%CALL_TYPE%", "callEvent");
+					templateString = templateString.replace("%CALL_TYPE%", async ? "callEventAsync" : "callEvent");
 					var paramClass = ClassName.get(CallbackHandler.class);
 					methodBuilder.addParameter(ParameterizedTypeName.get(ClassName.get(Consumer.class), paramClass), "callbackHandler");
 				}
 				case "app_object", "password_provider" -> {
 					templateString = templateString.replace("%APP_OBJ%", ", appObject");
-					templateString = templateString.replace("%CALL_TYPE%", "callAppObject");
+					templateString = templateString.replace("%CALL_TYPE%",
+					                                        async ? "callAppObjectAsync" : "callAppObject");
 					methodBuilder.addParameter(ClassName.get(AppSigningBox.class), "appObject");
 				}
 				default -> logger.log(System.Logger.Level.WARNING,  () -> "Unknown parameter: " + param.name());
@@ -111,18 +151,26 @@ public record SdkFunction(String functionModule,
 			if (!resultReference.isVoid()) {
 				//
 				templateString = templateString.replace("%RETURN_KEY%", "return ");
-				templateString = templateString.replace("%CALL_TYPE%", "call");
+				templateString = templateString.replace("%CALL_TYPE%", async ? "callAsync" : isSync() ? "callSync" : "call");
 				templateString = templateString.replace("%RETURN_CLASS%", ", $T.class");
 				var typeName = resultReference.toTypeName();
 				// adds return class to method builder
-				methodBuilder.returns(typeName);
+				methodBuilder.returns(async ?
+						                      ParameterizedTypeName.get(ClassName.get(CompletableFuture.class), typeName) :
+						                      typeName);
 				// adds return class as a final arg to statementArgs array
 				statementArgs.add(typeName);
 			}
 		}
 		// void result
+		if (async && templateString.contains("%CALL_TYPE%")) {
+			templateString = templateString.replace("%RETURN_KEY%", "return ");
+			templateString = templateString.replace("%CALL_TYPE%", "callVoidAsync");
+			methodBuilder.returns(ParameterizedTypeName.get(ClassName.get(CompletableFuture.class),
+			                                                ClassName.get(Void.class)));
+		}
 		templateString = templateString.replace("%RETURN_KEY%", "");
-		templateString = templateString.replace("%CALL_TYPE%", "callVoid");
+		templateString = templateString.replace("%CALL_TYPE%", isSync() ? "callSyncVoid" : "callVoid");
 		templateString = templateString.replace("%RETURN_CLASS%", "");
 
 		final String finalTemplateString = templateString;
@@ -3,19 +3,53 @@ package tech.deplant.java4ever.binding.loader;
 import tech.deplant.java4ever.utils.SystemContext;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.Logger.Level.WARNING;
 
-public record DefaultLoader(ClassLoader loader) implements LibraryLoader {
+/**
+ * Loads EVER-SDK library bundled in resources.
+ *
+ * @param loader class loader to read library resource from
+ * @param linker loads extracted library file into process, {@link System#load(String)} by default
+ */
+public record DefaultLoader(ClassLoader loader, Consumer<Path> linker) implements LibraryLoader {
 
 	private final static System.Logger logger = System.getLogger(DefaultLoader.class.getName());
 
+	public static final String CACHE_DIR_PROPERTY = "java4ever.binding.cache.dir";
+	private static final long TRANSFER_CHUNK = 1L << 20;
+	// resource name -> extracted library, libraries are loaded once per process
+	private static final Map<String, Path> LOADED = new ConcurrentHashMap<>();
+
+	public DefaultLoader(ClassLoader loader) {
+		this(loader, library -> System.load(library.toAbsolutePath().toString()));
+	}
+
 	public static String resourceToAbsolute(ClassLoader loader, String resourcePath) throws IOException {
 		URL url = loader.getResource(resourcePath);
 
@@ -35,31 +69,108 @@ public record DefaultLoader(ClassLoader loader) implements LibraryLoader {
 		return lib.getAbsolutePath();
 	}
 
+	/**
+	 * Extracts library from resources to cache directory and loads it. Library is extracted
+	 * to a directory named by SHA-256 of its content, so extracted file is reused by next JVM starts
+	 * and different library versions never overwrite each other. Cached file is loaded only if its content
+	 * still has this hash, otherwise it's extracted again. Default cache directory is private to current user.
+	 * Inside one process every resource is extracted and loaded only once.
+	 *
+	 * @param name resource path of library
+	 */
 	public void loadJarDll(String name) {
+		final Path library = LOADED.computeIfAbsent(name, this::extract);
+		logger.log(DEBUG, () -> "Library %s is loaded from %s".formatted(name, library));
+	}
+
+	private Path extract(String name) {
 		try {
-//			Module module = ModuleLayer.boot()
-//			                           .findModule("java4ever.binding")
-//			                           // Optional<Module> at this point
-//			                           .orElseThrow();
-			//InputStream in = module.getResourceAsStream(name);
-			InputStream in = this.loader().getResourceAsStream(name);
-			//InputStream in = this.getClass().getResourceAsStream(name);
-			byte[] buffer = new byte[1024];
-			int read = -1;
-			File temp = null;
-			temp = File.createTempFile(name, "");
-			FileOutputStream fos = new FileOutputStream(temp);
-
-			while ((read = in.read(buffer)) != -1) {
-				fos.write(buffer, 0, read);
+			final String hash = sha256(openResource(name));
+			final Path directory = cacheDirectory().resolve(hash);
+			final Path library = directory.resolve(Path.of(name).getFileName());
+			if (Files.isRegularFile(library, LinkOption.NOFOLLOW_LINKS) && hash.equals(sha256(Files.newInputStream(library)))) {
+				logger.log(DEBUG, () -> "Using cached library %s".formatted(library));
+			} else {
+				if (Files.exists(library, LinkOption.NOFOLLOW_LINKS)) {
+					logger.log(WARNING, () -> "Cached library %s doesn't match its hash, extracting again".formatted(library));
+				}
+				Files.createDirectories(directory);
+				// concurrent JVMs extract to their own temp files, only complete file is moved to its place
+				final Path temp = Files.createTempFile(directory, "ton_client", ".tmp");
+				try (var in = Channels.newChannel(openResource(name));
+				     var out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+					long position = 0;
+					long transferred;
+					while ((transferred = out.transferFrom(in, position, TRANSFER_CHUNK)) > 0) {
+						position += transferred;
+					}
+				}
+				try {
+					// replaces file with wrong content too, concurrent loaders see either old or complete file
+					Files.move(temp, library, StandardCopyOption.ATOMIC_MOVE);
+				} finally {
+					Files.deleteIfExists(temp);
+				}
+				logger.log(DEBUG, () -> "Library %s extracted to %s".formatted(name, library));
 			}
-			fos.close();
-			in.close();
+			this.linker.accept(library);
+			return library;
+		} catch (IOException | NoSuchAlgorithmException e) {
+			throw new RuntimeException("Failed to extract library " + name, e);
+		}
+	}
+
+	private static String sha256(InputStream content) throws IOException, NoSuchAlgorithmException {
+		final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		try (var in = new DigestInputStream(content, digest)) {
+			in.transferTo(OutputStream.nullOutputStream());
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
 
-			System.load(temp.getAbsolutePath());
-		} catch (IOException e) {
-			throw new RuntimeException(e);
+	private InputStream openResource(String name) throws IOException {
+		final InputStream in = this.loader().getResourceAsStream(name);
+		if (in == null) {
+			throw new IOException("Library resource " + name + " is not found, use other loaders for your custom EVER-SDK library!");
 		}
+		return in;
+	}
+
+	/**
+	 * @return directory from "java4ever.binding.cache.dir" property or "java4ever-{user}" folder in temp directory
+	 */
+	private static Path cacheDirectory() throws IOException {
+		final String configured = System.getProperty(CACHE_DIR_PROPERTY);
+		return configured != null ?
+				Path.of(configured) :
+				privateDirectory(Path.of(System.getProperty("java.io.tmpdir"),
+				                         "java4ever-" + System.getProperty("user.name")));
+	}
+
+	/**
+	 * Creates directory that only current user can access (0700). Temp directory can be shared
+	 * by other users, so existing directory is accepted only if it's owned by current user and closed to others.
+	 */
+	private static Path privateDirectory(Path directory) throws IOException {
+		if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+			Files.createDirectories(directory);
+			return directory;
+		}
+		try {
+			Files.createDirectory(directory,
+			                      PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+		} catch (FileAlreadyExistsException e) {
+			logger.log(DEBUG, () -> "Library cache directory %s exists".formatted(directory));
+		}
+		final var attributes = Files.readAttributes(directory, PosixFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+		final var permissions = attributes.permissions();
+		if (!attributes.isDirectory() ||
+		    !attributes.owner().getName().equals(System.getProperty("user.name")) ||
+		    permissions.stream().anyMatch(permission -> !permission.name().startsWith("OWNER_"))) {
+			throw new IOException("Library cache directory " + directory +
+			                      " is not a private directory of current user, remove it or set " + CACHE_DIR_PROPERTY);
+		}
+		return directory;
 	}
 
 	@Override
@@ -70,6 +181,9 @@ public record DefaultLoader(ClassLoader loader) implements LibraryLoader {
 		} else if (SystemContext.OS().equals(SystemContext.OperatingSystem.LINUX) &&
 		           SystemContext.PROCESSOR().equals(SystemContext.ProcessorArchitecture.X86_64)) {
 			loadJarDll("sdk/linux_x86_64/libton_client.so");
+		} else if (SystemContext.OS().equals(SystemContext.OperatingSystem.LINUX) &&
+		           SystemContext.PROCESSOR().equals(SystemContext.ProcessorArchitecture.ARM_64)) {
+			loadJarDll("sdk/linux_aarch64/libton_client.so");
 		} else if (SystemContext.OS().equals(SystemContext.OperatingSystem.MAC) &&
 		           SystemContext.PROCESSOR().equals(SystemContext.ProcessorArchitecture.X86_64)) {
 			loadJarDll("sdk/macos_x86_64/libton_client.dylib");
@@ -5,4 +5,5 @@ module java4ever.bindtest {
 	requires com.fasterxml.jackson.databind;
 	requires org.junit.jupiter.api;
 	exports tech.deplant.java4ever.unit;
+	exports tech.deplant.java4ever.benchmark;
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package tech.deplant.java4ever.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Minimal benchmark harness for comparisons of binding internals.
+ * Runs warmup iterations first, then prints median and best time per operation.
+ * Run with Gradle task: ./gradlew runBenchmark -Pbenchmark=ClassName
+ */
+public final class BenchmarkRunner {
+
+	private final int warmupIterations;
+	private final int iterations;
+	private final int opsPerIteration;
+
+	public BenchmarkRunner(int warmupIterations, int iterations, int opsPerIteration) {
+		this.warmupIterations = warmupIterations;
+		this.iterations = iterations;
+		this.opsPerIteration = opsPerIteration;
+	}
+
+	public static BenchmarkRunner ofDefaults() {
+		return new BenchmarkRunner(5, 10, 10_000);
+	}
+
+	public void run(String name, Runnable operation) {
+		for (int i = 0; i < this.warmupIterations; i++) {
+			iteration(operation);
+		}
+		final double[] results = new double[this.iterations];
+		for (int i = 0; i < this.iterations; i++) {
+			results[i] = iteration(operation);
+		}
+		Arrays.sort(results);
+		System.out.printf("%-48s median: %12.1f ns/op   best: %12.1f ns/op%n",
+		                  name,
+		                  results[results.length / 2],
+		                  results[0]);
+	}
+
+	private double iteration(Runnable operation) {
+		final long start = System.nanoTime();
+		for (int i = 0; i < this.opsPerIteration; i++) {
+			operation.run();
+		}
+		return (double) (System.nanoTime() - start) / this.opsPerIteration;
+	}
+}
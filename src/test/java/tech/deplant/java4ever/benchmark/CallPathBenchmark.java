@@ -0,0 +1,50 @@
+package tech.deplant.java4ever.benchmark;
+
+import tech.deplant.java4ever.binding.Client;
+import tech.deplant.java4ever.binding.Crypto;
+import tech.deplant.java4ever.binding.EverSdkContext;
+import tech.deplant.java4ever.binding.EverSdkException;
+import tech.deplant.java4ever.binding.ffi.FakeSdkTransport;
+import tech.deplant.java4ever.binding.ffi.NativeBufferPool;
+import tech.deplant.java4ever.binding.ffi.SdkCallbackExecutor;
+
+/**
+ * Measures overhead of binding's own call path (params serialization, marshalling, dispatch,
+ * response parsing) with {@link FakeSdkTransport} that answers without latency.
+ * Doesn't need ton_client library.
+ */
+public class CallPathBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		final var runner = BenchmarkRunner.ofDefaults();
+		final var transport = FakeSdkTransport.builder()
+		                                      .setResponse("client.version", "{\"version\":\"1.42.1\"}")
+		                                      .setResponse("crypto.sha256",
+		                                                   "{\"hash\":\"2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824\"}")
+		                                      .build();
+		try (var direct = EverSdkContext.builder().setTransport(transport).buildNew();
+		     var offloaded = EverSdkContext.builder()
+		                                   .setTransport(transport)
+		                                   .setCallbackExecutor(SdkCallbackExecutor.bounded(4, 1024))
+		                                   .buildNew()) {
+			runner.run("async call, direct callbacks", () -> version(direct));
+			runner.run("async call, bounded callback executor", () -> version(offloaded));
+			runner.run("sync call", () -> {
+				try {
+					Crypto.sha256(direct, "aGVsbG8=");
+				} catch (EverSdkException e) {
+					throw new IllegalStateException(e);
+				}
+			});
+		}
+		System.out.println(NativeBufferPool.global().stats());
+	}
+
+	private static void version(EverSdkContext ctx) {
+		try {
+			Client.version(ctx);
+		} catch (EverSdkException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package tech.deplant.java4ever.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import tech.deplant.java4ever.binding.Boc;
+import tech.deplant.java4ever.binding.JsonContext;
+import tech.deplant.java4ever.binding.ffi.NativeBufferPool;
+import tech.deplant.java4ever.binding.ffi.NativeRequestBuffer;
+import tech.deplant.java4ever.binding.ffi.SdkBridge;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Compares request marshalling with shared arena per call (previous SdkBridge.tcRequest path)
+ * with pooled native buffers, params serialization through String with serialization straight
+ * into native buffer. Also compares reading of callback strings.
+ * Doesn't need ton_client library, only Java side of marshalling is measured.
+ */
+public class MarshallingBenchmark {
+
+	public static void main(String[] args) {
+		final var runner = BenchmarkRunner.ofDefaults();
+		final String functionName = "net.query_collection";
+		final String smallParams = "{\"collection\":\"accounts\",\"filter\":{\"id\":{\"eq\":\"0:856f54b9126755ce6ecb7c62b7ad8c94353f7797c03ab82eda63d11120ed3ab7\"}},\"result\":\"balance\"}";
+		final String largeParams = "{\"boc\":\"" + "te6ccgEBAQEAAgAAAA==".repeat(5_000) + "\"}";
+
+		for (String params : new String[]{smallParams, largeParams}) {
+			final String size = params.length() + " chars";
+			runner.run("shared arena per request, " + size, () -> {
+				try (Arena arena = Arena.openShared()) {
+					SdkBridge.toRustString(functionName, arena.scope());
+					SdkBridge.toRustString(params, arena.scope());
+				}
+			});
+			runner.run("pooled native buffer, " + size, () -> {
+				final var request = NativeRequestBuffer.of(functionName, params);
+				request.functionName();
+				request.params();
+				request.release();
+			});
+		}
+
+		final ObjectMapper mapper = JsonContext.SDK_JSON_MAPPER();
+		for (String boc : new String[]{"te6ccgEBAQEAAgAAAA==", "te6ccgEBAQEAAgAAAA==".repeat(5_000)}) {
+			final var params = new Boc.ParamsOfParse(boc);
+			final String size = boc.length() + " chars boc";
+			runner.run("serialize to String, then to native, " + size, () -> {
+				try {
+					final var request = NativeRequestBuffer.of(functionName, mapper.writeValueAsString(params));
+					request.params();
+					request.release();
+				} catch (IOException e) {
+					throw new IllegalStateException(e);
+				}
+			});
+			runner.run("serialize straight to native, " + size, () -> {
+				try {
+					final var request = NativeRequestBuffer.of(functionName);
+					mapper.writeValue(request, params);
+					request.params();
+					request.release();
+				} catch (IOException e) {
+					throw new IllegalStateException(e);
+				}
+			});
+		}
+
+		try (Arena arena = Arena.openConfined()) {
+			final MemorySegment response = SdkBridge.toRustString(smallParams, arena.scope());
+			runner.run("callback read, shared arena per response", () -> {
+				try (Arena callbackArena = Arena.openShared()) {
+					SdkBridge.toString(response, callbackArena.scope());
+				}
+			});
+			runner.run("callback read, per-thread buffer", () -> SdkBridge.readString(response));
+		}
+
+		System.out.println(NativeBufferPool.global().stats());
+	}
+}
@@ -0,0 +1,82 @@
+package tech.deplant.java4ever.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import tech.deplant.java4ever.binding.EverSdkContext;
+import tech.deplant.java4ever.binding.JsonContext;
+import tech.deplant.java4ever.binding.MessageSender;
+import tech.deplant.java4ever.binding.Processing;
+import tech.deplant.java4ever.binding.ffi.FakeSdkTransport;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+/**
+ * Load test of {@link MessageSender} against {@link FakeSdkTransport} with network-like latency.
+ * Compares batched sending with one sendMessages call per message. Every operation sends
+ * and resolves a whole load of messages, so time per operation is the time of the load.
+ * Doesn't need ton_client library.
+ */
+public class MessageSenderBenchmark {
+
+	private static final int MESSAGES = 10_000;
+	private static final long WAIT_UNTIL = 1_900_000_000L;
+
+	public static void main(String[] args) throws Exception {
+		final var runner = new BenchmarkRunner(2, 5, 1);
+		final ObjectMapper mapper = JsonContext.SDK_JSON_MAPPER();
+		final Queue<String> sentHashes = new ConcurrentLinkedQueue<>();
+		final var transport = FakeSdkTransport.builder()
+		                                      .setLatency(Duration.ofMillis(5), Duration.ofMillis(20))
+		                                      .setResponder("processing.send_messages",
+		                                                    params -> sendMessages(mapper, sentHashes, params))
+		                                      .setResponder("processing.fetch_next_monitor_results",
+		                                                    params -> monitorResults(mapper, sentHashes))
+		                                      .build();
+		try (var ctx = EverSdkContext.builder().setTransport(transport).buildNew();
+		     var batched = MessageSender.builder().setBatchSize(100).setQueueSize(MESSAGES).build(ctx);
+		     var single = MessageSender.builder().setBatchSize(1).setQueueSize(MESSAGES).build(ctx)) {
+			runner.run(MESSAGES + " messages, batches of 100", () -> load(batched));
+			runner.run(MESSAGES + " messages, one per sendMessages", () -> load(single));
+			System.out.printf("requests to transport: %d%n", transport.requests());
+		}
+	}
+
+	private static void load(MessageSender sender) {
+		CompletableFuture.allOf(IntStream.range(0, MESSAGES)
+		                                 .mapToObj(i -> sender.send("boc" + i, WAIT_UNTIL))
+		                                 .toArray(CompletableFuture[]::new))
+		                 .join();
+	}
+
+	private static String sendMessages(ObjectMapper mapper, Queue<String> sentHashes, String params) {
+		final var monitored = mapper.createArrayNode();
+		try {
+			for (var message : mapper.readTree(params).get("messages")) {
+				final var hash = "hash-" + message.get("boc").asText();
+				sentHashes.add(hash);
+				monitored.addObject()
+				         .put("wait_until", message.get("wait_until").asLong())
+				         .putObject("message")
+				         .put("type", "HashAddress")
+				         .put("hash", hash)
+				         .put("address", "0:1");
+			}
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException(e);
+		}
+		return mapper.createObjectNode().set("messages", monitored).toString();
+	}
+
+	private static String monitorResults(ObjectMapper mapper, Queue<String> sentHashes) {
+		final var results = mapper.createArrayNode();
+		String hash;
+		while ((hash = sentHashes.poll()) != null) {
+			results.addObject().put("hash", hash).put("status", Processing.MessageMonitoringStatus.Finalized.name());
+		}
+		return mapper.createObjectNode().set("results", results).toString();
+	}
+}
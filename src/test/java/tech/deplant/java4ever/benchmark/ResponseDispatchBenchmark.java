@@ -0,0 +1,34 @@
+package tech.deplant.java4ever.benchmark;
+
+import tech.deplant.java4ever.binding.ffi.SdkResponseDispatcher;
+import tech.deplant.java4ever.binding.ffi.SdkResponseHandler;
+import tech.deplant.java4ever.binding.ffi.SdkResponseParser;
+import tech.deplant.java4ever.binding.ffi.tc_response_handler_t;
+
+import java.lang.foreign.SegmentScope;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares per-request upcall stub allocation (previous SdkBridge.tcRequest path)
+ * with registration in shared SdkResponseDispatcher table.
+ * Doesn't need ton_client library, as only Java side of request setup is measured.
+ */
+public class ResponseDispatchBenchmark {
+
+	public static void main(String[] args) {
+		final var runner = BenchmarkRunner.ofDefaults();
+		final var requestCounter = new AtomicInteger();
+
+		runner.run("upcall stub per request (SegmentScope.auto)",
+		           () -> tc_response_handler_t.allocate(new SdkResponseHandler<>(null, SdkResponseParser.STRING), SegmentScope.auto()));
+
+		runner.run("shared upcall + dispatch table",
+		           () -> {
+			           final int requestId = requestCounter.incrementAndGet();
+			           SdkResponseDispatcher.register(1, requestId, new SdkResponseHandler<>(null, SdkResponseParser.STRING));
+			           SdkResponseDispatcher.unregister(1, requestId);
+		           });
+
+		System.out.printf("Requests left in dispatch table: %d%n", SdkResponseDispatcher.pendingCount());
+	}
+}
@@ -0,0 +1,133 @@
+package tech.deplant.java4ever.unit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.Abi;
+import tech.deplant.java4ever.binding.AbiBatchDecoder;
+import tech.deplant.java4ever.binding.AbiBatchEncoder;
+import tech.deplant.java4ever.binding.AbiRegistry;
+import tech.deplant.java4ever.binding.EverSdkContext;
+import tech.deplant.java4ever.binding.EverSdkException;
+import tech.deplant.java4ever.binding.JsonContext;
+import tech.deplant.java4ever.binding.ffi.FakeSdkTransport;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class AbiBatchTests {
+
+	@Test
+	public void batch_encoder_returns_messages_in_input_order() throws JsonProcessingException, EverSdkException {
+		var mapper = JsonContext.SDK_JSON_MAPPER();
+		var transport = FakeSdkTransport.builder()
+		                                .setResponder("abi.encode_message", FakeResponders.json(params -> {
+			                                var address = params.get("address").asText();
+			                                return mapper.createObjectNode()
+			                                             .put("message", params.at("/abi/value/version").asText() + ":" + address)
+			                                             .put("address", address)
+			                                             .put("message_id", "id");
+		                                }))
+		                                .build();
+		try (var ctx = EverSdkContext.builder().setTransport(transport).buildNew()) {
+			var contract = new Abi.AbiContract(2L, 3L, "2.3", new String[]{"time", "expire"}, null, null, null, null);
+			var encoder = AbiBatchEncoder.builder().setParallelism(4).build(ctx, new Abi.ABI.Contract(contract));
+			var addresses = IntStream.range(0, 50).mapToObj(i -> "0:" + i).toList();
+			var messages = encoder.encodeMessages(addresses, new Abi.CallSet("transfer", null, null), new Abi.Signer.None());
+			assertEquals(50, messages.size());
+			for (int i = 0; i < messages.size(); i++) {
+				// ABI was serialized once and written to every request as is
+				assertEquals("2.3:0:" + i, messages.get(i).message());
+			}
+		}
+	}
+
+	@Test
+	public void batch_decoder_tries_every_abi_and_reports_errors_per_item() throws JsonProcessingException, EverSdkException {
+		var mapper = JsonContext.SDK_JSON_MAPPER();
+		var transport = FakeSdkTransport.builder().setResponder("abi.decode_message", FakeResponders.json(params -> {
+			var message = params.get("message").asText();
+			// result that can't be read as DecodedMessageBody fails the call
+			return message.startsWith(params.at("/abi/value/version").asText()) ?
+					mapper.createObjectNode().put("body_type", "Input").put("name", message) :
+					mapper.getNodeFactory().textNode("not decoded");
+		})).build();
+		try (var ctx = EverSdkContext.builder().setTransport(transport).buildNew()) {
+			var first = new Abi.ABI.Contract(new Abi.AbiContract(2L, 3L, "a", null, null, null, null, null));
+			var second = new Abi.ABI.Contract(new Abi.AbiContract(2L, 3L, "b", null, null, null, null, null));
+			var decoder = AbiBatchDecoder.builder().setParallelism(2).build(ctx, List.of(first, second));
+			var results = decoder.decodeMessages(List.of("a1", "b2", "x3", "b4"));
+			assertEquals(4, results.size());
+			assertEquals(0, results.get(0).abiIndex());
+			assertEquals("a1", results.get(0).body().name());
+			assertEquals(1, results.get(1).abiIndex());
+			assertFalse(results.get(2).isSuccess());
+			assertNotNull(results.get(2).error());
+			assertEquals("b4", results.get(3).body().name());
+		}
+	}
+
+	@Test
+	public void batch_decoder_returns_unchecked_item_failures_as_errors() throws JsonProcessingException, EverSdkException {
+		var transport = FakeSdkTransport.builder().setResponder("abi.decode_message", params -> {
+			throw new IllegalStateException("broken item");
+		}).build();
+		try (var ctx = EverSdkContext.builder().setTransport(transport).buildNew()) {
+			var abi = new Abi.ABI.Contract(new Abi.AbiContract(2L, 3L, "a", null, null, null, null, null));
+			var results = AbiBatchDecoder.builder().setParallelism(2).build(ctx, List.of(abi)).decodeMessages(List.of("a1", "a2"));
+			assertEquals(2, results.size());
+			for (var result : results) {
+				assertFalse(result.isSuccess());
+				assertInstanceOf(IllegalStateException.class, result.error().getCause());
+			}
+		}
+	}
+
+	@Test
+	public void batch_encoder_wraps_unchecked_item_failures() throws JsonProcessingException, EverSdkException {
+		var transport = FakeSdkTransport.builder().setResponder("abi.encode_message", params -> {
+			throw new IllegalStateException("broken item");
+		}).build();
+		try (var ctx = EverSdkContext.builder().setTransport(transport).buildNew()) {
+			var contract = new Abi.AbiContract(2L, 3L, "2.3", null, null, null, null, null);
+			var encoder = AbiBatchEncoder.builder().setParallelism(2).build(ctx, new Abi.ABI.Contract(contract));
+			var e = assertThrows(EverSdkException.class,
+			                     () -> encoder.encodeMessages(List.of("0:1", "0:2"),
+			                                                  new Abi.CallSet("transfer", null, null),
+			                                                  new Abi.Signer.None()));
+			assertInstanceOf(IllegalStateException.class, e.getCause());
+		}
+	}
+
+	@Test
+	public void abi_registry_serializes_contract_once() throws JsonProcessingException, EverSdkException {
+		var mapper = JsonContext.SDK_JSON_MAPPER();
+		var transport = FakeSdkTransport.builder().setResponder("abi.decode_message", FakeResponders.json(params -> {
+			var version = params.at("/abi/value/version").asText();
+			return mapper.createObjectNode().put("body_type", "Input").put("name", version);
+		})).build();
+		var registry = AbiRegistry.create(1);
+		try (var ctx = EverSdkContext.builder().setTransport(transport).setAbiRegistry(registry).buildNew()) {
+			var contract = new Abi.AbiContract(2L, 3L, "2.3", new String[]{"time"}, null, null, null, null);
+			for (int i = 0; i < 3; i++) {
+				var decoded = Abi.decodeMessage(ctx, new Abi.ABI.Contract(contract), "te6", null, null, null);
+				assertEquals("2.3", decoded.name());
+			}
+			assertEquals(1, registry.misses());
+			assertEquals(2, registry.hits());
+			// registered contract is not evicted by others
+			registry.register(contract);
+			registry.serialized(new Abi.AbiContract(2L, 3L, "2.4", null, null, null, null, null));
+			assertEquals(1, registry.size());
+			assertEquals(1, registry.evicted());
+			registry.release(contract);
+		}
+	}
+}
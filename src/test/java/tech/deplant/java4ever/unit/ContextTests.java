@@ -0,0 +1,163 @@
+package tech.deplant.java4ever.unit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.CallbackHandler;
+import tech.deplant.java4ever.binding.Client;
+import tech.deplant.java4ever.binding.EverSdkContext;
+import tech.deplant.java4ever.binding.EverSdkContextPool;
+import tech.deplant.java4ever.binding.EverSdkException;
+import tech.deplant.java4ever.binding.Net;
+import tech.deplant.java4ever.binding.Processing;
+import tech.deplant.java4ever.binding.ffi.FakeSdkTransport;
+import tech.deplant.java4ever.binding.ffi.NativeRequestBuffer;
+import tech.deplant.java4ever.binding.ffi.SdkCallbackExecutor;
+import tech.deplant.java4ever.binding.ffi.SdkResponseHandler;
+import tech.deplant.java4ever.binding.ffi.SdkResponseParser;
+import tech.deplant.java4ever.binding.ffi.SdkTransport;
+import tech.deplant.java4ever.binding.loader.LibraryLoader;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class ContextTests {
+
+	@Test
+	public void closed_context_is_destroyed_in_sdk() throws JsonProcessingException, EverSdkException {
+		var ctx = EverSdkContext.builder().setLeakDetection(true).buildNew();
+		Client.version(ctx);
+		assertTrue(ctx.isOpen());
+		ctx.close();
+		assertFalse(ctx.isOpen());
+		assertThrows(EverSdkException.class, () -> Client.version(ctx));
+	}
+
+	@Test
+	public void close_is_idempotent_and_counted_once() throws JsonProcessingException {
+		var ctx = EverSdkContext.builder().buildNew();
+		long closedBefore = EverSdkContext.stats().closed();
+		ctx.close();
+		ctx.close();
+		assertTrue(EverSdkContext.stats().closed() >= closedBefore + 1);
+		assertFalse(ctx.isOpen());
+	}
+
+	@Test
+	public void adopted_context_is_destroyed_on_close() {
+		var transport = FakeSdkTransport.builder().build();
+		long closedBefore = EverSdkContext.stats().closed();
+		var ctx = EverSdkContext.builder().setTransport(transport).buildFromExisting((1 << 24) - 7, 0);
+		assertTrue(ctx.isOpen());
+		ctx.close();
+		assertFalse(ctx.isOpen());
+		assertTrue(EverSdkContext.stats().closed() >= closedBefore + 1);
+	}
+
+	@Test
+	public void context_views_stay_closed_after_close() throws JsonProcessingException {
+		var destroyed = new AtomicInteger();
+		var fake = FakeSdkTransport.builder().build();
+		var transport = new SdkTransport() {
+			@Override
+			public String createContext(LibraryLoader loader, String configJson) {
+				return fake.createContext(loader, configJson);
+			}
+
+			@Override
+			public void destroyContext(int contextId) {
+				destroyed.incrementAndGet();
+				fake.destroyContext(contextId);
+			}
+
+			@Override
+			public <T> SdkResponseHandler<T> request(int contextId,
+			                                         int requestId,
+			                                         NativeRequestBuffer request,
+			                                         Consumer<CallbackHandler> consumer,
+			                                         SdkResponseParser<T> parser,
+			                                         SdkCallbackExecutor executor) {
+				return fake.request(contextId, requestId, request, consumer, parser, executor);
+			}
+
+			@Override
+			public <T> T requestSync(int contextId, NativeRequestBuffer request, SdkResponseParser<T> parser) throws IOException {
+				return fake.requestSync(contextId, request, parser);
+			}
+		};
+		var ctx = EverSdkContext.builder().setTransport(transport).setCoalescing(true).buildNew();
+		var view = ctx.withoutCoalescing();
+		assertNotSame(ctx, view);
+		assertTrue(view.isOpen());
+		ctx.close();
+		assertFalse(view.isOpen());
+		assertFalse(ctx.withoutCoalescing().isOpen());
+		// views share native context, it's destroyed once
+		view.close();
+		ctx.withoutCoalescing().close();
+		assertEquals(1, destroyed.get());
+	}
+
+	@Test
+	public void pool_routes_same_sticky_key_to_same_context() throws JsonProcessingException, EverSdkException {
+		try (var pool = EverSdkContextPool.of(EverSdkContext.builder(), 3)) {
+			var address = "0:856f54b9126755ce6ecb7c62b7ad8c94353f7797c03ab82eda63d11120ed3ab7";
+			assertSame(pool.sticky(address), pool.sticky(address));
+			Client.version(pool);
+			Client.version(pool.sticky(address));
+			assertEquals(2, pool.stats().stream().mapToLong(EverSdkContextPool.MemberStats::calls).sum());
+		}
+	}
+
+	@Test
+	public void pool_keeps_handle_calls_on_context_that_created_handle() throws JsonProcessingException, EverSdkException {
+		var transport = FakeSdkTransport.builder()
+		                                .setResponse("net.subscribe_collection", "{\"handle\":1}")
+		                                .build();
+		try (var pool = EverSdkContextPool.of(EverSdkContext.builder().setTransport(transport), 3)) {
+			for (int i = 0; i < 10; i++) {
+				var subscription = Net.subscribeCollection(pool, "accounts", null, "id", event -> {});
+				Net.unsubscribe(pool, subscription);
+			}
+			Processing.getMonitorInfo(pool, "queue-1");
+			Processing.cancelMonitor(pool, "queue-1");
+			// subscriptions stay on home context, both monitor calls go to context of queue
+			var stats = pool.stats();
+			assertTrue(stats.get(0).calls() >= 20);
+			assertEquals(22, stats.stream().mapToLong(EverSdkContextPool.MemberStats::calls).sum());
+			assertTrue(stats.stream().allMatch(member -> member.calls() == 0 || member.calls() >= 2));
+		}
+	}
+
+	@Test
+	public void responses_handled_on_callback_executor_leave_empty_queue() throws JsonProcessingException, EverSdkException {
+		var executor = SdkCallbackExecutor.bounded(2, 16);
+		try (var ctx = EverSdkContext.builder().setCallbackExecutor(executor).buildNew()) {
+			assertNotNull(Client.version(ctx).version());
+			assertEquals(0, executor.queueDepth());
+		}
+	}
+
+	@Test
+	public void responses_rejected_by_callback_executor_are_handled_inline() throws JsonProcessingException, EverSdkException {
+		var transport = FakeSdkTransport.builder().setResponse("client.version", "{\"version\":\"1.42.1\"}").build();
+		var shutdown = Executors.newSingleThreadExecutor();
+		shutdown.shutdown();
+		var executor = SdkCallbackExecutor.of(shutdown);
+		try (var ctx = EverSdkContext.builder().setTransport(transport).setCallbackExecutor(executor).buildNew()) {
+			assertEquals("1.42.1", Client.version(ctx).version());
+			assertEquals("1.42.1", Client.version(ctx).version());
+			assertEquals(0, executor.queueDepth());
+		}
+	}
+
+}
@@ -0,0 +1,34 @@
+package tech.deplant.java4ever.unit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import tech.deplant.java4ever.binding.JsonContext;
+import tech.deplant.java4ever.binding.ffi.FakeSdkTransport;
+
+import java.util.function.Function;
+
+/**
+ * Responders of {@link FakeSdkTransport} for tests
+ */
+final class FakeResponders {
+
+	private static final ObjectMapper MAPPER = JsonContext.SDK_JSON_MAPPER();
+
+	private FakeResponders() {
+	}
+
+	/**
+	 * @param responder makes result of function from its params
+	 * @return responder that reads params JSON and writes result JSON
+	 */
+	static Function<String, String> json(Function<JsonNode, ? extends JsonNode> responder) {
+		return params -> {
+			try {
+				return responder.apply(MAPPER.readTree(params)).toString();
+			} catch (JsonProcessingException e) {
+				throw new IllegalArgumentException(e);
+			}
+		};
+	}
+}
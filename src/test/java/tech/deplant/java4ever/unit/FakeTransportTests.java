@@ -0,0 +1,106 @@
+package tech.deplant.java4ever.unit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.Client;
+import tech.deplant.java4ever.binding.Crypto;
+import tech.deplant.java4ever.binding.EverSdkContext;
+import tech.deplant.java4ever.binding.EverSdkException;
+import tech.deplant.java4ever.binding.JsonContext;
+import tech.deplant.java4ever.binding.Net;
+import tech.deplant.java4ever.binding.ffi.FakeSdkTransport;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class FakeTransportTests {
+
+	@Test
+	public void fake_transport_answers_async_and_sync_calls_with_canned_responses() throws JsonProcessingException, EverSdkException {
+		var transport = FakeSdkTransport.builder()
+		                                .setResponse("client.version", "{\"version\":\"1.42.1\"}")
+		                                .setResponse("crypto.sha256", "{\"hash\":\"2cf24dba\"}")
+		                                .setLatency(Duration.ofMillis(1), Duration.ofMillis(3))
+		                                .build();
+		try (var ctx = EverSdkContext.builder().setTransport(transport).buildNew()) {
+			assertEquals("1.42.1", Client.version(ctx).version());
+			assertEquals("2cf24dba", Crypto.sha256(ctx, "aGVsbG8=").hash());
+			assertEquals(2, transport.requests());
+		}
+	}
+
+	@Test
+	public void fake_transport_injects_errors() throws JsonProcessingException {
+		var transport = FakeSdkTransport.builder().setErrorRate(1.0).build();
+		try (var ctx = EverSdkContext.builder().setTransport(transport).buildNew()) {
+			var e = assertThrows(EverSdkException.class, () -> Client.version(ctx));
+			assertEquals(-1, e.errorResponse().code());
+			assertThrows(EverSdkException.class, () -> Crypto.sha256(ctx, "aGVsbG8="));
+		}
+	}
+
+	@Test
+	public void async_calls_fan_out_without_blocking_caller() throws JsonProcessingException, ExecutionException, InterruptedException {
+		var transport = FakeSdkTransport.builder()
+		                                .setResponse("net.query", "{\"result\":{\"data\":{}}}")
+		                                .setLatency(Duration.ofMillis(20))
+		                                .build();
+		try (var ctx = EverSdkContext.builder().setTransport(transport).buildNew()) {
+			var futures = IntStream.range(0, 200)
+			                       .mapToObj(i -> Net.queryAsync(ctx, "query{info{time}}", null))
+			                       .toList();
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+			for (var future : futures) {
+				assertNotNull(future.get().result());
+			}
+			assertEquals(200, transport.requests());
+		}
+	}
+
+	@Test
+	public void async_call_completes_exceptionally_with_sdk_exception() throws JsonProcessingException {
+		var transport = FakeSdkTransport.builder().setErrorRate(1.0).build();
+		try (var ctx = EverSdkContext.builder().setTransport(transport).buildNew()) {
+			var e = assertThrows(ExecutionException.class, () -> Client.versionAsync(ctx).get());
+			var cause = assertInstanceOf(EverSdkException.class, e.getCause());
+			assertEquals(-1, cause.errorResponse().code());
+		}
+	}
+
+	@Test
+	public void identical_read_calls_in_flight_share_one_request() throws JsonProcessingException, ExecutionException, InterruptedException, EverSdkException {
+		var transport = FakeSdkTransport.builder()
+		                                .setResponse("net.query_collection", "{\"result\":[{\"balance\":\"0x1\"}]}")
+		                                .setLatency(Duration.ofMillis(50))
+		                                .build();
+		var mapper = JsonContext.SDK_JSON_MAPPER();
+		try (var ctx = EverSdkContext.builder().setTransport(transport).setCoalescing(true).buildNew()) {
+			var futures = IntStream.range(0, 20)
+			                       .mapToObj(i -> {
+				                       // the same filter with different order of keys
+				                       var filter = i % 2 == 0 ?
+						                       mapper.createObjectNode().put("id", "0:1").put("workchain_id", 0) :
+						                       mapper.createObjectNode().put("workchain_id", 0).put("id", "0:1");
+				                       return Net.queryCollectionAsync(ctx, "accounts", filter, "balance", null, 1L);
+			                       })
+			                       .toList();
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+			assertEquals(1, transport.requests());
+			assertEquals(19, ctx.coalescer().coalesced());
+			assertEquals(0, ctx.coalescer().inFlight());
+			// after response, identical call makes a new request
+			Net.queryCollection(ctx, "accounts", mapper.createObjectNode(), "balance", null, 1L);
+			assertEquals(2, transport.requests());
+		}
+	}
+}
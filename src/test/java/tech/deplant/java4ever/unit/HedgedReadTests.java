@@ -0,0 +1,95 @@
+package tech.deplant.java4ever.unit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.EverSdkContext;
+import tech.deplant.java4ever.binding.EverSdkException;
+import tech.deplant.java4ever.binding.EverSdkInvoker;
+import tech.deplant.java4ever.binding.HedgedReadInvoker;
+import tech.deplant.java4ever.binding.Net;
+import tech.deplant.java4ever.binding.Processing;
+import tech.deplant.java4ever.binding.ffi.FakeSdkTransport;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class HedgedReadTests {
+
+	@Test
+	public void transient_read_errors_are_retried_and_other_calls_are_not() throws JsonProcessingException {
+		var transport = FakeSdkTransport.builder()
+		                                .setErrorRate(1.0)
+		                                .setErrorResponse("{\"code\":601,\"message\":\"Query failed\"}")
+		                                .build();
+		try (var ctx = EverSdkContext.builder().setTransport(transport).buildNew()) {
+			var invoker = HedgedReadInvoker.builder().setRetries(2, Duration.ofMillis(1)).build(ctx);
+			var e = assertThrows(EverSdkException.class,
+			                     () -> Net.query(invoker, "query{info{time}}", null));
+			assertEquals(601, e.errorResponse().code());
+			assertEquals(2, invoker.retried());
+			assertEquals(3, transport.requests());
+			// processing is never retried
+			assertThrows(EverSdkException.class, () -> Processing.sendMessage(invoker, "te6cc", null, false, null));
+			assertEquals(4, transport.requests());
+		}
+	}
+
+	@Test
+	public void transient_failure_of_primary_waits_for_hedged_duplicate() throws ExecutionException, InterruptedException {
+		var primaryCalls = new AtomicInteger();
+		var primary = scripted(() -> {
+			if (primaryCalls.incrementAndGet() <= 128) {
+				return CompletableFuture.completedFuture("primary");
+			}
+			// fails after duplicate is sent
+			var failed = new CompletableFuture<Object>();
+			CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS)
+			                 .execute(() -> failed.completeExceptionally(new EverSdkException(new EverSdkException.ErrorResult(
+					                 -402,
+					                 "timeout"))));
+			return failed;
+		});
+		var hedge = scripted(() -> CompletableFuture.supplyAsync(() -> "hedge",
+		                                                         CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS)));
+		var invoker = HedgedReadInvoker.builder()
+		                               .setReads(Set.of("net.query"))
+		                               .setHedgeTarget(hedge)
+		                               .setHedgeDelay(0.95, Duration.ofMillis(10))
+		                               .setRetries(0, Duration.ofMillis(1))
+		                               .build(primary);
+		for (int i = 0; i < 128; i++) {
+			assertEquals("primary", invoker.callAsync("net.query", null, String.class).get());
+		}
+		assertEquals("hedge", invoker.callAsync("net.query", null, String.class).get());
+		assertEquals(1, invoker.hedged());
+		assertEquals(1, invoker.hedgeWins());
+	}
+
+	/**
+	 * @return invoker that answers async calls with futures of supplier
+	 */
+	private static EverSdkInvoker scripted(Supplier<CompletableFuture<Object>> responses) {
+		return (EverSdkInvoker) Proxy.newProxyInstance(EverSdkInvoker.class.getClassLoader(),
+		                                               new Class<?>[]{EverSdkInvoker.class},
+		                                               (proxy, method, args) -> {
+			                                               if (method.getName().equals("callAsync")) {
+				                                               return responses.get();
+			                                               }
+			                                               throw new UnsupportedOperationException(method.getName());
+		                                               });
+	}
+}
@@ -0,0 +1,61 @@
+package tech.deplant.java4ever.unit;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.ffi.InFlightRegistry;
+import tech.deplant.java4ever.binding.ffi.SdkCallbackExecutor;
+import tech.deplant.java4ever.binding.ffi.SdkResponseDispatcher;
+import tech.deplant.java4ever.binding.ffi.SdkResponseHandler;
+import tech.deplant.java4ever.binding.ffi.SdkResponseParser;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class InFlightRegistryTests {
+
+	private static SdkResponseHandler<String> register(int contextId, int requestId) {
+		var handler = new SdkResponseHandler<>("processing.process_message",
+		                                       null,
+		                                       SdkResponseParser.STRING,
+		                                       SdkCallbackExecutor.direct());
+		SdkResponseDispatcher.register(contextId, requestId, handler);
+		return handler;
+	}
+
+	@Test
+	public void cancelled_request_fails_caller_and_stays_as_orphan() {
+		var registry = new InFlightRegistry(9001);
+		var handler = register(9001, 1);
+		assertEquals(1, registry.snapshot().size());
+		assertEquals("processing.process_message", registry.snapshot().get(0).functionName());
+
+		assertTrue(registry.cancel(1));
+		var e = assertThrows(ExecutionException.class, () -> handler.result().get());
+		assertInstanceOf(CancellationException.class, e.getCause());
+		assertEquals(1, registry.orphans().size());
+
+		assertEquals(1, registry.purgeOrphans(Duration.ZERO));
+		assertTrue(registry.snapshot().isEmpty());
+		assertFalse(registry.cancel(1));
+	}
+
+	@Test
+	public void registries_of_different_contexts_do_not_see_each_other() {
+		register(9002, 7);
+		register(9003, 7);
+		assertEquals(1, new InFlightRegistry(9002).snapshot().size());
+		assertTrue(new InFlightRegistry(9003).orphan(7));
+		assertTrue(new InFlightRegistry(9002).orphans().isEmpty());
+		SdkResponseDispatcher.failContext(9002, new CancellationException());
+		SdkResponseDispatcher.failContext(9003, new CancellationException());
+		assertTrue(new InFlightRegistry(9002).snapshot().isEmpty());
+	}
+}
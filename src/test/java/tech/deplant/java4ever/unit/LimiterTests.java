@@ -0,0 +1,69 @@
+package tech.deplant.java4ever.unit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.Client;
+import tech.deplant.java4ever.binding.Crypto;
+import tech.deplant.java4ever.binding.EverSdkContext;
+import tech.deplant.java4ever.binding.EverSdkException;
+import tech.deplant.java4ever.binding.Net;
+import tech.deplant.java4ever.binding.SdkCallLimiter;
+import tech.deplant.java4ever.binding.SdkCallPriority;
+import tech.deplant.java4ever.binding.ffi.FakeSdkTransport;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class LimiterTests {
+
+	@Test
+	public void limiter_queues_calls_over_limit_and_rejects_when_queue_is_full() throws JsonProcessingException, InterruptedException {
+		var transport = FakeSdkTransport.builder().setLatency(Duration.ofMillis(100)).build();
+		var limiter = SdkCallLimiter.builder().setLimit("net.", 2).setQueueSize(1);
+		try (var ctx = EverSdkContext.builder().setTransport(transport).setLimiter(limiter).buildNew()) {
+			var futures = IntStream.range(0, 4).mapToObj(i -> Net.getEndpointsAsync(ctx)).toList();
+			var stats = ctx.limiter().stats().get(0);
+			assertEquals("net.", stats.prefix());
+			assertEquals(2, stats.inFlight());
+			assertEquals(1, stats.queued());
+			assertEquals(1, stats.rejected());
+			var e = assertThrows(ExecutionException.class, () -> futures.get(3).get());
+			assertEquals(SdkCallLimiter.REJECTED, assertInstanceOf(EverSdkException.class, e.getCause()).errorResponse().code());
+			// crypto calls are not limited by "net." limit
+			assertDoesNotThrow(() -> Crypto.sha256(ctx, "aGVsbG8="));
+			for (int i = 0; i < 3; i++) {
+				assertDoesNotThrow(futures.get(i)::get);
+			}
+		}
+	}
+
+	@Test
+	public void interactive_calls_jump_ahead_of_queued_bulk_calls() throws JsonProcessingException, ExecutionException, InterruptedException {
+		var transport = FakeSdkTransport.builder().setLatency(Duration.ofMillis(50)).build();
+		var limiter = SdkCallLimiter.builder().setLimit(1).setPriority("net.get_endpoints", SdkCallPriority.BULK);
+		try (var ctx = EverSdkContext.builder().setTransport(transport).setLimiter(limiter).buildNew()) {
+			var order = new ConcurrentLinkedQueue<String>();
+			var bulk = IntStream.range(0, 4)
+			                    .mapToObj(i -> Net.getEndpointsAsync(ctx).thenRun(() -> order.add("bulk")))
+			                    .toList();
+			var interactive = Client.versionAsync(ctx.withPriority(SdkCallPriority.INTERACTIVE))
+			                        .thenRun(() -> order.add("interactive"));
+			CompletableFuture.allOf(bulk.toArray(CompletableFuture[]::new)).get();
+			interactive.get();
+			// the first bulk call already had the permit, the interactive one goes right after it
+			assertEquals(List.of("bulk", "interactive", "bulk", "bulk", "bulk"), List.copyOf(order));
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package tech.deplant.java4ever.unit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.loader.DefaultLoader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class LoaderTests {
+
+	@TempDir
+	static Path cacheDir;
+
+	@BeforeAll
+	public static void set_cache_dir() {
+		System.setProperty(DefaultLoader.CACHE_DIR_PROPERTY, cacheDir.toString());
+	}
+
+	@AfterAll
+	public static void clear_cache_dir() {
+		System.clearProperty(DefaultLoader.CACHE_DIR_PROPERTY);
+	}
+
+	@Test
+	public void tampered_cached_library_is_extracted_again() throws IOException, NoSuchAlgorithmException {
+		// resource names are unique, loaded libraries are remembered for the whole process
+		var name = "sdk/test-" + UUID.randomUUID() + "/libton_client.so";
+		var content = "library".getBytes(StandardCharsets.UTF_8);
+		var cached = cacheDir.resolve(sha256(content)).resolve("libton_client.so");
+		Files.createDirectories(cached.getParent());
+		Files.write(cached, "tampered".getBytes(StandardCharsets.UTF_8));
+
+		var linked = new CopyOnWriteArrayList<byte[]>();
+		new DefaultLoader(resources(name, content), library -> linked.add(read(library))).loadJarDll(name);
+
+		assertEquals(1, linked.size());
+		assertArrayEquals(content, linked.get(0));
+		assertArrayEquals(content, Files.readAllBytes(cached));
+	}
+
+	@Test
+	public void second_load_does_not_extract_or_load_again() throws IOException, NoSuchAlgorithmException {
+		var name = "sdk/test-" + UUID.randomUUID() + "/libton_client.so";
+		var content = "library".getBytes(StandardCharsets.UTF_8);
+		var cached = cacheDir.resolve(sha256(content)).resolve("libton_client.so");
+
+		List<Path> linked = new CopyOnWriteArrayList<>();
+		var loader = new DefaultLoader(resources(name, content), linked::add);
+		loader.loadJarDll(name);
+		assertEquals(List.of(cached), linked);
+
+		// next extraction would replace this file
+		var changed = "changed".getBytes(StandardCharsets.UTF_8);
+		Files.write(cached, changed);
+		loader.loadJarDll(name);
+		new DefaultLoader(resources(name, content), linked::add).loadJarDll(name);
+
+		assertEquals(1, linked.size());
+		assertArrayEquals(changed, Files.readAllBytes(cached));
+	}
+
+	private static ClassLoader resources(String name, byte[] content) {
+		return new ClassLoader(LoaderTests.class.getClassLoader()) {
+			@Override
+			public InputStream getResourceAsStream(String resource) {
+				return resource.equals(name) ? new ByteArrayInputStream(content) : super.getResourceAsStream(resource);
+			}
+		};
+	}
+
+	private static byte[] read(Path file) {
+		try {
+			return Files.readAllBytes(file);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static String sha256(byte[] content) throws NoSuchAlgorithmException {
+		return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+	}
+
+}
@@ -0,0 +1,66 @@
+package tech.deplant.java4ever.unit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.Abi;
+import tech.deplant.java4ever.binding.EverSdkContext;
+import tech.deplant.java4ever.binding.MessagePipeline;
+import tech.deplant.java4ever.binding.ffi.FakeSdkTransport;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class MessagePipelineTests {
+
+	@Test
+	public void message_pipeline_passes_messages_through_all_stages() throws JsonProcessingException, ExecutionException, InterruptedException {
+		var transport = FakeSdkTransport.builder()
+		                                .setLatency(Duration.ofMillis(5))
+		                                .setResponse("abi.encode_message",
+		                                             "{\"message\":\"te6unsigned\",\"data_to_sign\":\"ZGF0YQ==\",\"address\":\"0:1\",\"message_id\":\"1\"}")
+		                                .setResponse("abi.attach_signature", "{\"message\":\"te6signed\",\"message_id\":\"1\"}")
+		                                .setResponse("processing.send_message", "{\"shard_block_id\":\"block\",\"sending_endpoints\":[]}")
+		                                .setResponse("processing.wait_for_transaction",
+		                                             "{\"transaction\":{\"id\":\"tx\"},\"out_messages\":[]}")
+		                                .build();
+		try (var ctx = EverSdkContext.builder().setTransport(transport).buildNew();
+		     var pipeline = MessagePipeline.builder()
+		                                   .setParallelism(2, 1, 2, 8)
+		                                   .setQueueSize(4)
+		                                   .setSigner((publicKey, dataToSign) -> "00")
+		                                   .build(ctx)) {
+			var abi = new Abi.ABI.Serialized(null);
+			var results = IntStream.range(0, 20)
+			                       .mapToObj(i -> pipeline.submit(new Abi.ParamsOfEncodeMessage(abi,
+			                                                                                     "0:1",
+			                                                                                     null,
+			                                                                                     new Abi.CallSet("touch", null, null),
+			                                                                                     i % 2 == 0 ?
+					                                                                                     new Abi.Signer.External("ab") :
+					                                                                                     new Abi.Signer.None(),
+			                                                                                     null,
+			                                                                                     null)))
+			                       .toList();
+			for (var result : results) {
+				assertEquals("tx", result.get().transaction().get("id").asText());
+			}
+			var stats = pipeline.stats();
+			assertEquals(List.of("encode", "sign", "send", "wait"), stats.stream().map(MessagePipeline.StageStats::stage).toList());
+			assertEquals(20, stats.get(0).processed());
+			// only messages with External signer pass signing stage
+			assertEquals(10, stats.get(1).processed());
+			assertEquals(20, stats.get(3).processed());
+			assertTrue(stats.get(3).averageLatency().toMillis() >= 5);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package tech.deplant.java4ever.unit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.EverSdkContext;
+import tech.deplant.java4ever.binding.JsonContext;
+import tech.deplant.java4ever.binding.MessageSender;
+import tech.deplant.java4ever.binding.Processing;
+import tech.deplant.java4ever.binding.ffi.FakeSdkTransport;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class MessageSenderTests {
+
+	@Test
+	public void message_sender_sends_batches_and_resolves_every_message() throws JsonProcessingException, ExecutionException, InterruptedException {
+		var mapper = JsonContext.SDK_JSON_MAPPER();
+		var sentHashes = new ConcurrentLinkedQueue<String>();
+		var transport = FakeSdkTransport.builder()
+		                                .setLatency(Duration.ofMillis(1))
+		                                .setResponder("processing.send_messages", sendMessages(sentHashes))
+		                                .setResponder("processing.fetch_next_monitor_results", params -> {
+			                                var results = mapper.createArrayNode();
+			                                String hash;
+			                                while ((hash = sentHashes.poll()) != null) {
+				                                results.addObject().put("hash", hash).put("status", "Finalized");
+			                                }
+			                                return mapper.createObjectNode().set("results", results).toString();
+		                                })
+		                                .build();
+		try (var ctx = EverSdkContext.builder().setTransport(transport).buildNew();
+		     var sender = MessageSender.builder().setBatchSize(10).build(ctx)) {
+			var results = IntStream.range(0, 25).mapToObj(i -> sender.send("boc" + i, 1_900_000_000L)).toList();
+			for (int i = 0; i < results.size(); i++) {
+				var result = results.get(i).get();
+				assertEquals("hash-boc" + i, result.hash());
+				assertEquals(Processing.MessageMonitoringStatus.Finalized, result.status());
+			}
+			assertEquals(25, sender.sent());
+			assertEquals(25, sender.resolved());
+			assertEquals(0, sender.pending());
+			assertTrue(sender.batches() >= 3);
+		}
+	}
+
+	@Test
+	public void monitoring_results_of_unknown_messages_are_dropped() throws JsonProcessingException, ExecutionException, InterruptedException {
+		var mapper = JsonContext.SDK_JSON_MAPPER();
+		var sentHashes = new ConcurrentLinkedQueue<String>();
+		var strays = new AtomicInteger();
+		var transport = FakeSdkTransport.builder()
+		                                .setResponder("processing.send_messages", sendMessages(sentHashes))
+		                                .setResponder("processing.fetch_next_monitor_results", params -> {
+			                                var results = mapper.createArrayNode();
+			                                // result of message sent by another producer of the same queue
+			                                results.addObject()
+			                                       .put("hash", "stray-" + strays.incrementAndGet())
+			                                       .put("status", "Finalized");
+			                                String hash;
+			                                while ((hash = sentHashes.poll()) != null) {
+				                                results.addObject().put("hash", hash).put("status", "Finalized");
+			                                }
+			                                return mapper.createObjectNode().set("results", results).toString();
+		                                })
+		                                .build();
+		try (var ctx = EverSdkContext.builder().setTransport(transport).buildNew();
+		     var sender = MessageSender.builder().setBatchSize(1).setEarlyResultTtl(Duration.ZERO).build(ctx)) {
+			assertEquals("hash-boc0", sender.send("boc0", 1_900_000_000L).get().hash());
+			// result of the first stray message expires when the next one arrives
+			assertEquals("hash-boc1", sender.send("boc1", 1_900_000_000L).get().hash());
+			assertTrue(sender.dropped() >= 1);
+			assertEquals(0, sender.pending());
+		}
+	}
+
+	/**
+	 * @return responder of processing.send_messages that monitors messages by hash of their BOCs
+	 */
+	private static Function<String, String> sendMessages(Queue<String> sentHashes) {
+		var mapper = JsonContext.SDK_JSON_MAPPER();
+		return FakeResponders.json(params -> {
+			var monitored = mapper.createArrayNode();
+			for (var message : params.get("messages")) {
+				var hash = "hash-" + message.get("boc").asText();
+				sentHashes.add(hash);
+				monitored.addObject()
+				         .put("wait_until", message.get("wait_until").asLong())
+				         .putObject("message")
+				         .put("type", "HashAddress")
+				         .put("hash", hash)
+				         .put("address", "0:1");
+			}
+			return mapper.createObjectNode().set("messages", monitored);
+		});
+	}
+}
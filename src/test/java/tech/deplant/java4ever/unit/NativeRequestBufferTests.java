@@ -0,0 +1,60 @@
+package tech.deplant.java4ever.unit;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.ffi.NativeRequestBuffer;
+import tech.deplant.java4ever.binding.ffi.SdkBridge;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class NativeRequestBufferTests {
+
+	// far over default capacity of 256 bytes, so buffer grows several times
+	private static final String PARAMS = "{\"boc\":\"" + "te6ccgEBAQEAAgAAAA==Привет€\uD83D\uDE00".repeat(200) + "\"}";
+
+	@Test
+	public void params_written_by_bytes_and_arrays_survive_growth() {
+		final byte[] bytes = PARAMS.getBytes(StandardCharsets.UTF_8);
+		final var request = NativeRequestBuffer.of("abi.encode_boc");
+		try {
+			// single bytes and chunks of different sizes, so copies happen at different positions
+			int position = 0;
+			int chunk = 1;
+			while (position < bytes.length) {
+				final int length = Math.min(chunk, bytes.length - position);
+				if (length == 1) {
+					request.write(bytes[position]);
+				} else {
+					request.write(bytes, position, length);
+				}
+				position += length;
+				chunk = chunk * 3 % 1021 + 1;
+			}
+			assertEquals(bytes.length, request.paramsLength());
+			assertEquals(PARAMS, request.paramsToString());
+			assertEquals(PARAMS, SdkBridge.readString(request.params()));
+			assertEquals("abi.encode_boc", SdkBridge.readString(request.functionName()));
+		} finally {
+			request.release();
+		}
+	}
+
+	@Test
+	public void serialized_params_are_written_with_utf8_length() {
+		final var request = NativeRequestBuffer.of("abi.encode_boc", PARAMS);
+		try {
+			assertEquals(PARAMS.getBytes(StandardCharsets.UTF_8).length, request.paramsLength());
+			assertEquals(PARAMS, SdkBridge.readString(request.params()));
+		} finally {
+			request.release();
+		}
+	}
+
+}
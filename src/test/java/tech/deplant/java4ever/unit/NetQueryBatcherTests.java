@@ -0,0 +1,59 @@
+package tech.deplant.java4ever.unit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.EverSdkContext;
+import tech.deplant.java4ever.binding.JsonContext;
+import tech.deplant.java4ever.binding.Net;
+import tech.deplant.java4ever.binding.NetQueryBatcher;
+import tech.deplant.java4ever.binding.ffi.FakeSdkTransport;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class NetQueryBatcherTests {
+
+	@Test
+	public void concurrent_collection_queries_are_sent_as_one_batch_query() throws JsonProcessingException, ExecutionException, InterruptedException {
+		var mapper = JsonContext.SDK_JSON_MAPPER();
+		var transport = FakeSdkTransport.builder().setResponder("net.batch_query", FakeResponders.json(params -> {
+			var results = mapper.createArrayNode();
+			for (var operation : params.get("operations")) {
+				var id = operation.at("/filter/id/eq").asText();
+				results.add(operation.get("type").asText().equals("AggregateCollection") ?
+						            mapper.createArrayNode().add("7") :
+						            mapper.createArrayNode().add(mapper.createObjectNode().put("id", id)));
+			}
+			return mapper.createObjectNode().set("results", results);
+		})).build();
+		try (var ctx = EverSdkContext.builder().setTransport(transport).buildNew()) {
+			var batcher = NetQueryBatcher.builder().setWindow(Duration.ofMillis(50)).setMaxBatchSize(10).build(ctx);
+			var queries = IntStream.range(0, 9)
+			                       .mapToObj(i -> Net.queryCollectionAsync(batcher,
+			                                                               "accounts",
+			                                                               mapper.createObjectNode()
+			                                                                     .set("id", mapper.createObjectNode().put("eq", "0:" + i)),
+			                                                               "id",
+			                                                               null,
+			                                                               1L))
+			                       .toList();
+			var aggregate = Net.aggregateCollectionAsync(batcher, "accounts", null, null);
+			for (int i = 0; i < queries.size(); i++) {
+				assertEquals("0:" + i, queries.get(i).get().result()[0].get("id").asText());
+			}
+			assertEquals("7", aggregate.get().values().get(0).asText());
+			assertEquals(1, transport.requests());
+			assertEquals(1, batcher.batches());
+			assertEquals(10, batcher.batched());
+		}
+	}
+}
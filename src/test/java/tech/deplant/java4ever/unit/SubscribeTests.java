@@ -1,14 +1,23 @@
 package tech.deplant.java4ever.unit;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import tech.deplant.java4ever.binding.*;
+import tech.deplant.java4ever.binding.ffi.FakeSdkTransport;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @Execution(ExecutionMode.CONCURRENT)
@@ -45,4 +54,59 @@ public class SubscribeTests {
 		              handler -> logger.log(System.Logger.Level.WARNING,
 		                                    "code: %d, msg: %s".formatted(handler.responseType(), handler.params())));
 	}
+
+	@Test
+	public void publisher_delivers_only_requested_events_and_drops_oldest_on_overflow() throws Exception {
+		var transport = FakeSdkTransport.builder()
+		                                .setResponse("net.subscribe_collection", "{\"handle\":1}")
+		                                .setEvents("net.subscribe_collection",
+		                                           List.of("{\"result\":{\"id\":\"a\"}}",
+		                                                   "{\"result\":{\"id\":\"b\"}}",
+		                                                   "{\"result\":{\"id\":\"c\"}}"))
+		                                .setThreads(1)
+		                                .build();
+		try (var ctx = EverSdkContext.builder().setTransport(transport).buildNew()) {
+			var publisher = SubscriptionPublisher.builder()
+			                                     .setBufferSize(2)
+			                                     .setOverflow(SubscriptionPublisher.Overflow.DROP_OLDEST)
+			                                     .subscribeCollection(ctx,
+			                                                          "transactions",
+			                                                          JsonContext.EMPTY_NODE(),
+			                                                          "id",
+			                                                          JsonNode.class);
+			var received = new CopyOnWriteArrayList<String>();
+			var subscription = new CompletableFuture<Flow.Subscription>();
+			var completed = new CompletableFuture<Void>();
+			publisher.subscribe(new Flow.Subscriber<>() {
+				@Override
+				public void onSubscribe(Flow.Subscription s) {
+					subscription.complete(s);
+				}
+
+				@Override
+				public void onNext(JsonNode item) {
+					received.add(item.get("id").asText());
+				}
+
+				@Override
+				public void onError(Throwable throwable) {
+					completed.completeExceptionally(throwable);
+				}
+
+				@Override
+				public void onComplete() {
+					completed.complete(null);
+				}
+			});
+			// single delivery thread answers this call after all subscription events are buffered
+			Client.version(ctx);
+			// no demand yet, so buffer of 2 keeps only the last events
+			assertEquals(1, publisher.dropped());
+			subscription.get(5, TimeUnit.SECONDS).request(10);
+			// buffered events are delivered before completion
+			publisher.close();
+			completed.get(5, TimeUnit.SECONDS);
+			assertEquals(List.of("b", "c"), received);
+		}
+	}
 }
@@ -0,0 +1,35 @@
+package tech.deplant.java4ever.unit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.Crypto;
+import tech.deplant.java4ever.binding.EverSdkContext;
+import tech.deplant.java4ever.binding.EverSdkException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class SyncCallTests {
+
+	@Test
+	public void sync_call_returns_same_result_as_async_call() throws JsonProcessingException, EverSdkException {
+		var ctx = EverSdkContext.builder().buildNew();
+		var params = new Crypto.ParamsOfHash("aGVsbG8=");
+		var syncResult = ctx.callSync("crypto.sha256", params, Crypto.ResultOfHash.class);
+		var asyncResult = ctx.call("crypto.sha256", params, Crypto.ResultOfHash.class);
+		assertEquals("2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824", syncResult.hash());
+		assertEquals(asyncResult, syncResult);
+	}
+
+	@Test
+	public void sync_call_error_is_thrown_as_sdk_exception() throws JsonProcessingException {
+		var ctx = EverSdkContext.builder().buildNew();
+		assertThrows(EverSdkException.class, () -> Crypto.sha256(ctx, "not a base64!"));
+	}
+}
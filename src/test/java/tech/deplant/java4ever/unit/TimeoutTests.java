@@ -0,0 +1,72 @@
+package tech.deplant.java4ever.unit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.Boc;
+import tech.deplant.java4ever.binding.Client;
+import tech.deplant.java4ever.binding.Crypto;
+import tech.deplant.java4ever.binding.EverSdkContext;
+import tech.deplant.java4ever.binding.EverSdkException;
+import tech.deplant.java4ever.binding.Net;
+import tech.deplant.java4ever.binding.ffi.FakeSdkTransport;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class TimeoutTests {
+
+	@Test
+	public void function_timeout_overrides_context_timeout() throws JsonProcessingException, EverSdkException {
+		var transport = FakeSdkTransport.builder().setLatency(Duration.ofMillis(200)).build();
+		try (var ctx = EverSdkContext.builder()
+		                             .setTransport(transport)
+		                             .setTimeout("net.", 50)
+		                             .buildNew()) {
+			var e = assertThrows(EverSdkException.class, () -> Net.getEndpoints(ctx));
+			assertEquals(-402, e.errorResponse().code());
+			assertNotNull(Client.version(ctx));
+		}
+	}
+
+	@Test
+	public void timeout_override_applies_to_local_functions() throws JsonProcessingException, EverSdkException {
+		var transport = FakeSdkTransport.builder()
+		                                .setLatency(Duration.ofMillis(200))
+		                                .setResponse("boc.get_boc_hash", "{\"hash\":\"00\"}")
+		                                .build();
+		try (var ctx = EverSdkContext.builder()
+		                             .setTransport(transport)
+		                             .setTimeout("crypto.", 50)
+		                             .buildNew()) {
+			var e = assertThrows(EverSdkException.class, () -> Crypto.sha256(ctx, "aGVsbG8="));
+			assertEquals(-402, e.errorResponse().code());
+			// functions without override are still called synchronously
+			assertEquals("00", Boc.getBocHash(ctx, "te6cc").hash());
+		}
+	}
+
+	@Test
+	public void adaptive_timeout_follows_p99_latency() throws JsonProcessingException, EverSdkException {
+		var transport = FakeSdkTransport.builder().setLatency(Duration.ofMillis(1)).build();
+		try (var ctx = EverSdkContext.builder()
+		                             .setTransport(transport)
+		                             .setAdaptiveTimeout(3.0, 20)
+		                             .buildNew()) {
+			assertEquals(60_000L, ctx.timeouts().timeout("client.version"));
+			for (int i = 0; i < 128; i++) {
+				Client.version(ctx);
+			}
+			assertNotNull(ctx.timeouts().p99("client.version"));
+			assertTrue(ctx.timeouts().timeout("client.version") < 60_000L);
+			// other functions keep configured timeout until they have their own samples
+			assertEquals(60_000L, ctx.timeouts().timeout("net.query"));
+		}
+	}
+}
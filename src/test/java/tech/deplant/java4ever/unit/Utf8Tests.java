@@ -0,0 +1,64 @@
+package tech.deplant.java4ever.unit;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import tech.deplant.java4ever.binding.ffi.SdkBridge;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class Utf8Tests {
+
+	private static final List<String> TEXTS = List.of(
+			"",
+			"{\"boc\":\"te6ccgEBAQEAAgAAAA==\"}",
+			// 2-byte
+			"Ünïcödé ©",
+			"Привет, мир",
+			// 3-byte
+			"€ 漢字 \uFFFD",
+			// surrogate pairs, 4-byte
+			"\uD83D\uDE00 \uD834\uDD1E",
+			// unpaired surrogates are encoded as '?'
+			"lone \uD83D high",
+			"lone \uDE00 low",
+			"high at the end \uD83D",
+			"\uDE00\uD83D reversed pair",
+			"aé€\uD83D\uDE00\uDE00z"
+	);
+
+	@Test
+	public void utf8_length_equals_string_get_bytes() {
+		for (String text : TEXTS) {
+			assertEquals(text.getBytes(StandardCharsets.UTF_8).length, SdkBridge.utf8Length(text), text);
+		}
+	}
+
+	@Test
+	public void written_utf8_equals_string_get_bytes() {
+		for (String text : TEXTS) {
+			final byte[] expected = text.getBytes(StandardCharsets.UTF_8);
+			try (Arena arena = Arena.openConfined()) {
+				// offset and trailing guard bytes check that nothing is written outside of text
+				final MemorySegment segment = arena.allocate(SdkBridge.utf8Length(text) + 8);
+				segment.fill((byte) 0x7F);
+				final long written = SdkBridge.writeUtf8(text, segment, 4);
+				assertEquals(SdkBridge.utf8Length(text), written, text);
+				assertArrayEquals(expected, segment.asSlice(4, written).toArray(JAVA_BYTE), text);
+				assertEquals(0x7F, segment.get(JAVA_BYTE, 3), text);
+				assertEquals(0x7F, segment.get(JAVA_BYTE, 4 + written), text);
+			}
+		}
+	}
+
+}